@@ -0,0 +1,79 @@
+package benchmarks.io;
+
+import data.repositories.KeysetCursor;
+import data.repositories.KeysetPage;
+import org.openjdk.jmh.annotations.*;
+import services.IO.ServiceSerializer;
+import services.data.dto.vehicles.BusCreateDTO;
+import services.data.dto.vehicles.BusViewDTO;
+import services.services.BusService;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures JSON export and import of bus DTO lists through {@link ServiceSerializer}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServiceSerializerBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private ServiceSerializer<BusService, BusViewDTO, BusCreateDTO> serializer;
+    private List<BusViewDTO> dtos;
+    private String json;
+
+    @Setup
+    public void setup() {
+        // JSON conversion does not touch the service
+        serializer = new ServiceSerializer<>(null, BusViewDTO.class, BusCreateDTO.class);
+        dtos = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            dtos.add(new BusViewDTO(i, "CA" + (1000 + i) + "AB", 1L, 50, i % 2 == 0, new BigDecimal("150.50")));
+        }
+        json = serializer.serializeToJson(dtos);
+    }
+
+    @Benchmark
+    public String serializeToJson() {
+        return serializer.serializeToJson(dtos);
+    }
+
+    /**
+     * Streams the same DTOs in pages of 500 to a discarding stream, so only the serialization cost is measured.
+     */
+    @Benchmark
+    public long streamToJson() throws IOException {
+        return serializer.serializeToJson(this::page, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public List<BusCreateDTO> deserializeListFromJson() {
+        return serializer.deserializeListFromJson(json);
+    }
+
+    @Benchmark
+    public long deserializeStreamFromJson() {
+        try (Stream<BusCreateDTO> stream = serializer.deserializeStreamFromJson(new StringReader(json))) {
+            return stream.count();
+        }
+    }
+
+    private KeysetPage<BusViewDTO> page(KeysetCursor after) {
+        int from = after == null ? 0 : (Integer) after.getId();
+        int to = Math.min(from + 500, dtos.size());
+        return new KeysetPage<>(dtos.subList(from, to), to < dtos.size() ? new KeysetCursor(null, to) : null);
+    }
+}
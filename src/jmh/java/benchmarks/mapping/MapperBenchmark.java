@@ -0,0 +1,233 @@
+package benchmarks.mapping;
+
+import data.models.Client;
+import data.models.TransportCompany;
+import data.models.employee.Dispatcher;
+import data.models.employee.Driver;
+import data.models.employee.Qualification;
+import data.models.transportservices.CargoType;
+import data.models.transportservices.Destination;
+import data.models.transportservices.TransportCargoService;
+import data.models.transportservices.TransportPassengersService;
+import data.models.transportservices.TransportService;
+import data.models.vehicles.Bus;
+import data.models.vehicles.Truck;
+import data.models.vehicles.TruckType;
+import data.models.vehicles.Van;
+import data.models.vehicles.Vehicle;
+import org.openjdk.jmh.annotations.*;
+import services.data.mapping.mappers.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code toViewDTO} of every mapper on a fully populated, detached entity.
+ * The mappers are built without repositories, which the view mapping never uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    private BusMapper busMapper;
+    private ClientMapper clientMapper;
+    private DestinationMapper destinationMapper;
+    private DispatcherMapper dispatcherMapper;
+    private DriverMapper driverMapper;
+    private EmployeeMapper employeeMapper;
+    private QualificationMapper qualificationMapper;
+    private TransportCargoServiceMapper cargoMapper;
+    private TransportCompanyMapper companyMapper;
+    private TransportPassengersServiceMapper passengersMapper;
+    private TransportServiceMapper transportServiceMapper;
+    private TruckMapper truckMapper;
+    private VanMapper vanMapper;
+    private VehicleMapper vehicleMapper;
+
+    private TransportCompany company;
+    private Client client;
+    private Destination destination;
+    private Qualification qualification;
+    private Dispatcher dispatcher;
+    private Driver driver;
+    private Bus bus;
+    private Truck truck;
+    private Van van;
+    private TransportCargoService cargo;
+    private TransportPassengersService passengers;
+
+    @Setup
+    public void setup() {
+        busMapper = new BusMapper(null);
+        clientMapper = new ClientMapper();
+        destinationMapper = new DestinationMapper();
+        dispatcherMapper = new DispatcherMapper(null, null);
+        driverMapper = new DriverMapper(null, null, null);
+        employeeMapper = new EmployeeMapper();
+        qualificationMapper = new QualificationMapper();
+        cargoMapper = new TransportCargoServiceMapper(null, null, null, null, null);
+        companyMapper = new TransportCompanyMapper();
+        passengersMapper = new TransportPassengersServiceMapper(null, null, null, null, null);
+        transportServiceMapper = new TransportServiceMapper(null, null, null, null, null);
+        truckMapper = new TruckMapper(null);
+        vanMapper = new VanMapper(null);
+        vehicleMapper = new VehicleMapper(null);
+
+        company = new TransportCompany("Fast Transport", "123 Main St");
+        company.setId(1L);
+
+        client = new Client();
+        client.setId(2L);
+        client.setName("Acme");
+        client.setTelephone("0888123456");
+        client.setEmail("acme@example.com");
+
+        destination = new Destination();
+        destination.setId(3L);
+        destination.setStartingLocation("Sofia");
+        destination.setEndingLocation("Varna");
+
+        qualification = new Qualification("Heavy Duty License", "For large vehicles");
+        qualification.setId(4L);
+
+        dispatcher = new Dispatcher();
+        dispatcher.setId(5L);
+        dispatcher.setFirstName("Dispatch");
+        dispatcher.setFamilyName("One");
+        dispatcher.setSalary(new BigDecimal("40000"));
+        dispatcher.setTransportCompany(company);
+
+        driver = new Driver();
+        driver.setId(6L);
+        driver.setFirstName("John");
+        driver.setFamilyName("Doe");
+        driver.setSalary(new BigDecimal("50000"));
+        driver.setTransportCompany(company);
+        driver.setDispatcher(dispatcher);
+        driver.setQualifications(Set.of(qualification));
+        dispatcher.setSupervisedDrivers(Set.of(driver));
+
+        bus = new Bus();
+        bus.setId(7L);
+        bus.setRegistrationPlate("CA1234AB");
+        bus.setTransportCompany(company);
+        bus.setMaxPassengerCapacity(50);
+        bus.setHasRestroom(true);
+        bus.setLuggageCapacity(new BigDecimal("150.50"));
+
+        truck = new Truck();
+        truck.setId(8L);
+        truck.setRegistrationPlate("CA5678AB");
+        truck.setTransportCompany(company);
+        truck.setMaxCargoCapacityKg(10000.0);
+        truck.setCurrentCargoCapacityKg(2500.0);
+        truck.setCargoType(CargoType.REGULAR);
+        truck.setTruckType(TruckType.BOX);
+
+        van = new Van();
+        van.setId(9L);
+        van.setRegistrationPlate("CA9012AB");
+        van.setTransportCompany(company);
+        van.setMaxPassengerCapacity(8);
+        van.setHasPassengerOverheadStorage(true);
+
+        cargo = new TransportCargoService();
+        populate(cargo, 10L, truck);
+        cargo.setWeightInKilograms(new BigDecimal("5000"));
+        cargo.setLengthInCentimeters(200);
+        cargo.setWidthInCentimeters(150);
+        cargo.setHeightInCentimeters(100);
+        cargo.setDescription("Electronics");
+
+        passengers = new TransportPassengersService();
+        populate(passengers, 11L, bus);
+        passengers.setNumberOfPassengers(42);
+    }
+
+    private void populate(TransportService service, Long id, Vehicle vehicle) {
+        service.setId(id);
+        service.setTransportCompany(company);
+        service.setClient(client);
+        service.setDriver(driver);
+        service.setDestination(destination);
+        service.setVehicle(vehicle);
+        service.setStartingDate(LocalDate.of(2025, 1, 1));
+        service.setEndingDate(LocalDate.of(2025, 1, 5));
+        service.setPrice(new BigDecimal("1500.00"));
+    }
+
+    @Benchmark
+    public Object bus() {
+        return busMapper.toViewDTO(bus);
+    }
+
+    @Benchmark
+    public Object client() {
+        return clientMapper.toViewDTO(client);
+    }
+
+    @Benchmark
+    public Object destination() {
+        return destinationMapper.toViewDTO(destination);
+    }
+
+    @Benchmark
+    public Object dispatcher() {
+        return dispatcherMapper.toViewDTO(dispatcher);
+    }
+
+    @Benchmark
+    public Object driver() {
+        return driverMapper.toViewDTO(driver);
+    }
+
+    @Benchmark
+    public Object employee() {
+        return employeeMapper.toViewDTO(driver);
+    }
+
+    @Benchmark
+    public Object qualification() {
+        return qualificationMapper.toViewDTO(qualification);
+    }
+
+    @Benchmark
+    public Object transportCargoService() {
+        return cargoMapper.toViewDTO(cargo);
+    }
+
+    @Benchmark
+    public Object transportCompany() {
+        return companyMapper.toViewDTO(company);
+    }
+
+    @Benchmark
+    public Object transportPassengersService() {
+        return passengersMapper.toViewDTO(passengers);
+    }
+
+    @Benchmark
+    public Object transportService() {
+        return transportServiceMapper.toViewDTO(cargo);
+    }
+
+    @Benchmark
+    public Object truck() {
+        return truckMapper.toViewDTO(truck);
+    }
+
+    @Benchmark
+    public Object van() {
+        return vanMapper.toViewDTO(van);
+    }
+
+    @Benchmark
+    public Object vehicle() {
+        return vehicleMapper.toViewDTO(truck);
+    }
+}
@@ -0,0 +1,91 @@
+package benchmarks.mapping;
+
+import data.models.Client;
+import data.models.TransportCompany;
+import data.models.employee.Driver;
+import data.models.transportservices.Destination;
+import data.models.transportservices.TransportCargoService;
+import data.models.vehicles.Truck;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.config.Configuration.AccessLevel;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.*;
+import services.data.dto.transportservices.TransportCargoServiceViewDTO;
+import services.data.mapping.mappers.TransportCargoServiceMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares mapping a {@link TransportCargoService} to its view DTO through the compiled mapping used by
+ * {@link TransportCargoServiceMapper#toViewDTO} against the reflective ModelMapper configuration it replaced.
+ * Run with {@code gradle jmh -Pjmh.includes=ViewMappingBenchmark}; the GC profiler reports allocation per
+ * mapped DTO as {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ViewMappingBenchmark {
+    private TransportCargoService cargo;
+    private TransportCargoServiceMapper compiledMapper;
+    private ModelMapper reflectiveMapper;
+
+    @Setup
+    public void setup() {
+        // toViewDTO does not touch the repositories
+        compiledMapper = new TransportCargoServiceMapper(null, null, null, null, null);
+        reflectiveMapper = new ModelMapper();
+        reflectiveMapper.getConfiguration()
+                .setMatchingStrategy(MatchingStrategies.STRICT)
+                .setAmbiguityIgnored(true)
+                .setFieldMatchingEnabled(true)
+                .setFieldAccessLevel(AccessLevel.PRIVATE);
+        reflectiveMapper.createTypeMap(TransportCargoService.class, TransportCargoServiceViewDTO.class)
+                .addMapping(src -> src.getTransportCompany().getId(), TransportCargoServiceViewDTO::setTransportCompanyId)
+                .addMapping(src -> src.getVehicle().getId(), TransportCargoServiceViewDTO::setVehicleId)
+                .addMapping(src -> src.getDriver().getId(), TransportCargoServiceViewDTO::setDriverId)
+                .addMapping(src -> src.getClient().getId(), TransportCargoServiceViewDTO::setClientId)
+                .addMapping(src -> src.getDestination().getId(), TransportCargoServiceViewDTO::setDestinationId);
+
+        TransportCompany company = new TransportCompany("Fast Transport", "123 Main St");
+        company.setId(1L);
+        Client client = new Client();
+        client.setId(2L);
+        Driver driver = new Driver();
+        driver.setId(3L);
+        Destination destination = new Destination();
+        destination.setId(4L);
+        Truck truck = new Truck();
+        truck.setId(5L);
+
+        cargo = new TransportCargoService();
+        cargo.setId(10L);
+        cargo.setTransportCompany(company);
+        cargo.setClient(client);
+        cargo.setDriver(driver);
+        cargo.setDestination(destination);
+        cargo.setVehicle(truck);
+        cargo.setStartingDate(LocalDate.of(2025, 1, 1));
+        cargo.setEndingDate(LocalDate.of(2025, 1, 5));
+        cargo.setPrice(new BigDecimal("1500.00"));
+        cargo.setWeightInKilograms(new BigDecimal("5000"));
+        cargo.setLengthInCentimeters(200);
+        cargo.setWidthInCentimeters(150);
+        cargo.setHeightInCentimeters(100);
+        cargo.setDescription("Electronics");
+    }
+
+    @Benchmark
+    public TransportCargoServiceViewDTO compiled() {
+        return compiledMapper.toViewDTO(cargo);
+    }
+
+    @Benchmark
+    public TransportCargoServiceViewDTO modelMapper() {
+        return reflectiveMapper.map(cargo, TransportCargoServiceViewDTO.class);
+    }
+}
@@ -0,0 +1,60 @@
+package benchmarks.repositories;
+
+import benchmarks.BenchmarkDatabase;
+import data.models.TransportCompany;
+import data.repositories.GenericRepository;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures paged reads through {@link GenericRepository} against H2 tables of growing size.
+ * Each trial builds its own in-memory database, so the row count is the only thing that changes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenericRepositoryBenchmark {
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    private SessionFactory sessionFactory;
+    private GenericRepository<TransportCompany, Long> companyRepo;
+    private int middlePage;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        sessionFactory = BenchmarkDatabase.open("repository_" + rows);
+        BenchmarkDatabase.insertCompanies(sessionFactory, rows);
+        companyRepo = new GenericRepository<>(sessionFactory, TransportCompany.class);
+        middlePage = rows / PAGE_SIZE / 2;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<TransportCompany> getAllFirstPage() {
+        return companyRepo.getAll(0, PAGE_SIZE, "name", true);
+    }
+
+    @Benchmark
+    public List<TransportCompany> getAllMiddlePage() {
+        return companyRepo.getAll(middlePage, PAGE_SIZE, "name", true);
+    }
+
+    @Benchmark
+    public List<TransportCompany> findByCriteriaPage() {
+        return companyRepo.findByCriteria(Map.of("address", "Address 42"), "name", true, 0, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,127 @@
+package benchmarks.repositories;
+
+import benchmarks.BenchmarkDatabase;
+import data.models.Client;
+import data.models.TransportCompany;
+import data.models.employee.Driver;
+import data.models.transportservices.CargoType;
+import data.models.transportservices.Destination;
+import data.models.transportservices.TransportCargoService;
+import data.models.vehicles.Truck;
+import data.models.vehicles.TruckType;
+import data.repositories.SessionFactoryUtil;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures importing cargo transport services in one transaction with IDENTITY columns against pooled sequences.
+ * Scores are rows per second: IDENTITY forces one INSERT round-trip per table and row, while pooled ids let
+ * Hibernate send the inserts as JDBC batches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(IdGenerationBenchmark.ROWS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdGenerationBenchmark {
+    static final int ROWS = 1000;
+
+    @Param({SessionFactoryUtil.ID_GENERATION_IDENTITY, SessionFactoryUtil.ID_GENERATION_POOLED})
+    public String idGeneration;
+
+    private SessionFactory sessionFactory;
+    private TransportCompany company;
+    private Client client;
+    private Driver driver;
+    private Destination destination;
+    private Truck truck;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Properties settings = new Properties();
+        settings.setProperty(SessionFactoryUtil.ID_GENERATION, idGeneration);
+        sessionFactory = BenchmarkDatabase.open("ids_" + idGeneration, settings);
+
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            company = new TransportCompany("Fast Transport", "123 Main St");
+            session.persist(company);
+            client = new Client();
+            client.setName("Acme");
+            client.setTelephone("0888123456");
+            client.setEmail("acme@example.com");
+            session.persist(client);
+            driver = new Driver();
+            driver.setFirstName("John");
+            driver.setFamilyName("Doe");
+            driver.setSalary(new BigDecimal("50000"));
+            driver.setTransportCompany(company);
+            session.persist(driver);
+            destination = new Destination();
+            destination.setStartingLocation("Sofia");
+            destination.setEndingLocation("Varna");
+            session.persist(destination);
+            truck = new Truck();
+            truck.setRegistrationPlate("CA1234AB");
+            truck.setTransportCompany(company);
+            truck.setMaxCargoCapacityKg(10000.0);
+            truck.setCargoType(CargoType.REGULAR);
+            truck.setTruckType(TruckType.BOX);
+            session.persist(truck);
+            session.getTransaction().commit();
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void emptyTables() {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            session.createNativeMutationQuery("DELETE FROM transport_cargo_service").executeUpdate();
+            session.createNativeMutationQuery("DELETE FROM transport_services").executeUpdate();
+            session.getTransaction().commit();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public void importCargoServices() {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            for (int i = 0; i < ROWS; i++) {
+                TransportCargoService cargo = new TransportCargoService();
+                cargo.setTransportCompany(session.getReference(TransportCompany.class, company.getId()));
+                cargo.setClient(session.getReference(Client.class, client.getId()));
+                cargo.setDriver(session.getReference(Driver.class, driver.getId()));
+                cargo.setDestination(session.getReference(Destination.class, destination.getId()));
+                cargo.setVehicle(session.getReference(Truck.class, truck.getId()));
+                cargo.setStartingDate(LocalDate.of(2025, 1, 1));
+                cargo.setEndingDate(LocalDate.of(2025, 1, 5));
+                cargo.setPrice(new BigDecimal("1500.00"));
+                cargo.setWeightInKilograms(new BigDecimal("5000"));
+                cargo.setLengthInCentimeters(200);
+                cargo.setWidthInCentimeters(150);
+                cargo.setHeightInCentimeters(100);
+                cargo.setDescription("Import " + i);
+                session.persist(cargo);
+                if ((i + 1) % 50 == 0) {
+                    // Keep the persistence context small, as a real import would
+                    session.flush();
+                    session.clear();
+                }
+            }
+            session.getTransaction().commit();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package benchmarks.seeding;
+
+import benchmarks.BenchmarkDatabase;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import data.common.seeding.GenericSeeder;
+import data.common.seeding.LocalDateAdapter;
+import data.common.seeding.LocalDateTimeAdapter;
+import data.models.TransportCompany;
+import data.repositories.GenericRepository;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link GenericSeeder#seed()} loading a JSON file of transport companies into an empty table.
+ * The table is emptied before every invocation, so each call performs a full seed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenericSeederBenchmark {
+
+    @Param({"100", "1000"})
+    public int rows;
+
+    private SessionFactory sessionFactory;
+    private GenericSeeder<TransportCompany, Long> seeder;
+    private Path seedFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Gson gson = new GsonBuilder()
+                .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
+                .registerTypeAdapter(LocalDate.class, new LocalDateAdapter())
+                .create();
+        List<TransportCompany> companies = new ArrayList<>(rows);
+        for (int i = 1; i <= rows; i++) {
+            companies.add(new TransportCompany("Company " + i, "Address " + i));
+        }
+        seedFile = Files.createTempFile("companies", ".json");
+        Files.writeString(seedFile, gson.toJson(companies));
+
+        sessionFactory = BenchmarkDatabase.open("seeder_" + rows);
+        seeder = new GenericSeeder<>(new GenericRepository<>(sessionFactory, TransportCompany.class),
+                seedFile.toString(), TransportCompany.class, gson, null);
+    }
+
+    @Setup(Level.Invocation)
+    public void emptyTable() {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            session.createNativeMutationQuery("DELETE FROM transport_companies").executeUpdate();
+            session.getTransaction().commit();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        sessionFactory.close();
+        Files.deleteIfExists(seedFile);
+    }
+
+    @Benchmark
+    public void seed() {
+        seeder.seed();
+    }
+}
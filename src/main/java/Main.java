@@ -6,6 +6,7 @@ import data.common.seeding.GenericSeeder;
 import data.common.seeding.ISeeder;
 import data.common.seeding.LocalDateAdapter;
 import data.common.seeding.LocalDateTimeAdapter;
+import data.common.seeding.SeedingOrchestrator;
 import data.models.Client;
 import data.models.TransportCompany;
 import data.models.employee.Dispatcher;
@@ -21,6 +22,7 @@ import data.models.vehicles.Bus;
 import data.models.vehicles.Truck;
 import data.models.vehicles.Van;
 import data.models.vehicles.Vehicle;
+import data.repositories.CachingRepository;
 import data.repositories.GenericRepository;
 import data.repositories.IGenericRepository;
 import data.repositories.SessionFactoryUtil;
@@ -60,10 +62,11 @@ public class Main {
         // ## Initialize repositories
         IGenericRepository<Employee, Long> employeeRepository =
                 new GenericRepository<>(sessionFactory, Employee.class);
-        IGenericRepository<TransportCompany, Long> companyRepository =
-                new GenericRepository<>(sessionFactory, TransportCompany.class);
-        IGenericRepository<Qualification, Long> qualificationRepository =
-                new GenericRepository<>(sessionFactory, Qualification.class);
+        // Companies, qualifications and destinations are looked up by most operations and rarely change
+        CachingRepository<TransportCompany> companyRepository =
+                new CachingRepository<>(new GenericRepository<>(sessionFactory, TransportCompany.class));
+        CachingRepository<Qualification> qualificationRepository =
+                new CachingRepository<>(new GenericRepository<>(sessionFactory, Qualification.class));
         IGenericRepository<Vehicle, Long> vehicleRepository =
                 new GenericRepository<>(sessionFactory, Vehicle.class);
         IGenericRepository<TransportService, Long> transportServiceRepository =
@@ -78,8 +81,8 @@ public class Main {
                 new GenericRepository<>(sessionFactory, Dispatcher.class);
         IGenericRepository<Client, Long> clientRepository
                 = new GenericRepository<>(sessionFactory, Client.class);
-        IGenericRepository<Destination, Long> destinationRepository =
-                new GenericRepository<>(sessionFactory, Destination.class);
+        CachingRepository<Destination> destinationRepository =
+                new CachingRepository<>(new GenericRepository<>(sessionFactory, Destination.class));
         IGenericRepository<Truck, Long> truckRepository = new GenericRepository<>(sessionFactory, Truck.class);
         IGenericRepository<Bus, Long> busRepository = new GenericRepository<>(sessionFactory, Bus.class);
         IGenericRepository<Van, Long> vanRepository = new GenericRepository<>(sessionFactory, Van.class);
@@ -99,19 +102,17 @@ public class Main {
         ISeeder<Qualification, Long> qualificationSeeder =
                 new GenericSeeder<>(qualificationRepository, qualificationJsonFilePath, Qualification.class, gson, validator);
 
-        try {
-            qualificationSeeder.seed();
-            logger.info("Initial seeding for {} completed successfully", Qualification.class.getName());
-        } catch (Exception e) {
-            logger.error("Seeding failed due to {}", e.getMessage());
-        }
-
         String companiesJsonFilePath = "data/companies.json";
         ISeeder<TransportCompany, Long> companiesSeeder =
                 new GenericSeeder<>(companyRepository, companiesJsonFilePath, TransportCompany.class, gson, validator);
+
+        // Qualifications and companies do not reference each other, so they are seeded concurrently
+        SeedingOrchestrator seedingOrchestrator = new SeedingOrchestrator(Runtime.getRuntime().availableProcessors())
+                .register(Qualification.class.getSimpleName(), qualificationSeeder)
+                .register(TransportCompany.class.getSimpleName(), companiesSeeder);
         try {
-            companiesSeeder.seed();
-            logger.info("Initial seeding for {} completed successfully", TransportCompany.class.getName());
+            seedingOrchestrator.seedAll();
+            logger.info("Initial seeding completed successfully");
         } catch (Exception e) {
             logger.error("Seeding failed due to {}", e.getMessage());
         }
@@ -178,6 +179,12 @@ public class Main {
         // ## Start Engine
         engine.start();
 
+        for (CachingRepository<?> cache : new CachingRepository<?>[]{companyRepository, qualificationRepository, destinationRepository}) {
+            logger.info("{} cache: {} hits, {} misses, {} evictions",
+                    cache.getEntityClass().getSimpleName(), cache.getHitCount(), cache.getMissCount(), cache.getEvictionCount());
+        }
+        SessionFactoryUtil.getPoolMetrics(sessionFactory).ifPresent(metrics -> logger.info("Connection pool: {}", metrics));
+
         // ## Clean up resources (Hibernate session factory)
         SessionFactoryUtil.shutdown();
     }
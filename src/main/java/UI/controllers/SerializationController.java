@@ -1,5 +1,7 @@
 package UI.controllers;
 
+import data.repositories.BulkOperationResult;
+import data.repositories.KeysetPage;
 import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,14 +11,21 @@ import services.services.contracts.ITransportCargoServiceService;
 import services.services.contracts.ITransportCompanyService;
 import services.services.contracts.ITransportPassengersServiceService;
 
-import java.io.FileWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Scanner;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 public class SerializationController {
     private static final Logger logger = LoggerFactory.getLogger(SerializationController.class);
+    private static final int EXPORT_PAGE_SIZE = 500;
+    private static final int IMPORT_BATCH_SIZE = 500;
 
     private final ITransportCompanyService transportCompanyService;
     private final ITransportPassengersServiceService transportPassengersServiceService;
@@ -116,25 +125,24 @@ public class SerializationController {
         logger.debug("Received export file name: {}", fileName);
 
         try {
-            logger.info("Fetching transport services for company ID: {}", companyId);
-            List<TransportServiceViewDTO> services = transportCompanyService.getTransportServicesByCompany(companyId);
-            if (services.isEmpty()) {
+            logger.info("Exporting transport services for company ID: {} to {}", companyId, filePath);
+            // Read the first page before creating the file, so a company without services leaves no empty file behind
+            KeysetPage<TransportServiceViewDTO> firstPage =
+                    transportCompanyService.getTransportServicesByCompany(companyId, null, EXPORT_PAGE_SIZE);
+            if (firstPage.getContent().isEmpty()) {
                 logger.info("No transport services found for company ID: {}", companyId);
                 System.out.println("No transport services available to export.");
                 return;
             }
 
-            logger.info("Serializing {} transport services to JSON", services.size());
-            String json = transportCompanySerializer.serializeToJson(services);
-
-            logger.debug("Writing JSON to file: {}", filePath);
-            try (FileWriter writer = new FileWriter(filePath)) {
-                writer.write(json);
+            long exported;
+            try (Writer writer = Files.newBufferedWriter(Paths.get(filePath), StandardCharsets.UTF_8)) {
+                exported = transportCompanySerializer.serializeToJson(after -> after == null ? firstPage :
+                        transportCompanyService.getTransportServicesByCompany(companyId, after, EXPORT_PAGE_SIZE), writer);
             }
 
-            System.out.println("Transport services exported successfully to " + filePath);
-            System.out.println("Exported Data:" + System.lineSeparator() + json);
-            logger.info("Export completed successfully to {}", filePath);
+            System.out.println("Transport services exported successfully to " + filePath + ". " + exported + " service(s) written.");
+            logger.info("Export of {} transport services completed successfully to {}", exported, filePath);
         } catch (Exception e) {
             logger.error("Error exporting transport services: {}", e.getMessage(), e);
             System.out.println("Error exporting transport services: " + e.getMessage());
@@ -148,25 +156,19 @@ public class SerializationController {
         logger.debug("Received import file name for passenger services: {}", fileName);
 
         try {
-            logger.info("Reading file: {}", filePath);
-            String json = new String(Files.readAllBytes(Paths.get(filePath)));
-
-            logger.info("Deserializing transport passenger services from JSON");
-            List<TransportPassengersServiceCreateDTO> dtos = passengerSerializer.deserializeListFromJson(json);
-            if (dtos.isEmpty()) {
+            logger.info("Streaming transport passenger services from {}", filePath);
+            ImportSummary summary;
+            try (Stream<TransportPassengersServiceCreateDTO> dtos = passengerSerializer.deserializeStreamFromJson(
+                    Files.newBufferedReader(Paths.get(filePath), StandardCharsets.UTF_8))) {
+                summary = importInBatches(dtos, transportPassengersServiceService::createAll, "passenger service");
+            }
+            if (summary.read == 0) {
                 logger.info("No transport passenger services found in file: {}", filePath);
                 System.out.println("No transport passenger services found in the file.");
                 return;
             }
 
-            logger.info("Importing {} transport passenger services", dtos.size());
-            for (TransportPassengersServiceCreateDTO dto : dtos) {
-                transportPassengersServiceService.create(dto);
-                logger.debug("Imported passenger service: {}", dto);
-            }
-
-            System.out.println("Transport services imported successfully. " + dtos.size() + " service(s) added.");
-            System.out.println("Imported Data:" + System.lineSeparator() + json);
+            System.out.println("Transport services imported successfully. " + summary.imported + " service(s) added.");
             logger.info("Passenger services import completed successfully from {}", filePath);
         } catch (Exception e) {
             logger.error("Error importing transport passenger services: {}", e.getMessage(), e);
@@ -181,25 +183,19 @@ public class SerializationController {
         logger.debug("Received import file name for cargo services: {}", fileName);
 
         try {
-            logger.info("Reading file: {}", filePath);
-            String json = new String(Files.readAllBytes(Paths.get(filePath)));
-
-            logger.info("Deserializing transport cargo services from JSON");
-            List<TransportCargoServiceCreateDTO> dtos = cargoSerializer.deserializeListFromJson(json);
-            if (dtos.isEmpty()) {
+            logger.info("Streaming transport cargo services from {}", filePath);
+            ImportSummary summary;
+            try (Stream<TransportCargoServiceCreateDTO> dtos = cargoSerializer.deserializeStreamFromJson(
+                    Files.newBufferedReader(Paths.get(filePath), StandardCharsets.UTF_8))) {
+                summary = importInBatches(dtos, transportCargoServiceService::createAll, "cargo service");
+            }
+            if (summary.read == 0) {
                 logger.info("No transport cargo services found in file: {}", filePath);
                 System.out.println("No transport cargo services found in the file.");
                 return;
             }
 
-            logger.info("Importing {} transport cargo services", dtos.size());
-            for (TransportCargoServiceCreateDTO dto : dtos) {
-                transportCargoServiceService.create(dto);
-                logger.debug("Imported cargo service: {}", dto);
-            }
-
-            System.out.println("Transport cargo services imported successfully. " + dtos.size() + " service(s) added.");
-            System.out.println("Imported Data:" + System.lineSeparator() + json);
+            System.out.println("Transport cargo services imported successfully. " + summary.imported + " service(s) added.");
             logger.info("Cargo services import completed successfully from {}", filePath);
         } catch (Exception e) {
             logger.error("Error importing transport cargo services: {}", e.getMessage(), e);
@@ -207,6 +203,32 @@ public class SerializationController {
         }
     }
 
+    /**
+     * Hands the streamed DTOs to the service in batches of {@link #IMPORT_BATCH_SIZE}, so the file is never held
+     * in memory as a whole. Rows rejected by the service are reported by their position in the file.
+     */
+    private <C, V> ImportSummary importInBatches(Stream<C> dtos, Function<List<C>, BulkOperationResult<V>> createAll, String label) {
+        ImportSummary summary = new ImportSummary();
+        List<C> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+        Iterator<C> iterator = dtos.iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            if (batch.size() == IMPORT_BATCH_SIZE || !iterator.hasNext()) {
+                BulkOperationResult<V> result = createAll.apply(batch);
+                for (BulkOperationResult.Failure<V> failure : result.getFailures()) {
+                    long position = summary.read + failure.getIndex();
+                    logger.warn("Skipped {} at position {}: {}", label, position, failure.getCause().getMessage());
+                    System.out.println("Skipped service #" + (position + 1) + ": " + failure.getCause().getMessage());
+                }
+                summary.read += batch.size();
+                summary.imported += result.getSuccessCount();
+                logger.info("Imported batch of {} {}s, {} read so far", batch.size(), label, summary.read);
+                batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+            }
+        }
+        return summary;
+    }
+
     private Long getLongInput(String prompt) {
         while (true) {
             System.out.print(prompt);
@@ -221,4 +243,9 @@ public class SerializationController {
             }
         }
     }
-}
\ No newline at end of file
+
+    private static final class ImportSummary {
+        private long read;
+        private long imported;
+    }
+}
@@ -6,6 +6,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import services.IO.IServiceSerializer;
 import services.IO.ServiceSerializer;
+import services.IO.TransportServiceBinaryCodec;
 import services.data.dto.transportservices.*;
 import services.services.contracts.*;
 
@@ -75,12 +76,13 @@ public class ConsoleEngine implements IEngine {
         BusController busController = new BusController(busService, validator, scanner);
         VanController vanController = new VanController(vanService, validator, scanner);
 
+        TransportServiceBinaryCodec binaryCodec = new TransportServiceBinaryCodec();
         IServiceSerializer<ITransportCompanyService, TransportServiceViewDTO, TransportServiceCreateDTO> transportCompanySerializer
-                = new ServiceSerializer<>(companyService, TransportServiceViewDTO.class, TransportServiceCreateDTO.class);
+                = new ServiceSerializer<>(companyService, TransportServiceViewDTO.class, TransportServiceCreateDTO.class, binaryCodec);
         IServiceSerializer<ITransportPassengersServiceService, TransportPassengersServiceViewDTO, TransportPassengersServiceCreateDTO> passengerSerializer
-                = new ServiceSerializer<>(passengerServiceService, TransportPassengersServiceViewDTO.class, TransportPassengersServiceCreateDTO.class);
+                = new ServiceSerializer<>(passengerServiceService, TransportPassengersServiceViewDTO.class, TransportPassengersServiceCreateDTO.class, binaryCodec);
         IServiceSerializer<ITransportCargoServiceService, TransportCargoServiceViewDTO, TransportCargoServiceCreateDTO> cargoSerializer
-                = new ServiceSerializer<>(cargoServiceService, TransportCargoServiceViewDTO.class, TransportCargoServiceCreateDTO.class);
+                = new ServiceSerializer<>(cargoServiceService, TransportCargoServiceViewDTO.class, TransportCargoServiceCreateDTO.class, binaryCodec);
 
         SerializationController serializationController =
                 new SerializationController(
@@ -8,6 +8,9 @@ import java.util.Objects;
 @MappedSuperclass
 public abstract class BaseModel implements IAuditInfo {
 
+    /** Number of lazy collections of the same role initialized together by one query. */
+    protected static final int BATCH_FETCH_SIZE = 50;
+
     private Long id;
     private LocalDateTime createdOn;
     private LocalDateTime modifiedOn;
@@ -2,17 +2,25 @@ package data.common.seeding;
 
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
 import jakarta.validation.ConstraintViolation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import data.repositories.BulkOperationResult;
 import data.repositories.IGenericRepository;
+import data.repositories.Specifications;
 import jakarta.validation.Validator;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -20,12 +28,16 @@ import java.util.Set;
 /**
  * A generic seeder that populates a database table with initial data from a JSON file.
  * <p>
- * This class checks if the database table is empty using a limited query (first 10 records).
+ * This class checks if the database table is empty with an existence query that reads at most one row.
  * If empty, it reads entities from a specified JSON file and inserts them into the database
  * using the provided repository. It supports any entity type and key type, making it reusable
  * across different domain models. Logging is integrated to track seeding progress and errors.
  * The JSON file can be specified as an absolute path (e.g., from filesystem) or a classpath resource.
  * </p>
+ * <p>
+ * By default the whole file is parsed into a list before inserting it. When constructed with a batch size, the seeder
+ * streams the file instead, so memory use stays bounded by the batch size regardless of the file size.
+ * </p>
  * @param <T> the type of entity to seed
  * @param <TKey> the type of the entity's primary key
  */
@@ -37,6 +49,8 @@ public class GenericSeeder<T, TKey> implements ISeeder<T, TKey> {
     private final Class<T> entityType;
     private final Gson gson;
     private final Validator validator;
+    private final int batchSize;
+    private volatile List<T> preparedEntities;
 
     /**
      * Constructs a new GenericSeeder with the specified dependencies.
@@ -59,6 +73,39 @@ public class GenericSeeder<T, TKey> implements ISeeder<T, TKey> {
         this.entityType = Objects.requireNonNull(entityType, "Entity type cannot be null");
         this.gson = Objects.requireNonNull(gson, "Gson instance cannot be null");
         this.validator = validator; // Can be null if not used yet
+        this.batchSize = 0;
+    }
+
+    /**
+     * Constructs a new GenericSeeder that streams the JSON file instead of loading it whole.
+     * Entities are read one at a time and inserted in batches of the given size, and progress and
+     * throughput are logged after every batch.
+     *
+     * @param repository the repository to interact with the database, must not be null
+     * @param jsonFilePath the path to the JSON seed file (absolute or classpath-relative), must not be null
+     * @param entityType the class of the entity to seed, must not be null
+     * @param gson the Gson instance for JSON deserialization, must not be null
+     * @param validator the validator for entity validation (optional, can be null if no validation is desired)
+     * @param batchSize the number of entities read and inserted per batch, must be positive
+     * @throws NullPointerException if repository, jsonFilePath, entityType, or gson is null
+     * @throws IllegalArgumentException if batchSize is not positive
+     */
+    public GenericSeeder(
+            IGenericRepository<T, TKey> repository,
+            String jsonFilePath,
+            Class<T> entityType,
+            Gson gson,
+            Validator validator,
+            int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.repository = Objects.requireNonNull(repository, "Repository cannot be null");
+        this.jsonFilePath = Objects.requireNonNull(jsonFilePath, "JSON file path cannot be null");
+        this.entityType = Objects.requireNonNull(entityType, "Entity type cannot be null");
+        this.gson = Objects.requireNonNull(gson, "Gson instance cannot be null");
+        this.validator = validator;
+        this.batchSize = batchSize;
     }
 
     /** {@inheritDoc} */
@@ -66,10 +113,13 @@ public class GenericSeeder<T, TKey> implements ISeeder<T, TKey> {
     public void seed() {
         logger.debug("Checking if {} table is empty", entityType.getSimpleName());
 
-        List<T> entities = repository.getAll(0, 10, "name", true);
-        if (entities.isEmpty()) {
+        if (!repository.exists(Specifications.all())) {
             try {
-                List<T> newEntities = loadDataFromJson();
+                if (batchSize > 0) {
+                    streamEntities();
+                    return;
+                }
+                List<T> newEntities = takePreparedEntities();
                 if (newEntities == null || newEntities.isEmpty()) {
                     logger.warn("No data to seed for {} in file {}", entityType.getSimpleName(), jsonFilePath);
                     return;
@@ -81,10 +131,42 @@ public class GenericSeeder<T, TKey> implements ISeeder<T, TKey> {
                 throw new RuntimeException("Failed to seed data from JSON: " + jsonFilePath, e);
             }
         } else {
+            // Rows may have appeared after prepare(); drop whatever it parsed
+            preparedEntities = null;
             logger.debug("Skipping seeding for {} - database already contains data", entityType.getSimpleName());
         }
     }
 
+    /**
+     * Parses the seed file ahead of {@link #seed()}. Nothing is prepared when the table already contains data,
+     * so an unreadable seed file does not matter for a populated table. In streaming mode the file is read while
+     * inserting instead, so nothing is prepared either.
+     *
+     * @throws RuntimeException if the table is empty and the seed file cannot be read
+     */
+    @Override
+    public void prepare() {
+        if (batchSize > 0) {
+            return;
+        }
+        if (repository.exists(Specifications.all())) {
+            logger.debug("Skipping preparation for {} - database already contains data", entityType.getSimpleName());
+            return;
+        }
+        try {
+            preparedEntities = loadDataFromJson();
+        } catch (IOException e) {
+            logger.error("Failed to prepare {} from {}", entityType.getSimpleName(), jsonFilePath, e);
+            throw new RuntimeException("Failed to seed data from JSON: " + jsonFilePath, e);
+        }
+    }
+
+    private List<T> takePreparedEntities() throws IOException {
+        List<T> prepared = preparedEntities;
+        preparedEntities = null;
+        return prepared != null ? prepared : loadDataFromJson();
+    }
+
     /** {@inheritDoc} */
     protected List<T> loadDataFromJson() throws IOException {
         // First try absolute file path (for Main method compatibility)
@@ -106,9 +188,71 @@ public class GenericSeeder<T, TKey> implements ISeeder<T, TKey> {
         }
     }
 
-    /** {@inheritDoc} */
+    /**
+     * Reads the seed file with a {@link JsonReader} one entity at a time and inserts every full batch with a single
+     * bulk create, so at most one batch of entities is held in memory. Rejected entities do not stop the stream;
+     * the first rejection is rethrown once the whole file has been processed.
+     */
+    protected void streamEntities() throws IOException {
+        StreamProgress progress = new StreamProgress();
+        List<T> batch = new ArrayList<>(batchSize);
+        try (BufferedReader seedFile = openSeedFile(); JsonReader reader = new JsonReader(seedFile)) {
+            // An empty file holds no data, as in the non-streaming mode
+            seedFile.mark(1);
+            if (seedFile.read() != -1) {
+                seedFile.reset();
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    batch.add(gson.fromJson(reader, entityType));
+                    progress.read++;
+                    if (batch.size() == batchSize) {
+                        insertStreamedBatch(batch, progress);
+                    }
+                }
+                reader.endArray();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insertStreamedBatch(batch, progress);
+        }
+        if (progress.read == 0) {
+            logger.warn("No data to seed for {} in file {}", entityType.getSimpleName(), jsonFilePath);
+            return;
+        }
+        logger.info("Seeded {} of {} {} entities from {} in {} ms ({} rows/s)", progress.inserted, progress.read,
+                entityType.getSimpleName(), jsonFilePath, progress.elapsedMillis(), progress.rowsPerSecond());
+        if (progress.firstRejection != null) {
+            throw progress.firstRejection;
+        }
+    }
+
+    private void insertStreamedBatch(List<T> batch, StreamProgress progress) {
+        BulkOperationResult<T> result = insertBatch(batch);
+        batch.clear();
+        progress.inserted += result.getSuccessCount();
+        progress.rejected += result.getFailureCount();
+        if (progress.firstRejection == null && result.hasFailures()) {
+            progress.firstRejection = result.getFailures().getFirst().getCause();
+        }
+        logger.info("Seeding {}: {} read, {} inserted, {} rejected ({} rows/s)", entityType.getSimpleName(),
+                progress.read, progress.inserted, progress.rejected, progress.rowsPerSecond());
+    }
+
+    /**
+     * Inserts the valid entities with a single bulk create, so they are written in JDBC batches.
+     * Invalid entities are skipped; if the database rejects any entity, the others are still inserted
+     * and the first rejection is rethrown once the bulk create has finished.
+     */
     protected void insertEntities(List<T> newEntities) {
-        for (T entity : newEntities) {
+        BulkOperationResult<T> result = insertBatch(newEntities);
+        if (result.hasFailures()) {
+            throw result.getFailures().getFirst().getCause();
+        }
+    }
+
+    private BulkOperationResult<T> insertBatch(List<T> entities) {
+        List<T> validEntities = new ArrayList<>(entities.size());
+        for (T entity : entities) {
             if (validator != null) {
                 Set<ConstraintViolation<T>> violations = validator.validate(entity);
                 if (!violations.isEmpty()) {
@@ -116,12 +260,47 @@ public class GenericSeeder<T, TKey> implements ISeeder<T, TKey> {
                     continue;
                 }
             }
-            try {
-                repository.create(entity);
-            } catch (Exception e) {
-                logger.error("Failed to insert entity {}: {}", entity, e.getMessage(), e);
-                throw e;
-            }
+            validEntities.add(entity);
+        }
+        BulkOperationResult<T> result = repository.createAll(validEntities);
+        for (BulkOperationResult.Failure<T> failure : result.getFailures()) {
+            logger.error("Failed to insert entity {}: {}", failure.getItem(), failure.getCause().getMessage(), failure.getCause());
+        }
+        return result;
+    }
+
+    /**
+     * Opens the seed file as a buffered reader, trying the file system first and the classpath second.
+     */
+    private BufferedReader openSeedFile() throws IOException {
+        File jsonFile = new File(jsonFilePath);
+        if (jsonFile.exists() && jsonFile.isFile()) {
+            return Files.newBufferedReader(jsonFile.toPath(), StandardCharsets.UTF_8);
+        }
+        InputStream resourceStream = getClass().getClassLoader().getResourceAsStream(jsonFilePath);
+        if (resourceStream == null) {
+            throw new IOException("JSON seed file not found as file or classpath resource: " + jsonFilePath);
+        }
+        return new BufferedReader(new InputStreamReader(resourceStream, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Counters of a streaming seed run, used for progress and throughput logging.
+     */
+    private static final class StreamProgress {
+        private final long startedNanos = System.nanoTime();
+        private long read;
+        private long inserted;
+        private long rejected;
+        private RuntimeException firstRejection;
+
+        private long elapsedMillis() {
+            return (System.nanoTime() - startedNanos) / 1_000_000;
+        }
+
+        private long rowsPerSecond() {
+            long elapsedNanos = Math.max(System.nanoTime() - startedNanos, 1);
+            return inserted * 1_000_000_000L / elapsedNanos;
         }
     }
-}
\ No newline at end of file
+}
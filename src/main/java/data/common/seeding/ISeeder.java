@@ -14,4 +14,13 @@ public interface ISeeder<T, TKey> {
      * The data will be read from a JSON file.
      */
     public void seed();
+
+    /**
+     * Prepares the data to seed ahead of {@link #seed()}, e.g. by reading and parsing the seed file.
+     * Seeding pipelines call this while other seeders are still inserting, so the parsing cost overlaps with
+     * database work; {@link #seed()} must still work when this method was never called.
+     * The default implementation does nothing.
+     */
+    default void prepare() {
+    }
 }
@@ -0,0 +1,207 @@
+package data.common.seeding;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs a set of seeders in dependency order, seeding independent entity types concurrently.
+ * <p>
+ * Each seeder is registered under a name together with the names of the seeders whose data it references
+ * (e.g., vehicles depend on companies). {@link #seedAll()} runs every seeder as soon as all of its dependencies have
+ * finished, on a bounded pool of threads, so seeders without a dependency between them insert in parallel. A seeder's
+ * {@link ISeeder#prepare()} step starts once all of its dependencies have started seeding, so its seed file is parsed
+ * while they insert, but only one level of the dependency graph holds prepared entities ahead of its inserts. A
+ * seeder whose dependency failed is skipped.
+ * </p>
+ */
+public class SeedingOrchestrator {
+    private static final Logger logger = LoggerFactory.getLogger(SeedingOrchestrator.class);
+
+    private final int parallelism;
+    private final Map<String, Registration> registrations = new LinkedHashMap<>();
+
+    /**
+     * Constructs a new SeedingOrchestrator.
+     *
+     * @param parallelism the maximum number of seeders that run at the same time, must be positive
+     * @throws IllegalArgumentException if parallelism is not positive
+     */
+    public SeedingOrchestrator(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Registers a seeder.
+     *
+     * @param name      the unique name of the seeder, used to declare dependencies on it; must not be null
+     * @param seeder    the seeder to run; must not be null
+     * @param dependsOn the names of the seeders that must finish before this one starts
+     * @return this orchestrator
+     * @throws NullPointerException     if name or seeder is null
+     * @throws IllegalArgumentException if a seeder with the same name is already registered
+     */
+    public SeedingOrchestrator register(String name, ISeeder<?, ?> seeder, String... dependsOn) {
+        Objects.requireNonNull(name, "Seeder name cannot be null");
+        Objects.requireNonNull(seeder, "Seeder cannot be null");
+        if (registrations.containsKey(name)) {
+            throw new IllegalArgumentException("Seeder already registered: " + name);
+        }
+        registrations.put(name, new Registration(seeder, List.of(dependsOn)));
+        return this;
+    }
+
+    /**
+     * Runs all registered seeders and waits for them to finish.
+     *
+     * @throws IllegalArgumentException if a seeder depends on an unregistered seeder or the dependencies form a cycle
+     * @throws RuntimeException         if any seeder failed, after all other seeders have finished or been skipped;
+     *                                  the cause is the first failure
+     */
+    public void seedAll() {
+        List<String> order = dependencyOrder();
+        if (order.isEmpty()) {
+            return;
+        }
+        long started = System.nanoTime();
+        Set<String> failed = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, order.size()), new SeederThreadFactory());
+        try {
+            Map<String, CompletableFuture<Void>> seedStarted = new HashMap<>();
+            Map<String, CompletableFuture<Void>> seeded = new LinkedHashMap<>();
+            for (String name : order) {
+                Registration registration = registrations.get(name);
+                List<CompletableFuture<Void>> dependenciesStarted = new ArrayList<>();
+                List<CompletableFuture<Void>> prerequisites = new ArrayList<>();
+                for (String dependency : registration.dependsOn) {
+                    dependenciesStarted.add(seedStarted.get(dependency));
+                    prerequisites.add(seeded.get(dependency));
+                }
+                prerequisites.add(CompletableFuture.allOf(dependenciesStarted.toArray(new CompletableFuture[0]))
+                        .thenRunAsync(() -> runStep(name, "prepare", registration.seeder::prepare, failed), executor));
+
+                CompletableFuture<Void> starting = new CompletableFuture<>();
+                CompletableFuture<Void> seeding = CompletableFuture.allOf(prerequisites.toArray(new CompletableFuture[0]))
+                        .thenRunAsync(() -> {
+                            starting.complete(null);
+                            runStep(name, "seed", registration.seeder::seed, failed);
+                        }, executor);
+                // A seeder that never starts must release its dependents' prepare steps so they are skipped too
+                seeding.whenComplete((ignored, e) -> {
+                    if (e != null) {
+                        starting.completeExceptionally(e);
+                    }
+                });
+                seedStarted.put(name, starting);
+                seeded.put(name, seeding);
+            }
+            awaitAll(seeded, failed, started);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void runStep(String name, String step, Runnable action, Set<String> failed) {
+        long started = System.nanoTime();
+        try {
+            action.run();
+            logger.debug("Seeder {} finished {} in {} ms", name, step, (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            failed.add(name);
+            logger.error("Seeder {} failed to {}: {}", name, step, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    private void awaitAll(Map<String, CompletableFuture<Void>> seeded, Set<String> failed, long started) {
+        RuntimeException firstFailure = null;
+        List<String> skipped = new ArrayList<>();
+        for (Map.Entry<String, CompletableFuture<Void>> entry : seeded.entrySet()) {
+            try {
+                entry.getValue().join();
+            } catch (CompletionException e) {
+                if (!failed.contains(entry.getKey())) {
+                    skipped.add(entry.getKey());
+                    logger.warn("Seeder {} was skipped because a seeder it depends on failed", entry.getKey());
+                } else if (firstFailure == null) {
+                    firstFailure = e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+            }
+        }
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        if (firstFailure != null) {
+            throw new RuntimeException("Seeding failed for " + failed + ", skipped " + skipped, firstFailure);
+        }
+        logger.info("Ran {} seeders in {} ms", seeded.size(), elapsedMillis);
+    }
+
+    /**
+     * Orders the seeders so that every seeder comes after its dependencies, keeping registration order otherwise.
+     */
+    private List<String> dependencyOrder() {
+        List<String> order = new ArrayList<>(registrations.size());
+        Map<String, Boolean> visited = new HashMap<>();
+        for (String name : registrations.keySet()) {
+            visit(name, visited, order);
+        }
+        return order;
+    }
+
+    private void visit(String name, Map<String, Boolean> visited, List<String> order) {
+        Boolean done = visited.get(name);
+        if (Boolean.TRUE.equals(done)) {
+            return;
+        }
+        if (Boolean.FALSE.equals(done)) {
+            throw new IllegalArgumentException("Seeder dependencies form a cycle through: " + name);
+        }
+        visited.put(name, Boolean.FALSE);
+        for (String dependency : registrations.get(name).dependsOn) {
+            if (!registrations.containsKey(dependency)) {
+                throw new IllegalArgumentException("Seeder " + name + " depends on unknown seeder: " + dependency);
+            }
+            visit(dependency, visited, order);
+        }
+        visited.put(name, Boolean.TRUE);
+        order.add(name);
+    }
+
+    private static final class Registration {
+        private final ISeeder<?, ?> seeder;
+        private final List<String> dependsOn;
+
+        private Registration(ISeeder<?, ?> seeder, List<String> dependsOn) {
+            this.seeder = seeder;
+            this.dependsOn = dependsOn;
+        }
+    }
+
+    /**
+     * Names the seeding threads, so log lines show which seeder pool thread wrote them.
+     */
+    private static final class SeederThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            return new Thread(task, "seeder-" + count.incrementAndGet());
+        }
+    }
+}
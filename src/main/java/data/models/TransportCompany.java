@@ -6,14 +6,24 @@ import data.models.employee.Employee;
 import data.models.transportservices.TransportService;
 import data.models.vehicles.Vehicle;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
 @Table(name = "transport_companies")
+@NamedEntityGraph(name = TransportCompany.WITH_EMPLOYEES_GRAPH, attributeNodes = @NamedAttributeNode("employees"))
+@NamedEntityGraph(name = TransportCompany.DETAILS_GRAPH, attributeNodes = {
+        @NamedAttributeNode("employees"),
+        @NamedAttributeNode("vehicles"),
+        @NamedAttributeNode("transportServices")
+})
 public class TransportCompany extends BaseModel {
 
+    public static final String WITH_EMPLOYEES_GRAPH = "TransportCompany.withEmployees";
+    public static final String DETAILS_GRAPH = "TransportCompany.details";
+
     private String name;
     private String address;
     private Set<Employee> employees = new HashSet<>();
@@ -53,6 +63,7 @@ public class TransportCompany extends BaseModel {
 
     // One-to-many relationship with Employee
     @OneToMany(mappedBy = "transportCompany")
+    @BatchSize(size = BATCH_FETCH_SIZE)
     public Set<Employee> getEmployees() {
         return employees;
     }
@@ -63,6 +74,7 @@ public class TransportCompany extends BaseModel {
 
     // One-to-many relationship with Vehicle
     @OneToMany(mappedBy = "transportCompany")
+    @BatchSize(size = BATCH_FETCH_SIZE)
     public Set<Vehicle> getVehicles() {
         return vehicles;
     }
@@ -73,6 +85,7 @@ public class TransportCompany extends BaseModel {
 
     // One-to-many relationship with TransportService
     @OneToMany(mappedBy = "transportCompany")
+    @BatchSize(size = BATCH_FETCH_SIZE)
     public Set<TransportService> getTransportServices() {
         return transportServices;
     }
@@ -1,21 +1,31 @@
 package data.models.employee;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
 @Table(name = "dispatchers")
+@NamedEntityGraph(name = Dispatcher.DETAILS_GRAPH, attributeNodes = {
+        @NamedAttributeNode("transportCompany"),
+        @NamedAttributeNode("supervisedDrivers")
+})
 public class Dispatcher extends Employee {
 
+    public static final String DETAILS_GRAPH = "Dispatcher.details";
+
     private Set<Driver> supervisedDrivers = new HashSet<>();;
 
     public Dispatcher() {}
 
     @OneToMany(mappedBy = "dispatcher")
+    @BatchSize(size = BATCH_FETCH_SIZE)
     public Set<Driver> getSupervisedDrivers() {
         return supervisedDrivers;
     }
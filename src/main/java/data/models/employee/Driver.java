@@ -2,6 +2,7 @@ package data.models.employee;
 
 import data.models.transportservices.TransportService;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
@@ -10,8 +11,15 @@ import java.util.Set;
 
 @Entity
 @Table(name = "drivers")
+@NamedEntityGraph(name = Driver.DETAILS_GRAPH, attributeNodes = {
+        @NamedAttributeNode("transportCompany"),
+        @NamedAttributeNode("dispatcher"),
+        @NamedAttributeNode("qualifications")
+})
 public class Driver extends Employee {
 
+    public static final String DETAILS_GRAPH = "Driver.details";
+
     private Dispatcher dispatcher;
     private Set<Qualification> qualifications = new HashSet<>();
     private Set<TransportService> transportServices = new HashSet<>();
@@ -33,6 +41,7 @@ public class Driver extends Employee {
             joinColumns = @JoinColumn(name = "driver_id"),
             inverseJoinColumns = @JoinColumn(name = "qualification_id")
     )
+    @BatchSize(size = BATCH_FETCH_SIZE)
     public Set<Qualification> getQualifications() {
         return qualifications;
     }
@@ -42,6 +51,7 @@ public class Driver extends Employee {
     }
 
     @OneToMany(mappedBy = "driver", fetch = FetchType.LAZY)
+    @BatchSize(size = BATCH_FETCH_SIZE)
     public Set<TransportService> getTransportServices() {
         return transportServices;
     }
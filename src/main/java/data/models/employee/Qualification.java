@@ -2,6 +2,7 @@ package data.models.employee;
 
 import data.common.BaseModel;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
@@ -44,6 +45,7 @@ public class Qualification extends BaseModel {
     }
 
     @ManyToMany(mappedBy = "qualifications")
+    @BatchSize(size = BATCH_FETCH_SIZE)
     @OnDelete(action = OnDeleteAction.CASCADE)
     public Set<Driver> getDrivers() {
         return drivers;
@@ -18,7 +18,10 @@ import java.time.LocalDate;
 @Entity
 @Inheritance(strategy = InheritanceType.JOINED)
 @EndDateCannotBeBeforeStartDate
-@Table(name = "transport_services")
+@Table(name = "transport_services", indexes = {
+        @Index(name = "idx_transport_services_company_start", columnList = "transport_company_id, starting_date, id"),
+        @Index(name = "idx_transport_services_driver_start", columnList = "driver_id, starting_date, id")
+})
 public abstract class TransportService extends BaseModel {
 
     private TransportCompany transportCompany;
@@ -0,0 +1,102 @@
+package data.repositories;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The outcome of a bulk repository operation: the rows that were written and the rows that failed,
+ * each failure with its position in the input and the exception that rejected it.
+ *
+ * @param <E> the type of the processed rows (e.g., entities for creates and updates, identifiers for deletes)
+ */
+public final class BulkOperationResult<E> {
+    private final List<E> succeeded;
+    private final List<Failure<E>> failures;
+
+    /**
+     * Constructs a new BulkOperationResult.
+     *
+     * @param succeeded the rows that were written, in input order
+     * @param failures  the rows that were rejected, in input order
+     */
+    public BulkOperationResult(List<E> succeeded, List<Failure<E>> failures) {
+        this.succeeded = List.copyOf(succeeded);
+        this.failures = List.copyOf(failures);
+    }
+
+    public List<E> getSucceeded() {
+        return succeeded;
+    }
+
+    public List<Failure<E>> getFailures() {
+        return failures;
+    }
+
+    public int getSuccessCount() {
+        return succeeded.size();
+    }
+
+    public int getFailureCount() {
+        return failures.size();
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    /**
+     * Maps the succeeded and failed rows while keeping the failure positions and causes, e.g. to convert entities to DTOs.
+     *
+     * @param mapper the mapping function
+     * @param <D>    the type of the mapped rows
+     * @return a new result with mapped rows
+     */
+    public <D> BulkOperationResult<D> map(Function<E, D> mapper) {
+        List<D> mappedSucceeded = new ArrayList<>(succeeded.size());
+        for (E row : succeeded) {
+            mappedSucceeded.add(mapper.apply(row));
+        }
+        List<Failure<D>> mappedFailures = new ArrayList<>(failures.size());
+        for (Failure<E> failure : failures) {
+            mappedFailures.add(new Failure<>(failure.getIndex(), mapper.apply(failure.getItem()), failure.getCause()));
+        }
+        return new BulkOperationResult<>(mappedSucceeded, mappedFailures);
+    }
+
+    /**
+     * A row rejected by a bulk operation.
+     *
+     * @param <E> the type of the row
+     */
+    public static final class Failure<E> {
+        private final int index;
+        private final E item;
+        private final RuntimeException cause;
+
+        /**
+         * Constructs a new Failure.
+         *
+         * @param index the zero-based position of the row in the input collection
+         * @param item  the rejected row
+         * @param cause the exception raised while writing the row
+         */
+        public Failure(int index, E item, RuntimeException cause) {
+            this.index = index;
+            this.item = item;
+            this.cause = cause;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public E getItem() {
+            return item;
+        }
+
+        public RuntimeException getCause() {
+            return cause;
+        }
+    }
+}
@@ -0,0 +1,574 @@
+package data.repositories;
+
+import data.common.BaseModel;
+import data.repositories.exceptions.RepositoryException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * An {@link IGenericRepository} decorator that keeps recently loaded entities in memory, for read-mostly reference
+ * data such as qualifications, destinations and transport companies.
+ * <p>
+ * {@link #getById(Object)}, {@link #getAllByIds(Collection)} and {@link #getReference(Object)} are served from the
+ * cache when possible; lookups with fetch relations and all queries go to the underlying repository. Entries are
+ * evicted least-recently-used once the cache is full and expire a fixed time after they were loaded. Updates and
+ * deletes made through this repository invalidate the affected entries; changes made by other means become visible
+ * when the entry expires or after {@link #invalidate(Long)} / {@link #invalidateAll()}.
+ * </p>
+ * <p>
+ * Cached entities are detached instances shared between callers. They must be treated as read-only unless the
+ * change is saved through {@link #update(BaseModel)}, which drops the entry.
+ * </p>
+ * <p>
+ * While a unit of work is active on the calling thread, cached entities are never handed out or stored: entities
+ * loaded there belong to the bound session, may be changed through dirty checking and may be rolled back. A cache hit
+ * only confirms that the row exists, and the lookup returns the bound session's reference to it without a query;
+ * a miss is loaded by the underlying repository and not cached.
+ * </p>
+ *
+ * @param <T> the type of the cached entity
+ */
+public class CachingRepository<T extends BaseModel> implements IGenericRepository<T, Long> {
+    private static final Logger logger = LoggerFactory.getLogger(CachingRepository.class);
+    public static final int DEFAULT_MAXIMUM_SIZE = 1_000;
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    private final IGenericRepository<T, Long> delegate;
+    private final int maximumSize;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoClock;
+    private final Map<Long, CacheEntry<T>> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructs a new CachingRepository with a maximum of {@value #DEFAULT_MAXIMUM_SIZE} entries that expire after
+     * ten minutes.
+     *
+     * @param delegate the repository to load entities from and to write through; must not be null
+     */
+    public CachingRepository(IGenericRepository<T, Long> delegate) {
+        this(delegate, DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * Constructs a new CachingRepository.
+     *
+     * @param delegate    the repository to load entities from and to write through; must not be null
+     * @param maximumSize the maximum number of cached entities, must be positive
+     * @param timeToLive  how long an entity stays cached after it was loaded; must be positive
+     * @throws IllegalArgumentException if the delegate or time to live is null, or a limit is not positive
+     */
+    public CachingRepository(IGenericRepository<T, Long> delegate, int maximumSize, Duration timeToLive) {
+        this(delegate, maximumSize, timeToLive, System::nanoTime);
+    }
+
+    CachingRepository(IGenericRepository<T, Long> delegate, int maximumSize, Duration timeToLive, LongSupplier nanoClock) {
+        if (delegate == null || timeToLive == null) {
+            throw new IllegalArgumentException("Delegate repository and time to live must not be null");
+        }
+        if (maximumSize <= 0 || timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("Maximum size and time to live must be positive");
+        }
+        this.delegate = delegate;
+        this.maximumSize = maximumSize;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.nanoClock = nanoClock;
+        // Access order turns the map into an LRU list; all access is synchronized on it
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CacheEntry<T>> eldest) {
+                if (size() > CachingRepository.this.maximumSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the number of lookups served from the cache.
+     *
+     * @return the hit count since the repository was created
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that had to load the entity from the underlying repository.
+     *
+     * @return the miss count since the repository was created
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of entries dropped because the cache was full.
+     * Expired and invalidated entries are not counted.
+     *
+     * @return the eviction count since the repository was created
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the share of lookups served from the cache.
+     *
+     * @return the hit rate between 0 and 1, or 0 if there were no lookups
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * Returns the number of entries currently cached, including expired entries not yet removed.
+     *
+     * @return the cache size
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Drops the cached entity with the given identifier, if any.
+     *
+     * @param id the identifier of the entity to drop; null is ignored
+     */
+    public void invalidate(Long id) {
+        if (id == null) {
+            return;
+        }
+        synchronized (entries) {
+            entries.remove(id);
+        }
+    }
+
+    /**
+     * Drops all cached entities.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        logger.debug("Invalidated all cached {} entities", delegate.getEntityClass().getSimpleName());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Class<T> getEntityClass() {
+        return delegate.getEntityClass();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T create(T entity) throws RepositoryException {
+        return delegate.create(entity);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T update(T entity) throws RepositoryException {
+        Long id = entity == null ? null : entity.getId();
+        invalidate(id);
+        try {
+            return delegate.update(entity);
+        } finally {
+            // A concurrent lookup may have cached the old row while the update was in flight
+            invalidate(id);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void delete(T entity) throws RepositoryException {
+        Long id = entity == null ? null : entity.getId();
+        invalidate(id);
+        try {
+            delegate.delete(entity);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BulkOperationResult<T> createAll(Collection<T> entities) throws RepositoryException {
+        return delegate.createAll(entities);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BulkOperationResult<T> updateAll(Collection<T> entities) throws RepositoryException {
+        invalidateEntities(entities);
+        try {
+            return delegate.updateAll(entities);
+        } finally {
+            invalidateEntities(entities);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BulkOperationResult<Long> deleteAllByIds(Collection<Long> ids) throws RepositoryException {
+        invalidateIds(ids);
+        try {
+            return delegate.deleteAllByIds(ids);
+        } finally {
+            invalidateIds(ids);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<T> getById(Long id) throws RepositoryException {
+        if (id == null) {
+            throw new IllegalArgumentException("ID must not be null");
+        }
+        if (UnitOfWork.isActiveOnCurrentThread()) {
+            return lookup(id) != null ? Optional.of(delegate.getReference(id)) : delegate.getById(id);
+        }
+        T cached = lookup(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<T> loaded = delegate.getById(id);
+        loaded.ifPresent(this::store);
+        return loaded;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<T> getById(Long id, String... fetchRelations) throws RepositoryException {
+        if (fetchRelations == null || fetchRelations.length == 0) {
+            return getById(id);
+        }
+        return delegate.getById(id, fetchRelations);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only a lookup without a fetch plan is served from the cache.
+     * </p>
+     */
+    @Override
+    public Optional<T> getById(Long id, FetchPlan fetchPlan) throws RepositoryException {
+        if (fetchPlan == null) {
+            return getById(id);
+        }
+        return delegate.getById(id, fetchPlan);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Cached entities are returned without a query; the remaining identifiers are loaded with one query to the
+     * underlying repository and cached.
+     * </p>
+     */
+    @Override
+    public List<T> getAllByIds(Collection<Long> ids) throws RepositoryException {
+        if (ids == null || ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("IDs must not be null");
+        }
+        boolean inUnitOfWork = UnitOfWork.isActiveOnCurrentThread();
+        List<T> result = new ArrayList<>(ids.size());
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            T cached = lookup(id);
+            if (cached != null) {
+                result.add(inUnitOfWork ? delegate.getReference(id) : cached);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            List<T> loaded = delegate.getAllByIds(missing);
+            if (!inUnitOfWork) {
+                loaded.forEach(this::store);
+            }
+            result.addAll(loaded);
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns the cached, fully initialized entity when there is one. Inside a unit of work the bound session's
+     * reference is returned instead.
+     * </p>
+     */
+    @Override
+    public T getReference(Long id) throws RepositoryException {
+        if (id == null) {
+            throw new IllegalArgumentException("ID must not be null");
+        }
+        if (UnitOfWork.isActiveOnCurrentThread()) {
+            return delegate.getReference(id);
+        }
+        T cached = lookup(id);
+        return cached != null ? cached : delegate.getReference(id);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<T> getAll(int page, int size, String orderBy, boolean ascending, String... fetchRelations) {
+        return delegate.getAll(page, size, orderBy, ascending, fetchRelations);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<T> getAll(int page, int size, String orderBy, boolean ascending, FetchPlan fetchPlan) throws RepositoryException {
+        return delegate.getAll(page, size, orderBy, ascending, fetchPlan);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<T> findByCriteria(Map<String, Object> conditions, String orderBy, Boolean ascending, String... fetchRelations) throws RepositoryException {
+        return delegate.findByCriteria(conditions, orderBy, ascending, fetchRelations);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<T> findByCriteria(Map<String, Object> conditions, String orderBy, Boolean ascending, int page, int pageSize, String... fetchRelations) throws RepositoryException {
+        return delegate.findByCriteria(conditions, orderBy, ascending, page, pageSize, fetchRelations);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<T> findByCriteria(Map<String, Object> conditions, String orderBy, Boolean ascending, int page, int pageSize, FetchPlan fetchPlan) throws RepositoryException {
+        return delegate.findByCriteria(conditions, orderBy, ascending, page, pageSize, fetchPlan);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<T> findBySpecification(ISpecification<T> specification, String orderBy, boolean ascending, int page, int pageSize,
+                                       FetchPlan fetchPlan) throws RepositoryException {
+        return delegate.findBySpecification(specification, orderBy, ascending, page, pageSize, fetchPlan);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long forEach(ISpecification<T> specification, String orderBy, boolean ascending, FetchPlan fetchPlan,
+                        Consumer<? super T> action) throws RepositoryException {
+        return delegate.forEach(specification, orderBy, ascending, fetchPlan, action);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long forEach(ISpecification<T> specification, String orderBy, boolean ascending, Consumer<? super T> action,
+                        String... fetchRelations) throws RepositoryException {
+        return delegate.forEach(specification, orderBy, ascending, action, fetchRelations);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<T> findWithAggregation(String joinRelation, String aggregationField, String groupByField, boolean ascending) {
+        return delegate.findWithAggregation(joinRelation, aggregationField, groupByField, ascending);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<T> findWithJoin(String joinField, String joinConditionField, Object joinConditionValue,
+                                String orderBy, boolean ascending, String... fetchRelations) throws RepositoryException {
+        return delegate.findWithJoin(joinField, joinConditionField, joinConditionValue, orderBy, ascending, fetchRelations);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BigDecimal sum(String sumField, Map<String, Object> conditions) throws RepositoryException {
+        return delegate.sum(sumField, conditions);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BigDecimal sum(String sumField, ISpecification<T> specification) throws RepositoryException {
+        return delegate.sum(sumField, specification);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long count(Map<String, Object> conditions) throws RepositoryException {
+        return delegate.count(conditions);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long count() throws RepositoryException {
+        return delegate.count();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long count(ISpecification<T> specification) throws RepositoryException {
+        return delegate.count(specification);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean exists(ISpecification<T> specification) throws RepositoryException {
+        return delegate.exists(specification);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <K> Map<K, BigDecimal> groupBySum(String groupByField, String sumField, Map<String, Object> conditions) throws RepositoryException {
+        return delegate.groupBySum(groupByField, sumField, conditions);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <R> Map<Long, Long> countRelatedEntities(Class<R> relatedEntityClass, String relationField, String groupByField, String countField, int page, int size, String orderBy, boolean ascending) throws RepositoryException {
+        return delegate.countRelatedEntities(relatedEntityClass, relationField, groupByField, countField, page, size, orderBy, ascending);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <R> Map<Long, Long> countRelatedEntities(Class<R> relatedEntityClass, String relationField, String groupByField, String countField) throws RepositoryException {
+        return delegate.countRelatedEntities(relatedEntityClass, relationField, groupByField, countField);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <D> D updateAndMap(T entity, Function<T, D> mapper, Consumer<T> lazyInitializer) throws RepositoryException {
+        Long id = entity == null ? null : entity.getId();
+        invalidate(id);
+        try {
+            return delegate.updateAndMap(entity, mapper, lazyInitializer);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <D> Optional<D> getByIdAndMap(Long id, Function<T, D> mapper, Consumer<T> lazyInitializer) throws RepositoryException {
+        return delegate.getByIdAndMap(id, mapper, lazyInitializer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <D> List<D> getAllAndMap(int page, int size, String orderBy, boolean ascending, Function<T, D> mapper, String... fetchRelations) throws RepositoryException {
+        return delegate.getAllAndMap(page, size, orderBy, ascending, mapper, fetchRelations);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <D> List<D> findProjected(Map<String, Object> conditions, String orderBy, boolean ascending, int page, int size,
+                                     Projection<? super T, D> projection) throws RepositoryException {
+        return delegate.findProjected(conditions, orderBy, ascending, page, size, projection);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <D> List<D> searchAndMap(String filter, List<String> searchFields, int page, int size, String orderBy, boolean ascending, Function<T, D> mapper, String... fetchRelations) throws RepositoryException {
+        return delegate.searchAndMap(filter, searchFields, page, size, orderBy, ascending, mapper, fetchRelations);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public KeysetPage<T> findPageAfter(Map<String, Object> conditions, String orderBy, boolean ascending, KeysetCursor after, int size, String... fetchRelations) throws RepositoryException {
+        return delegate.findPageAfter(conditions, orderBy, ascending, after, size, fetchRelations);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <R> List<R> findRelatedEntities(Class<R> relatedEntityClass, String relationField, Long entityId, int page, int size, String orderBy, boolean ascending) {
+        return delegate.findRelatedEntities(relatedEntityClass, relationField, entityId, page, size, orderBy, ascending);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <R> R executeInUnitOfWork(Supplier<R> work) throws RepositoryException {
+        return delegate.executeInUnitOfWork(work);
+    }
+
+    /**
+     * Returns the cached entity, or null if it is not cached or has expired. Counts the lookup as a hit or miss.
+     */
+    private T lookup(Long id) {
+        T cached = null;
+        synchronized (entries) {
+            CacheEntry<T> entry = entries.get(id);
+            if (entry != null) {
+                if (nanoClock.getAsLong() - entry.loadedAt < timeToLiveNanos) {
+                    cached = entry.entity;
+                } else {
+                    entries.remove(id);
+                }
+            }
+        }
+        if (cached != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            logger.debug("Cache miss for {} with ID {}", delegate.getEntityClass().getSimpleName(), id);
+        }
+        return cached;
+    }
+
+    private void store(T entity) {
+        if (entity.getId() == null) {
+            return;
+        }
+        CacheEntry<T> entry = new CacheEntry<>(entity, nanoClock.getAsLong());
+        synchronized (entries) {
+            entries.put(entity.getId(), entry);
+        }
+    }
+
+    private void invalidateEntities(Collection<T> entities) {
+        if (entities == null) {
+            return;
+        }
+        synchronized (entries) {
+            for (T entity : entities) {
+                if (entity != null && entity.getId() != null) {
+                    entries.remove(entity.getId());
+                }
+            }
+        }
+    }
+
+    private void invalidateIds(Collection<Long> ids) {
+        if (ids == null) {
+            return;
+        }
+        synchronized (entries) {
+            for (Long id : ids) {
+                if (id != null) {
+                    entries.remove(id);
+                }
+            }
+        }
+    }
+
+    private static final class CacheEntry<T> {
+        private final T entity;
+        private final long loadedAt;
+
+        private CacheEntry(T entity, long loadedAt) {
+            this.entity = entity;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package data.repositories;
+
+/**
+ * A point-in-time snapshot of the JDBC connection pool behind a SessionFactory.
+ *
+ * @see SessionFactoryUtil#getPoolMetrics(org.hibernate.SessionFactory)
+ */
+public final class ConnectionPoolMetrics {
+    private final int activeConnections;
+    private final int idleConnections;
+    private final int totalConnections;
+    private final int maximumPoolSize;
+    private final int threadsAwaitingConnection;
+
+    ConnectionPoolMetrics(int activeConnections, int idleConnections, int totalConnections, int maximumPoolSize,
+                          int threadsAwaitingConnection) {
+        this.activeConnections = activeConnections;
+        this.idleConnections = idleConnections;
+        this.totalConnections = totalConnections;
+        this.maximumPoolSize = maximumPoolSize;
+        this.threadsAwaitingConnection = threadsAwaitingConnection;
+    }
+
+    /** @return the number of connections currently handed out to sessions */
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+
+    /** @return the number of open connections waiting in the pool */
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+
+    /** @return the number of open connections, active and idle */
+    public int getTotalConnections() {
+        return totalConnections;
+    }
+
+    /** @return the maximum number of connections the pool opens */
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    /** @return the number of threads blocked waiting for a connection */
+    public int getThreadsAwaitingConnection() {
+        return threadsAwaitingConnection;
+    }
+
+    /**
+     * Returns the share of the pool in use. A value of 1 with threads awaiting a connection means the pool is
+     * too small for the load.
+     *
+     * @return active connections divided by the maximum pool size, between 0 and 1
+     */
+    public double getSaturation() {
+        return maximumPoolSize == 0 ? 0.0 : (double) activeConnections / maximumPoolSize;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolMetrics{active=" + activeConnections + ", idle=" + idleConnections + ", total=" + totalConnections
+                + ", max=" + maximumPoolSize + ", awaiting=" + threadsAwaitingConnection + '}';
+    }
+}
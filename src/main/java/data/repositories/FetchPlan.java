@@ -0,0 +1,57 @@
+package data.repositories;
+
+import java.util.Objects;
+
+/**
+ * A reusable fetch plan backed by a named JPA entity graph ({@code @NamedEntityGraph}) declared on the entity.
+ * The graph lists the relations a use case needs; {@link GenericRepository} decides how each one is loaded:
+ * <ul>
+ *     <li>single-valued relations are joined into the query that loads the entities, which adds columns but no rows;</li>
+ *     <li>collections are initialized after that query by batch fetching ({@code @BatchSize}), one narrow query per
+ *     collection and batch of owners, so fetching several collections never multiplies the result rows.</li>
+ * </ul>
+ *
+ * @see FetchPlans
+ */
+public final class FetchPlan {
+    private final String graphName;
+
+    private FetchPlan(String graphName) {
+        this.graphName = graphName;
+    }
+
+    /**
+     * Creates a plan for the named entity graph.
+     *
+     * @param graphName the name of an entity graph declared on the entity or one of its supertypes; must not be blank
+     * @return the fetch plan
+     * @throws IllegalArgumentException if the name is null or blank
+     */
+    public static FetchPlan named(String graphName) {
+        if (graphName == null || graphName.isBlank()) {
+            throw new IllegalArgumentException("Entity graph name cannot be null or blank");
+        }
+        return new FetchPlan(graphName);
+    }
+
+    public String getGraphName() {
+        return graphName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FetchPlan that)) return false;
+        return graphName.equals(that.graphName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(graphName);
+    }
+
+    @Override
+    public String toString() {
+        return "FetchPlan{" + graphName + "}";
+    }
+}
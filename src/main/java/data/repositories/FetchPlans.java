@@ -0,0 +1,26 @@
+package data.repositories;
+
+import data.models.TransportCompany;
+import data.models.employee.Dispatcher;
+import data.models.employee.Driver;
+
+/**
+ * The fetch plans shared by the services, one per entity graph declared on the models.
+ */
+public final class FetchPlans {
+
+    /** A driver with its company, dispatcher and qualifications. */
+    public static final FetchPlan DRIVER_DETAILS = FetchPlan.named(Driver.DETAILS_GRAPH);
+
+    /** A dispatcher with its company and supervised drivers. */
+    public static final FetchPlan DISPATCHER_DETAILS = FetchPlan.named(Dispatcher.DETAILS_GRAPH);
+
+    /** A company with its employees. */
+    public static final FetchPlan COMPANY_WITH_EMPLOYEES = FetchPlan.named(TransportCompany.WITH_EMPLOYEES_GRAPH);
+
+    /** A company with its employees, vehicles and transport services. */
+    public static final FetchPlan COMPANY_DETAILS = FetchPlan.named(TransportCompany.DETAILS_GRAPH);
+
+    private FetchPlans() {
+    }
+}
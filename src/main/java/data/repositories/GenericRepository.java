@@ -2,27 +2,51 @@ package data.repositories;
 
 import data.repositories.exceptions.RepositoryException;
 import data.repositories.exceptions.RepositoryMessages;
+import jakarta.persistence.AttributeNode;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.PersistenceUnitUtil;
 import jakarta.persistence.criteria.*;
+import jakarta.persistence.metamodel.ManagedType;
+import org.hibernate.FlushMode;
+import org.hibernate.Hibernate;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.RootGraph;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.SelectableMapping;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.Query;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.math.BigDecimal;
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class GenericRepository<T, TKey> implements IGenericRepository<T, TKey> {
     private static final Logger logger = LoggerFactory.getLogger(GenericRepository.class);
+    private static final char LIKE_ESCAPE = '\\';
+    private static final int DEFAULT_BULK_CHUNK_SIZE = 50;
+    private static final int DEFAULT_STREAM_CHUNK_SIZE = 100;
     private final SessionFactory sessionFactory;
     private final Class<T> entityClass;
+    private final IUnitOfWork unitOfWork;
 
     public GenericRepository(SessionFactory sessionFactory, Class<T> entityClass) {
         this.sessionFactory = sessionFactory;
         this.entityClass = entityClass;
+        this.unitOfWork = new UnitOfWork(sessionFactory);
     }
 
     /** {@inheritDoc} */
@@ -41,6 +65,7 @@ public class GenericRepository<T, TKey> implements IGenericRepository<T, TKey> {
         }
         return executeInTransaction(session -> {
             session.persist(entity);
+            session.flush();
             return entity;
         }, "create");
     }
@@ -53,7 +78,12 @@ public class GenericRepository<T, TKey> implements IGenericRepository<T, TKey> {
                     RepositoryMessages.format(RepositoryMessages.NULL_ENTITY, "update", entityClass.getSimpleName())
             );
         }
-        return executeInTransaction(session -> session.merge(entity), "update");
+        return executeInTransaction(session -> {
+            T merged = session.merge(entity);
+            // Flush eagerly so constraint violations surface here even when running inside a unit of work
+            session.flush();
+            return merged;
+        }, "update");
     }
 
     /** {@inheritDoc} */
@@ -66,17 +96,56 @@ public class GenericRepository<T, TKey> implements IGenericRepository<T, TKey> {
         }
         executeInTransaction(session -> {
             session.remove(entity);
+            session.flush();
             return null;
         }, "delete");
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public BulkOperationResult<T> createAll(Collection<T> entities) throws RepositoryException {
+        return executeBulk(entities, "createAll", (session, chunk) -> { }, (session, entity) -> {
+            session.persist(entity);
+            return entity;
+        }, this::clearIdentifier);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BulkOperationResult<T> updateAll(Collection<T> entities) throws RepositoryException {
+        return executeBulk(entities, "updateAll", (session, chunk) -> { },
+                (session, entity) -> session.merge(entity), entity -> { });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BulkOperationResult<TKey> deleteAllByIds(Collection<TKey> ids) throws RepositoryException {
+        return executeBulk(ids, "deleteAllByIds", (session, chunk) -> {
+            // Load the whole chunk with one query; the lookups below are then served by the persistence context
+            CriteriaBuilder cb = session.getCriteriaBuilder();
+            CriteriaQuery<T> cq = cb.createQuery(entityClass);
+            Root<T> root = cq.from(entityClass);
+            cq.select(root).where(root.get("id").in(chunk));
+            session.createQuery(cq).getResultList();
+        }, (session, id) -> {
+            T entity = session.get(entityClass, id);
+            if (entity == null) {
+                throw new RepositoryException(
+                        RepositoryMessages.format(RepositoryMessages.ENTITY_NOT_FOUND, entityClass.getSimpleName(), id)
+                );
+            }
+            session.remove(entity);
+            return id;
+        }, id -> { });
+    }
+
     /** {@inheritDoc} */
     @Override
     public Optional<T> getById(TKey id) throws RepositoryException {
         if (id == null) {
             throw new IllegalArgumentException("ID must not be null");
         }
-        return Optional.ofNullable(executeInTransaction(session -> {
+        return Optional.ofNullable(executeReadOnly(session -> {
             return session.get(entityClass, id);
         }, "getById"));
     }
@@ -87,7 +156,7 @@ public class GenericRepository<T, TKey> implements IGenericRepository<T, TKey> {
         if (id == null) {
             throw new IllegalArgumentException("ID must not be null");
         }
-        return Optional.ofNullable(executeInTransaction(session -> {
+        return Optional.ofNullable(executeReadOnly(session -> {
             CriteriaBuilder cb = session.getCriteriaBuilder();
             CriteriaQuery<T> cq = cb.createQuery(entityClass);
             Root<T> root = cq.from(entityClass);
@@ -101,34 +170,71 @@ public class GenericRepository<T, TKey> implements IGenericRepository<T, TKey> {
 
     /** {@inheritDoc} */
     @Override
-    public List<T> getAll(int page, int size, String orderBy, boolean ascending, String... fetchRelations) throws RepositoryException {
+    public Optional<T> getById(TKey id, FetchPlan fetchPlan) throws RepositoryException {
+        if (id == null) {
+            throw new IllegalArgumentException("ID must not be null");
+        }
+        if (fetchPlan == null) {
+            return getById(id);
+        }
+        return Optional.ofNullable(executeReadOnly(session -> {
+            CriteriaBuilder cb = session.getCriteriaBuilder();
+            CriteriaQuery<T> cq = cb.createQuery(entityClass);
+            Root<T> root = cq.from(entityClass);
+            cq.select(root).where(cb.equal(root.get("id"), id));
+            List<T> result = loadWithPlan(session, session.createQuery(cq), fetchPlan);
+            return result.isEmpty() ? null : result.get(0);
+        }, "getByIdWithPlan"));
+    }
 
-        if (page < 0 || size <= 0) {
+    /** {@inheritDoc} */
+    @Override
+    public List<T> getAllByIds(Collection<TKey> ids) throws RepositoryException {
+        if (ids == null || ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("IDs must not be null");
+        }
+        if (ids.isEmpty()) {
             return Collections.emptyList();
         }
-
-        return executeInTransaction(session -> {
+        Set<TKey> distinctIds = new LinkedHashSet<>(ids);
+        return executeReadOnly(session -> {
             CriteriaBuilder cb = session.getCriteriaBuilder();
             CriteriaQuery<T> cq = cb.createQuery(entityClass);
             Root<T> root = cq.from(entityClass);
+            cq.select(root).where(root.get("id").in(distinctIds));
+            return session.createQuery(cq).getResultList();
+        }, "getAllByIds");
+    }
 
-            // Handles fetch relations
-            if ((fetchRelations != null) && (fetchRelations.length > 0)) {
-                for (String relation : fetchRelations) {
-                    root.fetch(relation, JoinType.LEFT);
-                }
-            }
+    /** {@inheritDoc} */
+    @Override
+    public T getReference(TKey id) throws RepositoryException {
+        if (id == null) {
+            throw new IllegalArgumentException("ID must not be null");
+        }
+        return executeReadOnly(session -> session.getReference(entityClass, id), "getReference");
+    }
 
-            cq.select(root);
-            if (orderBy != null) {
-                cq.orderBy(ascending ? cb.asc(root.get(orderBy)) : cb.desc(root.get(orderBy)));
-            }
+    /** {@inheritDoc} */
+    @Override
+    public List<T> getAll(int page, int size, String orderBy, boolean ascending, String... fetchRelations) throws RepositoryException {
 
-            Query<T> query = session.createQuery(cq);
-            query.setFirstResult(page * size);
-            query.setMaxResults(size);
-            return query.list();
-        }, "getAll");
+        if (page < 0 || size <= 0) {
+            return Collections.emptyList();
+        }
+
+        return executeReadOnly(session ->
+                loadPage(session, (cb, root) -> new Predicate[0], orderBy, ascending, page, size, fetchRelations), "getAll");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<T> getAll(int page, int size, String orderBy, boolean ascending, FetchPlan fetchPlan) throws RepositoryException {
+        if (page < 0 || size <= 0) {
+            return Collections.emptyList();
+        }
+        return executeReadOnly(session ->
+                loadPage(session, null, orderBy, ascending, page, size, fetchPlan), "getAllWithPlan");
     }
 
     /** {@inheritDoc} */
@@ -140,45 +246,192 @@ public class GenericRepository<T, TKey> implements IGenericRepository<T, TKey> {
     /** {@inheritDoc} */
     @Override
     public List<T> findByCriteria(Map<String, Object> conditions, String orderBy, Boolean ascending, int page, int size, String... fetchRelations) throws RepositoryException {
-        return executeInTransaction(session -> {
+        return executeReadOnly(session ->
+                loadPage(session, (cb, root) -> buildEqualityPredicates(cb, root, conditions), orderBy, ascending, page, size, fetchRelations),
+                "findByCriteria");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<T> findByCriteria(Map<String, Object> conditions, String orderBy, Boolean ascending, int page, int size, FetchPlan fetchPlan) throws RepositoryException {
+        return executeReadOnly(session ->
+                loadPage(session, (root, query, cb) -> cb.and(buildEqualityPredicates(cb, root, conditions)), orderBy, ascending, page, size, fetchPlan),
+                "findByCriteriaWithPlan");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<T> findBySpecification(ISpecification<T> specification, String orderBy, boolean ascending, int page, int pageSize,
+                                       FetchPlan fetchPlan) throws RepositoryException {
+        if (page < 0 || pageSize <= 0) {
+            return Collections.emptyList();
+        }
+        return executeReadOnly(session ->
+                loadPage(session, specification, orderBy, ascending, page, pageSize, fetchPlan),
+                "findBySpecification");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long forEach(ISpecification<T> specification, String orderBy, boolean ascending, FetchPlan fetchPlan,
+                        Consumer<? super T> action) throws RepositoryException {
+        return stream(specification, orderBy, ascending, action,
+                (session, query) -> fetchPlan == null ? Collections.emptyList() : applyPlan(session, query, fetchPlan));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long forEach(ISpecification<T> specification, String orderBy, boolean ascending, Consumer<? super T> action,
+                        String... fetchRelations) throws RepositoryException {
+        return stream(specification, orderBy, ascending, action,
+                (session, query) -> applyRelations(session, query, fetchRelations == null ? List.of() : Arrays.asList(fetchRelations)));
+    }
+
+    /**
+     * Scrolls the matching entities in chunks for both {@code forEach} overloads. The fetch function prepares the
+     * query and returns the collections to initialize for each chunk.
+     */
+    private long stream(ISpecification<T> specification, String orderBy, boolean ascending, Consumer<? super T> action,
+                        BiFunction<Session, Query<T>, List<String>> fetches) throws RepositoryException {
+        if (action == null) {
+            throw new IllegalArgumentException("Action must not be null");
+        }
+        return executeReadOnly(session -> {
             CriteriaBuilder cb = session.getCriteriaBuilder();
             CriteriaQuery<T> cq = cb.createQuery(entityClass);
             Root<T> root = cq.from(entityClass);
-
-            cq.select(root);
-            for (String relation : fetchRelations) {
-                root.fetch(relation, JoinType.LEFT);
+            cq.select(root).where(toPredicates(specification, cq, cb, root));
+            if (orderBy != null) {
+                cq.orderBy(orderFor(cb, root, orderBy, ascending));
+            }
+            int chunkSize = streamChunkSize();
+            Query<T> query = session.createQuery(cq).setFetchSize(chunkSize);
+            List<String> collections = fetches.apply(session, query);
+            // Clearing a bound session would detach the caller's entities and drop their pending changes
+            boolean ownsSession = UnitOfWork.currentSession(sessionFactory) == null;
+            long processed = 0;
+            List<T> chunk = new ArrayList<>(chunkSize);
+            try (ScrollableResults<T> results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+                while (results.next()) {
+                    chunk.add(results.get());
+                    if (chunk.size() == chunkSize) {
+                        processed += processChunk(session, chunk, collections, action, ownsSession);
+                    }
+                }
             }
+            return processed + processChunk(session, chunk, collections, action, ownsSession);
+        }, "forEach");
+    }
 
-            List<Predicate> predicates = conditions
-                    .entrySet()
-                    .stream()
-                    .map(entry -> {
-                        String[] pathParts = entry.getKey().split("\\.");
-                        Path<?> path = root;
-                        for (String part : pathParts) {
-                            path = path.get(part);
-                        }
-                        return cb.equal(path, entry.getValue());
-                    })
-                    .toList();
-            cq.where(predicates.toArray(new Predicate[0]));
+    /** {@inheritDoc} */
+    @Override
+    public BigDecimal sum(String sumField, Map<String, Object> conditions) throws RepositoryException {
+        if (sumField == null) {
+            throw new IllegalArgumentException("Sum field must not be null");
+        }
+        return executeReadOnly(session -> {
+            CriteriaBuilder cb = session.getCriteriaBuilder();
+            CriteriaQuery<BigDecimal> cq = cb.createQuery(BigDecimal.class);
+            Root<T> root = cq.from(entityClass);
+            cq.select(cb.sum(this.<BigDecimal>resolvePath(root, sumField)))
+                    .where(buildEqualityPredicates(cb, root, conditions));
+            BigDecimal total = session.createQuery(cq).getSingleResult();
+            return total != null ? total : BigDecimal.ZERO;
+        }, "sum");
+    }
 
-            if (orderBy != null) {
-                cq.orderBy(ascending ? cb.asc(root.get(orderBy)) : cb.desc(root.get(orderBy)));
-            }
+    /** {@inheritDoc} */
+    @Override
+    public BigDecimal sum(String sumField, ISpecification<T> specification) throws RepositoryException {
+        if (sumField == null) {
+            throw new IllegalArgumentException("Sum field must not be null");
+        }
+        return executeReadOnly(session -> {
+            CriteriaBuilder cb = session.getCriteriaBuilder();
+            CriteriaQuery<BigDecimal> cq = cb.createQuery(BigDecimal.class);
+            Root<T> root = cq.from(entityClass);
+            cq.select(cb.sum(this.<BigDecimal>resolvePath(root, sumField)))
+                    .where(toPredicates(specification, cq, cb, root));
+            BigDecimal total = session.createQuery(cq).getSingleResult();
+            return total != null ? total : BigDecimal.ZERO;
+        }, "sumBySpecification");
+    }
 
-            Query<T> query = session.createQuery(cq);
-            query.setFirstResult(page * size);
-            query.setMaxResults(size);
-            return query.getResultList();
-        }, "findByCriteria");
+    /** {@inheritDoc} */
+    @Override
+    public long count(Map<String, Object> conditions) throws RepositoryException {
+        return executeReadOnly(session -> {
+            CriteriaBuilder cb = session.getCriteriaBuilder();
+            CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+            Root<T> root = cq.from(entityClass);
+            cq.select(cb.count(root))
+                    .where(buildEqualityPredicates(cb, root, conditions));
+            return session.createQuery(cq).getSingleResult();
+        }, "count");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long count() throws RepositoryException {
+        return count((ISpecification<T>) null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long count(ISpecification<T> specification) throws RepositoryException {
+        return executeReadOnly(session -> {
+            CriteriaBuilder cb = session.getCriteriaBuilder();
+            CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+            Root<T> root = cq.from(entityClass);
+            cq.select(cb.count(root))
+                    .where(toPredicates(specification, cq, cb, root));
+            return session.createQuery(cq).getSingleResult();
+        }, "countBySpecification");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean exists(ISpecification<T> specification) throws RepositoryException {
+        return executeReadOnly(session -> {
+            CriteriaBuilder cb = session.getCriteriaBuilder();
+            CriteriaQuery<Integer> cq = cb.createQuery(Integer.class);
+            Root<T> root = cq.from(entityClass);
+            cq.select(cb.literal(1))
+                    .where(toPredicates(specification, cq, cb, root));
+            return !session.createQuery(cq).setMaxResults(1).getResultList().isEmpty();
+        }, "exists");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K> Map<K, BigDecimal> groupBySum(String groupByField, String sumField, Map<String, Object> conditions) throws RepositoryException {
+        if (groupByField == null || sumField == null) {
+            throw new IllegalArgumentException("Group by and sum fields must not be null");
+        }
+        return executeReadOnly(session -> {
+            CriteriaBuilder cb = session.getCriteriaBuilder();
+            CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+            Root<T> root = cq.from(entityClass);
+            Path<Object> groupPath = resolvePath(root, groupByField);
+            cq.multiselect(groupPath, cb.sum(this.<BigDecimal>resolvePath(root, sumField)))
+                    .where(buildEqualityPredicates(cb, root, conditions))
+                    .groupBy(groupPath)
+                    .orderBy(cb.asc(groupPath));
+
+            Map<K, BigDecimal> result = new LinkedHashMap<>();
+            for (Object[] row : session.createQuery(cq).getResultList()) {
+                BigDecimal total = (BigDecimal) row[1];
+                result.put((K) row[0], total != null ? total : BigDecimal.ZERO);
+            }
+            return result;
+        }, "groupBySum");
     }
 
     /** {@inheritDoc} */
     @Override
     public List<T> findWithAggregation(String joinRelation, String aggregationField, String groupByField, boolean ascending) throws RepositoryException {
-        return executeInTransaction(session -> {
+        return executeReadOnly(session -> {
             CriteriaBuilder cb = session.getCriteriaBuilder();
             CriteriaQuery<T> cq = cb.createQuery(entityClass);
             Root<T> root = cq.from(entityClass);
@@ -196,7 +449,7 @@ public class GenericRepository<T, TKey> implements IGenericRepository<T, TKey> {
     @Override
     public List<T> findWithJoin(String joinField, String joinConditionField, Object joinConditionValue,
                                 String orderBy, boolean ascending, String... fetchRelations) throws RepositoryException {
-        return executeInTransaction(session -> {
+        return executeReadOnly(session -> {
             CriteriaBuilder cb = session.getCriteriaBuilder();
             CriteriaQuery<T> cq = cb.createQuery(entityClass);
             Root<T> root = cq.from(entityClass);
@@ -237,6 +490,7 @@ public class GenericRepository<T, TKey> implements IGenericRepository<T, TKey> {
         }
         return executeInTransaction(session -> {
             T updatedEntity = session.merge(entity);
+            session.flush();
             if (lazyInitializer != null) {
                 lazyInitializer.accept(updatedEntity);
             }
@@ -244,10 +498,16 @@ public class GenericRepository<T, TKey> implements IGenericRepository<T, TKey> {
         }, "updateAndMap");
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public <R> Map<TKey, Long> countRelatedEntities(Class<R> relatedEntityClass, String relationField, String groupByField, String countField) throws RepositoryException {
+        return countRelatedEntities(relatedEntityClass, relationField, groupByField, countField, 0, Integer.MAX_VALUE, null, true);
+    }
+
     /** {@inheritDoc} */
     @Override
     public <R> Map<TKey, Long> countRelatedEntities(Class<R> relatedEntityClass, String relationField, String groupByField, String countField, int page, int size, String orderBy, boolean ascending) throws RepositoryException {
-        return executeInTransaction(session -> {
+        return executeReadOnly(session -> {
             CriteriaBuilder cb = session.getCriteriaBuilder();
             CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
             Root<T> root = cq.from(entityClass);
@@ -286,7 +546,7 @@ public class GenericRepository<T, TKey> implements IGenericRepository<T, TKey> {
     public <D> Optional<D> getByIdAndMap(TKey id, Function<T, D> mapper, Consumer<T> lazyInitializer) throws RepositoryException {
         if (id == null) throw new IllegalArgumentException("ID must not be null");
         if (mapper == null) throw new IllegalArgumentException("Mapper function must not be null");
-        return Optional.ofNullable(executeInTransaction(session -> {
+        return Optional.ofNullable(executeReadOnly(session -> {
             T entity = session.get(entityClass, id);
             if (entity == null) return null;
             if (lazyInitializer != null) lazyInitializer.accept(entity);
@@ -302,42 +562,125 @@ public class GenericRepository<T, TKey> implements IGenericRepository<T, TKey> {
         if (mapper == null) {
             throw new IllegalArgumentException("Mapper function must not be null");
         }
-        return executeInTransaction(session -> {
+        return executeReadOnly(session ->
+                loadPage(session, (cb, root) -> new Predicate[0], orderBy, ascending, page, size, fetchRelations)
+                        .stream().map(mapper).collect(Collectors.toList()),
+                "getAllAndMap");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <D> List<D> searchAndMap(String filter, List<String> searchFields, int page, int size, String orderBy, boolean ascending, Function<T, D> mapper, String... fetchRelations) throws RepositoryException {
+        if (mapper == null) {
+            throw new IllegalArgumentException("Mapper function must not be null");
+        }
+        if (searchFields == null || searchFields.isEmpty()) {
+            throw new IllegalArgumentException("Search fields must not be null or empty");
+        }
+        if (page < 0 || size <= 0) {
+            return Collections.emptyList();
+        }
+        return executeReadOnly(session -> {
+            BiFunction<CriteriaBuilder, Root<T>, Predicate[]> where = (cb, root) -> new Predicate[0];
+            if (filter != null && !filter.isBlank()) {
+                String pattern = "%" + escapeLikePattern(filter.trim().toLowerCase(Locale.ROOT)) + "%";
+                where = (cb, root) -> new Predicate[]{cb.or(searchFields.stream()
+                        .map(field -> cb.like(cb.lower(this.<String>resolvePath(root, field)), pattern, LIKE_ESCAPE))
+                        .toArray(Predicate[]::new))};
+            }
+            return loadPage(session, where, orderBy, ascending, page, size, fetchRelations)
+                    .stream().map(mapper).collect(Collectors.toList());
+        }, "searchAndMap");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <D> List<D> findProjected(Map<String, Object> conditions, String orderBy, boolean ascending, int page, int size,
+                                     Projection<? super T, D> projection) throws RepositoryException {
+        if (projection == null) {
+            throw new IllegalArgumentException("Projection must not be null");
+        }
+        if (page < 0 || size <= 0) {
+            return Collections.emptyList();
+        }
+        return executeReadOnly(session -> {
+            CriteriaBuilder cb = session.getCriteriaBuilder();
+            CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+            Root<T> root = cq.from(entityClass);
+            List<Selection<?>> selections = new ArrayList<>(projection.getPaths().size());
+            for (String path : projection.getPaths()) {
+                selections.add(resolvePath(root, path));
+            }
+            cq.multiselect(selections).where(buildEqualityPredicates(cb, root, conditions));
+            if (orderBy != null) {
+                cq.orderBy(orderFor(cb, root, orderBy, ascending));
+            }
+            // Each row becomes a DTO as it is read; nothing is added to the persistence context
+            return session.createQuery(cq)
+                    .setFirstResult(page * size)
+                    .setMaxResults(size)
+                    .setTupleTransformer((row, aliases) -> projection.map(row))
+                    .getResultList();
+        }, "findProjected");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public KeysetPage<T> findPageAfter(Map<String, Object> conditions, String orderBy, boolean ascending, KeysetCursor after, int size, String... fetchRelations) throws RepositoryException {
+        if (size <= 0) {
+            return new KeysetPage<>(Collections.emptyList(), null);
+        }
+        if (orderBy != null) {
+            requireNonNullableSortField(orderBy);
+        }
+        return executeReadOnly(session -> {
+            EntityPersister persister = session.getSessionFactory().unwrap(SessionFactoryImplementor.class)
+                    .getMappingMetamodel().getEntityDescriptor(entityClass);
             CriteriaBuilder cb = session.getCriteriaBuilder();
             CriteriaQuery<T> cq = cb.createQuery(entityClass);
             Root<T> root = cq.from(entityClass);
+            applyFetches(root, fetchRelations);
 
-            // Handle fetch relations
-            if (fetchRelations != null && fetchRelations.length > 0) {
-                for (String relation : fetchRelations) {
-                    root.fetch(relation, JoinType.LEFT);
-                }
+            List<Predicate> predicates = new ArrayList<>(Arrays.asList(buildEqualityPredicates(cb, root, conditions)));
+            Path<Object> idPath = root.get(persister.getIdentifierPropertyName());
+            if (after != null) {
+                predicates.add(seekPredicate(cb, root, idPath, orderBy, ascending, after));
             }
+            cq.select(root).where(predicates.toArray(new Predicate[0]));
 
-            cq.select(root);
+            // The ID breaks ties so rows sharing a sort value are neither skipped nor repeated
+            List<Order> orders = new ArrayList<>();
             if (orderBy != null) {
-                cq.orderBy(ascending ? cb.asc(root.get(orderBy)) : cb.desc(root.get(orderBy)));
+                orders.add(ascending ? cb.asc(root.get(orderBy)) : cb.desc(root.get(orderBy)));
             }
+            orders.add(ascending ? cb.asc(idPath) : cb.desc(idPath));
+            cq.orderBy(orders);
 
-            Query<T> query = session.createQuery(cq);
-            query.setFirstResult(page * size);
-            query.setMaxResults(size);
-            List<T> entities = query.list();
-            return entities.stream().map(mapper).collect(Collectors.toList());
-        }, "getAllAndMap");
+            // Fetch one extra row to learn whether another page exists without a count query
+            List<T> rows = session.createQuery(cq).setMaxResults(size + 1).list();
+            if (rows.size() <= size) {
+                return new KeysetPage<>(rows, null);
+            }
+            List<T> content = rows.subList(0, size);
+            T last = content.getLast();
+            Object sortKey = orderBy != null ? persister.getPropertyValue(last, orderBy) : null;
+            Object id = persister.getIdentifier(last, (SharedSessionContractImplementor) session);
+            return new KeysetPage<>(content, new KeysetCursor(sortKey, id));
+        }, "findPageAfter");
     }
 
     /** {@inheritDoc} */
     @Override
     public <R> List<R> findRelatedEntities(Class<R> relatedEntityClass, String relationField, TKey entityId, int page, int size, String orderBy, boolean ascending) throws RepositoryException {
-        return executeInTransaction(session -> {
+        return executeReadOnly(session -> {
             CriteriaBuilder cb = session.getCriteriaBuilder();
             CriteriaQuery<R> cq = cb.createQuery(relatedEntityClass);
             Root<R> root = cq.from(relatedEntityClass);
             Join<R, T> join = root.join(relationField);
             cq.select(root).where(cb.equal(join.get("id"), entityId));
             if (orderBy != null) {
-                cq.orderBy(ascending ? cb.asc(root.get(orderBy)) : cb.desc(root.get(orderBy)));
+                // Secondary order on ID keeps pages stable when several rows share the sort value
+                cq.orderBy(ascending ? cb.asc(root.get(orderBy)) : cb.desc(root.get(orderBy)), cb.asc(root.get("id")));
             }
             Query<R> query = session.createQuery(cq);
             query.setFirstResult(page * size);
@@ -346,8 +689,38 @@ public class GenericRepository<T, TKey> implements IGenericRepository<T, TKey> {
         }, "findRelatedEntities");
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public <R> R executeInUnitOfWork(Supplier<R> work) throws RepositoryException {
+        return unitOfWork.execute(work);
+    }
+
     private <R> R executeInTransaction(Function<Session, R> operation, String operationName) throws RepositoryException {
+        return execute(operation, operationName, false);
+    }
+
+    /**
+     * Runs a query that does not modify anything.
+     * <p>
+     * Outside a unit of work the session is opened read-only with {@link FlushMode#MANUAL}: loaded entities get no
+     * snapshot, nothing is dirty-checked and the commit does not flush. Inside a unit of work the bound session is
+     * used unchanged, because the work may modify what it reads and rely on those changes being flushed.
+     * </p>
+     */
+    private <R> R executeReadOnly(Function<Session, R> operation, String operationName) throws RepositoryException {
+        return execute(operation, operationName, true);
+    }
+
+    private <R> R execute(Function<Session, R> operation, String operationName, boolean readOnly) throws RepositoryException {
+        Session boundSession = UnitOfWork.currentSession(sessionFactory);
+        if (boundSession != null) {
+            return executeInBoundSession(boundSession, operation, operationName);
+        }
         try (Session session = sessionFactory.openSession()) {
+            if (readOnly) {
+                session.setDefaultReadOnly(true);
+                session.setHibernateFlushMode(FlushMode.MANUAL);
+            }
             Transaction tx = session.beginTransaction();
             try {
                 R result = operation.apply(session);
@@ -366,4 +739,395 @@ public class GenericRepository<T, TKey> implements IGenericRepository<T, TKey> {
             );
         }
     }
-}
\ No newline at end of file
+
+    private <R> R executeInBoundSession(Session session, Function<Session, R> operation, String operationName) throws RepositoryException {
+        try {
+            return operation.apply(session);
+        } catch (Exception e) {
+            // The enclosing unit of work owns the transaction; flag it so it rolls back instead of committing
+            session.getTransaction().markRollbackOnly();
+            logger.error("Transaction failed", e);
+            RepositoryException failure = new RepositoryException(
+                    RepositoryMessages.format(RepositoryMessages.TRANSACTION_FAILED, operationName, entityClass.getSimpleName()), e
+            );
+            throw new RepositoryException(
+                    RepositoryMessages.format(RepositoryMessages.SESSION_OPEN_FAILED, operationName, entityClass.getSimpleName()), failure
+            );
+        }
+    }
+
+    /**
+     * Applies a write to every row, in chunks of the configured JDBC batch size.
+     * <p>
+     * Hibernate marks a transaction for rollback as soon as a flush fails, so a rejected row cannot be skipped within
+     * the transaction that wrote it. Each chunk is therefore written, flushed and committed in its own transaction; if
+     * the chunk fails, it is rolled back and written again one row per transaction, so a bad row is reported as a
+     * failure while the rest of the chunk is still written. Inside a unit of work all chunks share the bound
+     * transaction instead, and the first failure fails the operation and the unit of work.
+     * </p>
+     *
+     * @param prepareChunk  runs before the rows of a chunk are written, e.g. to load them in one query
+     * @param write         writes one row and returns the value to report for it
+     * @param afterRollback resets a row whose write was rolled back, so it can be written again
+     */
+    private <E> BulkOperationResult<E> executeBulk(Collection<E> rows, String operationName,
+                                                   BiConsumer<Session, List<E>> prepareChunk,
+                                                   BiFunction<Session, E, E> write,
+                                                   Consumer<E> afterRollback) throws RepositoryException {
+        if (rows == null || rows.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Rows must not be null");
+        }
+        List<E> input = new ArrayList<>(rows);
+        int chunkSize = bulkChunkSize();
+        List<E> succeeded = new ArrayList<>(input.size());
+        List<BulkOperationResult.Failure<E>> failures = new ArrayList<>();
+
+        Session boundSession = UnitOfWork.currentSession(sessionFactory);
+        if (boundSession != null) {
+            executeInBoundSession(boundSession, session -> {
+                for (int from = 0; from < input.size(); from += chunkSize) {
+                    succeeded.addAll(writeChunk(session, input.subList(from, Math.min(from + chunkSize, input.size())), prepareChunk, write, false));
+                }
+                return null;
+            }, operationName);
+            return new BulkOperationResult<>(succeeded, failures);
+        }
+
+        for (int from = 0; from < input.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, input.size());
+            List<E> chunk = input.subList(from, to);
+            try {
+                succeeded.addAll(writeChunkInOwnTransaction(chunk, prepareChunk, write));
+            } catch (RuntimeException e) {
+                logger.warn("{} of {} failed for rows {}-{}, retrying them one at a time: {}",
+                        operationName, entityClass.getSimpleName(), from, to - 1, e.getMessage());
+                chunk.forEach(afterRollback);
+                for (int index = from; index < to; index++) {
+                    E row = input.get(index);
+                    try {
+                        succeeded.addAll(writeChunkInOwnTransaction(List.of(row), prepareChunk, write));
+                    } catch (RuntimeException rowFailure) {
+                        logger.warn("{} of {} rejected row {}: {}",
+                                operationName, entityClass.getSimpleName(), index, rowFailure.getMessage());
+                        afterRollback.accept(row);
+                        failures.add(new BulkOperationResult.Failure<>(index, row, rowFailure instanceof RepositoryException
+                                ? rowFailure
+                                : new RepositoryException(RepositoryMessages.format(RepositoryMessages.TRANSACTION_FAILED,
+                                        operationName, entityClass.getSimpleName()), rowFailure)));
+                    }
+                }
+            }
+        }
+        logger.debug("{} of {} wrote {} rows, rejected {}",
+                operationName, entityClass.getSimpleName(), succeeded.size(), failures.size());
+        return new BulkOperationResult<>(succeeded, failures);
+    }
+
+    private <E> List<E> writeChunkInOwnTransaction(List<E> chunk, BiConsumer<Session, List<E>> prepareChunk,
+                                                   BiFunction<Session, E, E> write) {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction tx = session.beginTransaction();
+            try {
+                List<E> written = writeChunk(session, chunk, prepareChunk, write, true);
+                tx.commit();
+                return written;
+            } catch (RuntimeException e) {
+                if (tx.isActive()) {
+                    tx.rollback();
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Writes the rows of a chunk and flushes them as JDBC batches. A session opened for the chunk is cleared so it does
+     * not grow with the operation; the session of a unit of work is left alone, because clearing it would detach the
+     * entities the caller loaded in that unit and drop their later changes.
+     */
+    private <E> List<E> writeChunk(Session session, List<E> chunk, BiConsumer<Session, List<E>> prepareChunk,
+                                   BiFunction<Session, E, E> write, boolean clearSession) {
+        prepareChunk.accept(session, chunk);
+        List<E> written = new ArrayList<>(chunk.size());
+        for (E row : chunk) {
+            written.add(write.apply(session, row));
+        }
+        session.flush();
+        if (clearSession) {
+            session.clear();
+        }
+        return written;
+    }
+
+    /**
+     * Clears the identifier generated for an entity whose insert was rolled back, so it is persisted as new again.
+     */
+    private void clearIdentifier(T entity) {
+        sessionFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel()
+                .getEntityDescriptor(entity.getClass())
+                .setIdentifier(entity, null, null);
+    }
+
+    private int bulkChunkSize() {
+        int batchSize = ((SessionFactoryImplementor) sessionFactory).getSessionFactoryOptions().getJdbcBatchSize();
+        return batchSize > 0 ? batchSize : DEFAULT_BULK_CHUNK_SIZE;
+    }
+
+    private int streamChunkSize() {
+        Integer fetchSize = ((SessionFactoryImplementor) sessionFactory).getSessionFactoryOptions().getJdbcFetchSize();
+        return fetchSize != null && fetchSize > 0 ? fetchSize : DEFAULT_STREAM_CHUNK_SIZE;
+    }
+
+    /**
+     * Loads one page of entities matching the given predicates, with the requested relations fetched.
+     * <p>
+     * A fetch join on a collection multiplies the joined rows, so SQL {@code LIMIT/OFFSET} cannot be applied to it and
+     * Hibernate would otherwise page in memory after loading every match. When a collection is fetched and the query
+     * is paged, the page is therefore loaded in two phases: the IDs of the page are selected with {@code LIMIT/OFFSET},
+     * then the entity graph is fetched for exactly those IDs and returned in page order.
+     * </p>
+     */
+    private List<T> loadPage(Session session, BiFunction<CriteriaBuilder, Root<T>, Predicate[]> where,
+                             String orderBy, Boolean ascending, int page, int size, String... fetchRelations) {
+        CriteriaBuilder cb = session.getCriteriaBuilder();
+        boolean paged = page != 0 || size != Integer.MAX_VALUE;
+        if (!paged || !fetchesCollection(session, fetchRelations)) {
+            CriteriaQuery<T> cq = cb.createQuery(entityClass);
+            Root<T> root = cq.from(entityClass);
+            applyFetches(root, fetchRelations);
+            cq.select(root).where(where.apply(cb, root));
+            if (orderBy != null) {
+                cq.orderBy(orderFor(cb, root, orderBy, ascending));
+            }
+            Query<T> query = session.createQuery(cq);
+            query.setFirstResult(page * size);
+            query.setMaxResults(size);
+            return query.list();
+        }
+
+        // Phase 1: page over IDs only, ordered by the sort field and then by ID so the page is deterministic
+        String idName = session.getSessionFactory().unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel().getEntityDescriptor(entityClass).getIdentifierPropertyName();
+        CriteriaQuery<Object> idQuery = cb.createQuery(Object.class);
+        Root<T> idRoot = idQuery.from(entityClass);
+        idQuery.select(idRoot.get(idName)).where(where.apply(cb, idRoot));
+        List<Order> orders = new ArrayList<>();
+        if (orderBy != null) {
+            orders.add(orderFor(cb, idRoot, orderBy, ascending));
+        }
+        orders.add(cb.asc(idRoot.get(idName)));
+        idQuery.orderBy(orders);
+        List<Object> ids = session.createQuery(idQuery)
+                .setFirstResult(page * size)
+                .setMaxResults(size)
+                .getResultList();
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // Phase 2: fetch the graph for the page's IDs and restore the phase 1 order
+        CriteriaQuery<T> cq = cb.createQuery(entityClass);
+        Root<T> root = cq.from(entityClass);
+        applyFetches(root, fetchRelations);
+        cq.select(root).where(root.get(idName).in(ids));
+        PersistenceUnitUtil util = session.getSessionFactory().getPersistenceUnitUtil();
+        Map<Object, T> byId = new HashMap<>();
+        for (T entity : session.createQuery(cq).getResultList()) {
+            byId.put(util.getIdentifier(entity), entity);
+        }
+        List<T> result = new ArrayList<>(ids.size());
+        for (Object id : ids) {
+            T entity = byId.get(id);
+            if (entity != null) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
+    private List<T> loadPage(Session session, ISpecification<T> where,
+                             String orderBy, Boolean ascending, int page, int size, FetchPlan fetchPlan) {
+        CriteriaBuilder cb = session.getCriteriaBuilder();
+        CriteriaQuery<T> cq = cb.createQuery(entityClass);
+        Root<T> root = cq.from(entityClass);
+        cq.select(root).where(toPredicates(where, cq, cb, root));
+        if (orderBy != null) {
+            cq.orderBy(orderFor(cb, root, orderBy, ascending));
+        }
+        Query<T> query = session.createQuery(cq);
+        query.setFirstResult(page * size);
+        query.setMaxResults(size);
+        return fetchPlan == null ? query.list() : loadWithPlan(session, query, fetchPlan);
+    }
+
+    /**
+     * Runs the query with the plan's single-valued relations joined, then initializes the plan's collections.
+     * <p>
+     * Collections are kept out of the join, so the query returns one row per entity and SQL paging still applies.
+     * Initializing the first collection of a role loads that role for up to {@code @BatchSize} owners in the session
+     * with one {@code IN} query, so a plan costs one query plus one per collection and batch, however many
+     * collections it names.
+     * </p>
+     */
+    private List<T> loadWithPlan(Session session, Query<T> query, FetchPlan fetchPlan) {
+        List<String> collections = applyPlan(session, query, fetchPlan);
+        List<T> entities = query.list();
+        initializeCollections(session, entities, collections);
+        return entities;
+    }
+
+    /**
+     * Joins the plan's single-valued relations into the query and returns the names of the plan's collections,
+     * which the caller initializes once the entities are loaded.
+     */
+    private List<String> applyPlan(Session session, Query<T> query, FetchPlan fetchPlan) {
+        EntityGraph<?> graph = session.getEntityGraph(fetchPlan.getGraphName());
+        List<String> relations = new ArrayList<>();
+        for (AttributeNode<?> node : graph.getAttributeNodes()) {
+            relations.add(node.getAttributeName());
+        }
+        return applyRelations(session, query, relations);
+    }
+
+    /**
+     * Does for a list of relation names what {@link #applyPlan} does for an entity graph. Null names are ignored.
+     */
+    private List<String> applyRelations(Session session, Query<T> query, List<String> relations) {
+        ManagedType<T> type = session.getSessionFactory().getMetamodel().managedType(entityClass);
+        RootGraph<T> joined = session.createEntityGraph(entityClass);
+        List<String> collections = new ArrayList<>();
+        for (String relation : relations) {
+            if (relation == null) {
+                continue;
+            }
+            if (type.getAttribute(relation).isCollection()) {
+                collections.add(relation);
+            } else {
+                joined.addAttributeNodes(relation);
+            }
+        }
+        query.setEntityGraph(joined, GraphSemantic.LOAD);
+        return collections;
+    }
+
+    private void initializeCollections(Session session, List<T> entities, List<String> collections) {
+        if (collections.isEmpty() || entities.isEmpty()) {
+            return;
+        }
+        EntityPersister persister = session.getSessionFactory().unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel().getEntityDescriptor(entityClass);
+        for (String collection : collections) {
+            for (T entity : entities) {
+                Hibernate.initialize(persister.getPropertyValue(Hibernate.unproxy(entity), collection));
+            }
+        }
+    }
+
+    /**
+     * Hands a chunk of streamed entities to the action, after loading the plan's collections for the whole chunk in
+     * batches, then empties the chunk and, if the session belongs to this call, clears it.
+     */
+    private long processChunk(Session session, List<T> chunk, List<String> collections, Consumer<? super T> action,
+                              boolean clearSession) {
+        int size = chunk.size();
+        initializeCollections(session, chunk, collections);
+        chunk.forEach(action);
+        chunk.clear();
+        if (clearSession) {
+            session.clear();
+        }
+        return size;
+    }
+
+    private boolean fetchesCollection(Session session, String... fetchRelations) {
+        if (fetchRelations == null || fetchRelations.length == 0) {
+            return false;
+        }
+        ManagedType<T> type = session.getSessionFactory().getMetamodel().managedType(entityClass);
+        for (String relation : fetchRelations) {
+            if (relation != null && type.getAttribute(relation).isCollection()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void applyFetches(Root<T> root, String... fetchRelations) {
+        if (fetchRelations != null) {
+            for (String relation : fetchRelations) {
+                if (relation != null) {
+                    root.fetch(relation, JoinType.LEFT);
+                }
+            }
+        }
+    }
+
+    private Order orderFor(CriteriaBuilder cb, Root<T> root, String orderBy, Boolean ascending) {
+        return ascending ? cb.asc(root.get(orderBy)) : cb.desc(root.get(orderBy));
+    }
+
+    /**
+     * Resolves a dot-separated attribute path (e.g. "transportCompany.id") against the given root.
+     */
+    @SuppressWarnings("unchecked")
+    private <X> Path<X> resolvePath(Path<?> root, String dottedPath) {
+        Path<?> path = root;
+        for (String part : dottedPath.split("\\.")) {
+            path = path.get(part);
+        }
+        return (Path<X>) path;
+    }
+
+    private Predicate[] buildEqualityPredicates(CriteriaBuilder cb, Root<T> root, Map<String, Object> conditions) {
+        if (conditions == null || conditions.isEmpty()) {
+            return new Predicate[0];
+        }
+        return conditions.entrySet()
+                .stream()
+                .map(entry -> cb.equal(resolvePath(root, entry.getKey()), entry.getValue()))
+                .toArray(Predicate[]::new);
+    }
+
+    private Predicate[] toPredicates(ISpecification<T> specification, CriteriaQuery<?> query, CriteriaBuilder cb, Root<T> root) {
+        return specification == null ? new Predicate[0] : new Predicate[]{specification.toPredicate(root, query, cb)};
+    }
+
+    /**
+     * Escapes LIKE wildcards so user input is matched literally.
+     */
+    private static String escapeLikePattern(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    /**
+     * Rejects sort fields whose column allows NULL: {@code sortKey > NULL} and {@code sortKey = NULL} match no row,
+     * so a page ending on a null key would silently end the pagination. Unknown fields are left to the query to report.
+     */
+    private void requireNonNullableSortField(String orderBy) {
+        AttributeMapping attribute = sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel().getEntityDescriptor(entityClass).findAttributeMapping(orderBy);
+        if (attribute instanceof SelectableMapping column && column.isNullable()) {
+            throw new IllegalArgumentException("Keyset pagination cannot sort by nullable field: " + orderBy);
+        }
+    }
+
+    /**
+     * Builds the keyset predicate selecting rows strictly after the cursor in the given sort order:
+     * {@code sortKey > k OR (sortKey = k AND id > lastId)} for ascending order, mirrored for descending order.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate seekPredicate(CriteriaBuilder cb, Root<T> root, Path<Object> idPath, String orderBy, boolean ascending, KeysetCursor after) {
+        Expression<Comparable> id = (Expression) idPath;
+        Comparable lastId = (Comparable) after.getId();
+        Predicate afterId = ascending ? cb.greaterThan(id, lastId) : cb.lessThan(id, lastId);
+        if (orderBy == null) {
+            return afterId;
+        }
+        Path<Comparable> sortPath = root.get(orderBy);
+        Comparable lastKey = (Comparable) after.getSortKey();
+        Predicate afterKey = ascending ? cb.greaterThan(sortPath, lastKey) : cb.lessThan(sortPath, lastKey);
+        return cb.or(afterKey, cb.and(cb.equal(sortPath, lastKey), afterId));
+    }
+}
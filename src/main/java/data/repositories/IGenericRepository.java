@@ -2,11 +2,14 @@ package data.repositories;
 
 import data.repositories.exceptions.RepositoryException;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * A generic repository interface for performing CRUD operations and advanced queries on entities.
@@ -55,6 +58,49 @@ public interface IGenericRepository<T, TKey> {
      */
     void delete(T entity);
 
+    /**
+     * Creates many entities. Entities are persisted in chunks of the configured JDBC batch size
+     * ({@code hibernate.jdbc.batch_size}), and every chunk is flushed, committed in its own transaction and cleared from
+     * the session, so inserts are sent in JDBC batches, the number of transactions shrinks with the batch size and memory
+     * use does not grow with the number of entities.
+     * <p>
+     * A row that violates a constraint does not abort the operation: its chunk is rolled back and retried one row at
+     * a time, and each rejected row is reported in the result while the others are committed. Inside a unit of work all
+     * chunks run in the bound transaction instead, and a failing row fails the operation and rolls back the unit of work;
+     * the bound session is flushed but not cleared, so entities loaded earlier in the unit stay managed.
+     * </p>
+     *
+     * @param entities the entities to create; must not be null or contain null
+     * @return the created entities, with generated fields set, and the rejected ones
+     * @throws IllegalArgumentException if the collection is null or contains a null entity
+     * @throws RepositoryException      if the operation fails inside a unit of work
+     */
+    BulkOperationResult<T> createAll(Collection<T> entities) throws RepositoryException;
+
+    /**
+     * Updates many entities, merging them in chunks that are flushed and committed as {@link #createAll(Collection)}
+     * describes. Rows that fail (e.g., due to optimistic locking conflicts or constraints) are reported in the result.
+     *
+     * @param entities the entities to update; must not be null or contain null
+     * @return the merged entities and the rejected ones
+     * @throws IllegalArgumentException if the collection is null or contains a null entity
+     * @throws RepositoryException      if the operation fails inside a unit of work
+     */
+    BulkOperationResult<T> updateAll(Collection<T> entities) throws RepositoryException;
+
+    /**
+     * Deletes the entities with the given identifiers in chunks, as {@link #createAll(Collection)} describes.
+     * Each chunk of entities is loaded with a single query and removed, so cascades and optimistic locking apply
+     * as with {@link #delete(Object)}.
+     * Identifiers without an entity and rows that cannot be deleted (e.g., still referenced) are reported in the result.
+     *
+     * @param ids the identifiers of the entities to delete; must not be null or contain null
+     * @return the deleted identifiers and the rejected ones
+     * @throws IllegalArgumentException if the collection is null or contains a null identifier
+     * @throws RepositoryException      if the operation fails inside a unit of work
+     */
+    BulkOperationResult<TKey> deleteAllByIds(Collection<TKey> ids) throws RepositoryException;
+
     /**
      * Retrieves an entity by its identifier.
      *
@@ -80,6 +126,45 @@ public interface IGenericRepository<T, TKey> {
      */
     Optional<T> getById(TKey id, String... fetchRelations) throws RepositoryException;
 
+    /**
+     * Retrieves an entity by its identifier and loads the relations named by a fetch plan.
+     * Single-valued relations are joined into the query; each collection is loaded with its own narrow query
+     * instead of being joined, so the number of queries is bounded by the plan and not by the data.
+     *
+     * @param id        the identifier of the entity; must not be null
+     * @param fetchPlan the relations to load (e.g., {@link FetchPlans#DRIVER_DETAILS}); if null, no relations are loaded
+     * @return an Optional containing the entity with the planned relations initialized, or empty if not found
+     * @throws IllegalArgumentException if the ID is null
+     * @throws RepositoryException      if retrieval fails due to database errors or the plan does not apply to the entity
+     */
+    Optional<T> getById(TKey id, FetchPlan fetchPlan) throws RepositoryException;
+
+    /**
+     * Retrieves all entities whose identifiers are in the given collection with a single query.
+     * Identifiers that do not match an entity are skipped, so callers that require every identifier to resolve
+     * should compare the result against the requested identifiers. The order of the result is not specified.
+     *
+     * @param ids the identifiers of the entities to retrieve; must not be null, duplicates are ignored
+     * @return a list of the entities found, or an empty list if none match or the collection is empty
+     * @throws IllegalArgumentException if the collection is null or contains a null identifier
+     * @throws RepositoryException      if retrieval fails due to database errors
+     */
+    List<T> getAllByIds(Collection<TKey> ids) throws RepositoryException;
+
+    /**
+     * Returns a reference to the entity with the given identifier without querying the database.
+     * The reference is an uninitialized proxy that only carries the identifier, which is enough to set a
+     * many-to-one association; existence is then enforced by the foreign key when the owning entity is flushed.
+     * Inside a unit of work the reference belongs to the bound session; outside of one it is detached and
+     * only its identifier may be read.
+     *
+     * @param id the identifier of the entity; must not be null
+     * @return a reference to the entity, never null
+     * @throws IllegalArgumentException if the ID is null
+     * @throws RepositoryException      if the reference cannot be created
+     */
+    T getReference(TKey id) throws RepositoryException;
+
     /**
      * Retrieves a paginated list of all entities, optionally sorted and with specified relations fetched.
      *
@@ -93,6 +178,20 @@ public interface IGenericRepository<T, TKey> {
      */
     List<T> getAll(int page, int size, String orderBy, boolean ascending, String... fetchRelations);
 
+    /**
+     * Retrieves a paginated list of all entities, optionally sorted, with the relations named by a fetch plan loaded
+     * as {@link #getById(Object, FetchPlan)} describes. Collections are never joined, so paging is done in SQL.
+     *
+     * @param page      the page number (0-based)
+     * @param size      the number of entities per page
+     * @param orderBy   the field to sort by; may be null for no sorting
+     * @param ascending true for ascending order, false for descending
+     * @param fetchPlan the relations to load (e.g., {@link FetchPlans#COMPANY_WITH_EMPLOYEES}); may be null
+     * @return a list of entities for the specified page with the planned relations initialized
+     * @throws RepositoryException if the query fails (e.g., invalid orderBy field, a plan for another entity or database errors)
+     */
+    List<T> getAll(int page, int size, String orderBy, boolean ascending, FetchPlan fetchPlan) throws RepositoryException;
+
     /**
      * Finds entities matching the given criteria, optionally sorted, with specified relationships eagerly fetched.
      *
@@ -107,6 +206,79 @@ public interface IGenericRepository<T, TKey> {
 
     public List<T> findByCriteria(Map<String, Object> conditions, String orderBy, Boolean ascending, int page, int pageSize, String... fetchRelations) throws RepositoryException;
 
+    /**
+     * Finds a page of entities matching the given criteria, optionally sorted, with the relations named by a fetch plan
+     * loaded as {@link #getById(Object, FetchPlan)} describes.
+     *
+     * @param conditions map of field names to values for filtering (e.g., {"name": "Fast Transport"})
+     * @param orderBy    the field to sort by; may be null for no sorting
+     * @param ascending  true for ascending order, false for descending
+     * @param page       the page number (0-based)
+     * @param pageSize   the number of entities per page
+     * @param fetchPlan  the relations to load; may be null
+     * @return a list of matching entities with the planned relations initialized
+     * @throws RepositoryException if the query fails (e.g., invalid field name or a plan for another entity)
+     */
+    List<T> findByCriteria(Map<String, Object> conditions, String orderBy, Boolean ascending, int page, int pageSize, FetchPlan fetchPlan) throws RepositoryException;
+
+    /**
+     * Finds a page of entities matching a specification, optionally sorted, with the relations named by a fetch plan
+     * loaded as {@link #getById(Object, FetchPlan)} describes. Unlike {@link #findByCriteria(Map, String, Boolean, String...)},
+     * the specification may use ranges, set membership, patterns, null checks and any combination of them, all of
+     * which are evaluated by the database.
+     *
+     * @param specification the condition to match (see {@link Specifications}); null matches every entity
+     * @param orderBy       the field to sort by; may be null for no sorting
+     * @param ascending     true for ascending order, false for descending
+     * @param page          the page number (0-based)
+     * @param pageSize      the number of entities per page
+     * @param fetchPlan     the relations to load; may be null
+     * @return a list of matching entities, or an empty list if page or size is invalid
+     * @throws RepositoryException if the query fails (e.g., invalid attribute path)
+     */
+    List<T> findBySpecification(ISpecification<T> specification, String orderBy, boolean ascending, int page, int pageSize,
+                                FetchPlan fetchPlan) throws RepositoryException;
+
+    /**
+     * Passes every entity matching a specification to an action, reading them through a forward-only cursor so that
+     * whole-table reports do not hold every entity in memory at once. Only the entities are read in constant memory:
+     * anything the action collects, such as a list of DTOs, still grows with the result.
+     * <p>
+     * Rows are fetched {@code hibernate.jdbc.fetch_size} at a time, or 100 at a time when it is not set. Entities are handed over in chunks of that size:
+     * the relations named by the fetch plan are loaded for the whole chunk, the action runs for each entity, and the
+     * session is then cleared, so the action must not keep entities and expect their lazy relations to load later.
+     * Inside a unit of work the bound session is not cleared, since it may hold the caller's pending changes.
+     * </p>
+     *
+     * @param specification the condition to match (see {@link Specifications}); null matches every entity
+     * @param orderBy       the field to sort by; may be null for no sorting
+     * @param ascending     true for ascending order, false for descending
+     * @param fetchPlan     the relations to load for each chunk; may be null
+     * @param action        receives each entity, in query order; must not be null
+     * @return the number of entities processed
+     * @throws IllegalArgumentException if the action is null
+     * @throws RepositoryException      if the query or the action fails
+     */
+    long forEach(ISpecification<T> specification, String orderBy, boolean ascending, FetchPlan fetchPlan,
+                 Consumer<? super T> action) throws RepositoryException;
+
+    /**
+     * Passes every entity matching a specification to an action as {@link #forEach(ISpecification, String, boolean,
+     * FetchPlan, Consumer)} does, loading the named relations instead of a fetch plan's: single-valued relations are
+     * joined into the streamed query and collections are batch fetched for each chunk.
+     *
+     * @param specification  the condition to match (see {@link Specifications}); null matches every entity
+     * @param orderBy        the field to sort by; may be null for no sorting
+     * @param ascending      true for ascending order, false for descending
+     * @param action         receives each entity, in query order; must not be null
+     * @param fetchRelations the names of relations to load (e.g., "qualifications"); may be null or empty
+     * @return the number of entities processed
+     * @throws IllegalArgumentException if the action is null
+     * @throws RepositoryException      if the query fails (e.g., an unknown relation) or the action fails
+     */
+    long forEach(ISpecification<T> specification, String orderBy, boolean ascending, Consumer<? super T> action,
+                 String... fetchRelations) throws RepositoryException;
+
 
     /**
      * Finds entities with aggregated data from a related collection, sorted by the aggregation result.
@@ -135,6 +307,78 @@ public interface IGenericRepository<T, TKey> {
     List<T> findWithJoin(String joinField, String joinConditionField, Object joinConditionValue,
                          String orderBy, boolean ascending, String... fetchRelations) throws RepositoryException;
 
+    /**
+     * Sums a numeric field over all entities matching the given criteria, computed by the database.
+     *
+     * @param sumField   the field to sum; may be a dot-separated path (e.g., "price")
+     * @param conditions map of field paths to values for equality filtering (e.g., {"transportCompany.id": 1L});
+     *                   may be null or empty to sum over all entities
+     * @return the total, or {@link BigDecimal#ZERO} if no entity matches
+     * @throws IllegalArgumentException if the sum field is null
+     * @throws RepositoryException      if the query fails (e.g., invalid field name)
+     */
+    BigDecimal sum(String sumField, Map<String, Object> conditions) throws RepositoryException;
+
+    /**
+     * Sums a numeric field over the entities matching a specification with a single aggregate query.
+     *
+     * @param sumField      the field to sum; may be a dot-separated path (e.g., "price")
+     * @param specification the condition to match; null sums over all entities
+     * @return the sum, or {@link BigDecimal#ZERO} if no entity matches
+     * @throws IllegalArgumentException if the sum field is null
+     * @throws RepositoryException      if the query fails (e.g., invalid field name)
+     */
+    BigDecimal sum(String sumField, ISpecification<T> specification) throws RepositoryException;
+
+    /**
+     * Counts the entities matching the given criteria without loading them.
+     *
+     * @param conditions map of field paths to values for equality filtering; may be null or empty to count all entities
+     * @return the number of matching entities
+     * @throws RepositoryException if the query fails (e.g., invalid field name)
+     */
+    long count(Map<String, Object> conditions) throws RepositoryException;
+
+    /**
+     * Counts all entities with a single {@code SELECT COUNT} query.
+     *
+     * @return the number of entities
+     * @throws RepositoryException if the query fails
+     */
+    long count() throws RepositoryException;
+
+    /**
+     * Counts the entities matching a specification with a single {@code SELECT COUNT} query.
+     *
+     * @param specification the condition to match (see {@link Specifications}); null counts all entities
+     * @return the number of matching entities
+     * @throws RepositoryException if the query fails (e.g., invalid attribute path)
+     */
+    long count(ISpecification<T> specification) throws RepositoryException;
+
+    /**
+     * Checks whether any entity matches a specification. The query selects a constant limited to one row, so the
+     * database can stop at the first match instead of counting them all.
+     *
+     * @param specification the condition to match (see {@link Specifications}); null matches every entity
+     * @return true if at least one entity matches
+     * @throws RepositoryException if the query fails (e.g., invalid attribute path)
+     */
+    boolean exists(ISpecification<T> specification) throws RepositoryException;
+
+    /**
+     * Sums a numeric field grouped by another field in a single query (e.g., revenue per company).
+     *
+     * @param <K>          the type of the grouping value
+     * @param groupByField the field to group by; may be a dot-separated path (e.g., "transportCompany.id")
+     * @param sumField     the field to sum (e.g., "price")
+     * @param conditions   map of field paths to values for equality filtering; may be null or empty
+     * @return a map of grouping values to totals, ordered by grouping value; groups without matching rows are absent
+     * @throws IllegalArgumentException if either field is null
+     * @throws RepositoryException      if the query fails (e.g., invalid field name)
+     */
+    <K> Map<K, BigDecimal> groupBySum(String groupByField, String sumField, Map<String, Object> conditions) throws RepositoryException;
+
     /**
      * Counts related entities of type R associated with entities of type T via a relationship,
      * grouped by a specified field, with pagination and sorting options.
@@ -153,6 +397,20 @@ public interface IGenericRepository<T, TKey> {
      */
     public <R> Map<TKey, Long> countRelatedEntities(Class<R> relatedEntityClass, String relationField, String groupByField, String countField, int page, int size, String orderBy, boolean ascending) throws RepositoryException;
 
+    /**
+     * Counts related entities of type R for every entity of type T in a single grouped query.
+     * Entities without related rows are included with a count of zero.
+     *
+     * @param <R>                the type of the related entity
+     * @param relatedEntityClass the class of the related entity (e.g., TransportService.class)
+     * @param relationField      the field name in T representing the relationship to R (e.g., "transportServices")
+     * @param groupByField       the field in T to group by (e.g., "id")
+     * @param countField         the field in R to count (e.g., "id")
+     * @return a map of groupByField values to counts of related entities
+     * @throws RepositoryException if the query fails (e.g., invalid fields or database errors)
+     */
+    <R> Map<TKey, Long> countRelatedEntities(Class<R> relatedEntityClass, String relationField, String groupByField, String countField) throws RepositoryException;
+
 
     /**
      * Updates an existing entity in the persistent store and maps it to a DTO within the same transaction.
@@ -197,8 +455,69 @@ public interface IGenericRepository<T, TKey> {
     <D> List<D> getAllAndMap(int page, int size, String orderBy, boolean ascending, Function<T, D> mapper, String... fetchRelations) throws RepositoryException;
 
     /**
-     * Retrieves all related entities of type R associated with a specific entity of type T via a many-to-many relationship,
-     * with pagination and sorting options.
+     * Retrieves a page of entities whose search fields contain the filter text and maps them to DTOs.
+     * Matching is case-insensitive and done by the database before paging, so each page holds up to
+     * {@code size} matching rows. LIKE wildcards in the filter are matched literally.
+     *
+     * @param <D>            the type of the DTO to return
+     * @param filter         the text to search for; null or blank returns an unfiltered page
+     * @param searchFields   the string fields to match against, combined with OR (e.g., ["name", "address"])
+     * @param page           the page number (0-based)
+     * @param size           the number of entities per page
+     * @param orderBy        the field to sort by; may be null for no sorting
+     * @param ascending      true for ascending order, false for descending
+     * @param mapper         a function to map each entity to a DTO; must not be null
+     * @param fetchRelations the names of relations to eagerly fetch; may be null or empty
+     * @return a list of mapped DTOs for the requested page, or an empty list if page or size is invalid
+     * @throws IllegalArgumentException if the mapper is null or no search fields are given
+     * @throws RepositoryException      if the query fails (e.g., invalid field name)
+     */
+    <D> List<D> searchAndMap(String filter, List<String> searchFields, int page, int size, String orderBy, boolean ascending, Function<T, D> mapper, String... fetchRelations) throws RepositoryException;
+
+    /**
+     * Finds a page of entities matching the given criteria and returns them as DTOs built from the selected columns only.
+     * No entity is loaded into the session and no relation is touched, so the query reads less data and allocates one
+     * DTO per row instead of an entity, its snapshot and its proxies.
+     *
+     * @param <D>        the type of the DTO to return
+     * @param conditions map of field names to values for filtering; may be null or empty
+     * @param orderBy    the field to sort by; may be null for no sorting
+     * @param ascending  true for ascending order, false for descending
+     * @param page       the page number (0-based)
+     * @param size       the number of rows per page
+     * @param projection the attributes to select and how they populate the DTO; must not be null
+     * @return a list of DTOs for the requested page, or an empty list if page or size is invalid
+     * @throws IllegalArgumentException if the projection is null
+     * @throws RepositoryException      if the query fails (e.g., invalid field or path name)
+     */
+    <D> List<D> findProjected(Map<String, Object> conditions, String orderBy, boolean ascending, int page, int size,
+                              Projection<? super T, D> projection) throws RepositoryException;
+
+    /**
+     * Retrieves the page of entities that follows the given cursor using keyset (seek) pagination.
+     * Rows are ordered by {@code orderBy} and then by ID, and the next page starts strictly after the cursor row,
+     * so the cost of a page does not grow with its depth as it does with offset paging.
+     * The sort field must map to a NOT NULL column: a null key cannot be compared in the seek condition,
+     * so paging would stop at the first row holding one.
+     *
+     * @param conditions     map of field paths to values for equality filtering (e.g., {"transportCompany.id": 1L});
+     *                       may be null or empty
+     * @param orderBy        a field with a NOT NULL column to sort by (e.g., "startingDate"); may be null to page by ID only
+     * @param ascending      true for ascending order, false for descending
+     * @param after          the cursor returned with the previous page, or null for the first page
+     * @param size           the maximum number of entities in the page
+     * @param fetchRelations to-one relations to eagerly fetch; collection fetches would defeat the row limit
+     * @return the page together with the cursor for the next page, which is null on the last page;
+     *         an empty page if size is not positive
+     * @throws IllegalArgumentException if the sort field maps to a nullable column
+     * @throws RepositoryException      if the query fails (e.g., invalid field name or cursor value type)
+     */
+    KeysetPage<T> findPageAfter(Map<String, Object> conditions, String orderBy, boolean ascending, KeysetCursor after, int size, String... fetchRelations) throws RepositoryException;
+
+    /**
+     * Retrieves all related entities of type R associated with a specific entity of type T via a many-to-many
+     * or many-to-one relationship, with pagination and sorting options. R may be a polymorphic root
+     * (e.g., TransportService.class), in which case all subtypes are paged together in one query.
      *
      * @param <R>                the type of the related entity
      * @param relatedEntityClass the class of the related entity (e.g., Driver.class)
@@ -206,10 +525,26 @@ public interface IGenericRepository<T, TKey> {
      * @param entityId           the ID of the entity of type T
      * @param page               the page number (0-based) for pagination
      * @param size               the number of entities per page
-     * @param orderBy            the field in R to sort by (e.g., "familyName"); may be null for no sorting
+     * @param orderBy            the field in R to sort by (e.g., "familyName"); ties are broken by ID; may be null for no sorting
      * @param ascending          true for ascending order, false for descending
      * @return a paginated and sorted list of related entities of type R
      * @throws RepositoryException if the query fails (e.g., invalid relationField, entity not found, invalid orderBy field)
      */
     <R> List<R> findRelatedEntities(Class<R> relatedEntityClass, String relationField, TKey entityId, int page, int size, String orderBy, boolean ascending);
-}
\ No newline at end of file
+
+    /**
+     * Executes the given work inside a unit of work bound to this repository's session factory.
+     * All repository calls made by the work, on this or any other repository sharing the session factory,
+     * run in one session and one transaction, which is committed when the work completes or rolled back if it fails.
+     * Entities read inside the work are managed by that session and dirty-checked at commit, since the work may change
+     * them; reads that change nothing should run outside a unit of work, where they use read-only sessions.
+     *
+     * @param <R>  the type of the result
+     * @param work the work to execute; must not be null
+     * @return the result produced by the work
+     * @throws IllegalArgumentException if the work is null
+     * @throws RepositoryException      if the work fails or the transaction cannot be committed
+     * @see IUnitOfWork#execute(Supplier)
+     */
+    <R> R executeInUnitOfWork(Supplier<R> work) throws RepositoryException;
+}
@@ -0,0 +1,56 @@
+package data.repositories;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * A query condition on an entity that compiles to a Criteria {@link Predicate}, so filtering, ranges and set
+ * membership are evaluated by the database instead of in memory. Conditions are built with the factories in
+ * {@link Specifications} and combined with {@link #and}, {@link #or} and {@link #not}.
+ *
+ * @param <T> the entity type the condition applies to
+ */
+@FunctionalInterface
+public interface ISpecification<T> {
+
+    /**
+     * Builds the predicate for a query rooted at the given entity.
+     *
+     * @param root  the query root
+     * @param query the query the predicate is added to, e.g. to create subqueries
+     * @param cb    the criteria builder of the query
+     * @return the predicate, never null
+     */
+    Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb);
+
+    /**
+     * Returns a condition that holds when both this and the other condition hold.
+     *
+     * @param other the other condition; must not be null
+     * @return the combined condition
+     */
+    default ISpecification<T> and(ISpecification<T> other) {
+        return Specifications.and(this, other);
+    }
+
+    /**
+     * Returns a condition that holds when this or the other condition holds.
+     *
+     * @param other the other condition; must not be null
+     * @return the combined condition
+     */
+    default ISpecification<T> or(ISpecification<T> other) {
+        return Specifications.or(this, other);
+    }
+
+    /**
+     * Returns a condition that holds when this condition does not.
+     *
+     * @return the negated condition
+     */
+    default ISpecification<T> not() {
+        return (root, query, cb) -> cb.not(toPredicate(root, query, cb));
+    }
+}
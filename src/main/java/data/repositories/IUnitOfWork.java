@@ -0,0 +1,45 @@
+package data.repositories;
+
+import data.repositories.exceptions.RepositoryException;
+
+import java.util.function.Supplier;
+
+/**
+ * Defines a unit of work that binds a single Hibernate session and transaction to the current thread.
+ * Every {@link IGenericRepository} call made on that thread while the unit is active joins the bound session,
+ * so a service operation shares one connection, one transaction and one first-level cache instead of opening
+ * a new session per repository call.
+ */
+public interface IUnitOfWork {
+
+    /**
+     * Executes the given work inside a unit of work and returns its result.
+     * If a unit of work is already active on the current thread, the work joins it and the outermost unit
+     * decides whether to commit or roll back.
+     *
+     * @param <R>  the type of the result
+     * @param work the work to execute; must not be null
+     * @return the result produced by the work
+     * @throws IllegalArgumentException if the work is null
+     * @throws RepositoryException      if the work fails or the transaction cannot be committed;
+     *                                  the transaction is rolled back in both cases
+     */
+    <R> R execute(Supplier<R> work) throws RepositoryException;
+
+    /**
+     * Executes the given work inside a unit of work without returning a result.
+     *
+     * @param work the work to execute; must not be null
+     * @throws IllegalArgumentException if the work is null
+     * @throws RepositoryException      if the work fails or the transaction cannot be committed
+     * @see #execute(Supplier)
+     */
+    void execute(Runnable work) throws RepositoryException;
+
+    /**
+     * Checks whether a unit of work is active on the current thread.
+     *
+     * @return true if repository calls on the current thread currently join a bound session
+     */
+    boolean isActive();
+}
@@ -0,0 +1,51 @@
+package data.repositories;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Position of the last row of a keyset page: the value of the sort field and the entity ID used as tie-breaker.
+ * Passing it to {@link IGenericRepository#findPageAfter} continues right after that row, so each page is found
+ * by an index seek instead of skipping all previous rows as offset paging does.
+ */
+public final class KeysetCursor implements Serializable {
+    private final Object sortKey;
+    private final Object id;
+
+    /**
+     * Constructs a cursor pointing after the given row.
+     *
+     * @param sortKey the sort field value of the last row; may be null when paging by ID only
+     * @param id      the ID of the last row; must not be null
+     * @throws NullPointerException if the ID is null
+     */
+    public KeysetCursor(Object sortKey, Object id) {
+        this.sortKey = sortKey;
+        this.id = Objects.requireNonNull(id, "Cursor ID cannot be null");
+    }
+
+    public Object getSortKey() {
+        return sortKey;
+    }
+
+    public Object getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof KeysetCursor that)) return false;
+        return Objects.equals(sortKey, that.sortKey) && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sortKey, id);
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetCursor{sortKey=" + sortKey + ", id=" + id + "}";
+    }
+}
@@ -0,0 +1,52 @@
+package data.repositories;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A page of results returned by keyset pagination, together with the cursor for the following page.
+ *
+ * @param <T> the type of the page elements
+ */
+public final class KeysetPage<T> {
+    private final List<T> content;
+    private final KeysetCursor nextCursor;
+
+    /**
+     * Constructs a new KeysetPage.
+     *
+     * @param content    the elements of the page
+     * @param nextCursor the cursor for the next page, or null if this is the last page
+     */
+    public KeysetPage(List<T> content, KeysetCursor nextCursor) {
+        this.content = List.copyOf(content);
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    /**
+     * Returns the cursor to pass to the next call, or null if there are no more rows.
+     */
+    public KeysetCursor getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Maps the page elements while keeping the cursor, e.g. to convert entities to DTOs.
+     *
+     * @param mapper the mapping function
+     * @param <D>    the type of the mapped elements
+     * @return a new page with mapped elements and the same next cursor
+     */
+    public <D> KeysetPage<D> map(Function<T, D> mapper) {
+        return new KeysetPage<>(content.stream().map(mapper).collect(Collectors.toList()), nextCursor);
+    }
+}
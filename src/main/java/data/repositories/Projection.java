@@ -0,0 +1,134 @@
+package data.repositories;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Selects individual attributes of an entity and writes them straight into a DTO, so a query returns DTOs without
+ * loading entities into the session. Paths may reach the identifier of a many-to-one relation (e.g.
+ * {@code "transportCompany.id"}), which is read from the foreign key column without a join.
+ * <p>
+ * Instances are immutable and thread-safe and are meant to be built once and kept in a static field.
+ * </p>
+ *
+ * @param <T> the entity type the paths are resolved against
+ * @param <D> the DTO type
+ * @see IGenericRepository#findProjected(java.util.Map, String, boolean, int, int, Projection)
+ */
+public final class Projection<T, D> {
+    private final Supplier<? extends D> factory;
+    private final List<String> paths;
+    private final List<BiConsumer<? super D, Object>> setters;
+
+    private Projection(Supplier<? extends D> factory, List<String> paths, List<BiConsumer<? super D, Object>> setters) {
+        this.factory = factory;
+        this.paths = Collections.unmodifiableList(new ArrayList<>(paths));
+        this.setters = new ArrayList<>(setters);
+    }
+
+    /**
+     * Starts a projection whose DTOs are created by the given factory.
+     *
+     * @param <T>     the entity type
+     * @param <D>     the DTO type
+     * @param factory creates an empty DTO; must not be null
+     * @return a new builder
+     * @throws IllegalArgumentException if the factory is null
+     */
+    public static <T, D> Builder<T, D> builder(Supplier<? extends D> factory) {
+        if (factory == null) {
+            throw new IllegalArgumentException("Factory must not be null");
+        }
+        return new Builder<>(factory);
+    }
+
+    /**
+     * Returns the selected attribute paths, in the order their values appear in a result row.
+     *
+     * @return the dot-separated attribute paths
+     */
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    /**
+     * Creates a DTO from one result row.
+     *
+     * @param row the selected values, in the order of {@link #getPaths()}
+     * @return the populated DTO
+     * @throws IllegalArgumentException if the row does not hold one value per path
+     */
+    public D map(Object[] row) {
+        if (row == null || row.length != setters.size()) {
+            throw new IllegalArgumentException("Expected " + setters.size() + " values per row");
+        }
+        D target = factory.get();
+        for (int i = 0; i < row.length; i++) {
+            setters.get(i).accept(target, row[i]);
+        }
+        return target;
+    }
+
+    /**
+     * Collects the attribute paths of a {@link Projection}.
+     *
+     * @param <T> the entity type
+     * @param <D> the DTO type
+     */
+    public static final class Builder<T, D> {
+        private final Supplier<? extends D> factory;
+        private final List<String> paths = new ArrayList<>();
+        private final List<BiConsumer<? super D, Object>> setters = new ArrayList<>();
+
+        private Builder(Supplier<? extends D> factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * Adds all attributes of a projection between supertypes, e.g. the fields of a base DTO.
+         *
+         * @param base the projection whose attributes are copied; must not be null
+         * @return this builder
+         */
+        public Builder<T, D> include(Projection<? super T, ? super D> base) {
+            paths.addAll(base.paths);
+            setters.addAll(base.setters);
+            return this;
+        }
+
+        /**
+         * Selects an attribute and writes its value to the DTO.
+         *
+         * @param <V>    the attribute type
+         * @param path   the dot-separated attribute path, e.g. {@code "price"} or {@code "client.id"}
+         * @param type   the attribute type; primitive attributes use their wrapper type
+         * @param setter writes the value to the DTO
+         * @return this builder
+         * @throws IllegalArgumentException if the path is blank
+         */
+        public <V> Builder<T, D> map(String path, Class<V> type, BiConsumer<? super D, ? super V> setter) {
+            if (path == null || path.isBlank()) {
+                throw new IllegalArgumentException("Path must not be null or blank");
+            }
+            paths.add(path);
+            setters.add((target, value) -> setter.accept(target, type.cast(value)));
+            return this;
+        }
+
+        /**
+         * Builds the immutable projection.
+         *
+         * @return the projection
+         * @throws IllegalStateException if no attribute was selected
+         */
+        public Projection<T, D> build() {
+            if (paths.isEmpty()) {
+                throw new IllegalStateException("A projection must select at least one attribute");
+            }
+            return new Projection<>(factory, paths, setters);
+        }
+    }
+}
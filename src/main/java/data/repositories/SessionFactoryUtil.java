@@ -11,12 +11,55 @@ import data.models.transportservices.TransportCargoService;
 import data.models.transportservices.TransportPassengersService;
 import data.models.transportservices.TransportService;
 import data.models.vehicles.*;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Configuration;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
 
 public class SessionFactoryUtil {
+    /**
+     * Deployment property selecting how {@code BaseModel} identifiers are generated:
+     * {@value #ID_GENERATION_IDENTITY} (default, auto-increment columns) or {@value #ID_GENERATION_POOLED}
+     * (pooled sequences, which lets Hibernate batch inserts).
+     */
+    public static final String ID_GENERATION = "transport.id.generation";
+    public static final String ID_GENERATION_IDENTITY = "identity";
+    public static final String ID_GENERATION_POOLED = "pooled";
+
+    private static final String POOLED_IDS_MAPPING = "META-INF/orm-pooled-ids.xml";
+    private static final String DEFAULT_BATCH_SIZE = "50";
+
+    private static final String URL = "hibernate.connection.url";
+    private static final String DATASOURCE = "hibernate.connection.datasource";
+    private static final String HIKARI_PROVIDER = "org.hibernate.hikaricp.internal.HikariCPConnectionProvider";
+    private static final String HIKARI_PREFIX = "hibernate.hikari.";
+    private static final Map<String, String> DEFAULT_POOL_SETTINGS = Map.of(
+            "maximumPoolSize", "10",
+            "minimumIdle", "2",
+            "connectionTimeout", "10000",
+            "idleTimeout", "300000",
+            "maxLifetime", "1800000",
+            "leakDetectionThreshold", "60000",
+            "poolName", "transport-pool");
+    // Connector/J only caches prepared statements and honours the fetch size (instead of buffering whole results)
+    // when asked to; other drivers reject these as unknown settings. Cursor fetching only kicks in for statements with
+    // a fetch size, which only streamed reads set as long as hibernate.jdbc.fetch_size is left unset
+    private static final Map<String, String> DEFAULT_MYSQL_SETTINGS = Map.of(
+            "dataSource.cachePrepStmts", "true",
+            "dataSource.prepStmtCacheSize", "250",
+            "dataSource.prepStmtCacheSqlLimit", "2048",
+            "dataSource.useServerPrepStmts", "true",
+            "dataSource.useCursorFetch", "true");
+
     private static SessionFactory sessionFactory;
 
     /**
@@ -28,30 +71,7 @@ public class SessionFactoryUtil {
     public static SessionFactory getSessionFactory() {
         if (sessionFactory == null) {
             try {
-                // Load configuration from hibernate.properties or hibernate.cfg.xml
-                Configuration configuration = new Configuration();
-
-                // Register annotated classes
-                configuration.addAnnotatedClass(Employee.class);
-                configuration.addAnnotatedClass(Dispatcher.class);
-                configuration.addAnnotatedClass(Qualification.class);
-                configuration.addAnnotatedClass(Driver.class);
-
-                configuration.addAnnotatedClass(Destination.class);
-                configuration.addAnnotatedClass(TransportService.class);
-                configuration.addAnnotatedClass(TransportPassengersService.class);
-                configuration.addAnnotatedClass(TransportCargoService.class);
-
-                configuration.addAnnotatedClass(Vehicle.class);
-                configuration.addAnnotatedClass(TransportCargoVehicle.class);
-                configuration.addAnnotatedClass(TransportPeopleVehicle.class);
-                configuration.addAnnotatedClass(Truck.class);
-                configuration.addAnnotatedClass(Bus.class);
-                configuration.addAnnotatedClass(Van.class);
-
-                configuration.addAnnotatedClass(Client.class);
-                configuration.addAnnotatedClass(TransportCompany.class);
-
+                Configuration configuration = createConfiguration(new Properties());
 
                 // Apply settings and build the ServiceRegistry
                 ServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
@@ -67,6 +87,114 @@ public class SessionFactoryUtil {
         return sessionFactory;
     }
 
+    /**
+     * Creates the Hibernate configuration for the application's entity model.
+     * Settings are loaded from hibernate.properties and then from the given overrides. JDBC batching
+     * ({@code hibernate.jdbc.batch_size}, {@code order_inserts}, {@code order_updates}) is enabled unless configured
+     * otherwise, and identifiers are generated according to {@link #ID_GENERATION}.
+     * <p>
+     * Unless another connection provider or a data source is configured, connections come from a HikariCP pool.
+     * Every pool default (size, timeouts, leak detection and, on MySQL, prepared-statement caching and cursor fetching) can be overridden
+     * with the matching {@code hibernate.hikari.*} property. {@code hibernate.jdbc.fetch_size} is left to the driver, so
+     * on MySQL only streamed reads, which set their own fetch size, go through a server-side cursor.
+     * </p>
+     *
+     * @param overrides settings that take precedence over hibernate.properties; must not be null
+     * @return the configuration, ready to build a SessionFactory
+     * @throws IllegalArgumentException if {@link #ID_GENERATION} has an unknown value
+     */
+    public static Configuration createConfiguration(Properties overrides) {
+        // Load configuration from hibernate.properties or hibernate.cfg.xml
+        Configuration configuration = new Configuration();
+        configuration.addProperties(overrides);
+
+        // Register annotated classes
+        configuration.addAnnotatedClass(Employee.class);
+        configuration.addAnnotatedClass(Dispatcher.class);
+        configuration.addAnnotatedClass(Qualification.class);
+        configuration.addAnnotatedClass(Driver.class);
+
+        configuration.addAnnotatedClass(Destination.class);
+        configuration.addAnnotatedClass(TransportService.class);
+        configuration.addAnnotatedClass(TransportPassengersService.class);
+        configuration.addAnnotatedClass(TransportCargoService.class);
+
+        configuration.addAnnotatedClass(Vehicle.class);
+        configuration.addAnnotatedClass(TransportCargoVehicle.class);
+        configuration.addAnnotatedClass(TransportPeopleVehicle.class);
+        configuration.addAnnotatedClass(Truck.class);
+        configuration.addAnnotatedClass(Bus.class);
+        configuration.addAnnotatedClass(Van.class);
+
+        configuration.addAnnotatedClass(Client.class);
+        configuration.addAnnotatedClass(TransportCompany.class);
+
+        applyBatchDefaults(configuration);
+        applyPoolDefaults(configuration);
+        applyIdGeneration(configuration);
+        return configuration;
+    }
+
+    private static void applyBatchDefaults(Configuration configuration) {
+        setIfAbsent(configuration, AvailableSettings.STATEMENT_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        setIfAbsent(configuration, AvailableSettings.ORDER_INSERTS, "true");
+        setIfAbsent(configuration, AvailableSettings.ORDER_UPDATES, "true");
+    }
+
+    private static void applyPoolDefaults(Configuration configuration) {
+        if (configuration.getProperty(DATASOURCE) != null
+                || configuration.getProperty(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE) != null) {
+            // The data source brings its own pool
+            return;
+        }
+        setIfAbsent(configuration, AvailableSettings.CONNECTION_PROVIDER, HIKARI_PROVIDER);
+        if (!HIKARI_PROVIDER.equals(configuration.getProperty(AvailableSettings.CONNECTION_PROVIDER))) {
+            return;
+        }
+        DEFAULT_POOL_SETTINGS.forEach((key, value) -> setIfAbsent(configuration, HIKARI_PREFIX + key, value));
+        String url = configuration.getProperties().getProperty(URL, configuration.getProperty(AvailableSettings.JAKARTA_JDBC_URL));
+        if (url != null && url.trim().startsWith("jdbc:mysql:")) {
+            DEFAULT_MYSQL_SETTINGS.forEach((key, value) -> setIfAbsent(configuration, HIKARI_PREFIX + key, value));
+        }
+    }
+
+    private static void applyIdGeneration(Configuration configuration) {
+        String strategy = configuration.getProperties().getProperty(ID_GENERATION, ID_GENERATION_IDENTITY).trim();
+        if (ID_GENERATION_POOLED.equalsIgnoreCase(strategy)) {
+            // IDENTITY needs the database to assign each key on insert, which rules out JDBC batching
+            configuration.addResource(POOLED_IDS_MAPPING);
+        } else if (!ID_GENERATION_IDENTITY.equalsIgnoreCase(strategy)) {
+            throw new IllegalArgumentException("Unknown " + ID_GENERATION + ": " + strategy);
+        }
+    }
+
+    private static void setIfAbsent(Configuration configuration, String key, String value) {
+        if (configuration.getProperty(key) == null) {
+            configuration.setProperty(key, value);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the connection pool of the given SessionFactory.
+     *
+     * @param sessionFactory the session factory to inspect; must not be null
+     * @return the pool metrics, or empty if the factory does not use a HikariCP pool
+     */
+    public static Optional<ConnectionPoolMetrics> getPoolMetrics(SessionFactory sessionFactory) {
+        ConnectionProvider connectionProvider = sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(ConnectionProvider.class);
+        if (connectionProvider == null || !connectionProvider.isUnwrappableAs(HikariDataSource.class)) {
+            return Optional.empty();
+        }
+        HikariDataSource dataSource = connectionProvider.unwrap(HikariDataSource.class);
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new ConnectionPoolMetrics(pool.getActiveConnections(), pool.getIdleConnections(),
+                pool.getTotalConnections(), dataSource.getMaximumPoolSize(), pool.getThreadsAwaitingConnection()));
+    }
+
     /**
      * Shuts down the SessionFactory and releases all resources.
      */
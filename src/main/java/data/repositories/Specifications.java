@@ -0,0 +1,263 @@
+package data.repositories;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Factories for {@link ISpecification} conditions. Every attribute is named by a dot-separated path from the entity,
+ * e.g. {@code "startingDate"} or {@code "transportCompany.id"}; the identifier of a many-to-one relation is compared on
+ * the foreign key column without a join.
+ * <pre>{@code
+ * ISpecification<TransportService> open = Specifications.<TransportService>equal("delivered", false)
+ *         .and(Specifications.between("startingDate", from, to))
+ *         .and(Specifications.in("transportCompany.id", companyIds));
+ * }</pre>
+ */
+public final class Specifications {
+    private static final char LIKE_ESCAPE = '\\';
+
+    private Specifications() {
+    }
+
+    /**
+     * Matches every entity.
+     *
+     * @param <T> the entity type
+     * @return a condition that always holds
+     */
+    public static <T> ISpecification<T> all() {
+        return (root, query, cb) -> cb.conjunction();
+    }
+
+    /**
+     * Matches entities whose attribute equals the value; a null value matches a null attribute.
+     *
+     * @param <T>   the entity type
+     * @param path  the attribute path
+     * @param value the value to compare with
+     * @return the condition
+     */
+    public static <T> ISpecification<T> equal(String path, Object value) {
+        requirePath(path);
+        if (value == null) {
+            return isNull(path);
+        }
+        return (root, query, cb) -> cb.equal(resolve(root, path), value);
+    }
+
+    /**
+     * Matches entities whose attribute lies between the bounds, both inclusive.
+     *
+     * @param <T>  the entity type
+     * @param <Y>  the attribute type
+     * @param path the attribute path
+     * @param from the lower bound; must not be null
+     * @param to   the upper bound; must not be null
+     * @return the condition
+     * @throws IllegalArgumentException if a bound is null
+     */
+    public static <T, Y extends Comparable<? super Y>> ISpecification<T> between(String path, Y from, Y to) {
+        requirePath(path);
+        requireValue(from, "Lower bound");
+        requireValue(to, "Upper bound");
+        return (root, query, cb) -> cb.between(Specifications.<Y>resolve(root, path), from, to);
+    }
+
+    /**
+     * Matches entities whose attribute is greater than or equal to the value.
+     *
+     * @param <T>   the entity type
+     * @param <Y>   the attribute type
+     * @param path  the attribute path
+     * @param value the lower bound, inclusive; must not be null
+     * @return the condition
+     * @throws IllegalArgumentException if the value is null
+     */
+    public static <T, Y extends Comparable<? super Y>> ISpecification<T> gte(String path, Y value) {
+        requirePath(path);
+        requireValue(value, "Value");
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(Specifications.<Y>resolve(root, path), value);
+    }
+
+    /**
+     * Matches entities whose attribute is less than or equal to the value.
+     *
+     * @param <T>   the entity type
+     * @param <Y>   the attribute type
+     * @param path  the attribute path
+     * @param value the upper bound, inclusive; must not be null
+     * @return the condition
+     * @throws IllegalArgumentException if the value is null
+     */
+    public static <T, Y extends Comparable<? super Y>> ISpecification<T> lte(String path, Y value) {
+        requirePath(path);
+        requireValue(value, "Value");
+        return (root, query, cb) -> cb.lessThanOrEqualTo(Specifications.<Y>resolve(root, path), value);
+    }
+
+    /**
+     * Matches entities whose attribute equals one of the values. An empty collection matches nothing.
+     *
+     * @param <T>    the entity type
+     * @param path   the attribute path
+     * @param values the accepted values; must not be null
+     * @return the condition
+     * @throws IllegalArgumentException if the collection is null
+     */
+    public static <T> ISpecification<T> in(String path, Collection<?> values) {
+        requirePath(path);
+        requireValue(values, "Values");
+        List<?> copy = new ArrayList<>(values);
+        if (copy.isEmpty()) {
+            return (root, query, cb) -> cb.disjunction();
+        }
+        return (root, query, cb) -> resolve(root, path).in(copy);
+    }
+
+    /**
+     * Matches entities whose string attribute matches a SQL LIKE pattern, where {@code %} matches any sequence of
+     * characters and {@code _} a single character.
+     *
+     * @param <T>     the entity type
+     * @param path    the attribute path
+     * @param pattern the pattern; must not be null
+     * @return the condition
+     * @throws IllegalArgumentException if the pattern is null
+     */
+    public static <T> ISpecification<T> like(String path, String pattern) {
+        requirePath(path);
+        requireValue(pattern, "Pattern");
+        return (root, query, cb) -> cb.like(Specifications.<String>resolve(root, path), pattern, LIKE_ESCAPE);
+    }
+
+    /**
+     * Matches entities whose attribute is null, including a missing many-to-one relation.
+     *
+     * @param <T>  the entity type
+     * @param path the attribute path
+     * @return the condition
+     */
+    public static <T> ISpecification<T> isNull(String path) {
+        requirePath(path);
+        return (root, query, cb) -> cb.isNull(resolve(root, path));
+    }
+
+    /**
+     * Matches entities whose attribute is not null.
+     *
+     * @param <T>  the entity type
+     * @param path the attribute path
+     * @return the condition
+     */
+    public static <T> ISpecification<T> isNotNull(String path) {
+        requirePath(path);
+        return (root, query, cb) -> cb.isNotNull(resolve(root, path));
+    }
+
+    /**
+     * Matches entities whose numeric field, summed over a collection relation, lies between the bounds, both
+     * inclusive. The sum is computed by a correlated subquery, and an entity with an empty collection sums to zero,
+     * e.g. {@code sumBetween("transportServices", "price", min, max)} selects companies by revenue.
+     *
+     * @param <T>        the entity type
+     * @param collection the collection relation of the entity
+     * @param field      the numeric field of the collection elements
+     * @param from       the lower bound; must not be null
+     * @param to         the upper bound; must not be null
+     * @return the condition
+     * @throws IllegalArgumentException if a bound is null
+     */
+    public static <T> ISpecification<T> sumBetween(String collection, String field, BigDecimal from, BigDecimal to) {
+        requirePath(collection);
+        requirePath(field);
+        requireValue(from, "Lower bound");
+        requireValue(to, "Upper bound");
+        return (root, query, cb) -> {
+            Subquery<BigDecimal> total = query.subquery(BigDecimal.class);
+            Join<T, ?> elements = total.correlate(root).join(collection);
+            total.select(cb.sum(elements.<BigDecimal>get(field)));
+            return cb.between(cb.coalesce(total, BigDecimal.ZERO), from, to);
+        };
+    }
+
+    /**
+     * Matches entities for which every condition holds. Without conditions it matches every entity.
+     *
+     * @param <T>        the entity type
+     * @param conditions the conditions; must not be null or contain null
+     * @return the condition
+     * @throws IllegalArgumentException if a condition is null
+     */
+    @SafeVarargs
+    public static <T> ISpecification<T> and(ISpecification<T>... conditions) {
+        List<ISpecification<T>> parts = requireConditions(conditions);
+        return (root, query, cb) -> cb.and(toPredicates(parts, root, query, cb));
+    }
+
+    /**
+     * Matches entities for which at least one condition holds. Without conditions it matches nothing.
+     *
+     * @param <T>        the entity type
+     * @param conditions the conditions; must not be null or contain null
+     * @return the condition
+     * @throws IllegalArgumentException if a condition is null
+     */
+    @SafeVarargs
+    public static <T> ISpecification<T> or(ISpecification<T>... conditions) {
+        List<ISpecification<T>> parts = requireConditions(conditions);
+        return (root, query, cb) -> cb.or(toPredicates(parts, root, query, cb));
+    }
+
+    /**
+     * Resolves a dot-separated attribute path (e.g. "transportCompany.id") against the given root.
+     */
+    @SuppressWarnings("unchecked")
+    private static <Y> Path<Y> resolve(Root<?> root, String dottedPath) {
+        Path<?> path = root;
+        for (String part : dottedPath.split("\\.")) {
+            path = path.get(part);
+        }
+        return (Path<Y>) path;
+    }
+
+    private static <T> Predicate[] toPredicates(List<ISpecification<T>> parts, Root<T> root, CriteriaQuery<?> query,
+                                                CriteriaBuilder cb) {
+        Predicate[] predicates = new Predicate[parts.size()];
+        for (int i = 0; i < predicates.length; i++) {
+            predicates[i] = parts.get(i).toPredicate(root, query, cb);
+        }
+        return predicates;
+    }
+
+    private static <T> List<ISpecification<T>> requireConditions(ISpecification<T>[] conditions) {
+        requireValue(conditions, "Conditions");
+        List<ISpecification<T>> parts = new ArrayList<>(conditions.length);
+        for (ISpecification<T> condition : conditions) {
+            requireValue(condition, "Condition");
+            parts.add(condition);
+        }
+        return parts;
+    }
+
+    private static void requirePath(String path) {
+        if (path == null || path.isBlank()) {
+            throw new IllegalArgumentException("Attribute path must not be null or blank");
+        }
+    }
+
+    private static void requireValue(Object value, String name) {
+        if (value == null) {
+            throw new IllegalArgumentException(name + " must not be null");
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package data.repositories;
+
+import data.repositories.exceptions.RepositoryException;
+import data.repositories.exceptions.RepositoryMessages;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Thread-bound implementation of {@link IUnitOfWork}.
+ * <p>
+ * The outermost {@link #execute(Supplier)} call opens a session, begins a transaction and binds the session to the
+ * current thread for the given {@link SessionFactory}. {@link GenericRepository} instances created with the same
+ * factory detect the bound session and run their operations in it instead of opening their own. When the work
+ * completes the transaction is committed, unless the work threw or a repository operation failed and marked the
+ * transaction for rollback, in which case it is rolled back. The session is always closed and unbound afterwards.
+ * </p>
+ */
+public class UnitOfWork implements IUnitOfWork {
+    private static final Logger logger = LoggerFactory.getLogger(UnitOfWork.class);
+    private static final ThreadLocal<Map<SessionFactory, Session>> boundSessions =
+            ThreadLocal.withInitial(IdentityHashMap::new);
+
+    private final SessionFactory sessionFactory;
+
+    /**
+     * Constructs a new UnitOfWork for the given session factory.
+     *
+     * @param sessionFactory the session factory whose sessions are bound to the current thread; must not be null
+     * @throws NullPointerException if the session factory is null
+     */
+    public UnitOfWork(SessionFactory sessionFactory) {
+        this.sessionFactory = Objects.requireNonNull(sessionFactory, "SessionFactory cannot be null");
+    }
+
+    /**
+     * Returns the session bound to the current thread for the given factory.
+     *
+     * @param sessionFactory the session factory to look up
+     * @return the bound session, or null if no unit of work is active for the factory on the current thread
+     */
+    static Session currentSession(SessionFactory sessionFactory) {
+        return boundSessions.get().get(sessionFactory);
+    }
+
+    /**
+     * Checks whether a unit of work is active on the current thread for any session factory.
+     *
+     * @return true if the current thread has a bound session
+     */
+    static boolean isActiveOnCurrentThread() {
+        return !boundSessions.get().isEmpty();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isActive() {
+        return currentSession(sessionFactory) != null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void execute(Runnable work) throws RepositoryException {
+        if (work == null) {
+            throw new IllegalArgumentException("Work must not be null");
+        }
+        execute(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <R> R execute(Supplier<R> work) throws RepositoryException {
+        if (work == null) {
+            throw new IllegalArgumentException("Work must not be null");
+        }
+        if (isActive()) {
+            // Nested unit: join the outer one, which owns commit/rollback
+            return work.get();
+        }
+
+        Session session;
+        try {
+            session = sessionFactory.openSession();
+        } catch (Exception e) {
+            throw new RepositoryException(RepositoryMessages.UNIT_OF_WORK_OPEN_FAILED, e);
+        }
+
+        Map<SessionFactory, Session> sessions = boundSessions.get();
+        sessions.put(sessionFactory, session);
+        try {
+            Transaction tx = session.beginTransaction();
+            R result;
+            try {
+                result = work.get();
+            } catch (RuntimeException e) {
+                rollback(tx);
+                throw e;
+            }
+
+            if (tx.getRollbackOnly()) {
+                rollback(tx);
+                throw new RepositoryException(RepositoryMessages.UNIT_OF_WORK_ROLLBACK_ONLY);
+            }
+            try {
+                tx.commit();
+            } catch (Exception e) {
+                rollback(tx);
+                logger.error("Unit of work commit failed", e);
+                throw new RepositoryException(RepositoryMessages.UNIT_OF_WORK_COMMIT_FAILED, e);
+            }
+            return result;
+        } finally {
+            sessions.remove(sessionFactory);
+            if (sessions.isEmpty()) {
+                boundSessions.remove();
+            }
+            session.close();
+        }
+    }
+
+    private void rollback(Transaction tx) {
+        try {
+            if (tx.isActive()) {
+                tx.rollback();
+            }
+        } catch (Exception e) {
+            logger.error("Unit of work rollback failed", e);
+        }
+    }
+}
@@ -15,6 +15,11 @@ public final class RepositoryMessages {
     public static final String FIND_WITH_AGGREGATION_FAILED = "Failed to find entities of type {0} with aggregation";
     public static final String FIND_WITH_JOIN_FAILED = "Failed to find entities of type {0} with join";
 
+    // Messages for unit of work failures
+    public static final String UNIT_OF_WORK_OPEN_FAILED = "Failed to open session for unit of work";
+    public static final String UNIT_OF_WORK_COMMIT_FAILED = "Failed to commit unit of work";
+    public static final String UNIT_OF_WORK_ROLLBACK_ONLY = "Unit of work was rolled back because a repository operation failed";
+
     // Private constructor to prevent instantiation
     private RepositoryMessages() {
         throw new AssertionError("Utility class should not be instantiated");
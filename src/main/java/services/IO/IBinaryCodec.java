@@ -0,0 +1,47 @@
+package services.IO;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * Interface for a purpose-built binary file format for DTOs.
+ * <p>
+ * Files are written from view DTOs and can be read back either as view DTOs or directly as "create" DTOs, without an
+ * intermediate conversion. Reads are lazy: the returned streams decode one record at a time and must be closed to
+ * release the underlying file.
+ * </p>
+ *
+ * @param <TViewDTO>   The type of the "view" DTO.
+ * @param <TCreateDTO> The type of the "create" DTO.
+ */
+public interface IBinaryCodec<TViewDTO, TCreateDTO> {
+
+    /**
+     * Writes view DTOs to a binary file, replacing the file if it exists.
+     *
+     * @param dtos The view DTOs to write.
+     * @param path The file to write to.
+     * @return The number of DTOs written.
+     * @throws IOException If writing fails.
+     */
+    long write(Iterable<? extends TViewDTO> dtos, Path path) throws IOException;
+
+    /**
+     * Lazily reads the records of a binary file as view DTOs.
+     *
+     * @param path The file to read from.
+     * @return A sequential, ordered stream of view DTOs; closing it closes the file.
+     * @throws IOException If the file cannot be opened or was not written in this codec's format.
+     */
+    Stream<TViewDTO> readViews(Path path) throws IOException;
+
+    /**
+     * Lazily reads the records of a binary file directly as "create" DTOs.
+     *
+     * @param path The file to read from.
+     * @return A sequential, ordered stream of create DTOs; closing it closes the file.
+     * @throws IOException If the file cannot be opened or was not written in this codec's format.
+     */
+    Stream<TCreateDTO> readCreateDTOs(Path path) throws IOException;
+}
@@ -1,6 +1,15 @@
 package services.IO;
 
+import data.repositories.KeysetCursor;
+import data.repositories.KeysetPage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Interface for serializing and deserializing DTOs using a service.
@@ -19,6 +28,30 @@ public interface IServiceSerializer<TService, TViewDTO, TCreateDTO> {
      */
     String serializeToJson(List<TViewDTO> dtos);
 
+    /**
+     * Streams view DTOs to a writer as a compact JSON array, pulling them one keyset page at a time.
+     * Only the current page is held in memory, so memory use does not grow with the number of exported DTOs.
+     * The writer is flushed but not closed.
+     *
+     * @param pageSource Returns the page following the given cursor, or the first page for a null cursor.
+     * @param writer     The writer to write the JSON array to.
+     * @return The number of DTOs written.
+     * @throws IOException If writing fails.
+     */
+    long serializeToJson(Function<KeysetCursor, KeysetPage<TViewDTO>> pageSource, Writer writer) throws IOException;
+
+    /**
+     * Streams view DTOs to an output stream as a compact UTF-8 JSON array, pulling them one keyset page at a time.
+     * The stream is flushed but not closed.
+     *
+     * @param pageSource   Returns the page following the given cursor, or the first page for a null cursor.
+     * @param outputStream The stream to write the JSON array to.
+     * @return The number of DTOs written.
+     * @throws IOException If writing fails.
+     * @see #serializeToJson(Function, Writer)
+     */
+    long serializeToJson(Function<KeysetCursor, KeysetPage<TViewDTO>> pageSource, OutputStream outputStream) throws IOException;
+
     /**
      * Deserializes a JSON string to a "create" DTO.
      *
@@ -36,6 +69,18 @@ public interface IServiceSerializer<TService, TViewDTO, TCreateDTO> {
      */
     List<TCreateDTO> deserializeListFromJson(String json);
 
+    /**
+     * Lazily deserializes a JSON array of "create" DTOs from a reader.
+     * Each element is bound directly from the token stream as the returned stream is consumed, so only the
+     * element being read is held in memory. Closing the returned stream closes the reader.
+     *
+     * @param reader The reader positioned at the start of a JSON array.
+     * @return A sequential, ordered stream of the deserialized create DTOs.
+     * @throws com.google.gson.JsonSyntaxException While consuming, if the input is not a well-formed JSON array.
+     * @throws com.google.gson.JsonIOException     While consuming, if reading fails.
+     */
+    Stream<TCreateDTO> deserializeStreamFromJson(Reader reader);
+
 
     /**
      * Serializes a list of view DTOs to a binary file.
@@ -63,4 +108,15 @@ public interface IServiceSerializer<TService, TViewDTO, TCreateDTO> {
      * @throws Exception If an error occurs during deserialization.
      */
     List<TCreateDTO> deserializeListFromBinary(String filePath) throws Exception;
+
+    /**
+     * Lazily deserializes a binary file to "create" DTOs.
+     * With a purpose-built binary codec, records are decoded one at a time as the stream is consumed;
+     * with Java object serialization, the whole file is read up front. Closing the returned stream closes the file.
+     *
+     * @param  filePath The path to the binary file.
+     * @return A sequential, ordered stream of the deserialized create DTOs.
+     * @throws Exception If an error occurs while opening the file.
+     */
+    Stream<TCreateDTO> deserializeStreamFromBinary(String filePath) throws Exception;
 }
\ No newline at end of file
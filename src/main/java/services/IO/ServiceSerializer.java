@@ -2,14 +2,34 @@ package services.IO;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonParser;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.MalformedJsonException;
+import data.common.seeding.LocalDateAdapter;
+import data.common.seeding.LocalDateTimeAdapter;
+import data.repositories.KeysetCursor;
+import data.repositories.KeysetPage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Implementation of {@link IServiceSerializer} for serializing and deserializing DTOs.
@@ -26,19 +46,40 @@ public class ServiceSerializer<TService, TViewDTO, TCreateDTO> implements IServi
     private final Class<TViewDTO> viewDtoClass;
     private final Class<TCreateDTO> createDtoClass;
     private final Gson gson;
+    private final IBinaryCodec<? super TViewDTO, ? super TCreateDTO> binaryCodec;
 
     /**
-     * Constructor for ServiceSerializer.
+     * Constructor for ServiceSerializer. Binary files are written with Java object serialization.
      *
      * @param service        The service instance.
      * @param viewDtoClass   The class of the view DTO.
      * @param createDtoClass The class of the "create" DTO.
      */
     public ServiceSerializer(TService service, Class<TViewDTO> viewDtoClass, Class<TCreateDTO> createDtoClass) {
+        this(service, viewDtoClass, createDtoClass, null);
+    }
+
+    /**
+     * Constructor for ServiceSerializer that reads and writes binary files with a purpose-built codec.
+     *
+     * @param service        The service instance.
+     * @param viewDtoClass   The class of the view DTO.
+     * @param createDtoClass The class of the "create" DTO.
+     * @param binaryCodec    The codec for binary files, or null to use Java object serialization.
+     *                       Records it decodes must be instances of the create DTO class.
+     */
+    public ServiceSerializer(TService service, Class<TViewDTO> viewDtoClass, Class<TCreateDTO> createDtoClass,
+                             IBinaryCodec<? super TViewDTO, ? super TCreateDTO> binaryCodec) {
         this.service = service;
         this.viewDtoClass = viewDtoClass;
         this.createDtoClass = createDtoClass;
-        this.gson = new GsonBuilder().setPrettyPrinting().create();
+        this.binaryCodec = binaryCodec;
+        // java.time types need adapters; Gson cannot reflect into their private fields
+        this.gson = new GsonBuilder()
+                .registerTypeAdapter(LocalDate.class, new LocalDateAdapter())
+                .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
+                .setPrettyPrinting()
+                .create();
     }
 
     /**
@@ -54,6 +95,53 @@ public class ServiceSerializer<TService, TViewDTO, TCreateDTO> implements IServi
         return gson.toJson(dtos);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long serializeToJson(Function<KeysetCursor, KeysetPage<TViewDTO>> pageSource, Writer writer) throws IOException {
+        if (pageSource == null || writer == null) {
+            logger.error("Attempted to stream DTOs with a null page source or writer");
+            throw new IllegalArgumentException("Page source and writer cannot be null");
+        }
+        // A JsonWriter without indentation writes compact output, whatever the pretty printing setting of gson
+        JsonWriter jsonWriter = new JsonWriter(writer);
+        long count = 0;
+        int pages = 0;
+        jsonWriter.beginArray();
+        KeysetPage<TViewDTO> page = pageSource.apply(null);
+        while (true) {
+            pages++;
+            for (TViewDTO dto : page.getContent()) {
+                gson.toJson(dto, viewDtoClass, jsonWriter);
+                count++;
+            }
+            if (!page.hasNext()) {
+                break;
+            }
+            page = pageSource.apply(page.getNextCursor());
+        }
+        jsonWriter.endArray();
+        jsonWriter.flush();
+        logger.info("Streamed {} DTOs in {} pages to JSON", count, pages);
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long serializeToJson(Function<KeysetCursor, KeysetPage<TViewDTO>> pageSource, OutputStream outputStream) throws IOException {
+        if (outputStream == null) {
+            logger.error("Attempted to stream DTOs to a null output stream");
+            throw new IllegalArgumentException("Output stream cannot be null");
+        }
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        long count = serializeToJson(pageSource, writer);
+        writer.flush();
+        return count;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -78,20 +166,35 @@ public class ServiceSerializer<TService, TViewDTO, TCreateDTO> implements IServi
             throw new IllegalArgumentException("JSON string cannot be null or empty");
         }
         logger.info("Deserializing list from JSON");
-        JsonArray jsonArray = JsonParser.parseString(json).getAsJsonArray();
-        List<TCreateDTO> dtos = new ArrayList<>();
-
-        for (int i = 0; i < jsonArray.size(); i++) {
-            String singleJson = jsonArray.get(i).toString();
-            logger.debug("Deserializing element {}: {}", i, singleJson);
-            TCreateDTO dto = deserializeFromJson(singleJson);
-            dtos.add(dto);
+        List<TCreateDTO> dtos;
+        try (Stream<TCreateDTO> stream = deserializeStreamFromJson(new StringReader(json))) {
+            dtos = stream.collect(Collectors.toList());
         }
-
         logger.info("Successfully deserialized {} DTOs", dtos.size());
         return dtos;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<TCreateDTO> deserializeStreamFromJson(Reader reader) {
+        if (reader == null) {
+            logger.error("Attempted to deserialize stream from null reader");
+            throw new IllegalArgumentException("Reader cannot be null");
+        }
+        JsonReader jsonReader = new JsonReader(reader);
+        Spliterator<TCreateDTO> spliterator = Spliterators.spliteratorUnknownSize(new JsonArrayIterator(jsonReader),
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                jsonReader.close();
+            } catch (IOException e) {
+                throw new JsonIOException(e);
+            }
+        });
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -105,6 +208,10 @@ public class ServiceSerializer<TService, TViewDTO, TCreateDTO> implements IServi
             logger.error("Attempted to serialize to null or empty file path");
             throw new IllegalArgumentException("File path cannot be null or empty");
         }
+        if (binaryCodec != null) {
+            binaryCodec.write(dtos, Paths.get(filePath));
+            return;
+        }
         try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(filePath))) {
             oos.writeObject(dtos);
             logger.debug("Binary serialization completed for file: {}", filePath);
@@ -119,6 +226,11 @@ public class ServiceSerializer<TService, TViewDTO, TCreateDTO> implements IServi
         if (filePath == null || filePath.trim().isEmpty()) {
             throw new IllegalArgumentException("File path cannot be null or empty");
         }
+        if (binaryCodec != null) {
+            try (Stream<TCreateDTO> dtos = deserializeStreamFromBinary(filePath)) {
+                return dtos.findFirst().orElseThrow(() -> new EOFException("Binary file contains no records: " + filePath));
+            }
+        }
         try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(filePath))) {
             return (TCreateDTO) ois.readObject();
         }
@@ -135,6 +247,14 @@ public class ServiceSerializer<TService, TViewDTO, TCreateDTO> implements IServi
         }
 
         logger.info("Deserializing list from binary file: {}", filePath);
+        if (binaryCodec != null) {
+            List<TCreateDTO> createDtos;
+            try (Stream<TCreateDTO> dtos = deserializeStreamFromBinary(filePath)) {
+                createDtos = dtos.collect(Collectors.toList());
+            }
+            logger.info("Successfully deserialized {} DTOs from binary", createDtos.size());
+            return createDtos;
+        }
         try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(filePath))) {
             List<TViewDTO> viewDtos = (List<TViewDTO>) ois.readObject();
             List<TCreateDTO> createDtos = new ArrayList<>();
@@ -149,4 +269,74 @@ public class ServiceSerializer<TService, TViewDTO, TCreateDTO> implements IServi
             return createDtos;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<TCreateDTO> deserializeStreamFromBinary(String filePath) throws Exception {
+        if (filePath == null || filePath.trim().isEmpty()) {
+            logger.error("Attempted to deserialize stream from null or empty file path");
+            throw new IllegalArgumentException("File path cannot be null or empty");
+        }
+        if (binaryCodec == null) {
+            return deserializeListFromBinary(filePath).stream();
+        }
+        return binaryCodec.readCreateDTOs(Paths.get(filePath)).map(dto -> {
+            if (!createDtoClass.isInstance(dto)) {
+                throw new IllegalStateException("Binary record of type " + dto.getClass().getSimpleName()
+                        + " cannot be read as " + createDtoClass.getSimpleName());
+            }
+            return createDtoClass.cast(dto);
+        });
+    }
+
+    /**
+     * Reads the elements of a top-level JSON array one at a time, binding each straight from the token stream.
+     * The opening bracket is consumed on the first call to {@link #hasNext()}, so nothing is read until the stream
+     * is consumed.
+     */
+    private final class JsonArrayIterator implements Iterator<TCreateDTO> {
+        private final JsonReader jsonReader;
+        private boolean started;
+        private boolean finished;
+
+        private JsonArrayIterator(JsonReader jsonReader) {
+            this.jsonReader = jsonReader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (finished) {
+                return false;
+            }
+            try {
+                if (!started) {
+                    started = true;
+                    if (jsonReader.peek() != JsonToken.BEGIN_ARRAY) {
+                        throw new JsonSyntaxException("Expected a JSON array but was " + jsonReader.peek());
+                    }
+                    jsonReader.beginArray();
+                }
+                if (jsonReader.hasNext()) {
+                    return true;
+                }
+                jsonReader.endArray();
+                finished = true;
+                return false;
+            } catch (MalformedJsonException e) {
+                throw new JsonSyntaxException(e);
+            } catch (IOException e) {
+                throw new JsonIOException(e);
+            }
+        }
+
+        @Override
+        public TCreateDTO next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return gson.fromJson(jsonReader, createDtoClass);
+        }
+    }
+}
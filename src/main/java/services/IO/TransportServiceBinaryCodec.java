@@ -0,0 +1,500 @@
+package services.IO;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import services.data.dto.transportservices.*;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Compact binary file format for transport service DTOs, covering plain, passenger and cargo services.
+ * <p>
+ * A file starts with a header holding a magic number, the format version, the record count and the schema the
+ * records were written with, and is followed by length-prefixed records. Numbers are written as varints (zig-zag
+ * encoded where they may be negative), dates as epoch days, {@link BigDecimal} values as an unscaled long plus a scale,
+ * and null fields are recorded in a per-record presence mask instead of taking space. Files are written through a
+ * {@link FileChannel} and read through memory-mapped windows of the file, so reads decode straight from the page cache.
+ * </p>
+ * <p>
+ * Records can be read back as view DTOs or converted directly to the matching "create" DTOs. A record of the
+ * abstract base type carries no subtype fields and cannot be read as a create DTO.
+ * </p>
+ */
+public class TransportServiceBinaryCodec implements IBinaryCodec<TransportServiceViewDTO, TransportServiceCreateDTO> {
+    private static final Logger logger = LoggerFactory.getLogger(TransportServiceBinaryCodec.class);
+
+    private static final int MAGIC = 0x54535643; // "TSVC"
+    private static final byte FORMAT_VERSION = 1;
+    private static final String SCHEMA = "kind:u8,present:varint,id:varint,transportCompanyId:varint,"
+            + "startingDate:epochDay,endingDate:epochDay,destinationId:varint,clientId:varint,price:decimal,flags:u8,"
+            + "vehicleId:varint,driverId:varint;passengers:numberOfPassengers:zigzag;"
+            + "cargo:weightInKilograms:decimal,lengthInCentimeters:zigzag,widthInCentimeters:zigzag,"
+            + "heightInCentimeters:zigzag,description:utf8";
+    private static final int COUNT_OFFSET = Integer.BYTES + 1;
+    private static final int MAX_HEADER_LENGTH = COUNT_OFFSET + Long.BYTES + 10 + SCHEMA.getBytes(StandardCharsets.UTF_8).length;
+
+    private static final byte KIND_SERVICE = 0;
+    private static final byte KIND_PASSENGERS = 1;
+    private static final byte KIND_CARGO = 2;
+
+    private static final int HAS_ID = 1;
+    private static final int HAS_COMPANY = 1 << 1;
+    private static final int HAS_STARTING_DATE = 1 << 2;
+    private static final int HAS_ENDING_DATE = 1 << 3;
+    private static final int HAS_DESTINATION = 1 << 4;
+    private static final int HAS_CLIENT = 1 << 5;
+    private static final int HAS_PRICE = 1 << 6;
+    private static final int HAS_VEHICLE = 1 << 7;
+    private static final int HAS_DRIVER = 1 << 8;
+    private static final int HAS_WEIGHT = 1 << 9;
+    private static final int HAS_DESCRIPTION = 1 << 10;
+
+    private static final int DELIVERED = 1;
+    private static final int PAID = 1 << 1;
+
+    private static final int MAX_VARINT_LENGTH = 10;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final long DEFAULT_MAP_WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private final long mapWindowSize;
+
+    /**
+     * Constructs a new TransportServiceBinaryCodec that maps files in windows of 64 MB.
+     */
+    public TransportServiceBinaryCodec() {
+        this(DEFAULT_MAP_WINDOW_SIZE);
+    }
+
+    TransportServiceBinaryCodec(long mapWindowSize) {
+        if (mapWindowSize <= MAX_VARINT_LENGTH || mapWindowSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Map window size must be between " + MAX_VARINT_LENGTH + " and " + Integer.MAX_VALUE);
+        }
+        this.mapWindowSize = mapWindowSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the DTOs, an element or the path is null, or a decimal value has an unscaled
+     *                                  value that does not fit in 64 bits
+     */
+    @Override
+    public long write(Iterable<? extends TransportServiceViewDTO> dtos, Path path) throws IOException {
+        if (dtos == null || path == null) {
+            logger.error("Attempted to write binary transport services with null DTOs or path");
+            throw new IllegalArgumentException("DTOs and path cannot be null");
+        }
+        long started = System.nanoTime();
+        long count = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer out = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+            byte[] schema = SCHEMA.getBytes(StandardCharsets.UTF_8);
+            out.putInt(MAGIC).put(FORMAT_VERSION).putLong(0L);
+            putVarLong(out, schema.length);
+            out.put(schema);
+
+            ByteBuffer record = ByteBuffer.allocate(256);
+            for (TransportServiceViewDTO dto : dtos) {
+                record = encode(dto, record);
+                if (out.remaining() < MAX_VARINT_LENGTH + record.remaining()) {
+                    drain(out, channel);
+                }
+                putVarLong(out, record.remaining());
+                if (out.remaining() < record.remaining()) {
+                    // A record larger than the write buffer goes to the channel directly
+                    drain(out, channel);
+                    writeFully(record, channel);
+                } else {
+                    out.put(record);
+                }
+                count++;
+            }
+            drain(out, channel);
+            channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, count), COUNT_OFFSET);
+        }
+        logger.info("Wrote {} transport services to binary file {} in {} ms", count, path, (System.nanoTime() - started) / 1_000_000);
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<TransportServiceViewDTO> readViews(Path path) throws IOException {
+        return read(path, TransportServiceBinaryCodec::decodeView);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Consuming a record of the base transport service type throws {@link IllegalArgumentException}.
+     * </p>
+     */
+    @Override
+    public Stream<TransportServiceCreateDTO> readCreateDTOs(Path path) throws IOException {
+        return read(path, record -> toCreateDTO(decodeView(record)));
+    }
+
+    /**
+     * Converts a transport service view DTO to the matching "create" DTO, copying the fields both have in common.
+     *
+     * @param view the passenger or cargo service view DTO to convert; must not be null
+     * @return a {@link TransportPassengersServiceCreateDTO} or {@link TransportCargoServiceCreateDTO}
+     * @throws IllegalArgumentException if the view DTO is null or neither a passenger nor a cargo service
+     */
+    public static TransportServiceCreateDTO toCreateDTO(TransportServiceViewDTO view) {
+        TransportServiceCreateDTO dto;
+        if (view instanceof TransportCargoServiceViewDTO cargo) {
+            TransportCargoServiceCreateDTO cargoDto = new TransportCargoServiceCreateDTO();
+            cargoDto.setWeightInKilograms(cargo.getWeightInKilograms());
+            cargoDto.setLengthInCentimeters(cargo.getLengthInCentimeters());
+            cargoDto.setWidthInCentimeters(cargo.getWidthInCentimeters());
+            cargoDto.setHeightInCentimeters(cargo.getHeightInCentimeters());
+            cargoDto.setDescription(cargo.getDescription());
+            dto = cargoDto;
+        } else if (view instanceof TransportPassengersServiceViewDTO passengers) {
+            TransportPassengersServiceCreateDTO passengersDto = new TransportPassengersServiceCreateDTO();
+            passengersDto.setNumberOfPassengers(passengers.getNumberOfPassengers());
+            dto = passengersDto;
+        } else {
+            throw new IllegalArgumentException("Only passenger and cargo services can be converted to a create DTO");
+        }
+        dto.setTransportCompanyId(view.getTransportCompanyId());
+        dto.setStartingDate(view.getStartingDate());
+        dto.setEndingDate(view.getEndingDate());
+        dto.setDestinationId(view.getDestinationId());
+        dto.setClientId(view.getClientId());
+        dto.setPrice(view.getPrice());
+        dto.setVehicleId(view.getVehicleId());
+        dto.setDriverId(view.getDriverId());
+        return dto;
+    }
+
+    private <T> Stream<T> read(Path path, Function<ByteBuffer, T> decoder) throws IOException {
+        if (path == null) {
+            logger.error("Attempted to read binary transport services from a null path");
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        RecordReader reader = new RecordReader(path);
+        logger.debug("Reading {} transport services from binary file {}", reader.count, path);
+        Iterator<T> iterator = new Iterator<>() {
+            private ByteBuffer next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    next = reader.nextRecord();
+                }
+                return next != null;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                ByteBuffer record = next;
+                next = null;
+                try {
+                    return decoder.apply(record);
+                } catch (BufferUnderflowException e) {
+                    throw corrupt("Record ends before all of its fields were read");
+                }
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(reader::close);
+    }
+
+    /**
+     * Encodes a DTO into the record buffer, growing the buffer until the record fits.
+     *
+     * @return the buffer holding the record, flipped for reading; a new buffer if the given one was too small
+     */
+    private static ByteBuffer encode(TransportServiceViewDTO dto, ByteBuffer record) {
+        if (dto == null) {
+            throw new IllegalArgumentException("DTO cannot be null");
+        }
+        while (true) {
+            record.clear();
+            try {
+                encodeInto(dto, record);
+                return record.flip();
+            } catch (BufferOverflowException e) {
+                record = ByteBuffer.allocate(record.capacity() * 2);
+            }
+        }
+    }
+
+    private static void encodeInto(TransportServiceViewDTO dto, ByteBuffer record) {
+        TransportCargoServiceViewDTO cargo = dto instanceof TransportCargoServiceViewDTO c ? c : null;
+        TransportPassengersServiceViewDTO passengers = dto instanceof TransportPassengersServiceViewDTO p ? p : null;
+        int present = (dto.getId() != null ? HAS_ID : 0)
+                | (dto.getTransportCompanyId() != null ? HAS_COMPANY : 0)
+                | (dto.getStartingDate() != null ? HAS_STARTING_DATE : 0)
+                | (dto.getEndingDate() != null ? HAS_ENDING_DATE : 0)
+                | (dto.getDestinationId() != null ? HAS_DESTINATION : 0)
+                | (dto.getClientId() != null ? HAS_CLIENT : 0)
+                | (dto.getPrice() != null ? HAS_PRICE : 0)
+                | (dto.getVehicleId() != null ? HAS_VEHICLE : 0)
+                | (dto.getDriverId() != null ? HAS_DRIVER : 0)
+                | (cargo != null && cargo.getWeightInKilograms() != null ? HAS_WEIGHT : 0)
+                | (cargo != null && cargo.getDescription() != null ? HAS_DESCRIPTION : 0);
+
+        record.put(cargo != null ? KIND_CARGO : passengers != null ? KIND_PASSENGERS : KIND_SERVICE);
+        putVarLong(record, present);
+        if ((present & HAS_ID) != 0) {
+            putVarLong(record, dto.getId());
+        }
+        if ((present & HAS_COMPANY) != 0) {
+            putVarLong(record, dto.getTransportCompanyId());
+        }
+        if ((present & HAS_STARTING_DATE) != 0) {
+            putZigZag(record, dto.getStartingDate().toEpochDay());
+        }
+        if ((present & HAS_ENDING_DATE) != 0) {
+            putZigZag(record, dto.getEndingDate().toEpochDay());
+        }
+        if ((present & HAS_DESTINATION) != 0) {
+            putVarLong(record, dto.getDestinationId());
+        }
+        if ((present & HAS_CLIENT) != 0) {
+            putVarLong(record, dto.getClientId());
+        }
+        if ((present & HAS_PRICE) != 0) {
+            putDecimal(record, dto.getPrice());
+        }
+        record.put((byte) ((dto.isDelivered() ? DELIVERED : 0) | (dto.isPaid() ? PAID : 0)));
+        if ((present & HAS_VEHICLE) != 0) {
+            putVarLong(record, dto.getVehicleId());
+        }
+        if ((present & HAS_DRIVER) != 0) {
+            putVarLong(record, dto.getDriverId());
+        }
+        if (passengers != null) {
+            putZigZag(record, passengers.getNumberOfPassengers());
+        }
+        if (cargo != null) {
+            if ((present & HAS_WEIGHT) != 0) {
+                putDecimal(record, cargo.getWeightInKilograms());
+            }
+            putZigZag(record, cargo.getLengthInCentimeters());
+            putZigZag(record, cargo.getWidthInCentimeters());
+            putZigZag(record, cargo.getHeightInCentimeters());
+            if ((present & HAS_DESCRIPTION) != 0) {
+                byte[] description = cargo.getDescription().getBytes(StandardCharsets.UTF_8);
+                putVarLong(record, description.length);
+                record.put(description);
+            }
+        }
+    }
+
+    private static TransportServiceViewDTO decodeView(ByteBuffer record) {
+        byte kind = record.get();
+        TransportServiceViewDTO dto = switch (kind) {
+            case KIND_SERVICE -> new TransportServiceViewDTO();
+            case KIND_PASSENGERS -> new TransportPassengersServiceViewDTO();
+            case KIND_CARGO -> new TransportCargoServiceViewDTO();
+            default -> throw corrupt("Unknown record kind: " + kind);
+        };
+        int present = (int) getVarLong(record);
+        dto.setId((present & HAS_ID) != 0 ? getVarLong(record) : null);
+        dto.setTransportCompanyId((present & HAS_COMPANY) != 0 ? getVarLong(record) : null);
+        dto.setStartingDate((present & HAS_STARTING_DATE) != 0 ? LocalDate.ofEpochDay(getZigZag(record)) : null);
+        dto.setEndingDate((present & HAS_ENDING_DATE) != 0 ? LocalDate.ofEpochDay(getZigZag(record)) : null);
+        dto.setDestinationId((present & HAS_DESTINATION) != 0 ? getVarLong(record) : null);
+        dto.setClientId((present & HAS_CLIENT) != 0 ? getVarLong(record) : null);
+        dto.setPrice((present & HAS_PRICE) != 0 ? getDecimal(record) : null);
+        byte flags = record.get();
+        dto.setDelivered((flags & DELIVERED) != 0);
+        dto.setPaid((flags & PAID) != 0);
+        dto.setVehicleId((present & HAS_VEHICLE) != 0 ? getVarLong(record) : null);
+        dto.setDriverId((present & HAS_DRIVER) != 0 ? getVarLong(record) : null);
+        if (dto instanceof TransportPassengersServiceViewDTO passengers) {
+            passengers.setNumberOfPassengers((int) getZigZag(record));
+        } else if (dto instanceof TransportCargoServiceViewDTO cargo) {
+            cargo.setWeightInKilograms((present & HAS_WEIGHT) != 0 ? getDecimal(record) : null);
+            cargo.setLengthInCentimeters((int) getZigZag(record));
+            cargo.setWidthInCentimeters((int) getZigZag(record));
+            cargo.setHeightInCentimeters((int) getZigZag(record));
+            if ((present & HAS_DESCRIPTION) != 0) {
+                byte[] description = new byte[(int) getVarLong(record)];
+                record.get(description);
+                cargo.setDescription(new String(description, StandardCharsets.UTF_8));
+            }
+        }
+        return dto;
+    }
+
+    private static void putDecimal(ByteBuffer buffer, BigDecimal value) {
+        if (value.unscaledValue().bitLength() > Long.SIZE - 1) {
+            throw new IllegalArgumentException("Decimal value does not fit the binary format: " + value);
+        }
+        putZigZag(buffer, value.unscaledValue().longValue());
+        putZigZag(buffer, value.scale());
+    }
+
+    private static BigDecimal getDecimal(ByteBuffer buffer) {
+        long unscaled = getZigZag(buffer);
+        return BigDecimal.valueOf(unscaled, (int) getZigZag(buffer));
+    }
+
+    private static void putZigZag(ByteBuffer buffer, long value) {
+        putVarLong(buffer, (value << 1) ^ (value >> 63));
+    }
+
+    private static long getZigZag(ByteBuffer buffer) {
+        long value = getVarLong(buffer);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw corrupt("Varint is longer than " + MAX_VARINT_LENGTH + " bytes");
+    }
+
+    private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        writeFully(buffer, channel);
+        buffer.clear();
+    }
+
+    private static void writeFully(ByteBuffer buffer, FileChannel channel) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static UncheckedIOException corrupt(String message) {
+        return new UncheckedIOException(new StreamCorruptedException(message));
+    }
+
+    /**
+     * Hands out the records of a file as slices of a memory-mapped window, moving the window forward whenever the
+     * next record does not fit in the rest of it.
+     */
+    private final class RecordReader implements Closeable {
+        private final FileChannel channel;
+        private final long size;
+        private final long count;
+        private ByteBuffer window;
+        private long windowStart;
+
+        private RecordReader(Path path) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            try {
+                this.size = channel.size();
+                map(0, MAX_HEADER_LENGTH);
+                this.count = readHeader(path);
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        private long readHeader(Path path) throws IOException {
+            try {
+                if (window.getInt() != MAGIC) {
+                    throw new StreamCorruptedException("Not a transport service binary file: " + path);
+                }
+                byte version = window.get();
+                if (version != FORMAT_VERSION) {
+                    throw new StreamCorruptedException("Unsupported binary format version " + version + " in " + path);
+                }
+                long recordCount = window.getLong();
+                byte[] schema = new byte[(int) getVarLong(window)];
+                window.get(schema);
+                if (!SCHEMA.equals(new String(schema, StandardCharsets.UTF_8))) {
+                    throw new StreamCorruptedException("Binary file " + path + " was written with a different schema");
+                }
+                return recordCount;
+            } catch (BufferUnderflowException | UncheckedIOException e) {
+                throw new StreamCorruptedException("Not a transport service binary file: " + path);
+            }
+        }
+
+        /**
+         * @return the next record, positioned at its first byte, or null at the end of the file
+         */
+        private ByteBuffer nextRecord() {
+            try {
+                long position = windowStart + window.position();
+                if (position >= size) {
+                    return null;
+                }
+                if (window.remaining() < MAX_VARINT_LENGTH && windowStart + window.limit() < size) {
+                    map(position, 0);
+                }
+                long encodedLength = getVarLong(window);
+                if (encodedLength <= 0 || encodedLength > Integer.MAX_VALUE - MAX_VARINT_LENGTH) {
+                    throw corrupt("Record at offset " + position + " has an invalid length: " + encodedLength);
+                }
+                int length = (int) encodedLength;
+                if (window.remaining() < length) {
+                    map(position, (long) MAX_VARINT_LENGTH + length);
+                    getVarLong(window);
+                    if (window.remaining() < length) {
+                        throw corrupt("Record at offset " + position + " is truncated");
+                    }
+                }
+                ByteBuffer record = window.slice(window.position(), length);
+                window.position(window.position() + length);
+                return record;
+            } catch (BufferUnderflowException e) {
+                throw corrupt("Record length is truncated");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void map(long position, long minimumLength) throws IOException {
+            long length = Math.min(Math.max(mapWindowSize, minimumLength), size - position);
+            window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            windowStart = position;
+        }
+
+        @Override
+        public void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
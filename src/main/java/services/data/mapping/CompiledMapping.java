@@ -0,0 +1,145 @@
+package services.data.mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * An entity-to-DTO mapping assembled once from getter and setter method references.
+ * <p>
+ * The method references are compiled by the JVM into direct call sites, so mapping an object is a plain sequence of
+ * getter and setter calls: no reflection, no type-map lookup and no intermediate objects. Instances are immutable
+ * and thread-safe and are meant to be built once and kept in a static field.
+ * </p>
+ *
+ * @param <S> the source type
+ * @param <D> the destination type
+ */
+public final class CompiledMapping<S, D> {
+    private final Supplier<? extends D> factory;
+    private final BiConsumer<? super S, ? super D>[] steps;
+
+    private CompiledMapping(Supplier<? extends D> factory, List<BiConsumer<? super S, ? super D>> steps) {
+        this.factory = factory;
+        @SuppressWarnings("unchecked")
+        BiConsumer<? super S, ? super D>[] array = steps.toArray(new BiConsumer[0]);
+        this.steps = array;
+    }
+
+    /**
+     * Starts a mapping whose destination objects are created by the given factory.
+     *
+     * @param <S>     the source type
+     * @param <D>     the destination type
+     * @param factory creates an empty destination object; must not be null
+     * @return a new builder
+     * @throws IllegalArgumentException if the factory is null
+     */
+    public static <S, D> Builder<S, D> builder(Supplier<? extends D> factory) {
+        if (factory == null) {
+            throw new IllegalArgumentException("Factory must not be null");
+        }
+        return new Builder<>(factory);
+    }
+
+    /**
+     * Maps the source to a new destination object.
+     *
+     * @param source the object to map; may be null
+     * @return the mapped object, or null if the source is null
+     */
+    public D map(S source) {
+        if (source == null) return null;
+        D target = factory.get();
+        for (BiConsumer<? super S, ? super D> step : steps) {
+            step.accept(source, target);
+        }
+        return target;
+    }
+
+    /**
+     * Collects the property mappings of a {@link CompiledMapping}.
+     *
+     * @param <S> the source type
+     * @param <D> the destination type
+     */
+    public static final class Builder<S, D> {
+        private final Supplier<? extends D> factory;
+        private final List<BiConsumer<? super S, ? super D>> steps = new ArrayList<>();
+
+        private Builder(Supplier<? extends D> factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * Adds all property mappings of a mapping between supertypes, e.g. the fields of a base DTO.
+         *
+         * @param base the mapping whose steps are copied; must not be null
+         * @return this builder
+         */
+        public Builder<S, D> include(CompiledMapping<? super S, ? super D> base) {
+            for (BiConsumer<? super S, ? super D> step : base.steps) {
+                steps.add(step);
+            }
+            return this;
+        }
+
+        /**
+         * Copies a property from the source to the destination.
+         *
+         * @param <V>    the property type
+         * @param getter reads the property from the source
+         * @param setter writes the property to the destination
+         * @return this builder
+         */
+        public <V> Builder<S, D> map(Function<? super S, ? extends V> getter, BiConsumer<? super D, ? super V> setter) {
+            steps.add((source, target) -> setter.accept(target, getter.apply(source)));
+            return this;
+        }
+
+        /**
+         * Copies an int property without boxing it.
+         *
+         * @param getter reads the property from the source
+         * @param setter writes the property to the destination
+         * @return this builder
+         */
+        public Builder<S, D> mapInt(ToIntFunction<? super S> getter, ObjIntConsumer<? super D> setter) {
+            steps.add((source, target) -> setter.accept(target, getter.applyAsInt(source)));
+            return this;
+        }
+
+        /**
+         * Copies a property of a related object, such as its identifier. A null relation maps to null.
+         *
+         * @param <R>      the related type
+         * @param <V>      the property type
+         * @param relation reads the related object from the source
+         * @param getter   reads the property from the related object
+         * @param setter   writes the property to the destination
+         * @return this builder
+         */
+        public <R, V> Builder<S, D> mapNested(Function<? super S, ? extends R> relation,
+                                              Function<? super R, ? extends V> getter,
+                                              BiConsumer<? super D, ? super V> setter) {
+            steps.add((source, target) -> {
+                R related = relation.apply(source);
+                setter.accept(target, related != null ? getter.apply(related) : null);
+            });
+            return this;
+        }
+
+        /**
+         * Builds the immutable mapping.
+         *
+         * @return the mapping
+         */
+        public CompiledMapping<S, D> build() {
+            return new CompiledMapping<>(factory, steps);
+        }
+    }
+}
@@ -3,16 +3,28 @@ package services.data.mapping.mappers;
 import data.models.vehicles.Bus;
 import data.models.TransportCompany;
 import data.repositories.IGenericRepository;
+import data.repositories.Projection;
 import data.repositories.exceptions.RepositoryException;
 import org.modelmapper.ModelMapper;
 import services.data.dto.vehicles.BusCreateDTO;
 import services.data.dto.vehicles.BusUpdateDTO;
 import services.data.dto.vehicles.BusViewDTO;
 
+import java.math.BigDecimal;
+
 /**
  * Mapper class for converting between {@link Bus} entities and their DTOs using ModelMapper.
  */
 public class BusMapper {
+    private static final Projection<Bus, BusViewDTO> VIEW_COLUMNS = Projection.<Bus, BusViewDTO>builder(BusViewDTO::new)
+            .map("id", Long.class, BusViewDTO::setId)
+            .map("registrationPlate", String.class, BusViewDTO::setRegistrationPlate)
+            .map("transportCompany.id", Long.class, BusViewDTO::setTransportCompanyId)
+            .map("maxPassengerCapacity", Integer.class, BusViewDTO::setMaxPassengerCapacity)
+            .map("hasRestroom", Boolean.class, BusViewDTO::setHasRestroom)
+            .map("luggageCapacity", BigDecimal.class, BusViewDTO::setLuggageCapacity)
+            .build();
+
     private final ModelMapper modelMapper;
     private final IGenericRepository<TransportCompany, Long> companyRepo;
 
@@ -55,8 +67,17 @@ public class BusMapper {
         return modelMapper.map(entity, BusUpdateDTO.class);
     }
 
+    /**
+     * Returns the projection that reads {@link BusViewDTO}s straight from the bus columns.
+     *
+     * @return the view projection
+     */
+    public Projection<Bus, BusViewDTO> viewProjection() {
+        return VIEW_COLUMNS;
+    }
+
     public BusViewDTO toViewDTO(Bus entity) {
         if (entity == null) return null;
-        return modelMapper.map(entity, BusViewDTO.class);
+        return VehicleViewMappings.BUS.map(entity);
     }
 }
\ No newline at end of file
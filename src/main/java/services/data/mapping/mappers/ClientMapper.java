@@ -1,14 +1,30 @@
 package services.data.mapping.mappers;
 
 import data.models.Client;
+import data.repositories.Projection;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.config.Configuration.AccessLevel;
 import org.modelmapper.convention.MatchingStrategies;
 import services.data.dto.clients.ClientCreateDTO;
 import services.data.dto.clients.ClientUpdateDTO;
 import services.data.dto.clients.ClientViewDTO;
+import services.data.mapping.CompiledMapping;
 
 public class ClientMapper {
+    private static final Projection<Client, ClientViewDTO> VIEW_COLUMNS = Projection.<Client, ClientViewDTO>builder(ClientViewDTO::new)
+            .map("id", Long.class, ClientViewDTO::setId)
+            .map("name", String.class, ClientViewDTO::setName)
+            .map("telephone", String.class, ClientViewDTO::setTelephone)
+            .map("email", String.class, ClientViewDTO::setEmail)
+            .build();
+
+    private static final CompiledMapping<Client, ClientViewDTO> VIEW = CompiledMapping.<Client, ClientViewDTO>builder(ClientViewDTO::new)
+            .map(Client::getId, ClientViewDTO::setId)
+            .map(Client::getName, ClientViewDTO::setName)
+            .map(Client::getTelephone, ClientViewDTO::setTelephone)
+            .map(Client::getEmail, ClientViewDTO::setEmail)
+            .build();
+
     private final ModelMapper modelMapper;
 
     public ClientMapper() {
@@ -24,11 +40,6 @@ public class ClientMapper {
     private void configureMappings() {
         modelMapper.createTypeMap(ClientCreateDTO.class, Client.class)
                 .addMappings(mapper -> mapper.skip(Client::setId));
-        modelMapper.createTypeMap(Client.class, ClientViewDTO.class)
-                .addMapping(Client::getId, ClientViewDTO::setId)
-                .addMapping(Client::getName, ClientViewDTO::setName)
-                .addMapping(Client::getTelephone, ClientViewDTO::setTelephone)
-                .addMapping(Client::getEmail, ClientViewDTO::setEmail);
         modelMapper.createTypeMap(ClientUpdateDTO.class, Client.class)
                 .addMapping(ClientUpdateDTO::getId, Client::setId)
                 .addMapping(ClientUpdateDTO::getName, Client::setName)
@@ -47,8 +58,16 @@ public class ClientMapper {
         return existing;
     }
 
+    /**
+     * Returns the projection that reads {@link ClientViewDTO}s straight from the client columns.
+     *
+     * @return the view projection
+     */
+    public Projection<Client, ClientViewDTO> viewProjection() {
+        return VIEW_COLUMNS;
+    }
+
     public ClientViewDTO toViewDTO(Client client) {
-        if (client == null) return null;
-        return modelMapper.map(client, ClientViewDTO.class);
+        return VIEW.map(client);
     }
 }
\ No newline at end of file
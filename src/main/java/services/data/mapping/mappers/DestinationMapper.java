@@ -7,8 +7,16 @@ import org.modelmapper.convention.MatchingStrategies;
 import services.data.dto.transportservices.DestinationCreateDTO;
 import services.data.dto.transportservices.DestinationUpdateDTO;
 import services.data.dto.transportservices.DestinationViewDTO;
+import services.data.mapping.CompiledMapping;
 
 public class DestinationMapper {
+    private static final CompiledMapping<Destination, DestinationViewDTO> VIEW =
+            CompiledMapping.<Destination, DestinationViewDTO>builder(DestinationViewDTO::new)
+                    .map(Destination::getId, DestinationViewDTO::setId)
+                    .map(Destination::getStartingLocation, DestinationViewDTO::setStartingLocation)
+                    .map(Destination::getEndingLocation, DestinationViewDTO::setEndingLocation)
+                    .build();
+
     private final ModelMapper modelMapper;
 
     public DestinationMapper() {
@@ -25,10 +33,6 @@ public class DestinationMapper {
     private void configureMappings() {
         modelMapper.createTypeMap(DestinationCreateDTO.class, Destination.class)
                 .addMappings(mapper -> mapper.skip(Destination::setId));
-        modelMapper.createTypeMap(Destination.class, DestinationViewDTO.class)
-                .addMapping(Destination::getId, DestinationViewDTO::setId)
-                .addMapping(Destination::getStartingLocation, DestinationViewDTO::setStartingLocation)
-                .addMapping(Destination::getEndingLocation, DestinationViewDTO::setEndingLocation);
         modelMapper.createTypeMap(DestinationUpdateDTO.class, Destination.class)
                 .addMapping(DestinationUpdateDTO::getId, Destination::setId)
                 .addMapping(DestinationUpdateDTO::getStartingLocation, Destination::setStartingLocation)
@@ -47,7 +51,6 @@ public class DestinationMapper {
     }
 
     public DestinationViewDTO toViewDTO(Destination destination) {
-        if (destination == null) return null;
-        return modelMapper.map(destination, DestinationViewDTO.class);
+        return VIEW.map(destination);
     }
 }
\ No newline at end of file
@@ -11,7 +11,6 @@ import services.data.dto.employees.DispatcherUpdateDTO;
 import services.data.dto.employees.DispatcherViewDTO;
 
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -40,14 +39,6 @@ public class DispatcherMapper {
     private void configureMappings() {
         modelMapper.createTypeMap(DispatcherCreateDTO.class, Dispatcher.class)
                 .addMappings(mapper -> mapper.skip(Dispatcher::setId));
-
-        modelMapper.createTypeMap(Dispatcher.class, DispatcherViewDTO.class)
-                .addMappings(mapper -> mapper.using(ctx -> {
-                    Set<Driver> drivers = (Set<Driver>) ctx.getSource();
-                    return drivers != null ?
-                            drivers.stream().map(Driver::getId).collect(Collectors.toSet()) :
-                            new HashSet<>();
-                }).map(Dispatcher::getSupervisedDrivers, DispatcherViewDTO::setSupervisedDriverIds));
     }
 
     /**
@@ -95,7 +86,7 @@ public class DispatcherMapper {
      */
     public DispatcherViewDTO toViewDTO(Dispatcher entity) {
         if (entity == null) return null;
-        return modelMapper.map(entity, DispatcherViewDTO.class);
+        return EmployeeViewMappings.DISPATCHER.map(entity);
     }
 
     private void resolveRelationships(Dispatcher dispatcher, DispatcherCreateDTO dto) {
@@ -11,10 +11,19 @@ import services.data.dto.employees.DriverCreateDTO;
 import services.data.dto.employees.DriverUpdateDTO;
 import services.data.dto.employees.DriverViewDTO;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static services.data.mapping.mappers.RelationshipLookup.collectIds;
+import static services.data.mapping.mappers.RelationshipLookup.loadAll;
+import static services.data.mapping.mappers.RelationshipLookup.require;
+
 public class DriverMapper {
     private final ModelMapper modelMapper;
     private final IGenericRepository<TransportCompany, Long> companyRepo;
@@ -35,24 +44,47 @@ public class DriverMapper {
         // Skip id for DriverCreateDTO -> Driver (auto-generated)
         modelMapper.createTypeMap(DriverCreateDTO.class, Driver.class)
                 .addMappings(mapper -> mapper.skip(Driver::setId));
-
-        // Map qualifications to IDs for ViewDTO
-        modelMapper.createTypeMap(Driver.class, DriverViewDTO.class)
-                .addMappings(mapper -> mapper.using(ctx -> {
-                    Set<Qualification> qualifications = (Set<Qualification>) ctx.getSource();
-                    return qualifications != null ?
-                            qualifications.stream().map(Qualification::getId).collect(Collectors.toSet()) :
-                            Collections.emptySet();
-                }).map(Driver::getQualifications, DriverViewDTO::setQualificationIds));
     }
 
     public Driver toEntity(DriverCreateDTO dto) {
         if (dto == null) throw new IllegalArgumentException("DriverCreateDTO must not be null");
         Driver driver = modelMapper.map(dto, Driver.class);
-        resolveRelationships(driver, dto);
+        driver.setTransportCompany(requireCompany(dto.getTransportCompanyId()));
+        if (dto.getDispatcherId() != null) {
+            driver.setDispatcher(requireDispatcher(dto.getDispatcherId()));
+        }
+        Set<Long> qualificationIds = dto.getQualificationIds() != null ? dto.getQualificationIds() : Collections.emptySet();
+        driver.setQualifications(requireQualifications(qualificationIds, loadAll(qualificationRepo, qualificationIds)));
         return driver;
     }
 
+    public List<Driver> toEntities(List<DriverCreateDTO> dtos) {
+        if (dtos == null || dtos.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("DriverCreateDTO list and its elements must not be null");
+        }
+        // Companies, dispatchers and qualifications of the whole batch are loaded with one query per type
+        Map<Long, TransportCompany> companies = loadAll(companyRepo, collectIds(dtos, DriverCreateDTO::getTransportCompanyId));
+        Map<Long, Dispatcher> dispatchers = loadAll(dispatcherRepo, collectIds(dtos, DriverCreateDTO::getDispatcherId));
+        Set<Long> qualificationIds = dtos.stream()
+                .filter(dto -> dto.getQualificationIds() != null)
+                .flatMap(dto -> dto.getQualificationIds().stream())
+                .collect(Collectors.toSet());
+        Map<Long, Qualification> qualifications = loadAll(qualificationRepo, qualificationIds);
+
+        List<Driver> drivers = new ArrayList<>(dtos.size());
+        for (DriverCreateDTO dto : dtos) {
+            Driver driver = modelMapper.map(dto, Driver.class);
+            driver.setTransportCompany(require(companies, dto.getTransportCompanyId(), "Transport company"));
+            if (dto.getDispatcherId() != null) {
+                driver.setDispatcher(require(dispatchers, dto.getDispatcherId(), "Dispatcher"));
+            }
+            Set<Long> ids = dto.getQualificationIds() != null ? dto.getQualificationIds() : Collections.emptySet();
+            driver.setQualifications(requireQualifications(ids, qualifications));
+            drivers.add(driver);
+        }
+        return drivers;
+    }
+
     public void toEntity(DriverUpdateDTO dto, Driver existing) {
         if (dto == null) throw new IllegalArgumentException("DriverUpdateDTO must not be null");
         // Manually map non-null fields to preserve existing values
@@ -67,52 +99,42 @@ public class DriverMapper {
     }
 
     public DriverViewDTO toViewDTO(Driver entity) {
-        return modelMapper.map(entity, DriverViewDTO.class);
-    }
-
-    private void resolveRelationships(Driver driver, DriverCreateDTO dto) {
-        TransportCompany company = companyRepo.getById(dto.getTransportCompanyId())
-                .orElseThrow(() -> new RepositoryException("Transport company not found: " + dto.getTransportCompanyId()));
-        driver.setTransportCompany(company);
-
-        if (dto.getDispatcherId() != null) {
-            Dispatcher dispatcher = dispatcherRepo.getById(dto.getDispatcherId())
-                    .orElseThrow(() -> new RepositoryException("Dispatcher not found: " + dto.getDispatcherId()));
-            driver.setDispatcher(dispatcher);
-        }
-
-        if (dto.getQualificationIds() != null && !dto.getQualificationIds().isEmpty()) {
-            Set<Qualification> qualifications = dto.getQualificationIds().stream()
-                    .map(id -> qualificationRepo.getById(id)
-                            .orElseThrow(() -> new RepositoryException("Qualification not found: " + id)))
-                    .collect(Collectors.toSet());
-            driver.setQualifications(qualifications);
-        } else {
-            driver.setQualifications(Collections.emptySet());
-        }
+        return EmployeeViewMappings.DRIVER.map(entity);
     }
 
     private void resolveRelationships(Driver driver, DriverUpdateDTO dto) {
         if (dto.getTransportCompanyId() != null) {
-            TransportCompany company = companyRepo.getById(dto.getTransportCompanyId())
-                    .orElseThrow(() -> new RepositoryException("Transport company not found: " + dto.getTransportCompanyId()));
-            driver.setTransportCompany(company);
+            driver.setTransportCompany(requireCompany(dto.getTransportCompanyId()));
         }
 
         if (dto.getDispatcherId() != null) {
-            Dispatcher dispatcher = dispatcherRepo.getById(dto.getDispatcherId())
-                    .orElseThrow(() -> new RepositoryException("Dispatcher not found: " + dto.getDispatcherId()));
-            driver.setDispatcher(dispatcher);
+            driver.setDispatcher(requireDispatcher(dto.getDispatcherId()));
         }
 
         if (dto.getQualificationIds() != null) {
             Set<Qualification> qualifications = dto.getQualificationIds().isEmpty() ?
                     Collections.emptySet() :
-                    dto.getQualificationIds().stream()
-                            .map(id -> qualificationRepo.getById(id)
-                                    .orElseThrow(() -> new RepositoryException("Qualification not found: " + id)))
-                            .collect(Collectors.toSet());
+                    requireQualifications(dto.getQualificationIds(), loadAll(qualificationRepo, dto.getQualificationIds()));
             driver.setQualifications(qualifications);
         }
     }
-}
\ No newline at end of file
+
+    // Single-DTO mapping runs inside the service's unit of work, so these lookups share its session
+    private TransportCompany requireCompany(Long id) {
+        return companyRepo.getById(id)
+                .orElseThrow(() -> new RepositoryException("Transport company not found: " + id));
+    }
+
+    private Dispatcher requireDispatcher(Long id) {
+        return dispatcherRepo.getById(id)
+                .orElseThrow(() -> new RepositoryException("Dispatcher not found: " + id));
+    }
+
+    private Set<Qualification> requireQualifications(Set<Long> ids, Map<Long, Qualification> loaded) {
+        Set<Qualification> qualifications = new HashSet<>();
+        for (Long id : ids) {
+            qualifications.add(require(loaded, id, "Qualification"));
+        }
+        return qualifications;
+    }
+}
@@ -0,0 +1,52 @@
+package services.data.mapping.mappers;
+
+import data.common.BaseModel;
+import data.models.employee.Dispatcher;
+import data.models.employee.Driver;
+import data.models.employee.Employee;
+import services.data.dto.employees.DispatcherViewDTO;
+import services.data.dto.employees.DriverViewDTO;
+import services.data.dto.employees.EmployeeViewDTO;
+import services.data.mapping.CompiledMapping;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Compiled entity-to-view mappings for employees, shared by the employee, driver and dispatcher mappers.
+ * The company and dispatcher are mapped to their identifiers only; related collections become identifier sets.
+ */
+final class EmployeeViewMappings {
+
+    static final CompiledMapping<Employee, EmployeeViewDTO> EMPLOYEE =
+            CompiledMapping.<Employee, EmployeeViewDTO>builder(EmployeeViewDTO::new)
+                    .map(Employee::getId, EmployeeViewDTO::setId)
+                    .map(Employee::getFirstName, EmployeeViewDTO::setFirstName)
+                    .map(Employee::getFamilyName, EmployeeViewDTO::setFamilyName)
+                    .map(Employee::getSalary, EmployeeViewDTO::setSalary)
+                    .mapNested(Employee::getTransportCompany, BaseModel::getId, EmployeeViewDTO::setTransportCompanyId)
+                    .build();
+
+    static final CompiledMapping<Driver, DriverViewDTO> DRIVER =
+            CompiledMapping.<Driver, DriverViewDTO>builder(DriverViewDTO::new)
+                    .include(EMPLOYEE)
+                    .mapNested(Driver::getDispatcher, BaseModel::getId, DriverViewDTO::setDispatcherId)
+                    .map(driver -> ids(driver.getQualifications()), DriverViewDTO::setQualificationIds)
+                    .build();
+
+    static final CompiledMapping<Dispatcher, DispatcherViewDTO> DISPATCHER =
+            CompiledMapping.<Dispatcher, DispatcherViewDTO>builder(DispatcherViewDTO::new)
+                    .include(EMPLOYEE)
+                    .map(dispatcher -> ids(dispatcher.getSupervisedDrivers()), DispatcherViewDTO::setSupervisedDriverIds)
+                    .build();
+
+    private EmployeeViewMappings() {
+    }
+
+    static Set<Long> ids(Set<? extends BaseModel> entities) {
+        return entities != null ?
+                entities.stream().map(BaseModel::getId).collect(Collectors.toSet()) :
+                new HashSet<>();
+    }
+}
@@ -5,11 +5,19 @@ import org.modelmapper.ModelMapper;
 import services.data.dto.employees.QualificationCreateDTO;
 import services.data.dto.employees.QualificationUpdateDTO;
 import services.data.dto.employees.QualificationViewDTO;
+import services.data.mapping.CompiledMapping;
 
 /**
  * Mapper class for converting between {@link Qualification} entities and their DTOs using ModelMapper.
  */
 public class QualificationMapper {
+    private static final CompiledMapping<Qualification, QualificationViewDTO> VIEW =
+            CompiledMapping.<Qualification, QualificationViewDTO>builder(QualificationViewDTO::new)
+                    .map(Qualification::getId, QualificationViewDTO::setId)
+                    .map(Qualification::getName, QualificationViewDTO::setName)
+                    .map(Qualification::getDescription, QualificationViewDTO::setDescription)
+                    .build();
+
     private final ModelMapper modelMapper;
 
     /**
@@ -70,7 +78,6 @@ public class QualificationMapper {
      * @return the mapped QualificationViewDTO
      */
     public QualificationViewDTO toViewDTO(Qualification entity) {
-        if (entity == null) return null;
-        return modelMapper.map(entity, QualificationViewDTO.class);
+        return VIEW.map(entity);
     }
 }
\ No newline at end of file
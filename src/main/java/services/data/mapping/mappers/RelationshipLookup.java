@@ -0,0 +1,57 @@
+package services.data.mapping.mappers;
+
+import data.common.BaseModel;
+import data.repositories.IGenericRepository;
+import data.repositories.exceptions.RepositoryException;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Helpers shared by the mappers for resolving the relationships of many DTOs at once,
+ * with one query per related entity type instead of one query per reference.
+ */
+final class RelationshipLookup {
+
+    private RelationshipLookup() {
+    }
+
+    /**
+     * Collects the distinct non-null identifiers read from the given DTOs.
+     */
+    static <D> Set<Long> collectIds(Collection<D> dtos, Function<D, Long> idGetter) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (D dto : dtos) {
+            Long id = idGetter.apply(dto);
+            if (id != null) ids.add(id);
+        }
+        return ids;
+    }
+
+    /**
+     * Loads the entities with the given identifiers in a single query, keyed by identifier.
+     * Identifiers without an entity are absent from the result.
+     */
+    static <T extends BaseModel> Map<Long, T> loadAll(IGenericRepository<T, Long> repo, Set<Long> ids) {
+        Map<Long, T> entities = new HashMap<>();
+        if (ids.isEmpty()) return entities;
+        for (T entity : repo.getAllByIds(ids)) {
+            entities.put(entity.getId(), entity);
+        }
+        return entities;
+    }
+
+    /**
+     * Returns the loaded entity for the identifier, or throws if it was not found.
+     */
+    static <T> T require(Map<Long, T> entities, Long id, String entityName) {
+        if (id == null) throw new IllegalArgumentException("ID must not be null");
+        T entity = entities.get(id);
+        if (entity == null) throw new RepositoryException(entityName + " not found: " + id);
+        return entity;
+    }
+}
@@ -8,6 +8,7 @@ import data.models.transportservices.Destination;
 import data.models.vehicles.Vehicle;
 import data.repositories.IGenericRepository;
 import data.repositories.exceptions.RepositoryException;
+import data.repositories.Projection;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.config.Configuration.AccessLevel;
 import org.modelmapper.convention.MatchingStrategies;
@@ -15,6 +16,15 @@ import services.data.dto.transportservices.TransportCargoServiceCreateDTO;
 import services.data.dto.transportservices.TransportCargoServiceUpdateDTO;
 import services.data.dto.transportservices.TransportCargoServiceViewDTO;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static services.data.mapping.mappers.RelationshipLookup.collectIds;
+import static services.data.mapping.mappers.RelationshipLookup.loadAll;
+import static services.data.mapping.mappers.RelationshipLookup.require;
+
 public class TransportCargoServiceMapper {
     private final ModelMapper modelMapper;
     private final IGenericRepository<TransportCompany, Long> companyRepo;
@@ -45,13 +55,6 @@ public class TransportCargoServiceMapper {
     private void configureMappings() {
         modelMapper.createTypeMap(TransportCargoServiceCreateDTO.class, TransportCargoService.class)
                 .addMappings(mapper -> mapper.skip(TransportCargoService::setId));
-
-        modelMapper.createTypeMap(TransportCargoService.class, TransportCargoServiceViewDTO.class)
-                .addMapping(src -> src.getTransportCompany().getId(), TransportCargoServiceViewDTO::setTransportCompanyId)
-                .addMapping(src -> src.getVehicle().getId(), TransportCargoServiceViewDTO::setVehicleId)
-                .addMapping(src -> src.getDriver().getId(), TransportCargoServiceViewDTO::setDriverId)
-                .addMapping(src -> src.getClient().getId(), TransportCargoServiceViewDTO::setClientId)
-                .addMapping(src -> src.getDestination().getId(), TransportCargoServiceViewDTO::setDestinationId);
     }
 
     public TransportCargoService toEntity(TransportCargoServiceCreateDTO dto) {
@@ -61,6 +64,30 @@ public class TransportCargoServiceMapper {
         return entity;
     }
 
+    public List<TransportCargoService> toEntities(List<TransportCargoServiceCreateDTO> dtos) {
+        if (dtos == null || dtos.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("TransportCargoServiceCreateDTO list and its elements must not be null");
+        }
+        // One query per related type for the whole batch, so a bulk create does not open a session per reference
+        Map<Long, TransportCompany> companies = loadAll(companyRepo, collectIds(dtos, TransportCargoServiceCreateDTO::getTransportCompanyId));
+        Map<Long, Client> clients = loadAll(clientRepo, collectIds(dtos, TransportCargoServiceCreateDTO::getClientId));
+        Map<Long, Driver> drivers = loadAll(driverRepo, collectIds(dtos, TransportCargoServiceCreateDTO::getDriverId));
+        Map<Long, Destination> destinations = loadAll(destinationRepo, collectIds(dtos, TransportCargoServiceCreateDTO::getDestinationId));
+        Map<Long, Vehicle> vehicles = loadAll(vehicleRepo, collectIds(dtos, TransportCargoServiceCreateDTO::getVehicleId));
+
+        List<TransportCargoService> entities = new ArrayList<>(dtos.size());
+        for (TransportCargoServiceCreateDTO dto : dtos) {
+            TransportCargoService entity = modelMapper.map(dto, TransportCargoService.class);
+            entity.setTransportCompany(require(companies, dto.getTransportCompanyId(), "Transport company"));
+            entity.setClient(require(clients, dto.getClientId(), "Client"));
+            entity.setDriver(require(drivers, dto.getDriverId(), "Driver"));
+            entity.setDestination(require(destinations, dto.getDestinationId(), "Destination"));
+            entity.setVehicle(require(vehicles, dto.getVehicleId(), "Vehicle"));
+            entities.add(entity);
+        }
+        return entities;
+    }
+
     public TransportCargoService toEntity(TransportCargoServiceUpdateDTO dto) {
         if (dto == null) throw new IllegalArgumentException("TransportCargoServiceUpdateDTO must not be null");
         TransportCargoService entity = modelMapper.map(dto, TransportCargoService.class);
@@ -72,11 +99,20 @@ public class TransportCargoServiceMapper {
         return modelMapper.map(entity, TransportCargoServiceUpdateDTO.class);
     }
 
+    /**
+     * Returns the projection that reads {@link TransportCargoServiceViewDTO}s straight from the service columns.
+     *
+     * @return the view projection
+     */
+    public Projection<TransportCargoService, TransportCargoServiceViewDTO> viewProjection() {
+        return TransportServiceViewMappings.CARGO_COLUMNS;
+    }
+
     public TransportCargoServiceViewDTO toViewDTO(TransportCargoService entity) {
-        if (entity == null) return null;
-        return modelMapper.map(entity, TransportCargoServiceViewDTO.class);
+        return TransportServiceViewMappings.CARGO.map(entity);
     }
 
+    // Single-DTO mapping runs inside the service's unit of work, so these lookups share its session
     private void resolveRelationships(TransportCargoService entity, TransportCargoServiceCreateDTO dto) {
         entity.setTransportCompany(companyRepo.getById(dto.getTransportCompanyId())
                 .orElseThrow(() -> new RepositoryException("Transport company not found: " + dto.getTransportCompanyId())));
@@ -102,4 +138,4 @@ public class TransportCargoServiceMapper {
         entity.setVehicle(vehicleRepo.getById(dto.getVehicleId())
                 .orElseThrow(() -> new RepositoryException("Vehicle not found: " + dto.getVehicleId())));
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,5 @@
 package services.data.mapping.mappers;
 
-import data.models.employee.Employee;
 import data.models.TransportCompany;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.config.Configuration.AccessLevel;
@@ -8,12 +7,21 @@ import org.modelmapper.convention.MatchingStrategies;
 import services.data.dto.companies.TransportCompanyCreateDTO;
 import services.data.dto.companies.TransportCompanyUpdateDTO;
 import services.data.dto.companies.TransportCompanyViewDTO;
+import services.data.mapping.CompiledMapping;
 
-import java.util.Collections;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 public class TransportCompanyMapper {
+    private static final CompiledMapping<TransportCompany, TransportCompanyViewDTO> VIEW =
+            CompiledMapping.<TransportCompany, TransportCompanyViewDTO>builder(TransportCompanyViewDTO::new)
+                    .map(TransportCompany::getId, (TransportCompanyViewDTO dto, Long id) -> {
+                        // The view ID is a primitive; an unsaved company keeps the default
+                        if (id != null) dto.setId(id);
+                    })
+                    .map(TransportCompany::getName, TransportCompanyViewDTO::setName)
+                    .map(TransportCompany::getAddress, TransportCompanyViewDTO::setAddress)
+                    .map(company -> EmployeeViewMappings.ids(company.getEmployees()), TransportCompanyViewDTO::setEmployeeIds)
+                    .build();
+
     private final ModelMapper modelMapper;
 
     public TransportCompanyMapper() {
@@ -31,17 +39,6 @@ public class TransportCompanyMapper {
         modelMapper.createTypeMap(TransportCompanyCreateDTO.class, TransportCompany.class)
                 .addMappings(mapper -> mapper.skip(TransportCompany::setId));
 
-        modelMapper.createTypeMap(TransportCompany.class, TransportCompanyViewDTO.class)
-                .addMapping(TransportCompany::getId, TransportCompanyViewDTO::setId)
-                .addMapping(TransportCompany::getName, TransportCompanyViewDTO::setName)
-                .addMapping(TransportCompany::getAddress, TransportCompanyViewDTO::setAddress)
-                .addMapping(src -> {
-                    Set<Employee> employees = src.getEmployees();
-                    return employees != null ? employees.stream()
-                            .map(Employee::getId)
-                            .collect(Collectors.toSet()) : Collections.emptySet();
-                }, TransportCompanyViewDTO::setEmployeeIds);
-
         modelMapper.createTypeMap(TransportCompanyUpdateDTO.class, TransportCompany.class)
                 .addMapping(TransportCompanyUpdateDTO::getId, TransportCompany::setId)
                 .addMapping(TransportCompanyUpdateDTO::getName, TransportCompany::setName)
@@ -60,7 +57,6 @@ public class TransportCompanyMapper {
     }
 
     public TransportCompanyViewDTO toViewDTO(TransportCompany company) {
-        if (company == null) return null;
-        return modelMapper.map(company, TransportCompanyViewDTO.class);
+        return VIEW.map(company);
     }
 }
\ No newline at end of file
@@ -15,6 +15,14 @@ import services.data.dto.transportservices.TransportPassengersServiceCreateDTO;
 import services.data.dto.transportservices.TransportPassengersServiceUpdateDTO;
 import services.data.dto.transportservices.TransportPassengersServiceViewDTO;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static services.data.mapping.mappers.RelationshipLookup.collectIds;
+import static services.data.mapping.mappers.RelationshipLookup.loadAll;
+
 public class TransportPassengersServiceMapper {
     private final ModelMapper modelMapper;
     private final IGenericRepository<TransportCompany, Long> companyRepo;
@@ -40,16 +48,6 @@ public class TransportPassengersServiceMapper {
                 .setFieldMatchingEnabled(true)
                 .setFieldAccessLevel(AccessLevel.PRIVATE)
                 .setSkipNullEnabled(true);
-        configureMappings();
-    }
-
-    private void configureMappings() {
-        modelMapper.createTypeMap(TransportPassengersService.class, TransportPassengersServiceViewDTO.class)
-                .addMapping(src -> src.getTransportCompany().getId(), TransportPassengersServiceViewDTO::setTransportCompanyId)
-                .addMapping(src -> src.getVehicle().getId(), TransportPassengersServiceViewDTO::setVehicleId)
-                .addMapping(src -> src.getDriver().getId(), TransportPassengersServiceViewDTO::setDriverId)
-                .addMapping(src -> src.getClient().getId(), TransportPassengersServiceViewDTO::setClientId)
-                .addMapping(src -> src.getDestination().getId(), TransportPassengersServiceViewDTO::setDestinationId);
     }
 
     public TransportPassengersService toEntity(TransportPassengersServiceCreateDTO dto) throws RepositoryException {
@@ -63,6 +61,30 @@ public class TransportPassengersServiceMapper {
         return entity;
     }
 
+    public List<TransportPassengersService> toEntities(List<TransportPassengersServiceCreateDTO> dtos) throws RepositoryException {
+        if (dtos == null || dtos.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("TransportPassengersServiceCreateDTO list and its elements must not be null");
+        }
+        // One query per related type for the whole batch; unknown ids resolve to null as in toEntity
+        Map<Long, TransportCompany> companies = loadAll(companyRepo, collectIds(dtos, TransportPassengersServiceCreateDTO::getTransportCompanyId));
+        Map<Long, Client> clients = loadAll(clientRepo, collectIds(dtos, TransportPassengersServiceCreateDTO::getClientId));
+        Map<Long, Driver> drivers = loadAll(driverRepo, collectIds(dtos, TransportPassengersServiceCreateDTO::getDriverId));
+        Map<Long, Vehicle> vehicles = loadAll(vehicleRepo, collectIds(dtos, TransportPassengersServiceCreateDTO::getVehicleId));
+        Map<Long, Destination> destinations = loadAll(destinationRepo, collectIds(dtos, TransportPassengersServiceCreateDTO::getDestinationId));
+
+        List<TransportPassengersService> entities = new ArrayList<>(dtos.size());
+        for (TransportPassengersServiceCreateDTO dto : dtos) {
+            TransportPassengersService entity = modelMapper.map(dto, TransportPassengersService.class);
+            if (dto.getTransportCompanyId() != null) entity.setTransportCompany(companies.get(dto.getTransportCompanyId()));
+            if (dto.getClientId() != null) entity.setClient(clients.get(dto.getClientId()));
+            if (dto.getDriverId() != null) entity.setDriver(drivers.get(dto.getDriverId()));
+            if (dto.getVehicleId() != null) entity.setVehicle(vehicles.get(dto.getVehicleId()));
+            if (dto.getDestinationId() != null) entity.setDestination(destinations.get(dto.getDestinationId()));
+            entities.add(entity);
+        }
+        return entities;
+    }
+
     public TransportPassengersService toEntity(TransportPassengersServiceUpdateDTO dto) throws RepositoryException {
         if (dto == null) throw new IllegalArgumentException("TransportPassengersServiceUpdateDTO must not be null");
         TransportPassengersService entity = modelMapper.map(dto, TransportPassengersService.class);
@@ -89,7 +111,6 @@ public class TransportPassengersServiceMapper {
     }
 
     public TransportPassengersServiceViewDTO toViewDTO(TransportPassengersService entity) {
-        if (entity == null) return null;
-        return modelMapper.map(entity, TransportPassengersServiceViewDTO.class);
+        return TransportServiceViewMappings.PASSENGERS.map(entity);
     }
 }
\ No newline at end of file
@@ -13,12 +13,19 @@ import data.repositories.exceptions.RepositoryException;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.config.Configuration.AccessLevel;
 import org.modelmapper.convention.MatchingStrategies;
-import services.data.dto.transportservices.TransportCargoServiceViewDTO;
-import services.data.dto.transportservices.TransportPassengersServiceViewDTO;
 import services.data.dto.transportservices.TransportServiceCreateDTO;
 import services.data.dto.transportservices.TransportServiceUpdateDTO;
 import services.data.dto.transportservices.TransportServiceViewDTO;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static services.data.mapping.mappers.RelationshipLookup.collectIds;
+import static services.data.mapping.mappers.RelationshipLookup.loadAll;
+import static services.data.mapping.mappers.RelationshipLookup.require;
+
 public class TransportServiceMapper {
     private final ModelMapper modelMapper;
     private final IGenericRepository<TransportCompany, Long> companyRepo;
@@ -50,21 +57,6 @@ public class TransportServiceMapper {
         modelMapper.createTypeMap(TransportServiceCreateDTO.class, TransportService.class)
                 .addMappings(mapper -> mapper.skip(TransportService::setId));
 
-        // Map concrete subclasses to their respective ViewDTOs
-        modelMapper.createTypeMap(TransportCargoService.class, TransportCargoServiceViewDTO.class)
-                .addMapping(src -> src.getTransportCompany().getId(), TransportCargoServiceViewDTO::setTransportCompanyId)
-                .addMapping(src -> src.getVehicle().getId(), TransportCargoServiceViewDTO::setVehicleId)
-                .addMapping(src -> src.getDriver().getId(), TransportCargoServiceViewDTO::setDriverId)
-                .addMapping(src -> src.getClient().getId(), TransportCargoServiceViewDTO::setClientId)
-                .addMapping(src -> src.getDestination().getId(), TransportCargoServiceViewDTO::setDestinationId);
-
-        modelMapper.createTypeMap(TransportPassengersService.class, TransportPassengersServiceViewDTO.class)
-                .addMapping(src -> src.getTransportCompany().getId(), TransportPassengersServiceViewDTO::setTransportCompanyId)
-                .addMapping(src -> src.getVehicle().getId(), TransportPassengersServiceViewDTO::setVehicleId)
-                .addMapping(src -> src.getDriver().getId(), TransportPassengersServiceViewDTO::setDriverId)
-                .addMapping(src -> src.getClient().getId(), TransportPassengersServiceViewDTO::setClientId)
-                .addMapping(src -> src.getDestination().getId(), TransportPassengersServiceViewDTO::setDestinationId);
-
         modelMapper.createTypeMap(TransportServiceUpdateDTO.class, TransportService.class)
                 .addMapping(TransportServiceUpdateDTO::getId, TransportService::setId);
     }
@@ -76,6 +68,30 @@ public class TransportServiceMapper {
         return entity;
     }
 
+    public List<TransportService> toEntities(List<TransportServiceCreateDTO> dtos) {
+        if (dtos == null || dtos.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("TransportServiceCreateDTO list and its elements must not be null");
+        }
+        // One query per related type for the whole batch, so a bulk create does not open a session per reference
+        Map<Long, TransportCompany> companies = loadAll(companyRepo, collectIds(dtos, TransportServiceCreateDTO::getTransportCompanyId));
+        Map<Long, Client> clients = loadAll(clientRepo, collectIds(dtos, TransportServiceCreateDTO::getClientId));
+        Map<Long, Driver> drivers = loadAll(driverRepo, collectIds(dtos, TransportServiceCreateDTO::getDriverId));
+        Map<Long, Destination> destinations = loadAll(destinationRepo, collectIds(dtos, TransportServiceCreateDTO::getDestinationId));
+        Map<Long, Vehicle> vehicles = loadAll(vehicleRepo, collectIds(dtos, TransportServiceCreateDTO::getVehicleId));
+
+        List<TransportService> entities = new ArrayList<>(dtos.size());
+        for (TransportServiceCreateDTO dto : dtos) {
+            TransportService entity = modelMapper.map(dto, TransportService.class);
+            entity.setTransportCompany(require(companies, dto.getTransportCompanyId(), "Transport company"));
+            entity.setClient(require(clients, dto.getClientId(), "Client"));
+            entity.setDriver(require(drivers, dto.getDriverId(), "Driver"));
+            entity.setDestination(require(destinations, dto.getDestinationId(), "Destination"));
+            entity.setVehicle(require(vehicles, dto.getVehicleId(), "Vehicle"));
+            entities.add(entity);
+        }
+        return entities;
+    }
+
     public TransportService toEntity(TransportServiceUpdateDTO dto, TransportService existing) {
         if (dto == null) throw new IllegalArgumentException("TransportServiceUpdateDTO must not be null");
         modelMapper.map(dto, existing);
@@ -86,14 +102,15 @@ public class TransportServiceMapper {
     public TransportServiceViewDTO toViewDTO(TransportService entity) {
         if (entity == null) return null;
         if (entity instanceof TransportCargoService) {
-            return modelMapper.map(entity, TransportCargoServiceViewDTO.class);
+            return TransportServiceViewMappings.CARGO.map((TransportCargoService) entity);
         } else if (entity instanceof TransportPassengersService) {
-            return modelMapper.map(entity, TransportPassengersServiceViewDTO.class);
+            return TransportServiceViewMappings.PASSENGERS.map((TransportPassengersService) entity);
         } else {
             throw new IllegalArgumentException("Unknown TransportService subclass: " + entity.getClass().getName());
         }
     }
 
+    // Single-DTO mapping runs inside the service's unit of work, so these lookups share its session
     private void resolveRelationships(TransportService entity, TransportServiceCreateDTO dto) {
         entity.setTransportCompany(companyRepo.getById(dto.getTransportCompanyId())
                 .orElseThrow(() -> new RepositoryException("Transport company not found: " + dto.getTransportCompanyId())));
@@ -119,4 +136,4 @@ public class TransportServiceMapper {
         entity.setVehicle(vehicleRepo.getById(dto.getVehicleId())
                 .orElseThrow(() -> new RepositoryException("Vehicle not found: " + dto.getVehicleId())));
     }
-}
\ No newline at end of file
+}
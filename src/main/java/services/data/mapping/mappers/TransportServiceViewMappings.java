@@ -0,0 +1,81 @@
+package services.data.mapping.mappers;
+
+import data.common.BaseModel;
+import data.models.transportservices.TransportCargoService;
+import data.models.transportservices.TransportPassengersService;
+import data.models.transportservices.TransportService;
+import data.repositories.Projection;
+import services.data.dto.transportservices.TransportCargoServiceViewDTO;
+import services.data.dto.transportservices.TransportPassengersServiceViewDTO;
+import services.data.dto.transportservices.TransportServiceViewDTO;
+import services.data.mapping.CompiledMapping;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Compiled entity-to-view mappings for transport services, shared by the transport service mappers.
+ * Related entities are mapped to their identifiers only, so lazy references are never initialized.
+ * The projections select the same fields as columns, for lists that never need the entities.
+ */
+final class TransportServiceViewMappings {
+
+    private static final CompiledMapping<TransportService, TransportServiceViewDTO> TRANSPORT_SERVICE =
+            CompiledMapping.<TransportService, TransportServiceViewDTO>builder(TransportServiceViewDTO::new)
+                    .map(TransportService::getId, TransportServiceViewDTO::setId)
+                    .mapNested(TransportService::getTransportCompany, BaseModel::getId, TransportServiceViewDTO::setTransportCompanyId)
+                    .map(TransportService::getStartingDate, TransportServiceViewDTO::setStartingDate)
+                    .map(TransportService::getEndingDate, TransportServiceViewDTO::setEndingDate)
+                    .mapNested(TransportService::getDestination, BaseModel::getId, TransportServiceViewDTO::setDestinationId)
+                    .mapNested(TransportService::getClient, BaseModel::getId, TransportServiceViewDTO::setClientId)
+                    .map(TransportService::getPrice, TransportServiceViewDTO::setPrice)
+                    .map(TransportService::isDelivered, TransportServiceViewDTO::setDelivered)
+                    .map(TransportService::isPaid, TransportServiceViewDTO::setPaid)
+                    .mapNested(TransportService::getVehicle, BaseModel::getId, TransportServiceViewDTO::setVehicleId)
+                    .mapNested(TransportService::getDriver, BaseModel::getId, TransportServiceViewDTO::setDriverId)
+                    .build();
+
+    static final CompiledMapping<TransportCargoService, TransportCargoServiceViewDTO> CARGO =
+            CompiledMapping.<TransportCargoService, TransportCargoServiceViewDTO>builder(TransportCargoServiceViewDTO::new)
+                    .include(TRANSPORT_SERVICE)
+                    .map(TransportCargoService::getWeightInKilograms, TransportCargoServiceViewDTO::setWeightInKilograms)
+                    .mapInt(TransportCargoService::getLengthInCentimeters, TransportCargoServiceViewDTO::setLengthInCentimeters)
+                    .mapInt(TransportCargoService::getWidthInCentimeters, TransportCargoServiceViewDTO::setWidthInCentimeters)
+                    .mapInt(TransportCargoService::getHeightInCentimeters, TransportCargoServiceViewDTO::setHeightInCentimeters)
+                    .map(TransportCargoService::getDescription, TransportCargoServiceViewDTO::setDescription)
+                    .build();
+
+    static final CompiledMapping<TransportPassengersService, TransportPassengersServiceViewDTO> PASSENGERS =
+            CompiledMapping.<TransportPassengersService, TransportPassengersServiceViewDTO>builder(TransportPassengersServiceViewDTO::new)
+                    .include(TRANSPORT_SERVICE)
+                    .mapInt(TransportPassengersService::getNumberOfPassengers, TransportPassengersServiceViewDTO::setNumberOfPassengers)
+                    .build();
+
+    private static final Projection<TransportService, TransportServiceViewDTO> TRANSPORT_SERVICE_COLUMNS =
+            Projection.<TransportService, TransportServiceViewDTO>builder(TransportServiceViewDTO::new)
+                    .map("id", Long.class, TransportServiceViewDTO::setId)
+                    .map("transportCompany.id", Long.class, TransportServiceViewDTO::setTransportCompanyId)
+                    .map("startingDate", LocalDate.class, TransportServiceViewDTO::setStartingDate)
+                    .map("endingDate", LocalDate.class, TransportServiceViewDTO::setEndingDate)
+                    .map("destination.id", Long.class, TransportServiceViewDTO::setDestinationId)
+                    .map("client.id", Long.class, TransportServiceViewDTO::setClientId)
+                    .map("price", BigDecimal.class, TransportServiceViewDTO::setPrice)
+                    .map("delivered", Boolean.class, TransportServiceViewDTO::setDelivered)
+                    .map("paid", Boolean.class, TransportServiceViewDTO::setPaid)
+                    .map("vehicle.id", Long.class, TransportServiceViewDTO::setVehicleId)
+                    .map("driver.id", Long.class, TransportServiceViewDTO::setDriverId)
+                    .build();
+
+    static final Projection<TransportCargoService, TransportCargoServiceViewDTO> CARGO_COLUMNS =
+            Projection.<TransportCargoService, TransportCargoServiceViewDTO>builder(TransportCargoServiceViewDTO::new)
+                    .include(TRANSPORT_SERVICE_COLUMNS)
+                    .map("weightInKilograms", BigDecimal.class, TransportCargoServiceViewDTO::setWeightInKilograms)
+                    .map("lengthInCentimeters", Integer.class, TransportCargoServiceViewDTO::setLengthInCentimeters)
+                    .map("widthInCentimeters", Integer.class, TransportCargoServiceViewDTO::setWidthInCentimeters)
+                    .map("heightInCentimeters", Integer.class, TransportCargoServiceViewDTO::setHeightInCentimeters)
+                    .map("description", String.class, TransportCargoServiceViewDTO::setDescription)
+                    .build();
+
+    private TransportServiceViewMappings() {
+    }
+}
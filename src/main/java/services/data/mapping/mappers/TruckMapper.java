@@ -59,6 +59,6 @@ public class TruckMapper {
 
     public TruckViewDTO toViewDTO(Truck entity) {
         if (entity == null) return null;
-        return modelMapper.map(entity, TruckViewDTO.class);
+        return VehicleViewMappings.TRUCK.map(entity);
     }
 }
\ No newline at end of file
@@ -51,6 +51,6 @@ public class VanMapper {
 
     public VanViewDTO toViewDTO(Van entity) {
         if (entity == null) return null;
-        return modelMapper.map(entity, VanViewDTO.class);
+        return VehicleViewMappings.VAN.map(entity);
     }
 }
\ No newline at end of file
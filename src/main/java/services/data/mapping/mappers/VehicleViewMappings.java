@@ -0,0 +1,50 @@
+package services.data.mapping.mappers;
+
+import data.common.BaseModel;
+import data.models.vehicles.Bus;
+import data.models.vehicles.Truck;
+import data.models.vehicles.Van;
+import services.data.dto.vehicles.BusViewDTO;
+import services.data.dto.vehicles.TruckViewDTO;
+import services.data.dto.vehicles.VanViewDTO;
+import services.data.mapping.CompiledMapping;
+
+/**
+ * Compiled entity-to-view mappings for vehicles, shared by the bus, truck, van and vehicle mappers.
+ * The owning company is mapped to its identifier only, so the lazy reference is never initialized.
+ */
+final class VehicleViewMappings {
+
+    static final CompiledMapping<Bus, BusViewDTO> BUS =
+            CompiledMapping.<Bus, BusViewDTO>builder(BusViewDTO::new)
+                    .map(Bus::getId, BusViewDTO::setId)
+                    .map(Bus::getRegistrationPlate, BusViewDTO::setRegistrationPlate)
+                    .mapNested(Bus::getTransportCompany, BaseModel::getId, BusViewDTO::setTransportCompanyId)
+                    .map(Bus::getMaxPassengerCapacity, BusViewDTO::setMaxPassengerCapacity)
+                    .map(Bus::isHasRestroom, BusViewDTO::setHasRestroom)
+                    .map(Bus::getLuggageCapacity, BusViewDTO::setLuggageCapacity)
+                    .build();
+
+    static final CompiledMapping<Truck, TruckViewDTO> TRUCK =
+            CompiledMapping.<Truck, TruckViewDTO>builder(TruckViewDTO::new)
+                    .map(Truck::getId, TruckViewDTO::setId)
+                    .map(Truck::getRegistrationPlate, TruckViewDTO::setRegistrationPlate)
+                    .mapNested(Truck::getTransportCompany, BaseModel::getId, TruckViewDTO::setTransportCompanyId)
+                    .map(Truck::getMaxCargoCapacityKg, TruckViewDTO::setMaxCargoCapacityKg)
+                    .map(Truck::getCurrentCargoCapacityKg, TruckViewDTO::setCurrentCargoCapacityKg)
+                    .map(Truck::getCargoType, TruckViewDTO::setCargoType)
+                    .map(Truck::getTruckType, TruckViewDTO::setTruckType)
+                    .build();
+
+    static final CompiledMapping<Van, VanViewDTO> VAN =
+            CompiledMapping.<Van, VanViewDTO>builder(VanViewDTO::new)
+                    .map(Van::getId, VanViewDTO::setId)
+                    .map(Van::getRegistrationPlate, VanViewDTO::setRegistrationPlate)
+                    .mapNested(Van::getTransportCompany, BaseModel::getId, VanViewDTO::setTransportCompanyId)
+                    .map(Van::getMaxPassengerCapacity, VanViewDTO::setMaxPassengerCapacity)
+                    .map(Van::getHasPassengerOverheadStorage, VanViewDTO::setHasPassengerOverheadStorage)
+                    .build();
+
+    private VehicleViewMappings() {
+    }
+}
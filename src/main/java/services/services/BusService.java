@@ -47,10 +47,12 @@ public class BusService implements IBusService {
         }
         logger.debug("Creating {} with DTO: {}", Constants.BUS, dto);
         try {
-            Bus entity = busMapper.toEntity(dto);
-            Bus created = busRepo.create(entity);
-            logger.info("{} created with ID: {}", Constants.BUS, created.getId());
-            return busMapper.toViewDTO(created);
+            return busRepo.executeInUnitOfWork(() -> {
+                Bus entity = busMapper.toEntity(dto);
+                Bus created = busRepo.create(entity);
+                logger.info("{} created with ID: {}", Constants.BUS, created.getId());
+                return busMapper.toViewDTO(created);
+            });
         } catch (RepositoryException e) {
             logger.error("Failed to create {} with registration plate: {}, cause: {}", Constants.BUS, dto.getRegistrationPlate(), e.getMessage(), e);
             throw e;
@@ -65,12 +67,14 @@ public class BusService implements IBusService {
         }
         logger.debug("Updating {} with DTO: {}", Constants.BUS, dto);
         try {
-            Bus existing = busRepo.getById(dto.getId())
-                    .orElseThrow(() -> new RepositoryException("Bus not found with ID: " + dto.getId()));
-            busMapper.toEntity(dto, existing);
-            BusViewDTO result = busRepo.updateAndMap(existing, busMapper::toViewDTO, null);
-            logger.info("{} updated with ID: {}", Constants.BUS, result.getId());
-            return result;
+            return busRepo.executeInUnitOfWork(() -> {
+                Bus existing = busRepo.getById(dto.getId())
+                        .orElseThrow(() -> new RepositoryException("Bus not found with ID: " + dto.getId()));
+                busMapper.toEntity(dto, existing);
+                BusViewDTO result = busRepo.updateAndMap(existing, busMapper::toViewDTO, null);
+                logger.info("{} updated with ID: {}", Constants.BUS, result.getId());
+                return result;
+            });
         } catch (RepositoryException e) {
             logger.error("Failed to update {} with ID: {}, cause: {}", Constants.BUS, dto.getId(), e.getMessage(), e);
             throw e;
@@ -85,9 +89,12 @@ public class BusService implements IBusService {
         }
         logger.debug("Deleting {} with ID: {}", Constants.BUS, id);
         try {
-            Bus entity = busRepo.getById(id)
-                    .orElseThrow(() -> new RepositoryException("Bus not found with ID: " + id));
-            busRepo.delete(entity);
+            busRepo.executeInUnitOfWork(() -> {
+                Bus entity = busRepo.getById(id)
+                        .orElseThrow(() -> new RepositoryException("Bus not found with ID: " + id));
+                busRepo.delete(entity);
+                return null;
+            });
             logger.info("{} deleted with ID: {}", Constants.BUS, id);
         } catch (RepositoryException e) {
             logger.error("Failed to delete {} with ID: {}, cause: {}", Constants.BUS, id, e.getMessage(), e);
@@ -120,7 +127,7 @@ public class BusService implements IBusService {
     public List<BusViewDTO> getAll(int page, int size, String orderBy, boolean ascending) {
         logger.debug("Retrieving all {}: page={}, size={}, orderBy={}, ascending={}", Constants.BUS, page, size, orderBy, ascending);
         try {
-            List<BusViewDTO> result = busRepo.getAllAndMap(page, size, orderBy, ascending, busMapper::toViewDTO, null);
+            List<BusViewDTO> result = busRepo.findProjected(null, orderBy, ascending, page, size, busMapper.viewProjection());
             logger.info("Retrieved {} {}", result.size(), Constants.BUS);
             return result;
         } catch (RepositoryException e) {
@@ -82,14 +82,16 @@ public class ClientService implements IClientService {
         }
         logger.debug("Updating {} with DTO: {}", Constants.CLIENT, dto);
         try {
-            Client existing = clientRepo.getById(dto.getId())
-                    .orElseThrow(() -> new RepositoryException("Client not found with ID: " + dto.getId()));
-            if (dto.getName() != null) existing.setName(dto.getName());
-            if (dto.getTelephone() != null) existing.setTelephone(dto.getTelephone());
-            if (dto.getEmail() != null) existing.setEmail(dto.getEmail());
-            ClientViewDTO result = clientRepo.updateAndMap(existing, clientMapper::toViewDTO, null);
-            logger.info("{} updated with ID: {}", Constants.CLIENT, result.getId());
-            return result;
+            return clientRepo.executeInUnitOfWork(() -> {
+                Client existing = clientRepo.getById(dto.getId())
+                        .orElseThrow(() -> new RepositoryException("Client not found with ID: " + dto.getId()));
+                if (dto.getName() != null) existing.setName(dto.getName());
+                if (dto.getTelephone() != null) existing.setTelephone(dto.getTelephone());
+                if (dto.getEmail() != null) existing.setEmail(dto.getEmail());
+                ClientViewDTO result = clientRepo.updateAndMap(existing, clientMapper::toViewDTO, null);
+                logger.info("{} updated with ID: {}", Constants.CLIENT, result.getId());
+                return result;
+            });
         } catch (RepositoryException e) {
             logger.error("Failed to update {} with ID: {}, cause: {}", Constants.CLIENT, dto.getId(), e.getMessage(), e);
             throw e;
@@ -107,9 +109,12 @@ public class ClientService implements IClientService {
         }
         logger.debug("Deleting {} with ID: {}", Constants.CLIENT, id);
         try {
-            Client entity = clientRepo.getById(id)
-                    .orElseThrow(() -> new RepositoryException("Client not found with ID: " + id));
-            clientRepo.delete(entity);
+            clientRepo.executeInUnitOfWork(() -> {
+                Client entity = clientRepo.getById(id)
+                        .orElseThrow(() -> new RepositoryException("Client not found with ID: " + id));
+                clientRepo.delete(entity);
+                return null;
+            });
             logger.info("{} deleted with ID: {}", Constants.CLIENT, id);
         } catch (RepositoryException e) {
             logger.error("Failed to delete {} with ID: {}, cause: {}", Constants.CLIENT, id, e.getMessage(), e);
@@ -146,15 +151,9 @@ public class ClientService implements IClientService {
     public List<ClientViewDTO> getAll(int page, int size, String orderBy, boolean ascending, String filter) {
         logger.debug("Retrieving all {}: page={}, size={}, orderBy={}, ascending={}, filter={}", Constants.CLIENT, page, size, orderBy, ascending, filter);
         try {
-            List<ClientViewDTO> result = clientRepo.getAllAndMap(page, size, orderBy, ascending, clientMapper::toViewDTO, null);
-            if (filter != null && !filter.trim().isEmpty()) {
-                String filterLower = filter.trim().toLowerCase();
-                result = result.stream()
-                        .filter(c -> c.getName().toLowerCase().contains(filterLower) ||
-                                c.getTelephone().toLowerCase().contains(filterLower) ||
-                                c.getEmail().toLowerCase().contains(filterLower))
-                        .collect(Collectors.toList());
-            }
+            List<ClientViewDTO> result = clientRepo.searchAndMap(
+                    filter, List.of("name", "telephone", "email"), page, size, orderBy, ascending, clientMapper::toViewDTO
+            );
             logger.info("Retrieved {} {}", result.size(), Constants.CLIENT);
             return result;
         } catch (RepositoryException e) {
@@ -170,10 +169,8 @@ public class ClientService implements IClientService {
     public List<ClientViewDTO> findByCriteria(Map<String, Object> conditions, String orderBy, boolean ascending) {
         logger.debug("Finding {} by criteria: conditions={}, orderBy={}, ascending={}", Constants.CLIENT, conditions, orderBy, ascending);
         try {
-            List<ClientViewDTO> result = clientRepo.findByCriteria(conditions, orderBy, ascending)
-                    .stream()
-                    .map(clientMapper::toViewDTO)
-                    .collect(Collectors.toList());
+            List<ClientViewDTO> result = clientRepo.findProjected(conditions, orderBy, ascending, 0, Integer.MAX_VALUE,
+                    clientMapper.viewProjection());
             logger.info("Found {} {} matching criteria", result.size(), Constants.CLIENT);
             return result;
         } catch (RepositoryException e) {
@@ -208,12 +205,9 @@ public class ClientService implements IClientService {
     public Map<Long, Integer> getTransportServiceCountsPerClient() {
         logger.debug("Retrieving transport service counts per {}", Constants.CLIENT);
         try {
-            List<Client> clients = clientRepo.getAll(0, Integer.MAX_VALUE, "name", true);
             Map<Long, Integer> result = new HashMap<>();
-            for (Client client : clients) {
-                List<TransportService> services = transportServiceRepo.findWithJoin("client", "id", client.getId(), "startingDate", true);
-                result.put(client.getId(), services.size());
-            }
+            clientRepo.countRelatedEntities(TransportService.class, "transportService", "id", "id")
+                    .forEach((clientId, count) -> result.put(clientId, Math.toIntExact(count)));
             logger.info("Retrieved transport service counts for {} clients", result.size());
             return result;
         } catch (RepositoryException e) {
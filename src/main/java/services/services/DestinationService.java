@@ -3,6 +3,7 @@ package services.services;
 import data.models.transportservices.Destination;
 import data.models.transportservices.TransportService;
 import data.repositories.IGenericRepository;
+import data.repositories.Specifications;
 import data.repositories.exceptions.RepositoryException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -74,12 +75,14 @@ public class DestinationService implements IDestinationService {
         }
         logger.debug("Updating {} with DTO: {}", Constants.DESTINATION, dto);
         try {
-            Destination existing = destinationRepo.getById(dto.getId())
-                    .orElseThrow(() -> new RepositoryException("Destination not found with ID: " + dto.getId()));
-            destinationMapper.toEntity(dto, existing);
-            DestinationViewDTO result = destinationRepo.updateAndMap(existing, destinationMapper::toViewDTO, null);
-            logger.info("{} updated with ID: {}", Constants.DESTINATION, result.getId());
-            return result;
+            return destinationRepo.executeInUnitOfWork(() -> {
+                Destination existing = destinationRepo.getById(dto.getId())
+                        .orElseThrow(() -> new RepositoryException("Destination not found with ID: " + dto.getId()));
+                destinationMapper.toEntity(dto, existing);
+                DestinationViewDTO result = destinationRepo.updateAndMap(existing, destinationMapper::toViewDTO, null);
+                logger.info("{} updated with ID: {}", Constants.DESTINATION, result.getId());
+                return result;
+            });
         } catch (RepositoryException e) {
             logger.error("Failed to update {} with ID: {}, cause: {}", Constants.DESTINATION, dto.getId(), e.getMessage(), e);
             throw e;
@@ -95,9 +98,12 @@ public class DestinationService implements IDestinationService {
         }
         logger.debug("Deleting {} with ID: {}", Constants.DESTINATION, id);
         try {
-            Destination entity = destinationRepo.getById(id)
-                    .orElseThrow(() -> new RepositoryException("Destination not found with ID: " + id));
-            destinationRepo.delete(entity);
+            destinationRepo.executeInUnitOfWork(() -> {
+                Destination entity = destinationRepo.getById(id)
+                        .orElseThrow(() -> new RepositoryException("Destination not found with ID: " + id));
+                destinationRepo.delete(entity);
+                return null;
+            });
             logger.info("{} deleted with ID: {}", Constants.DESTINATION, id);
         } catch (RepositoryException e) {
             logger.error("Failed to delete {} with ID: {}, cause: {}", Constants.DESTINATION, id, e.getMessage(), e);
@@ -132,14 +138,9 @@ public class DestinationService implements IDestinationService {
     public List<DestinationViewDTO> getAll(int page, int size, String orderBy, boolean ascending, String filter) {
         logger.debug("Retrieving all {}: page={}, size={}, orderBy={}, ascending={}, filter={}", Constants.DESTINATION, page, size, orderBy, ascending, filter);
         try {
-            List<DestinationViewDTO> result = destinationRepo.getAllAndMap(page, size, orderBy, ascending, destinationMapper::toViewDTO, null);
-            if (filter != null && !filter.trim().isEmpty()) {
-                String filterLower = filter.trim().toLowerCase();
-                result = result.stream()
-                        .filter(d -> d.getStartingLocation().toLowerCase().contains(filterLower) ||
-                                d.getEndingLocation().toLowerCase().contains(filterLower))
-                        .collect(Collectors.toList());
-            }
+            List<DestinationViewDTO> result = destinationRepo.searchAndMap(
+                    filter, List.of("startingLocation", "endingLocation"), page, size, orderBy, ascending, destinationMapper::toViewDTO
+            );
             logger.info("Retrieved {} {}", result.size(), Constants.DESTINATION);
             return result;
         } catch (RepositoryException e) {
@@ -170,12 +171,12 @@ public class DestinationService implements IDestinationService {
     public Map<Long, List<TransportServiceViewDTO>> getTransportServicesByDestination() {
         logger.debug("Retrieving transport services by {}", Constants.DESTINATION);
         try {
-            List<Destination> destinations = destinationRepo.getAll(0, Integer.MAX_VALUE, "startingLocation", true);
+            // Two streamed reads instead of one query per destination; each destination keeps its services in starting date order
             Map<Long, List<TransportServiceViewDTO>> result = new HashMap<>();
-            for (Destination dest : destinations) {
-                List<TransportService> services = transportServiceRepo.findWithJoin("destination", "id", dest.getId(), "startingDate", true, "destination");
-                result.put(dest.getId(), services.stream().map(transportServiceMapper::toViewDTO).collect(Collectors.toList()));
-            }
+            destinationRepo.forEach(null, "startingLocation", true, null, dest -> result.put(dest.getId(), new ArrayList<>()));
+            transportServiceRepo.forEach(Specifications.isNotNull("destination"), "startingDate", true, null,
+                    service -> result.computeIfAbsent(service.getDestination().getId(), id -> new ArrayList<>())
+                            .add(transportServiceMapper.toViewDTO(service)));
             logger.info("Retrieved transport services for {} destinations", result.size());
             return result;
         } catch (RepositoryException e) {
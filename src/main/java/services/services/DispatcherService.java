@@ -2,6 +2,7 @@ package services.services;
 
 import data.models.employee.Dispatcher;
 import data.models.employee.Driver;
+import data.repositories.FetchPlans;
 import data.repositories.IGenericRepository;
 import data.repositories.exceptions.RepositoryException;
 import org.slf4j.Logger;
@@ -48,10 +49,12 @@ public class DispatcherService implements IDispatcherService {
         }
         logger.debug("Creating {} with DTO: {}", Constants.DISPATCHER, dto);
         try {
-            Dispatcher dispatcher = dispatcherMapper.toEntity(dto);
-            Dispatcher created = dispatcherRepo.create(dispatcher);
-            logger.info("{} created with ID: {}", Constants.DISPATCHER, created.getId());
-            return dispatcherMapper.toViewDTO(created);
+            return dispatcherRepo.executeInUnitOfWork(() -> {
+                Dispatcher dispatcher = dispatcherMapper.toEntity(dto);
+                Dispatcher created = dispatcherRepo.create(dispatcher);
+                logger.info("{} created with ID: {}", Constants.DISPATCHER, created.getId());
+                return dispatcherMapper.toViewDTO(created);
+            });
         } catch (RepositoryException e) {
             logger.error("Failed to create {}: {} {}, cause: {}", Constants.DISPATCHER, dto.getFirstName(), dto.getFamilyName(), e.getMessage(), e);
             throw e;
@@ -67,12 +70,14 @@ public class DispatcherService implements IDispatcherService {
         }
         logger.debug("Updating {} with DTO: {}", Constants.DISPATCHER, dto);
         try {
-            Dispatcher existing = dispatcherRepo.getById(dto.getId(), "supervisedDrivers", "transportCompany")
-                    .orElseThrow(() -> new RepositoryException("Dispatcher not found with ID: " + dto.getId()));
-            dispatcherMapper.toEntity(dto, existing);
-            DispatcherViewDTO result = dispatcherRepo.updateAndMap(existing, dispatcherMapper::toViewDTO, null);
-            logger.info("{} updated with ID: {}", Constants.DISPATCHER, result.getId());
-            return result;
+            return dispatcherRepo.executeInUnitOfWork(() -> {
+                Dispatcher existing = dispatcherRepo.getById(dto.getId(), FetchPlans.DISPATCHER_DETAILS)
+                        .orElseThrow(() -> new RepositoryException("Dispatcher not found with ID: " + dto.getId()));
+                dispatcherMapper.toEntity(dto, existing);
+                DispatcherViewDTO result = dispatcherRepo.updateAndMap(existing, dispatcherMapper::toViewDTO, null);
+                logger.info("{} updated with ID: {}", Constants.DISPATCHER, result.getId());
+                return result;
+            });
         } catch (RepositoryException e) {
             logger.error("Failed to update {} with ID: {}, cause: {}", Constants.DISPATCHER, dto.getId(), e.getMessage(), e);
             throw e;
@@ -88,9 +93,12 @@ public class DispatcherService implements IDispatcherService {
         }
         logger.debug("Deleting {} with ID: {}", Constants.DISPATCHER, id);
         try {
-            Dispatcher entity = dispatcherRepo.getById(id)
-                    .orElseThrow(() -> new RepositoryException("Dispatcher not found with ID: " + id));
-            dispatcherRepo.delete(entity);
+            dispatcherRepo.executeInUnitOfWork(() -> {
+                Dispatcher entity = dispatcherRepo.getById(id)
+                        .orElseThrow(() -> new RepositoryException("Dispatcher not found with ID: " + id));
+                dispatcherRepo.delete(entity);
+                return null;
+            });
             logger.info("{} deleted with ID: {}", Constants.DISPATCHER, id);
         } catch (RepositoryException e) {
             logger.error("Failed to delete {} with ID: {}, cause: {}", Constants.DISPATCHER, id, e.getMessage(), e);
@@ -107,7 +115,9 @@ public class DispatcherService implements IDispatcherService {
         }
         logger.debug("Retrieving {} with ID: {}, fetchRelations: {}", Constants.DISPATCHER, id, String.join(",", fetchRelations));
         try {
-            Optional<Dispatcher> dispatcher = dispatcherRepo.getById(id, fetchRelations.length > 0 ? fetchRelations : new String[]{"supervisedDrivers"});
+            Optional<Dispatcher> dispatcher = fetchRelations.length > 0
+                    ? dispatcherRepo.getById(id, fetchRelations)
+                    : dispatcherRepo.getById(id, FetchPlans.DISPATCHER_DETAILS);
             if (dispatcher.isEmpty()) {
                 logger.warn("No {} found with ID: {}", Constants.DISPATCHER, id);
                 return null;
@@ -162,8 +172,9 @@ public class DispatcherService implements IDispatcherService {
         logger.debug("Retrieving {} sorted by salary, page={}, size={}, ascending={}, fetchRelations={}",
                 Constants.DISPATCHER, page, size, ascending, String.join(",", fetchRelations));
         try {
-            List<Dispatcher> dispatchers = dispatcherRepo.getAll(page, size, "salary", ascending,
-                    fetchRelations.length > 0 ? fetchRelations : new String[]{"supervisedDrivers"});
+            List<Dispatcher> dispatchers = fetchRelations.length > 0
+                    ? dispatcherRepo.getAll(page, size, "salary", ascending, fetchRelations)
+                    : dispatcherRepo.getAll(page, size, "salary", ascending, FetchPlans.DISPATCHER_DETAILS);
             List<DispatcherViewDTO> result = dispatchers.stream().map(dispatcherMapper::toViewDTO).collect(Collectors.toList());
             logger.info("Retrieved {} {} sorted by salary", result.size(), Constants.DISPATCHER);
             return result;
@@ -7,6 +7,7 @@ import data.models.employee.Qualification;
 import data.models.transportservices.TransportCargoService;
 import data.models.transportservices.TransportPassengersService;
 import data.models.transportservices.TransportService;
+import data.repositories.FetchPlans;
 import data.repositories.IGenericRepository;
 import data.repositories.exceptions.RepositoryException;
 import org.slf4j.Logger;
@@ -23,6 +24,7 @@ import services.services.contracts.IDriverService;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -72,10 +74,12 @@ public class DriverService implements IDriverService {
         }
         logger.debug("Creating {} with DTO: {}", Constants.DRIVER, dto);
         try {
-            Driver driver = driverMapper.toEntity(dto);
-            Driver created = driverRepo.create(driver);
-            logger.info("{} created with ID: {}", Constants.DRIVER, created.getId());
-            return driverMapper.toViewDTO(created);
+            return driverRepo.executeInUnitOfWork(() -> {
+                Driver driver = driverMapper.toEntity(dto);
+                Driver created = driverRepo.create(driver);
+                logger.info("{} created with ID: {}", Constants.DRIVER, created.getId());
+                return driverMapper.toViewDTO(created);
+            });
         } catch (RepositoryException e) {
             logger.error("Failed to create {}: {} {}, cause: {}", Constants.DRIVER, dto.getFirstName(), dto.getFamilyName(), e.getMessage(), e);
             throw e;
@@ -93,13 +97,15 @@ public class DriverService implements IDriverService {
         }
         logger.debug("Updating {} with DTO: {}", Constants.DRIVER, dto);
         try {
-            // Fetch with qualifications and transportCompany to avoid LazyInitializationException
-            Driver existing = driverRepo.getById(dto.getId(), "qualifications", "transportCompany")
-                    .orElseThrow(() -> new RepositoryException("Driver not found with ID: " + dto.getId()));
-            driverMapper.toEntity(dto, existing);
-            Driver updated = driverRepo.update(existing);
-            logger.info("{} updated with ID: {}", Constants.DRIVER, updated.getId());
-            return driverMapper.toViewDTO(updated);
+            return driverRepo.executeInUnitOfWork(() -> {
+                // Fetch with qualifications and transportCompany to avoid LazyInitializationException
+                Driver existing = driverRepo.getById(dto.getId(), FetchPlans.DRIVER_DETAILS)
+                        .orElseThrow(() -> new RepositoryException("Driver not found with ID: " + dto.getId()));
+                driverMapper.toEntity(dto, existing);
+                Driver updated = driverRepo.update(existing);
+                logger.info("{} updated with ID: {}", Constants.DRIVER, updated.getId());
+                return driverMapper.toViewDTO(updated);
+            });
         } catch (RepositoryException e) {
             logger.error("Failed to update {} with ID: {}, cause: {}", Constants.DRIVER, dto.getId(), e.getMessage(), e);
             throw e;
@@ -117,9 +123,12 @@ public class DriverService implements IDriverService {
         }
         logger.debug("Deleting {} with ID: {}", Constants.DRIVER, id);
         try {
-            Driver entity = driverRepo.getById(id)
-                    .orElseThrow(() -> new RepositoryException("Driver not found with ID: " + id));
-            driverRepo.delete(entity);
+            driverRepo.executeInUnitOfWork(() -> {
+                Driver entity = driverRepo.getById(id)
+                        .orElseThrow(() -> new RepositoryException("Driver not found with ID: " + id));
+                driverRepo.delete(entity);
+                return null;
+            });
             logger.info("{} deleted with ID: {}", Constants.DRIVER, id);
         } catch (RepositoryException e) {
             logger.error("Failed to delete {} with ID: {}, cause: {}", Constants.DRIVER, id, e.getMessage(), e);
@@ -139,7 +148,9 @@ public class DriverService implements IDriverService {
         logger.debug("Retrieving {} with ID: {}, fetchRelations: {}", Constants.DRIVER, id, String.join(",", fetchRelations));
         try {
             // Ensure qualifications are fetched for ViewDTO
-            Optional<Driver> driver = driverRepo.getById(id, fetchRelations.length > 0 ? fetchRelations : new String[]{"qualifications"});
+            Optional<Driver> driver = fetchRelations.length > 0
+                    ? driverRepo.getById(id, fetchRelations)
+                    : driverRepo.getById(id, FetchPlans.DRIVER_DETAILS);
             if (driver.isEmpty()) {
                 logger.warn("No {} found with ID: {}", Constants.DRIVER, id);
                 return null;
@@ -197,9 +208,14 @@ public class DriverService implements IDriverService {
         logger.debug("Retrieving {} sorted by salary, ascending: {}, fetchRelations: {}",
                 Constants.DRIVER, ascending, String.join(",", fetchRelations));
         try {
-            List<Driver> drivers = driverRepo.getAll(0, Integer.MAX_VALUE, "salary", ascending,
-                    fetchRelations.length > 0 ? fetchRelations : new String[]{"qualifications"});
-            List<DriverViewDTO> result = drivers.stream().map(driverMapper::toViewDTO).collect(Collectors.toList());
+            // Streamed, so only one fetch-size chunk of drivers is held in the session at a time
+            List<DriverViewDTO> result = new ArrayList<>();
+            Consumer<Driver> collect = driver -> result.add(driverMapper.toViewDTO(driver));
+            if (fetchRelations.length > 0) {
+                driverRepo.forEach(null, "salary", ascending, collect, fetchRelations);
+            } else {
+                driverRepo.forEach(null, "salary", ascending, FetchPlans.DRIVER_DETAILS, collect);
+            }
             logger.info("Retrieved {} {} sorted by salary", result.size(), Constants.DRIVER);
             return result;
         } catch (RepositoryException e) {
@@ -215,15 +231,10 @@ public class DriverService implements IDriverService {
     public Map<Long, Integer> getDriverTransportCounts() {
         logger.debug("Retrieving transport counts for all {}", Constants.DRIVER);
         try {
-            List<Driver> drivers = driverRepo.getAll(0, Integer.MAX_VALUE, "id", true);
+            // transportServices is polymorphic, so cargo and passenger services are counted together
             Map<Long, Integer> counts = new HashMap<>();
-            for (Driver driver : drivers) {
-                Map<String, Object> conditions = new HashMap<>();
-                conditions.put("driver.id", driver.getId());
-                int cargoCount = cargoRepo.findByCriteria(conditions, null, true).size();
-                int passengerCount = passengersRepo.findByCriteria(conditions, null, true).size();
-                counts.put(driver.getId(), cargoCount + passengerCount);
-            }
+            driverRepo.countRelatedEntities(TransportService.class, "transportServices", "id", "id")
+                    .forEach((driverId, count) -> counts.put(driverId, Math.toIntExact(count)));
             logger.info("Retrieved transport counts for {} {}", counts.size(), Constants.DRIVER);
             return counts;
         } catch (RepositoryException e) {
@@ -307,17 +318,20 @@ public class DriverService implements IDriverService {
             logger.error("Cannot retrieve drivers: Company ID is null");
             throw new IllegalArgumentException("Company ID must not be null");
         }
+        if (page < 0 || size <= 0) {
+            logger.debug("Invalid pagination for drivers of company with ID: {}, page: {}, size: {}, returning empty list", companyId, page, size);
+            return Collections.emptyList();
+        }
         logger.debug("Retrieving drivers for company with ID: {}, page: {}, size: {}, orderBy: {}, ascending: {}, fetchRelations: {}",
                 companyId, page, size, orderBy, ascending, String.join(",", fetchRelations));
         try {
             Map<String, Object> conditions = new HashMap<>();
             conditions.put("transportCompany.id", companyId);
-            List<Driver> drivers = driverRepo.findByCriteria(conditions, orderBy, ascending,
+            // Paged in SQL; fetching qualifications switches the repository to its two-phase ID paging
+            List<Driver> drivers = driverRepo.findByCriteria(conditions, orderBy, ascending, page, size,
                     fetchRelations.length > 0 ? fetchRelations : new String[]{"qualifications"});
             List<DriverViewDTO> result = drivers.stream()
                     .map(driverMapper::toViewDTO)
-                    .skip((long) page * size)
-                    .limit(size)
                     .collect(Collectors.toList());
             logger.info("Retrieved {} drivers for company with ID: {}", result.size(), companyId);
             return result;
@@ -342,25 +356,13 @@ public class DriverService implements IDriverService {
         }
         logger.debug("Retrieving transport services for {} with ID: {}, page: {}, size: {}", Constants.DRIVER, driverId, page, size);
         try {
-            Map<String, Object> conditions = new HashMap<>();
-            conditions.put("driver.id", driverId);
-            List<TransportCargoService> cargoServices = cargoRepo.findByCriteria(conditions, "startingDate", true, page, size);
-            List<TransportPassengersService> passengerServices = passengersRepo.findByCriteria(conditions, "startingDate", true, page, size);
-
-            List<TransportServiceViewDTO> combinedServices = new ArrayList<>();
-            combinedServices.addAll(cargoServices.stream()
-                    .map(cargoServiceMapper::toViewDTO)
-                    .toList());
-            combinedServices.addAll(passengerServices.stream()
-                    .map(passengersServiceMapper::toViewDTO)
-                    .toList());
-
-            // Apply pagination (already handled by repository, but kept for clarity)
-            int fromIndex = page * size;
-            int toIndex = Math.min(fromIndex + size, combinedServices.size());
-            List<TransportServiceViewDTO> paginatedServices = fromIndex < combinedServices.size() ?
-                    combinedServices.subList(fromIndex, toIndex) :
-                    Collections.emptyList();
+            // A single query over the polymorphic TransportService root pages cargo and passenger services together;
+            // the views only read foreign key ids, so they are mapped after the read-only session has closed
+            List<TransportServiceViewDTO> paginatedServices =
+                    driverRepo.findRelatedEntities(TransportService.class, "driver", driverId, page, size, "startingDate", true)
+                            .stream()
+                            .map(this::toTransportServiceViewDTO)
+                            .collect(Collectors.toList());
 
             logger.info("Retrieved {} transport services for {} with ID: {}", paginatedServices.size(), Constants.DRIVER, driverId);
             return paginatedServices;
@@ -369,4 +371,14 @@ public class DriverService implements IDriverService {
             throw e;
         }
     }
-}
\ No newline at end of file
+
+    private TransportServiceViewDTO toTransportServiceViewDTO(TransportService service) {
+        if (service instanceof TransportCargoService cargoService) {
+            return cargoServiceMapper.toViewDTO(cargoService);
+        }
+        if (service instanceof TransportPassengersService passengersService) {
+            return passengersServiceMapper.toViewDTO(passengersService);
+        }
+        throw new IllegalStateException("Unsupported transport service type: " + service.getClass().getName());
+    }
+}
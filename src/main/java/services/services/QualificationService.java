@@ -74,12 +74,14 @@ public class QualificationService implements IQualificationService {
         }
         logger.debug("Updating {} with DTO: {}", Constants.QUALIFICATION, dto);
         try {
-            Qualification existing = qualificationRepo.getById(dto.getId())
-                    .orElseThrow(() -> new RepositoryException("Qualification not found with ID: " + dto.getId()));
-            qualificationMapper.toEntity(dto, existing);
-            QualificationViewDTO result = qualificationRepo.updateAndMap(existing, qualificationMapper::toViewDTO, null);
-            logger.info("{} updated with ID: {}", Constants.QUALIFICATION, result.getId());
-            return result;
+            return qualificationRepo.executeInUnitOfWork(() -> {
+                Qualification existing = qualificationRepo.getById(dto.getId())
+                        .orElseThrow(() -> new RepositoryException("Qualification not found with ID: " + dto.getId()));
+                qualificationMapper.toEntity(dto, existing);
+                QualificationViewDTO result = qualificationRepo.updateAndMap(existing, qualificationMapper::toViewDTO, null);
+                logger.info("{} updated with ID: {}", Constants.QUALIFICATION, result.getId());
+                return result;
+            });
         } catch (RepositoryException e) {
             logger.error("Failed to update {} with ID: {}, cause: {}", Constants.QUALIFICATION, dto.getId(), e.getMessage(), e);
             throw e;
@@ -95,9 +97,12 @@ public class QualificationService implements IQualificationService {
         }
         logger.debug("Deleting {} with ID: {}", Constants.QUALIFICATION, id);
         try {
-            Qualification entity = qualificationRepo.getById(id)
-                    .orElseThrow(() -> new RepositoryException("Qualification not found with ID: " + id));
-            qualificationRepo.delete(entity);
+            qualificationRepo.executeInUnitOfWork(() -> {
+                Qualification entity = qualificationRepo.getById(id)
+                        .orElseThrow(() -> new RepositoryException("Qualification not found with ID: " + id));
+                qualificationRepo.delete(entity);
+                return null;
+            });
             logger.info("{} deleted with ID: {}", Constants.QUALIFICATION, id);
         } catch (RepositoryException e) {
             logger.error("Failed to delete {} with ID: {}, cause: {}", Constants.QUALIFICATION, id, e.getMessage(), e);
@@ -132,14 +137,9 @@ public class QualificationService implements IQualificationService {
     public List<QualificationViewDTO> getAll(int page, int size, String orderBy, boolean ascending, String filter) {
         logger.debug("Retrieving all {}: page={}, size={}, orderBy={}, ascending={}, filter={}", Constants.QUALIFICATION, page, size, orderBy, ascending, filter);
         try {
-            List<QualificationViewDTO> result = qualificationRepo.getAllAndMap(page, size, orderBy, ascending, qualificationMapper::toViewDTO, null);
-            if (filter != null && !filter.trim().isEmpty()) {
-                String filterLower = filter.trim().toLowerCase();
-                result = result.stream()
-                        .filter(q -> q.getName().toLowerCase().contains(filterLower) ||
-                                q.getDescription().toLowerCase().contains(filterLower))
-                        .collect(Collectors.toList());
-            }
+            List<QualificationViewDTO> result = qualificationRepo.searchAndMap(
+                    filter, List.of("name", "description"), page, size, orderBy, ascending, qualificationMapper::toViewDTO
+            );
             logger.info("Retrieved {} {}", result.size(), Constants.QUALIFICATION);
             return result;
         } catch (RepositoryException e) {
@@ -6,7 +6,10 @@ import data.models.Client;
 import data.models.employee.Driver;
 import data.models.transportservices.Destination;
 import data.models.vehicles.Vehicle;
+import data.repositories.BulkOperationResult;
 import data.repositories.IGenericRepository;
+import data.repositories.KeysetCursor;
+import data.repositories.KeysetPage;
 import data.repositories.exceptions.RepositoryException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,16 +46,36 @@ public class TransportCargoServiceService implements ITransportCargoServiceServi
         }
         logger.debug("Creating {} with DTO: {}", Constants.TRANSPORT_CARGO_SERVICE, dto);
         try {
-            TransportCargoService entity = mapper.toEntity(dto);
-            TransportCargoService created = cargoServiceRepo.create(entity);
-            logger.info("{} created with ID: {}", Constants.TRANSPORT_CARGO_SERVICE, created.getId());
-            return mapper.toViewDTO(created);
+            return cargoServiceRepo.executeInUnitOfWork(() -> {
+                TransportCargoService entity = mapper.toEntity(dto);
+                TransportCargoService created = cargoServiceRepo.create(entity);
+                logger.info("{} created with ID: {}", Constants.TRANSPORT_CARGO_SERVICE, created.getId());
+                return mapper.toViewDTO(created);
+            });
         } catch (RepositoryException e) {
             logger.error("Failed to create {}: startingDate={}, cause: {}", Constants.TRANSPORT_CARGO_SERVICE, dto.getStartingDate(), e.getMessage(), e);
             throw e;
         }
     }
 
+    @Override
+    public BulkOperationResult<TransportCargoServiceViewDTO> createAll(List<TransportCargoServiceCreateDTO> dtos) {
+        if (dtos == null || dtos.contains(null)) {
+            logger.error("Cannot create {} list: list or element is null", Constants.TRANSPORT_CARGO_SERVICE);
+            throw new IllegalArgumentException("TransportCargoServiceCreateDTO list and its elements must not be null");
+        }
+        logger.debug("Creating {} {} entities", dtos.size(), Constants.TRANSPORT_CARGO_SERVICE);
+        try {
+            List<TransportCargoService> entities = mapper.toEntities(dtos);
+            BulkOperationResult<TransportCargoService> result = cargoServiceRepo.createAll(entities);
+            logger.info("Created {} {} entities, {} rejected", result.getSuccessCount(), Constants.TRANSPORT_CARGO_SERVICE, result.getFailureCount());
+            return result.map(mapper::toViewDTO);
+        } catch (RepositoryException e) {
+            logger.error("Failed to create {} list, cause: {}", Constants.TRANSPORT_CARGO_SERVICE, e.getMessage(), e);
+            throw e;
+        }
+    }
+
     @Override
     public TransportCargoServiceViewDTO update(TransportCargoServiceUpdateDTO dto) {
         if (dto == null || dto.getId() == null) {
@@ -61,14 +84,16 @@ public class TransportCargoServiceService implements ITransportCargoServiceServi
         }
         logger.debug("Updating {} with DTO: {}", Constants.TRANSPORT_CARGO_SERVICE, dto);
         try {
-            TransportCargoService existing = cargoServiceRepo.getById(dto.getId())
-                    .orElseThrow(() -> new RepositoryException("TransportCargoService not found with ID: " + dto.getId()));
-            TransportCargoService updatedEntity = mapper.toEntity(dto);
-            // Preserve version for optimistic locking
-            updatedEntity.setVersion(existing.getVersion());
-            TransportCargoServiceViewDTO result = cargoServiceRepo.updateAndMap(updatedEntity, mapper::toViewDTO, null);
-            logger.info("{} updated with ID: {}", Constants.TRANSPORT_CARGO_SERVICE, result.getId());
-            return result;
+            return cargoServiceRepo.executeInUnitOfWork(() -> {
+                TransportCargoService existing = cargoServiceRepo.getById(dto.getId())
+                        .orElseThrow(() -> new RepositoryException("TransportCargoService not found with ID: " + dto.getId()));
+                TransportCargoService updatedEntity = mapper.toEntity(dto);
+                // Preserve version for optimistic locking
+                updatedEntity.setVersion(existing.getVersion());
+                TransportCargoServiceViewDTO result = cargoServiceRepo.updateAndMap(updatedEntity, mapper::toViewDTO, null);
+                logger.info("{} updated with ID: {}", Constants.TRANSPORT_CARGO_SERVICE, result.getId());
+                return result;
+            });
         } catch (RepositoryException e) {
             logger.error("Failed to update {} with ID: {}, cause: {}", Constants.TRANSPORT_CARGO_SERVICE, dto.getId(), e.getMessage(), e);
             throw e;
@@ -83,9 +108,12 @@ public class TransportCargoServiceService implements ITransportCargoServiceServi
         }
         logger.debug("Deleting {} with ID: {}", Constants.TRANSPORT_CARGO_SERVICE, id);
         try {
-            TransportCargoService entity = cargoServiceRepo.getById(id)
-                    .orElseThrow(() -> new RepositoryException("TransportCargoService not found with ID: " + id));
-            cargoServiceRepo.delete(entity);
+            cargoServiceRepo.executeInUnitOfWork(() -> {
+                TransportCargoService entity = cargoServiceRepo.getById(id)
+                        .orElseThrow(() -> new RepositoryException("TransportCargoService not found with ID: " + id));
+                cargoServiceRepo.delete(entity);
+                return null;
+            });
             logger.info("{} deleted with ID: {}", Constants.TRANSPORT_CARGO_SERVICE, id);
         } catch (RepositoryException e) {
             logger.error("Failed to delete {} with ID: {}, cause: {}", Constants.TRANSPORT_CARGO_SERVICE, id, e.getMessage(), e);
@@ -118,7 +146,7 @@ public class TransportCargoServiceService implements ITransportCargoServiceServi
     public List<TransportCargoServiceViewDTO> getAll(int page, int size, String orderBy, boolean ascending) {
         logger.debug("Retrieving all {}: page={}, size={}, orderBy={}, ascending={}", Constants.TRANSPORT_CARGO_SERVICE, page, size, orderBy, ascending);
         try {
-            List<TransportCargoServiceViewDTO> result = cargoServiceRepo.getAllAndMap(page, size, orderBy, ascending, mapper::toViewDTO, null);
+            List<TransportCargoServiceViewDTO> result = cargoServiceRepo.findProjected(null, orderBy, ascending, page, size, mapper.viewProjection());
             logger.info("Retrieved {} {}", result.size(), Constants.TRANSPORT_CARGO_SERVICE);
             return result;
         } catch (RepositoryException e) {
@@ -215,4 +243,41 @@ public class TransportCargoServiceService implements ITransportCargoServiceServi
         }
     }
 
-}
\ No newline at end of file
+    /** {@inheritDoc} */
+    @Override
+    public KeysetPage<TransportCargoServiceViewDTO> getByCompany(Long companyId, KeysetCursor after, int size) {
+        if (companyId == null) {
+            logger.error("Cannot retrieve {}: Company ID is null", Constants.TRANSPORT_CARGO_SERVICE);
+            throw new IllegalArgumentException("Company ID must not be null");
+        }
+        logger.debug("Retrieving {} by company ID: {} after cursor: {}, size: {}", Constants.TRANSPORT_CARGO_SERVICE, companyId, after, size);
+        try {
+            return findPageAfter("transportCompany.id", companyId, after, size);
+        } catch (RepositoryException e) {
+            logger.error("Failed to retrieve {} by company ID: {}, cause: {}", Constants.TRANSPORT_CARGO_SERVICE, companyId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public KeysetPage<TransportCargoServiceViewDTO> getByDriver(Long driverId, KeysetCursor after, int size) {
+        if (driverId == null) {
+            logger.error("Cannot retrieve {}: Driver ID is null", Constants.TRANSPORT_CARGO_SERVICE);
+            throw new IllegalArgumentException("Driver ID must not be null");
+        }
+        logger.debug("Retrieving {} by driver ID: {} after cursor: {}, size: {}", Constants.TRANSPORT_CARGO_SERVICE, driverId, after, size);
+        try {
+            return findPageAfter("driver.id", driverId, after, size);
+        } catch (RepositoryException e) {
+            logger.error("Failed to retrieve {} by driver ID: {}, cause: {}", Constants.TRANSPORT_CARGO_SERVICE, driverId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    private KeysetPage<TransportCargoServiceViewDTO> findPageAfter(String ownerField, Long ownerId, KeysetCursor after, int size) {
+        Map<String, Object> conditions = new HashMap<>();
+        conditions.put(ownerField, ownerId);
+        return cargoServiceRepo.findPageAfter(conditions, "startingDate", true, after, size).map(mapper::toViewDTO);
+    }
+}
@@ -5,7 +5,12 @@ import data.models.employee.Employee;
 import data.models.TransportCompany;
 import data.models.transportservices.TransportService;
 import data.models.vehicles.Vehicle;
+import data.repositories.FetchPlans;
+import data.repositories.ISpecification;
 import data.repositories.IGenericRepository;
+import data.repositories.KeysetCursor;
+import data.repositories.KeysetPage;
+import data.repositories.Specifications;
 import data.repositories.exceptions.RepositoryException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +26,7 @@ import services.data.mapping.mappers.*;
 import services.services.contracts.ITransportCompanyService;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -86,12 +92,14 @@ public class TransportCompanyService implements ITransportCompanyService {
         }
         logger.debug("Updating {} with DTO: {}", Constants.TRANSPORT_COMPANY, dto);
         try {
-            TransportCompany existing = companyRepo.getById(dto.getId(), "employees")
-                    .orElseThrow(() -> new RepositoryException("TransportCompany not found with ID: " + dto.getId()));
-            companyMapper.toEntity(dto, existing);
-            TransportCompanyViewDTO result = companyRepo.updateAndMap(existing, companyMapper::toViewDTO, null);
-            logger.info("{} updated with ID: {}", Constants.TRANSPORT_COMPANY, result.getId());
-            return result;
+            return companyRepo.executeInUnitOfWork(() -> {
+                TransportCompany existing = companyRepo.getById(dto.getId(), FetchPlans.COMPANY_WITH_EMPLOYEES)
+                        .orElseThrow(() -> new RepositoryException("TransportCompany not found with ID: " + dto.getId()));
+                companyMapper.toEntity(dto, existing);
+                TransportCompanyViewDTO result = companyRepo.updateAndMap(existing, companyMapper::toViewDTO, null);
+                logger.info("{} updated with ID: {}", Constants.TRANSPORT_COMPANY, result.getId());
+                return result;
+            });
         } catch (RepositoryException e) {
             logger.error("Failed to update {} with ID: {}, cause: {}", Constants.TRANSPORT_COMPANY, dto.getId(), e.getMessage(), e);
             throw e;
@@ -106,9 +114,12 @@ public class TransportCompanyService implements ITransportCompanyService {
         }
         logger.debug("Deleting {} with ID: {}", Constants.TRANSPORT_COMPANY, id);
         try {
-            TransportCompany entity = companyRepo.getById(id)
-                    .orElseThrow(() -> new RepositoryException("TransportCompany not found with ID: " + id));
-            companyRepo.delete(entity);
+            companyRepo.executeInUnitOfWork(() -> {
+                TransportCompany entity = companyRepo.getById(id)
+                        .orElseThrow(() -> new RepositoryException("TransportCompany not found with ID: " + id));
+                companyRepo.delete(entity);
+                return null;
+            });
             logger.info("{} deleted with ID: {}", Constants.TRANSPORT_COMPANY, id);
         } catch (RepositoryException e) {
             logger.error("Failed to delete {} with ID: {}, cause: {}", Constants.TRANSPORT_COMPANY, id, e.getMessage(), e);
@@ -124,7 +135,7 @@ public class TransportCompanyService implements ITransportCompanyService {
         }
         logger.debug("Retrieving {} with ID: {}", Constants.TRANSPORT_COMPANY, id);
         try {
-            Optional<TransportCompany> result = companyRepo.getById(id, "employees");
+            Optional<TransportCompany> result = companyRepo.getById(id, FetchPlans.COMPANY_WITH_EMPLOYEES);
             if (result.isEmpty()) {
                 logger.warn("No {} found with ID: {}", Constants.TRANSPORT_COMPANY, id);
                 return null;
@@ -142,16 +153,9 @@ public class TransportCompanyService implements ITransportCompanyService {
     public List<TransportCompanyViewDTO> getAll(int page, int size, String orderBy, boolean ascending, String filter) {
         logger.debug("Retrieving all {}: page={}, size={}, orderBy={}, ascending={}, filter={}", Constants.TRANSPORT_COMPANY, page, size, orderBy, ascending, filter);
         try {
-            List<TransportCompanyViewDTO> result = companyRepo.getAllAndMap(
-                    page, size, orderBy, ascending, companyMapper::toViewDTO, "employees"
+            List<TransportCompanyViewDTO> result = companyRepo.searchAndMap(
+                    filter, List.of("name", "address"), page, size, orderBy, ascending, companyMapper::toViewDTO, "employees"
             );
-            if (filter != null && !filter.trim().isEmpty()) {
-                String filterLower = filter.trim().toLowerCase();
-                result = result.stream()
-                        .filter(c -> c.getName().toLowerCase().contains(filterLower) ||
-                                c.getAddress().toLowerCase().contains(filterLower))
-                        .collect(Collectors.toList());
-            }
             logger.info("Retrieved {} {}", result.size(), Constants.TRANSPORT_COMPANY);
             return result;
         } catch (RepositoryException e) {
@@ -173,14 +177,12 @@ public class TransportCompanyService implements ITransportCompanyService {
         }
         logger.debug("Retrieving companies with revenue between {} and {}", minRevenue, maxRevenue);
         try {
-            List<TransportCompany> allCompanies = companyRepo.getAll(0, Integer.MAX_VALUE, "name", true, "employees");
-            List<TransportCompanyViewDTO> result = allCompanies.stream()
-                    .filter(company -> {
-                        BigDecimal revenue = getTotalRevenue(company.getId());
-                        return revenue.compareTo(minRevenue) >= 0 && revenue.compareTo(maxRevenue) <= 0;
-                    })
-                    .map(companyMapper::toViewDTO)
-                    .collect(Collectors.toList());
+            // The revenue of each company is summed and compared in the database; companies without services count as zero
+            ISpecification<TransportCompany> inRange = Specifications.sumBetween("transportServices", "price", minRevenue, maxRevenue);
+            // Only the matching companies and their employees are loaded, one fetch-size chunk at a time
+            List<TransportCompanyViewDTO> result = new ArrayList<>();
+            companyRepo.forEach(inRange, "name", true, FetchPlans.COMPANY_WITH_EMPLOYEES,
+                    company -> result.add(companyMapper.toViewDTO(company)));
             logger.info("Found {} companies with revenue between {} and {}", result.size(), minRevenue, maxRevenue);
             return result;
         } catch (RepositoryException e) {
@@ -193,7 +195,7 @@ public class TransportCompanyService implements ITransportCompanyService {
     public List<TransportCompanyViewDTO> findByCriteria(Map<String, Object> conditions, String orderBy, boolean ascending) {
         logger.debug("Finding {} by criteria: conditions={}, orderBy={}, ascending={}", Constants.TRANSPORT_COMPANY, conditions, orderBy, ascending);
         try {
-            List<TransportCompany> companies = companyRepo.findByCriteria(conditions, orderBy, ascending, "employees");
+            List<TransportCompany> companies = companyRepo.findByCriteria(conditions, orderBy, ascending, 0, Integer.MAX_VALUE, FetchPlans.COMPANY_WITH_EMPLOYEES);
             List<TransportCompanyViewDTO> result = companies.stream()
                     .map(companyMapper::toViewDTO)
                     .collect(Collectors.toList());
@@ -260,18 +262,30 @@ public class TransportCompanyService implements ITransportCompanyService {
         }
     }
 
+    @Override
+    public KeysetPage<TransportServiceViewDTO> getTransportServicesByCompany(Long companyId, KeysetCursor after, int size) {
+        if (companyId == null) {
+            logger.error("Cannot retrieve transport services: Company ID is null");
+            throw new IllegalArgumentException("Company ID must not be null");
+        }
+        logger.debug("Retrieving transport services for {} with ID: {} after cursor: {}, size: {}", Constants.TRANSPORT_COMPANY, companyId, after, size);
+        try {
+            Map<String, Object> conditions = new HashMap<>();
+            conditions.put("transportCompany.id", companyId);
+            return transportServiceRepo.findPageAfter(conditions, "startingDate", true, after, size).map(transportServiceMapper::toViewDTO);
+        } catch (RepositoryException e) {
+            logger.error("Failed to retrieve transport services for {} with ID: {}, cause: {}", Constants.TRANSPORT_COMPANY, companyId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
     @Override
     public Map<Long, Integer> getEmployeeCountsPerCompany() {
         logger.debug("Retrieving employee counts per {}", Constants.TRANSPORT_COMPANY);
         try {
-            List<TransportCompany> companies = companyRepo.getAll(0, Integer.MAX_VALUE, "name", true, null);
             Map<Long, Integer> result = new HashMap<>();
-            for (TransportCompany company : companies) {
-                Map<String, Object> conditions = new HashMap<>();
-                conditions.put("transportCompany.id", company.getId());
-                List<Employee> employees = employeeRepo.findByCriteria(conditions, "familyName", true);
-                result.put(company.getId(), employees.size());
-            }
+            companyRepo.countRelatedEntities(Employee.class, "employees", "id", "id")
+                    .forEach((companyId, count) -> result.put(companyId, Math.toIntExact(count)));
             logger.info("Retrieved employee counts for {} companies", result.size());
             return result;
         } catch (RepositoryException e) {
@@ -290,11 +304,7 @@ public class TransportCompanyService implements ITransportCompanyService {
         try {
             Map<String, Object> conditions = new HashMap<>();
             conditions.put("transportCompany.id", companyId);
-            List<TransportService> services = transportServiceRepo.findByCriteria(conditions, null, true);
-            BigDecimal totalRevenue = services.stream()
-                    .map(TransportService::getPrice)
-                    .filter(Objects::nonNull) // Handle null prices
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            BigDecimal totalRevenue = transportServiceRepo.sum("price", conditions);
             logger.info("Total revenue for company with ID {}: {}", companyId, totalRevenue);
             return totalRevenue;
         } catch (RepositoryException e) {
@@ -303,6 +313,29 @@ public class TransportCompanyService implements ITransportCompanyService {
         }
     }
 
+    @Override
+    public BigDecimal getRevenueForPeriod(Long companyId, LocalDate from, LocalDate to) {
+        if (companyId == null || from == null || to == null) {
+            logger.error("Cannot retrieve revenue for period: Company ID or period bound is null");
+            throw new IllegalArgumentException("Company ID and period bounds must not be null");
+        }
+        if (from.isAfter(to)) {
+            logger.error("Invalid period: {} is after {}", from, to);
+            throw new IllegalArgumentException("Period start must not be after its end");
+        }
+        logger.debug("Retrieving revenue for company with ID: {} between {} and {}", companyId, from, to);
+        try {
+            ISpecification<TransportService> inPeriod = Specifications.<TransportService>equal("transportCompany.id", companyId)
+                    .and(Specifications.between("startingDate", from, to));
+            BigDecimal revenue = transportServiceRepo.sum("price", inPeriod);
+            logger.info("Revenue for company with ID {} between {} and {}: {}", companyId, from, to, revenue);
+            return revenue;
+        } catch (RepositoryException e) {
+            logger.error("Failed to retrieve revenue for company with ID: {} between {} and {}, cause: {}", companyId, from, to, e.getMessage(), e);
+            throw e;
+        }
+    }
+
     @Override
     public int getTotalTransportCount(Long companyId) {
         if (companyId == null) {
@@ -313,8 +346,7 @@ public class TransportCompanyService implements ITransportCompanyService {
         try {
             Map<String, Object> conditions = new HashMap<>();
             conditions.put("transportCompany.id", companyId);
-            List<TransportService> services = transportServiceRepo.findByCriteria(conditions, null, true);
-            int count = services.size();
+            int count = Math.toIntExact(transportServiceRepo.count(conditions));
             logger.info("Total transport count for company with ID {}: {}", companyId, count);
             return count;
         } catch (RepositoryException e) {
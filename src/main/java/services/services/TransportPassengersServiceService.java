@@ -1,7 +1,12 @@
 package services.services;
 
 import data.models.transportservices.TransportPassengersService;
+import data.repositories.BulkOperationResult;
 import data.repositories.IGenericRepository;
+import data.repositories.ISpecification;
+import data.repositories.KeysetCursor;
+import data.repositories.KeysetPage;
+import data.repositories.Specifications;
 import data.repositories.exceptions.RepositoryException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,16 +48,37 @@ public class TransportPassengersServiceService implements ITransportPassengersSe
         }
         logger.debug("Creating {} with DTO: {}", Constants.TRANSPORT_PASSENGERS_SERVICE, dto);
         try {
-            TransportPassengersService entity = transportServiceMapper.toEntity(dto);
-            TransportPassengersService created = transportServiceRepo.create(entity);
-            logger.info("{} created with ID: {}", Constants.TRANSPORT_PASSENGERS_SERVICE, created.getId());
-            return transportServiceMapper.toViewDTO(created);
+            return transportServiceRepo.executeInUnitOfWork(() -> {
+                TransportPassengersService entity = transportServiceMapper.toEntity(dto);
+                TransportPassengersService created = transportServiceRepo.create(entity);
+                logger.info("{} created with ID: {}", Constants.TRANSPORT_PASSENGERS_SERVICE, created.getId());
+                return transportServiceMapper.toViewDTO(created);
+            });
         } catch (RepositoryException e) {
             logger.error("Failed to create {}: numberOfPassengers={}, cause: {}", Constants.TRANSPORT_PASSENGERS_SERVICE, dto.getNumberOfPassengers(), e.getMessage(), e);
             throw e;
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public BulkOperationResult<TransportPassengersServiceViewDTO> createAll(List<TransportPassengersServiceCreateDTO> dtos) {
+        if (dtos == null || dtos.contains(null)) {
+            logger.error("Cannot create {} list: list or element is null", Constants.TRANSPORT_PASSENGERS_SERVICE);
+            throw new IllegalArgumentException("TransportPassengersServiceCreateDTO list and its elements must not be null");
+        }
+        logger.debug("Creating {} {} entities", dtos.size(), Constants.TRANSPORT_PASSENGERS_SERVICE);
+        try {
+            List<TransportPassengersService> entities = transportServiceMapper.toEntities(dtos);
+            BulkOperationResult<TransportPassengersService> result = transportServiceRepo.createAll(entities);
+            logger.info("Created {} {} entities, {} rejected", result.getSuccessCount(), Constants.TRANSPORT_PASSENGERS_SERVICE, result.getFailureCount());
+            return result.map(transportServiceMapper::toViewDTO);
+        } catch (RepositoryException e) {
+            logger.error("Failed to create {} list, cause: {}", Constants.TRANSPORT_PASSENGERS_SERVICE, e.getMessage(), e);
+            throw e;
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public TransportPassengersServiceViewDTO update(TransportPassengersServiceUpdateDTO dto) {
@@ -62,12 +88,14 @@ public class TransportPassengersServiceService implements ITransportPassengersSe
         }
         logger.debug("Updating {} with DTO: {}", Constants.TRANSPORT_PASSENGERS_SERVICE, dto);
         try {
-            TransportPassengersService existing = transportServiceRepo.getById(dto.getId(), "destination")
-                    .orElseThrow(() -> new RepositoryException("TransportPassengersService not found with ID: " + dto.getId()));
-            transportServiceMapper.toEntity(dto, existing);
-            TransportPassengersServiceViewDTO result = transportServiceRepo.updateAndMap(existing, transportServiceMapper::toViewDTO, null);
-            logger.info("{} updated with ID: {}", Constants.TRANSPORT_PASSENGERS_SERVICE, result.getId());
-            return result;
+            return transportServiceRepo.executeInUnitOfWork(() -> {
+                TransportPassengersService existing = transportServiceRepo.getById(dto.getId(), "destination")
+                        .orElseThrow(() -> new RepositoryException("TransportPassengersService not found with ID: " + dto.getId()));
+                transportServiceMapper.toEntity(dto, existing);
+                TransportPassengersServiceViewDTO result = transportServiceRepo.updateAndMap(existing, transportServiceMapper::toViewDTO, null);
+                logger.info("{} updated with ID: {}", Constants.TRANSPORT_PASSENGERS_SERVICE, result.getId());
+                return result;
+            });
         } catch (RepositoryException e) {
             logger.error("Failed to update {} with ID: {}, cause: {}", Constants.TRANSPORT_PASSENGERS_SERVICE, dto.getId(), e.getMessage(), e);
             throw e;
@@ -83,9 +111,12 @@ public class TransportPassengersServiceService implements ITransportPassengersSe
         }
         logger.debug("Deleting {} with ID: {}", Constants.TRANSPORT_PASSENGERS_SERVICE, id);
         try {
-            TransportPassengersService entity = transportServiceRepo.getById(id)
-                    .orElseThrow(() -> new RepositoryException("TransportPassengersService not found with ID: " + id));
-            transportServiceRepo.delete(entity);
+            transportServiceRepo.executeInUnitOfWork(() -> {
+                TransportPassengersService entity = transportServiceRepo.getById(id)
+                        .orElseThrow(() -> new RepositoryException("TransportPassengersService not found with ID: " + id));
+                transportServiceRepo.delete(entity);
+                return null;
+            });
             logger.info("{} deleted with ID: {}", Constants.TRANSPORT_PASSENGERS_SERVICE, id);
         } catch (RepositoryException e) {
             logger.error("Failed to delete {} with ID: {}, cause: {}", Constants.TRANSPORT_PASSENGERS_SERVICE, id, e.getMessage(), e);
@@ -120,19 +151,20 @@ public class TransportPassengersServiceService implements ITransportPassengersSe
     public List<TransportPassengersServiceViewDTO> getAll(int page, int size, String orderBy, boolean ascending, String filter) {
         logger.debug("Retrieving all {}: page={}, size={}, orderBy={}, ascending={}, filter={}", Constants.TRANSPORT_PASSENGERS_SERVICE, page, size, orderBy, ascending, filter);
         try {
-            List<TransportPassengersServiceViewDTO> result = transportServiceRepo.getAllAndMap(
-                    page, size, orderBy, ascending, transportServiceMapper::toViewDTO, "destination"
-            );
+            Map<String, Object> conditions = new HashMap<>();
             if (filter != null && !filter.trim().isEmpty()) {
                 try {
-                    int filterPassengers = Integer.parseInt(filter.trim());
-                    result = result.stream()
-                            .filter(s -> s.getNumberOfPassengers() == filterPassengers)
-                            .collect(Collectors.toList());
+                    conditions.put("numberOfPassengers", Integer.parseInt(filter.trim()));
                 } catch (NumberFormatException e) {
                     logger.warn("Invalid filter value for numberOfPassengers: {}", filter);
                 }
             }
+            // Filter in the query, before paging; the views only read foreign key ids, so no session is needed to map
+            List<TransportPassengersServiceViewDTO> result =
+                    transportServiceRepo.findByCriteria(conditions, orderBy, ascending, page, size, "destination")
+                            .stream()
+                            .map(transportServiceMapper::toViewDTO)
+                            .collect(Collectors.toList());
             logger.info("Retrieved {} {}", result.size(), Constants.TRANSPORT_PASSENGERS_SERVICE);
             return result;
         } catch (RepositoryException e) {
@@ -163,8 +195,7 @@ public class TransportPassengersServiceService implements ITransportPassengersSe
     public int getTotalTransportCount() {
         logger.debug("Retrieving total count of {}", Constants.TRANSPORT_PASSENGERS_SERVICE);
         try {
-            List<TransportPassengersService> services = transportServiceRepo.getAll(0, Integer.MAX_VALUE, null, true);
-            int count = services.size();
+            int count = Math.toIntExact(transportServiceRepo.count());
             logger.info("Total count of {}: {}", Constants.TRANSPORT_PASSENGERS_SERVICE, count);
             return count;
         } catch (RepositoryException e) {
@@ -178,10 +209,15 @@ public class TransportPassengersServiceService implements ITransportPassengersSe
     public List<TransportPassengersServiceViewDTO> getActiveServices(int page, int size, String orderBy, boolean ascending) {
         logger.debug("Retrieving active {}: page={}, size={}, orderBy={}, ascending={}", Constants.TRANSPORT_PASSENGERS_SERVICE, page, size, orderBy, ascending);
         try {
-            Map<String, Object> conditions = new HashMap<>();
-            conditions.put("startingDate", LocalDate.now());
-            conditions.put("delivered", false);
-            List<TransportPassengersService> services = transportServiceRepo.findByCriteria(conditions, orderBy, ascending, page, size, "destination");
+            LocalDate today = LocalDate.now();
+            // Started and not yet ended; a service without an ending date lasts only its starting day
+            ISpecification<TransportPassengersService> active = Specifications.and(
+                    Specifications.equal("delivered", false),
+                    Specifications.lte("startingDate", today),
+                    Specifications.or(
+                            Specifications.gte("endingDate", today),
+                            Specifications.and(Specifications.isNull("endingDate"), Specifications.equal("startingDate", today))));
+            List<TransportPassengersService> services = transportServiceRepo.findBySpecification(active, orderBy, ascending, page, size, null);
             List<TransportPassengersServiceViewDTO> result = services.stream()
                     .map(transportServiceMapper::toViewDTO)
                     .collect(Collectors.toList());
@@ -261,4 +297,42 @@ public class TransportPassengersServiceService implements ITransportPassengersSe
             throw e;
         }
     }
-}
\ No newline at end of file
+
+    /** {@inheritDoc} */
+    @Override
+    public KeysetPage<TransportPassengersServiceViewDTO> getByCompany(Long companyId, KeysetCursor after, int size) {
+        if (companyId == null) {
+            logger.error("Cannot retrieve {}: Company ID is null", Constants.TRANSPORT_PASSENGERS_SERVICE);
+            throw new IllegalArgumentException("Company ID must not be null");
+        }
+        logger.debug("Retrieving {} by company ID: {} after cursor: {}, size: {}", Constants.TRANSPORT_PASSENGERS_SERVICE, companyId, after, size);
+        try {
+            return findPageAfter("transportCompany.id", companyId, after, size);
+        } catch (RepositoryException e) {
+            logger.error("Failed to retrieve {} by company ID: {}, cause: {}", Constants.TRANSPORT_PASSENGERS_SERVICE, companyId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public KeysetPage<TransportPassengersServiceViewDTO> getByDriver(Long driverId, KeysetCursor after, int size) {
+        if (driverId == null) {
+            logger.error("Cannot retrieve {}: Driver ID is null", Constants.TRANSPORT_PASSENGERS_SERVICE);
+            throw new IllegalArgumentException("Driver ID must not be null");
+        }
+        logger.debug("Retrieving {} by driver ID: {} after cursor: {}, size: {}", Constants.TRANSPORT_PASSENGERS_SERVICE, driverId, after, size);
+        try {
+            return findPageAfter("driver.id", driverId, after, size);
+        } catch (RepositoryException e) {
+            logger.error("Failed to retrieve {} by driver ID: {}, cause: {}", Constants.TRANSPORT_PASSENGERS_SERVICE, driverId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    private KeysetPage<TransportPassengersServiceViewDTO> findPageAfter(String ownerField, Long ownerId, KeysetCursor after, int size) {
+        Map<String, Object> conditions = new HashMap<>();
+        conditions.put(ownerField, ownerId);
+        return transportServiceRepo.findPageAfter(conditions, "startingDate", true, after, size, "destination").map(transportServiceMapper::toViewDTO);
+    }
+}
@@ -46,10 +46,12 @@ public class TruckService implements ITruckService {
         }
         logger.debug("Creating {} with DTO: {}", Constants.TRUCK, dto);
         try {
-            Truck entity = truckMapper.toEntity(dto);
-            Truck created = truckRepo.create(entity);
-            logger.info("{} created with ID: {}", Constants.TRUCK, created.getId());
-            return truckMapper.toViewDTO(created);
+            return truckRepo.executeInUnitOfWork(() -> {
+                Truck entity = truckMapper.toEntity(dto);
+                Truck created = truckRepo.create(entity);
+                logger.info("{} created with ID: {}", Constants.TRUCK, created.getId());
+                return truckMapper.toViewDTO(created);
+            });
         } catch (RepositoryException e) {
             logger.error("Failed to create {} with registration plate: {}, cause: {}", Constants.TRUCK, dto.getRegistrationPlate(), e.getMessage(), e);
             throw e;
@@ -63,12 +65,14 @@ public class TruckService implements ITruckService {
         }
         logger.debug("Updating {} with DTO: {}", Constants.TRUCK, dto);
         try {
-            Truck existing = truckRepo.getById(dto.getId())
-                    .orElseThrow(() -> new RepositoryException("Truck not found with ID: " + dto.getId()));
-            truckMapper.toEntity(dto, existing);
-            TruckViewDTO result = truckRepo.updateAndMap(existing, truckMapper::toViewDTO, null);
-            logger.info("{} updated with ID: {}", Constants.TRUCK, result.getId());
-            return result;
+            return truckRepo.executeInUnitOfWork(() -> {
+                Truck existing = truckRepo.getById(dto.getId())
+                        .orElseThrow(() -> new RepositoryException("Truck not found with ID: " + dto.getId()));
+                truckMapper.toEntity(dto, existing);
+                TruckViewDTO result = truckRepo.updateAndMap(existing, truckMapper::toViewDTO, null);
+                logger.info("{} updated with ID: {}", Constants.TRUCK, result.getId());
+                return result;
+            });
         } catch (RepositoryException e) {
             logger.error("Failed to update {} with ID: {}, cause: {}", Constants.TRUCK, dto.getId(), e.getMessage(), e);
             throw e;
@@ -82,9 +86,12 @@ public class TruckService implements ITruckService {
         }
         logger.debug("Deleting {} with ID: {}", Constants.TRUCK, id);
         try {
-            Truck entity = truckRepo.getById(id)
-                    .orElseThrow(() -> new RepositoryException("Truck not found with ID: " + id));
-            truckRepo.delete(entity);
+            truckRepo.executeInUnitOfWork(() -> {
+                Truck entity = truckRepo.getById(id)
+                        .orElseThrow(() -> new RepositoryException("Truck not found with ID: " + id));
+                truckRepo.delete(entity);
+                return null;
+            });
             logger.info("{} deleted with ID: {}", Constants.TRUCK, id);
         } catch (RepositoryException e) {
             logger.error("Failed to delete {} with ID: {}, cause: {}", Constants.TRUCK, id, e.getMessage(), e);
@@ -46,13 +46,15 @@ public class VanService implements IVanService {
         }
         logger.debug("Creating {} with DTO: {}", Constants.VAN, dto);
         try {
-            Van entity = vanMapper.toEntity(dto);
-            TransportCompany company = companyRepo.getById(dto.getTransportCompanyId())
-                    .orElseThrow(() -> new RepositoryException("Transport company not found with ID: " + dto.getTransportCompanyId()));
-            entity.setTransportCompany(company);
-            Van created = vanRepo.create(entity);
-            logger.info("{} created with ID: {}", Constants.VAN, created.getId());
-            return vanMapper.toViewDTO(created);
+            return vanRepo.executeInUnitOfWork(() -> {
+                Van entity = vanMapper.toEntity(dto);
+                TransportCompany company = companyRepo.getById(dto.getTransportCompanyId())
+                        .orElseThrow(() -> new RepositoryException("Transport company not found with ID: " + dto.getTransportCompanyId()));
+                entity.setTransportCompany(company);
+                Van created = vanRepo.create(entity);
+                logger.info("{} created with ID: {}", Constants.VAN, created.getId());
+                return vanMapper.toViewDTO(created);
+            });
         } catch (RepositoryException e) {
             logger.error("Failed to create {} with registration plate: {}, cause: {}", Constants.VAN, dto.getRegistrationPlate(), e.getMessage(), e);
             throw e;
@@ -66,17 +68,19 @@ public class VanService implements IVanService {
         }
         logger.debug("Updating {} with DTO: {}", Constants.VAN, dto);
         try {
-            Van existing = vanRepo.getById(dto.getId())
-                    .orElseThrow(() -> new RepositoryException("Van not found with ID: " + dto.getId()));
-            vanMapper.toEntity(dto, existing);
-            if (dto.getTransportCompanyId() != null) {
-                TransportCompany company = companyRepo.getById(dto.getTransportCompanyId())
-                        .orElseThrow(() -> new RepositoryException("Transport company not found with ID: " + dto.getTransportCompanyId()));
-                existing.setTransportCompany(company);
-            }
-            VanViewDTO result = vanRepo.updateAndMap(existing, vanMapper::toViewDTO, null);
-            logger.info("{} updated with ID: {}", Constants.VAN, result.getId());
-            return result;
+            return vanRepo.executeInUnitOfWork(() -> {
+                Van existing = vanRepo.getById(dto.getId())
+                        .orElseThrow(() -> new RepositoryException("Van not found with ID: " + dto.getId()));
+                vanMapper.toEntity(dto, existing);
+                if (dto.getTransportCompanyId() != null) {
+                    TransportCompany company = companyRepo.getById(dto.getTransportCompanyId())
+                            .orElseThrow(() -> new RepositoryException("Transport company not found with ID: " + dto.getTransportCompanyId()));
+                    existing.setTransportCompany(company);
+                }
+                VanViewDTO result = vanRepo.updateAndMap(existing, vanMapper::toViewDTO, null);
+                logger.info("{} updated with ID: {}", Constants.VAN, result.getId());
+                return result;
+            });
         } catch (RepositoryException e) {
             logger.error("Failed to update {} with ID: {}, cause: {}", Constants.VAN, dto.getId(), e.getMessage(), e);
             throw e;
@@ -90,9 +94,12 @@ public class VanService implements IVanService {
         }
         logger.debug("Deleting {} with ID: {}", Constants.VAN, id);
         try {
-            Van entity = vanRepo.getById(id)
-                    .orElseThrow(() -> new RepositoryException("Van not found with ID: " + id));
-            vanRepo.delete(entity);
+            vanRepo.executeInUnitOfWork(() -> {
+                Van entity = vanRepo.getById(id)
+                        .orElseThrow(() -> new RepositoryException("Van not found with ID: " + id));
+                vanRepo.delete(entity);
+                return null;
+            });
             logger.info("{} deleted with ID: {}", Constants.VAN, id);
         } catch (RepositoryException e) {
             logger.error("Failed to delete {} with ID: {}, cause: {}", Constants.VAN, id, e.getMessage(), e);
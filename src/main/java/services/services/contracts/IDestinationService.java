@@ -81,6 +81,7 @@ public interface IDestinationService {
 
     /**
      * Retrieves a list of transport services associated with each destination.
+     * Services are streamed from the database, but the returned map holds a view DTO for every service.
      *
      * @return a map where keys are destination IDs and values are lists of transport service view DTOs
      * @throws RepositoryException if the query fails (e.g., database errors)
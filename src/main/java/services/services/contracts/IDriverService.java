@@ -81,6 +81,7 @@ public interface IDriverService {
 
     /**
      * Retrieves all drivers sorted by their salary, optionally fetching relationships.
+     * Drivers are streamed from the database, but the returned list holds a view DTO for every driver.
      *
      * @param ascending true for ascending order, false for descending
      * @param fetchRelations the relationships to eagerly fetch (e.g., "qualifications"); may be null or empty
@@ -1,5 +1,8 @@
 package services.services.contracts;
 
+import data.repositories.BulkOperationResult;
+import data.repositories.KeysetCursor;
+import data.repositories.KeysetPage;
 import data.repositories.exceptions.RepositoryException;
 import services.data.dto.transportservices.TransportCargoServiceCreateDTO;
 import services.data.dto.transportservices.TransportCargoServiceUpdateDTO;
@@ -26,6 +29,16 @@ public interface ITransportCargoServiceService {
      */
     TransportCargoServiceViewDTO create(TransportCargoServiceCreateDTO dto);
 
+    /**
+     * Creates many cargo transport services with one bulk insert, e.g. when importing them from a file.
+     * Services rejected by the database (e.g., with invalid references) are reported in the result instead of aborting the import.
+     *
+     * @param dtos The DTOs containing cargo service creation data.
+     * @return The view DTOs of the created cargo services and the rejected ones.
+     * @throws IllegalArgumentException if the list is null or contains null.
+     */
+    BulkOperationResult<TransportCargoServiceViewDTO> createAll(List<TransportCargoServiceCreateDTO> dtos);
+
     /**
      * Updates an existing cargo transport service based on the provided DTO.
      *
@@ -113,4 +126,30 @@ public interface ITransportCargoServiceService {
      */
     List<TransportCargoServiceViewDTO> getActiveServices(int page, int size);
 
-}
\ No newline at end of file
+
+    /**
+     * Retrieves the next page of cargo transport services of a transport company using keyset pagination,
+     * ordered by starting date and ID. Unlike the page-number variant, the cost does not grow with page depth.
+     *
+     * @param companyId the ID of the transport company
+     * @param after     the cursor returned with the previous page, or null for the first page
+     * @param size      the maximum number of items in the page
+     * @return the page and the cursor for the next one
+     * @throws IllegalArgumentException if the company ID is null
+     * @throws RepositoryException if the query fails (e.g., database errors)
+     */
+    KeysetPage<TransportCargoServiceViewDTO> getByCompany(Long companyId, KeysetCursor after, int size);
+
+    /**
+     * Retrieves the next page of cargo transport services of a driver using keyset pagination,
+     * ordered by starting date and ID.
+     *
+     * @param driverId the ID of the driver
+     * @param after    the cursor returned with the previous page, or null for the first page
+     * @param size     the maximum number of items in the page
+     * @return the page and the cursor for the next one
+     * @throws IllegalArgumentException if the driver ID is null
+     * @throws RepositoryException if the query fails (e.g., database errors)
+     */
+    KeysetPage<TransportCargoServiceViewDTO> getByDriver(Long driverId, KeysetCursor after, int size);
+}
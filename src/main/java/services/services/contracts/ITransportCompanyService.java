@@ -1,5 +1,7 @@
 package services.services.contracts;
 
+import data.repositories.KeysetCursor;
+import data.repositories.KeysetPage;
 import data.repositories.exceptions.RepositoryException;
 import services.data.dto.clients.ClientViewDTO;
 import services.data.dto.companies.TransportCompanyCreateDTO;
@@ -10,6 +12,7 @@ import services.data.dto.transportservices.TransportServiceViewDTO;
 import services.data.dto.vehicles.VehicleViewDTO;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -114,6 +117,19 @@ public interface ITransportCompanyService {
      */
     public List<TransportServiceViewDTO> getTransportServicesByCompany(Long companyId);
 
+    /**
+     * Retrieves the next page of transport services of a transport company using keyset pagination,
+     * ordered by starting date and ID, e.g. to export them without loading all of them at once.
+     *
+     * @param companyId the ID of the transport company
+     * @param after     the cursor returned with the previous page, or null for the first page
+     * @param size      the maximum number of items in the page
+     * @return the page and the cursor for the next one
+     * @throws IllegalArgumentException if the company ID is null
+     * @throws RepositoryException      if the query fails (e.g., database errors)
+     */
+    public KeysetPage<TransportServiceViewDTO> getTransportServicesByCompany(Long companyId, KeysetCursor after, int size);
+
     /**
      * Retrieves the count of employees per transport company.
      *
@@ -132,6 +148,18 @@ public interface ITransportCompanyService {
      */
     public BigDecimal getTotalRevenue(Long companyId);
 
+    /**
+     * Retrieves the revenue of a transport company from the services starting within a period.
+     *
+     * @param companyId the ID of the transport company
+     * @param from      the first day of the period, inclusive
+     * @param to        the last day of the period, inclusive
+     * @return the revenue as a BigDecimal, zero if no service starts in the period
+     * @throws IllegalArgumentException if an argument is null or from is after to
+     * @throws RepositoryException if the query fails (e.g., database errors)
+     */
+    public BigDecimal getRevenueForPeriod(Long companyId, LocalDate from, LocalDate to);
+
     /**
      * Retrieves the total number of transport services for a specific transport company.
      *
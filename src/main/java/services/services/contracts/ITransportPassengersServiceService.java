@@ -1,5 +1,8 @@
 package services.services.contracts;
 
+import data.repositories.BulkOperationResult;
+import data.repositories.KeysetCursor;
+import data.repositories.KeysetPage;
 import data.repositories.exceptions.RepositoryException;
 import services.data.dto.transportservices.TransportPassengersServiceCreateDTO;
 import services.data.dto.transportservices.TransportPassengersServiceUpdateDTO;
@@ -23,6 +26,17 @@ public interface ITransportPassengersServiceService {
      */
     TransportPassengersServiceViewDTO create(TransportPassengersServiceCreateDTO dto);
 
+    /**
+     * Creates many transport passengers services with one bulk insert, e.g. when importing them from a file.
+     * Services rejected by the database are reported in the result instead of aborting the import.
+     *
+     * @param dtos the DTOs containing data for the new transport passengers services
+     * @return the view DTOs of the created services and the rejected ones
+     * @throws IllegalArgumentException if the list is null or contains null
+     * @throws RepositoryException if the related entities cannot be loaded
+     */
+    BulkOperationResult<TransportPassengersServiceViewDTO> createAll(List<TransportPassengersServiceCreateDTO> dtos);
+
     /**
      * Updates an existing transport passengers service based on the provided DTO.
      *
@@ -137,4 +151,30 @@ public interface ITransportPassengersServiceService {
      * @throws RepositoryException if retrieval fails due to database errors
      */
     List<TransportPassengersServiceViewDTO> getByCompany(Long companyId, int page, int size, String orderBy, boolean ascending);
-}
\ No newline at end of file
+
+    /**
+     * Retrieves the next page of transport passengers services of a transport company using keyset pagination,
+     * ordered by starting date and ID. Unlike the page-number variant, the cost does not grow with page depth.
+     *
+     * @param companyId the ID of the transport company
+     * @param after     the cursor returned with the previous page, or null for the first page
+     * @param size      the maximum number of items in the page
+     * @return the page and the cursor for the next one
+     * @throws IllegalArgumentException if the company ID is null
+     * @throws RepositoryException if the query fails (e.g., database errors)
+     */
+    KeysetPage<TransportPassengersServiceViewDTO> getByCompany(Long companyId, KeysetCursor after, int size);
+
+    /**
+     * Retrieves the next page of transport passengers services of a driver using keyset pagination,
+     * ordered by starting date and ID.
+     *
+     * @param driverId the ID of the driver
+     * @param after    the cursor returned with the previous page, or null for the first page
+     * @param size     the maximum number of items in the page
+     * @return the page and the cursor for the next one
+     * @throws IllegalArgumentException if the driver ID is null
+     * @throws RepositoryException if the query fails (e.g., database errors)
+     */
+    KeysetPage<TransportPassengersServiceViewDTO> getByDriver(Long driverId, KeysetCursor after, int size);
+}
@@ -15,6 +15,7 @@ import data.models.transportservices.TransportService;
 import data.models.vehicles.*;
 import data.repositories.GenericRepository;
 import data.repositories.IGenericRepository;
+import data.repositories.exceptions.RepositoryException;
 import org.hibernate.SessionFactory;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
 import org.hibernate.cfg.Configuration;
@@ -22,7 +23,11 @@ import org.hibernate.service.ServiceRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -113,6 +118,23 @@ public class GenericSeederTest {
         assertEquals("Existing Co", companies.getFirst().getName());
     }
 
+    @Test
+    void seed_EntityWithoutNameAttribute_SeedsData(@TempDir Path tempDir) throws IOException {
+        // Arrange: destinations have no "name" attribute to sort by
+        IGenericRepository<Destination, Long> destinationRepo = new GenericRepository<>(sessionFactory, Destination.class);
+        Path seedFile = Files.writeString(tempDir.resolve("destinations.json"),
+                "[{\"startingLocation\":\"Sofia\",\"endingLocation\":\"Varna\"}]");
+        GenericSeeder<Destination, Long> seeder = new GenericSeeder<>(
+                destinationRepo, seedFile.toString(), Destination.class, gson, null);
+
+        // Act
+        seeder.seed();
+        seeder.seed();
+
+        // Assert: the second run sees the seeded row and skips
+        assertEquals(1L, destinationRepo.count());
+    }
+
     @Test
     void seed_EmptyJsonFile_SkipsSeeding() {
         // Arrange
@@ -147,4 +169,106 @@ public class GenericSeederTest {
         assertThrows(NullPointerException.class, () -> new GenericSeeder<>(companyRepo, "path", null, gson, null));
         assertThrows(NullPointerException.class, () -> new GenericSeeder<>(companyRepo, "path", TransportCompany.class, null, null));
     }
-}
\ No newline at end of file
+
+    @Test
+    void seed_StreamingMode_SeedsFileInBatches(@TempDir Path tempDir) throws IOException {
+        // Arrange: more rows than one batch, with a partial last batch
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 250; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"name\":\"Company ").append(i).append("\",\"address\":\"Sofia\"}");
+        }
+        Path seedFile = Files.writeString(tempDir.resolve("companies.json"), json.append("]"));
+        GenericSeeder<TransportCompany, Long> seeder = new GenericSeeder<>(
+                companyRepo, seedFile.toString(), TransportCompany.class, gson, null, 100);
+
+        // Act
+        seeder.seed();
+
+        // Assert
+        assertEquals(250L, companyRepo.count());
+    }
+
+    @Test
+    void seed_StreamingModeWithRejectedRow_SeedsTheRestAndThrows(@TempDir Path tempDir) throws IOException {
+        // Arrange: the third company repeats a unique name
+        Path seedFile = Files.writeString(tempDir.resolve("companies.json"),
+                "[{\"name\":\"A\",\"address\":\"Sofia\"},{\"name\":\"B\",\"address\":\"Varna\"}," +
+                        "{\"name\":\"A\",\"address\":\"Ruse\"},{\"name\":\"C\",\"address\":\"Burgas\"}]");
+        GenericSeeder<TransportCompany, Long> seeder = new GenericSeeder<>(
+                companyRepo, seedFile.toString(), TransportCompany.class, gson, null, 2);
+
+        // Act & Assert
+        assertThrows(RepositoryException.class, () -> seeder.seed());
+        assertEquals(3L, companyRepo.count());
+    }
+
+    @Test
+    void seed_StreamingModeEmptyJsonFile_SkipsSeeding() {
+        // Arrange
+        GenericSeeder<Qualification, Long> seeder = new GenericSeeder<>(
+                qualificationRepo, "seed/empty.json", Qualification.class, gson, null, 10);
+
+        // Act
+        seeder.seed();
+
+        // Assert
+        assertTrue(qualificationRepo.getAll(0, 10, "name", true).isEmpty());
+    }
+
+    @Test
+    void seed_AfterPrepare_SeedsPreparedData(@TempDir Path tempDir) throws IOException {
+        // Arrange: the file is parsed by prepare and gone by the time seed runs
+        Path seedFile = Files.writeString(tempDir.resolve("companies.json"), "[{\"name\":\"A\",\"address\":\"Sofia\"}]");
+        GenericSeeder<TransportCompany, Long> seeder = new GenericSeeder<>(
+                companyRepo, seedFile.toString(), TransportCompany.class, gson, null);
+        seeder.prepare();
+        Files.delete(seedFile);
+
+        // Act
+        seeder.seed();
+
+        // Assert
+        assertEquals(1L, companyRepo.count());
+    }
+
+    @Test
+    void prepare_NonEmptyDatabaseWithMalformedFile_DoesNotParseTheFile(@TempDir Path tempDir) throws IOException {
+        // Arrange: the table is populated, so the broken seed file must never be read
+        companyRepo.create(new TransportCompany("Existing Co", "456 Oak Ave"));
+        Path seedFile = Files.writeString(tempDir.resolve("companies.json"), "[{\"name\":");
+        GenericSeeder<TransportCompany, Long> seeder = new GenericSeeder<>(
+                companyRepo, seedFile.toString(), TransportCompany.class, gson, null);
+
+        // Act
+        seeder.prepare();
+        seeder.seed();
+
+        // Assert
+        assertEquals(1L, companyRepo.count());
+    }
+
+    @Test
+    void seed_TablePopulatedAfterPrepare_SkipsAndDropsPreparedData(@TempDir Path tempDir) throws IOException {
+        // Arrange: another process fills the table between prepare and seed
+        Path seedFile = Files.writeString(tempDir.resolve("companies.json"), "[{\"name\":\"A\",\"address\":\"Sofia\"}]");
+        GenericSeeder<TransportCompany, Long> seeder = new GenericSeeder<>(
+                companyRepo, seedFile.toString(), TransportCompany.class, gson, null);
+        seeder.prepare();
+        TransportCompany existing = companyRepo.create(new TransportCompany("Existing Co", "456 Oak Ave"));
+
+        // Act: the skipped run must not leave the parsed data for a later run
+        seeder.seed();
+        companyRepo.delete(existing);
+        Files.delete(seedFile);
+
+        // Assert
+        assertThrows(RuntimeException.class, seeder::seed);
+        assertEquals(0L, companyRepo.count());
+    }
+
+    @Test
+    void constructor_NonPositiveBatchSize_ThrowsIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new GenericSeeder<>(companyRepo, "path", TransportCompany.class, gson, null, 0));
+    }
+}
@@ -0,0 +1,169 @@
+package data.common.seeding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SeedingOrchestratorTest {
+
+    @Test
+    void seedAll_WithDependencies_SeedsDependenciesFirst() {
+        // Arrange: registered in reverse order of their dependencies
+        List<String> seeded = Collections.synchronizedList(new ArrayList<>());
+        SeedingOrchestrator orchestrator = new SeedingOrchestrator(4)
+                .register("services", () -> seeded.add("services"), "vehicles")
+                .register("vehicles", () -> seeded.add("vehicles"), "companies")
+                .register("companies", () -> seeded.add("companies"));
+
+        // Act
+        orchestrator.seedAll();
+
+        // Assert
+        assertEquals(List.of("companies", "vehicles", "services"), seeded);
+    }
+
+    @Test
+    void seedAll_IndependentSeeders_RunConcurrently() {
+        // Arrange: each seeder waits until the other has started
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        ISeeder<Object, Long> waiting = () -> {
+            bothStarted.countDown();
+            try {
+                if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Seeders did not run concurrently");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        };
+        SeedingOrchestrator orchestrator = new SeedingOrchestrator(2)
+                .register("qualifications", waiting)
+                .register("companies", waiting);
+
+        // Act & Assert
+        assertDoesNotThrow(orchestrator::seedAll);
+    }
+
+    @Test
+    void seedAll_PrepareStep_RunsBeforeSeed() {
+        // Arrange
+        List<String> steps = Collections.synchronizedList(new ArrayList<>());
+        ISeeder<Object, Long> seeder = new ISeeder<>() {
+            @Override
+            public void prepare() {
+                steps.add("prepare");
+            }
+
+            @Override
+            public void seed() {
+                steps.add("seed");
+            }
+        };
+        SeedingOrchestrator orchestrator = new SeedingOrchestrator(1).register("companies", seeder);
+
+        // Act
+        orchestrator.seedAll();
+
+        // Assert
+        assertEquals(List.of("prepare", "seed"), steps);
+    }
+
+    @Test
+    void seedAll_PrepareStep_StartsWhenDependenciesStartSeeding() {
+        // Arrange: companies only finish inserting once vehicles have parsed their file
+        List<String> steps = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch vehiclesPrepared = new CountDownLatch(1);
+        SeedingOrchestrator orchestrator = new SeedingOrchestrator(4)
+                .register("companies", recording("companies", steps, () -> {
+                    try {
+                        if (!vehiclesPrepared.await(5, TimeUnit.SECONDS)) {
+                            throw new IllegalStateException("Vehicles were not prepared while companies were seeding");
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException(e);
+                    }
+                }, () -> { }))
+                .register("vehicles", recording("vehicles", steps, () -> { }, vehiclesPrepared::countDown), "companies")
+                .register("services", recording("services", steps, () -> { }, () -> { }), "vehicles");
+
+        // Act
+        orchestrator.seedAll();
+
+        // Assert
+        assertTrue(steps.indexOf("seed companies") < steps.indexOf("prepare vehicles"));
+        assertTrue(steps.indexOf("seed vehicles") < steps.indexOf("prepare services"));
+    }
+
+    private static ISeeder<Object, Long> recording(String name, List<String> steps, Runnable onSeed, Runnable onPrepare) {
+        return new ISeeder<>() {
+            @Override
+            public void prepare() {
+                steps.add("prepare " + name);
+                onPrepare.run();
+            }
+
+            @Override
+            public void seed() {
+                steps.add("seed " + name);
+                onSeed.run();
+            }
+        };
+    }
+
+    @Test
+    void seedAll_WhenSeederFails_SkipsDependentsAndThrows() {
+        // Arrange
+        List<String> seeded = Collections.synchronizedList(new ArrayList<>());
+        IllegalStateException failure = new IllegalStateException("Seed file is corrupt");
+        SeedingOrchestrator orchestrator = new SeedingOrchestrator(2)
+                .register("companies", () -> { throw failure; })
+                .register("vehicles", () -> seeded.add("vehicles"), "companies")
+                .register("qualifications", () -> seeded.add("qualifications"));
+
+        // Act
+        RuntimeException exception = assertThrows(RuntimeException.class, orchestrator::seedAll);
+
+        // Assert
+        assertSame(failure, exception.getCause());
+        assertTrue(exception.getMessage().contains("skipped [vehicles]"));
+        assertEquals(List.of("qualifications"), seeded);
+    }
+
+    @Test
+    void seedAll_UnknownDependency_ThrowsIllegalArgumentException() {
+        // Arrange
+        SeedingOrchestrator orchestrator = new SeedingOrchestrator(1)
+                .register("vehicles", () -> { }, "companies");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, orchestrator::seedAll);
+    }
+
+    @Test
+    void seedAll_DependencyCycle_ThrowsIllegalArgumentException() {
+        // Arrange
+        SeedingOrchestrator orchestrator = new SeedingOrchestrator(1)
+                .register("companies", () -> { }, "vehicles")
+                .register("vehicles", () -> { }, "companies");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, orchestrator::seedAll);
+    }
+
+    @Test
+    void register_DuplicateName_ThrowsIllegalArgumentException() {
+        // Arrange
+        SeedingOrchestrator orchestrator = new SeedingOrchestrator(1).register("companies", () -> { });
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> orchestrator.register("companies", () -> { }));
+    }
+}
@@ -0,0 +1,196 @@
+package data.repositories;
+
+import data.models.Client;
+import data.models.TransportCompany;
+import data.models.employee.*;
+import data.models.transportservices.*;
+import data.models.vehicles.*;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.service.ServiceRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachingRepositoryTest {
+    private SessionFactory sessionFactory;
+    private GenericRepository<Qualification, Long> qualificationRepo;
+    private final AtomicLong clock = new AtomicLong();
+    private CachingRepository<Qualification> cachingRepo;
+    private Qualification heavyDuty;
+    private Qualification hazardous;
+
+    @BeforeEach
+    void setUp() {
+        Configuration configuration = new Configuration();
+        configuration.addAnnotatedClass(TransportCompany.class);
+        configuration.addAnnotatedClass(Client.class);
+        configuration.addAnnotatedClass(Employee.class);
+        configuration.addAnnotatedClass(Driver.class);
+        configuration.addAnnotatedClass(Dispatcher.class);
+        configuration.addAnnotatedClass(Qualification.class);
+        configuration.addAnnotatedClass(Destination.class);
+        configuration.addAnnotatedClass(TransportService.class);
+        configuration.addAnnotatedClass(TransportCargoService.class);
+        configuration.addAnnotatedClass(TransportPassengersService.class);
+        configuration.addAnnotatedClass(Vehicle.class);
+        configuration.addAnnotatedClass(TransportCargoVehicle.class);
+        configuration.addAnnotatedClass(TransportPeopleVehicle.class);
+        configuration.addAnnotatedClass(Truck.class);
+        configuration.addAnnotatedClass(Bus.class);
+        configuration.addAnnotatedClass(Van.class);
+        ServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+                .applySettings(configuration.getProperties())
+                .build();
+        sessionFactory = configuration.buildSessionFactory(serviceRegistry);
+
+        qualificationRepo = new GenericRepository<>(sessionFactory, Qualification.class);
+        cachingRepo = new CachingRepository<>(qualificationRepo, 2, Duration.ofMinutes(1), clock::get);
+        heavyDuty = qualificationRepo.create(new Qualification("Heavy Duty License", "For large vehicles"));
+        hazardous = qualificationRepo.create(new Qualification("Hazardous Goods", "ADR certificate"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (sessionFactory != null) sessionFactory.close();
+    }
+
+    @Test
+    void getById_SecondLookup_IsServedFromCache() {
+        Qualification first = cachingRepo.getById(heavyDuty.getId()).orElseThrow();
+        Qualification second = cachingRepo.getById(heavyDuty.getId()).orElseThrow();
+
+        assertSame(first, second);
+        assertEquals(1, cachingRepo.getHitCount());
+        assertEquals(1, cachingRepo.getMissCount());
+        assertEquals(0.5, cachingRepo.getHitRate());
+    }
+
+    @Test
+    void getById_MissingEntity_IsNotCached() {
+        assertTrue(cachingRepo.getById(999L).isEmpty());
+        assertTrue(cachingRepo.getById(999L).isEmpty());
+
+        assertEquals(0, cachingRepo.getHitCount());
+        assertEquals(0, cachingRepo.size());
+    }
+
+    @Test
+    void update_ThroughCache_InvalidatesEntry() {
+        Qualification cached = cachingRepo.getById(heavyDuty.getId()).orElseThrow();
+        cached.setName("Heavy Duty License C+E");
+
+        cachingRepo.update(cached);
+        Qualification reloaded = cachingRepo.getById(heavyDuty.getId()).orElseThrow();
+
+        assertNotSame(cached, reloaded);
+        assertEquals("Heavy Duty License C+E", reloaded.getName());
+        assertEquals(2, cachingRepo.getMissCount());
+    }
+
+    @Test
+    void getById_InsideRolledBackUnitOfWork_ShouldNotCacheChangedEntity() {
+        UnitOfWork unitOfWork = new UnitOfWork(sessionFactory);
+
+        assertThrows(IllegalStateException.class, () -> unitOfWork.execute(() -> {
+            Qualification managed = cachingRepo.getById(heavyDuty.getId()).orElseThrow();
+            managed.setName("Never Committed");
+            throw new IllegalStateException("roll back");
+        }));
+
+        assertEquals(0, cachingRepo.size());
+        assertEquals("Heavy Duty License", cachingRepo.getById(heavyDuty.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void getById_InsideUnitOfWork_ShouldReturnBoundReferenceForCachedEntry() {
+        Qualification cached = cachingRepo.getById(heavyDuty.getId()).orElseThrow();
+        UnitOfWork unitOfWork = new UnitOfWork(sessionFactory);
+        sessionFactory.getStatistics().setStatisticsEnabled(true);
+        sessionFactory.getStatistics().clear();
+
+        List<Qualification> found = unitOfWork.execute(() -> List.of(
+                cachingRepo.getById(heavyDuty.getId()).orElseThrow(),
+                cachingRepo.getAllByIds(List.of(heavyDuty.getId())).getFirst()));
+
+        // The hits confirm the row exists and hand out the session's proxy, never the shared instance
+        assertEquals(0, sessionFactory.getStatistics().getPrepareStatementCount());
+        assertNotSame(cached, found.getFirst());
+        assertNotSame(cached, found.getLast());
+        assertFalse(Hibernate.isInitialized(found.getFirst()));
+        assertEquals(2, cachingRepo.getHitCount());
+        assertEquals(1, cachingRepo.getMissCount());
+    }
+
+    @Test
+    void getById_InsideUnitOfWorkOnMiss_ShouldLoadWithoutCaching() {
+        UnitOfWork unitOfWork = new UnitOfWork(sessionFactory);
+
+        Qualification managed = unitOfWork.execute(() -> cachingRepo.getById(heavyDuty.getId()).orElseThrow());
+
+        assertEquals("Heavy Duty License", managed.getName());
+        assertEquals(0, cachingRepo.size());
+        assertEquals(1, cachingRepo.getMissCount());
+    }
+
+    @Test
+    void delete_ThroughCache_InvalidatesEntry() {
+        Qualification cached = cachingRepo.getById(hazardous.getId()).orElseThrow();
+
+        cachingRepo.delete(cached);
+
+        assertEquals(Optional.empty(), cachingRepo.getById(hazardous.getId()));
+    }
+
+    @Test
+    void getAllByIds_WithSomeCached_LoadsOnlyTheRest() {
+        cachingRepo.getById(heavyDuty.getId());
+
+        List<Qualification> result = cachingRepo.getAllByIds(List.of(heavyDuty.getId(), hazardous.getId()));
+
+        assertEquals(2, result.size());
+        assertEquals(1, cachingRepo.getHitCount());
+        assertEquals(2, cachingRepo.getMissCount());
+        assertEquals(2, cachingRepo.size());
+    }
+
+    @Test
+    void getById_AfterTimeToLive_ReloadsEntity() {
+        cachingRepo.getById(heavyDuty.getId());
+        clock.addAndGet(Duration.ofMinutes(2).toNanos());
+
+        cachingRepo.getById(heavyDuty.getId());
+
+        assertEquals(0, cachingRepo.getHitCount());
+        assertEquals(2, cachingRepo.getMissCount());
+    }
+
+    @Test
+    void getById_BeyondMaximumSize_EvictsLeastRecentlyUsed() {
+        Qualification third = qualificationRepo.create(new Qualification("Passenger Transport", "Category D"));
+        cachingRepo.getById(heavyDuty.getId());
+        cachingRepo.getById(hazardous.getId());
+        cachingRepo.getById(heavyDuty.getId());
+
+        cachingRepo.getById(third.getId());
+
+        assertEquals(2, cachingRepo.size());
+        assertEquals(1, cachingRepo.getEvictionCount());
+        cachingRepo.getById(heavyDuty.getId());
+        assertEquals(2, cachingRepo.getHitCount());
+    }
+
+    @Test
+    void constructor_NonPositiveMaximumSize_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CachingRepository<>(qualificationRepo, 0, Duration.ofMinutes(1)));
+    }
+}
@@ -10,11 +10,13 @@ import org.hibernate.SessionFactory;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
 import org.hibernate.cfg.Configuration;
 import org.hibernate.service.ServiceRegistry;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -158,6 +160,126 @@ public class GenericRepositoryTest {
         assertThrows(IllegalArgumentException.class, () -> companyRepo.getById(null));
     }
 
+    @Test
+    void getAllByIds_WhenSomeIdsDoNotExist_ShouldReturnOnlyFoundEntities() {
+        Long first = companyRepo.getAll(0, 1, null, true).getFirst().getId();
+        Long second = companyRepo.create(new TransportCompany("Second", "Ruse")).getId();
+
+        List<TransportCompany> result = companyRepo.getAllByIds(List.of(first, second, first, 999L));
+        assertEquals(Set.of(first, second), result.stream().map(TransportCompany::getId).collect(Collectors.toSet()));
+        assertEquals(2, result.size());
+    }
+
+    @Test
+    void getAllByIds_WhenIdsAreEmpty_ShouldReturnEmptyList() {
+        assertTrue(companyRepo.getAllByIds(List.of()).isEmpty());
+    }
+
+    @Test
+    void getAllByIds_WhenIdsContainNull_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> companyRepo.getAllByIds(null));
+        assertThrows(IllegalArgumentException.class, () -> companyRepo.getAllByIds(Arrays.asList(1L, null)));
+    }
+
+    @Test
+    void getReference_WhenUsedAsAssociation_ShouldPersistForeignKey() {
+        Long companyId = companyRepo.getAll(0, 1, null, true).getFirst().getId();
+        Driver driver = new Driver();
+        driver.setFirstName("Reference");
+        driver.setFamilyName("Driver");
+        driver.setSalary(new BigDecimal("42000"));
+        driver.setTransportCompany(companyRepo.getReference(companyId));
+        Long driverId = driverRepo.create(driver).getId();
+
+        Driver loaded = driverRepo.getById(driverId, "transportCompany").orElseThrow();
+        assertEquals("Fast Transport", loaded.getTransportCompany().getName());
+    }
+
+    @Test
+    void getReference_WhenIdDoesNotExist_ShouldFailOnFlush() {
+        Driver driver = new Driver();
+        driver.setFirstName("Orphan");
+        driver.setFamilyName("Driver");
+        driver.setSalary(new BigDecimal("42000"));
+        driver.setTransportCompany(companyRepo.getReference(999L));
+        assertThrows(RepositoryException.class, () -> driverRepo.create(driver));
+    }
+
+    @Test
+    void getReference_WhenIdIsNull_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> companyRepo.getReference(null));
+    }
+
+    @Test
+    void createAll_WhenSpanningSeveralChunks_ShouldPersistEveryEntity() {
+        List<TransportCompany> companies = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            companies.add(new TransportCompany("Bulk " + i, "Address " + i));
+        }
+
+        BulkOperationResult<TransportCompany> result = companyRepo.createAll(companies);
+
+        assertEquals(120, result.getSuccessCount());
+        assertFalse(result.hasFailures());
+        assertTrue(companies.stream().allMatch(c -> c.getId() != null));
+        assertEquals(121L, companyRepo.count());
+    }
+
+    @Test
+    void createAll_WhenRowViolatesConstraint_ShouldReportItAndPersistTheRest() {
+        List<TransportCompany> companies = List.of(
+                new TransportCompany("First", "Sofia"),
+                new TransportCompany("Second", "Varna"),
+                new TransportCompany("Fast Transport", "Duplicate name"),
+                new TransportCompany("Third", "Burgas"));
+
+        BulkOperationResult<TransportCompany> result = companyRepo.createAll(companies);
+
+        assertEquals(3, result.getSuccessCount());
+        assertEquals(1, result.getFailureCount());
+        BulkOperationResult.Failure<TransportCompany> failure = result.getFailures().getFirst();
+        assertEquals(2, failure.getIndex());
+        assertSame(companies.get(2), failure.getItem());
+        assertNull(failure.getItem().getId());
+        assertTrue(companies.stream().filter(c -> c != failure.getItem()).allMatch(c -> c.getId() != null));
+        assertEquals(4L, companyRepo.count());
+    }
+
+    @Test
+    void createAll_WhenCollectionIsNullOrContainsNull_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> companyRepo.createAll(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> companyRepo.createAll(Arrays.asList(new TransportCompany("Valid", "Sofia"), null)));
+    }
+
+    @Test
+    void updateAll_WhenRowViolatesConstraint_ShouldReportItAndUpdateTheRest() {
+        companyRepo.create(new TransportCompany("Second", "Ruse"));
+        List<TransportCompany> companies = companyRepo.getAll(0, 2, "name", true);
+        companies.forEach(c -> c.setAddress("Updated"));
+        companies.get(1).setName("Fast Transport");
+
+        BulkOperationResult<TransportCompany> result = companyRepo.updateAll(companies);
+
+        assertEquals(1, result.getSuccessCount());
+        assertEquals(1, result.getFailures().getFirst().getIndex());
+        assertEquals("Updated", companyRepo.getById(companies.get(0).getId()).orElseThrow().getAddress());
+        assertEquals("Ruse", companyRepo.getById(companies.get(1).getId()).orElseThrow().getAddress());
+    }
+
+    @Test
+    void deleteAllByIds_WhenSomeIdsDoNotExist_ShouldReportThemAndDeleteTheRest() {
+        Long first = companyRepo.create(new TransportCompany("First", "Sofia")).getId();
+        Long second = companyRepo.create(new TransportCompany("Second", "Varna")).getId();
+
+        BulkOperationResult<Long> result = companyRepo.deleteAllByIds(List.of(first, 999L, second));
+
+        assertEquals(List.of(first, second), result.getSucceeded());
+        assertEquals(1, result.getFailures().getFirst().getIndex());
+        assertEquals(999L, result.getFailures().getFirst().getItem());
+        assertTrue(companyRepo.getAllByIds(List.of(first, second)).isEmpty());
+    }
+
     @Test
     void getByIdWithFetchRelations_WhenIdExistsAndRelationsSpecified_ShouldFetchRelations() {
         TransportCompany company = companyRepo.getAll(0, 1, null, true).getFirst();
@@ -424,6 +546,131 @@ public class GenericRepositoryTest {
         assertEquals(0L, counts.get(driver.getId()));
     }
 
+    @Test
+    void sum_WhenServicesMatch_ShouldReturnTotal() {
+        TransportCompany company = companyRepo.getAll(0, 1, null, true).getFirst();
+        serviceRepo.create(createCargoService(company, "1500.50"));
+        serviceRepo.create(createCargoService(company, "499.50"));
+
+        BigDecimal total = serviceRepo.sum("price", Map.of("transportCompany.id", company.getId()));
+        assertEquals(0, new BigDecimal("2000.00").compareTo(total));
+    }
+
+    @Test
+    void sum_WhenNoRowsMatch_ShouldReturnZero() {
+        BigDecimal total = serviceRepo.sum("price", Map.of("transportCompany.id", -1L));
+        assertEquals(BigDecimal.ZERO, total);
+    }
+
+    @Test
+    void sum_WhenInvalidField_ShouldThrowRepositoryException() {
+        assertThrows(RepositoryException.class, () -> serviceRepo.sum("invalidField", (Map<String, Object>) null));
+    }
+
+    @Test
+    void count_WhenConditionsGiven_ShouldCountMatchingRows() {
+        TransportCompany company = companyRepo.getAll(0, 1, null, true).getFirst();
+        serviceRepo.create(createCargoService(company, "100"));
+        serviceRepo.create(createCargoService(company, "200"));
+
+        assertEquals(2L, serviceRepo.count(Map.of("transportCompany.id", company.getId())));
+        assertEquals(0L, serviceRepo.count(Map.of("transportCompany.id", -1L)));
+        assertEquals(1L, companyRepo.count());
+    }
+
+    @Test
+    void groupBySum_WhenServicesSpanCompanies_ShouldReturnTotalPerCompany() {
+        TransportCompany first = companyRepo.getAll(0, 1, null, true).getFirst();
+        TransportCompany second = companyRepo.create(new TransportCompany("Second Transport", "Sofia"));
+        serviceRepo.create(createCargoService(first, "100"));
+        serviceRepo.create(createCargoService(first, "300"));
+        serviceRepo.create(createCargoService(second, "50"));
+
+        Map<Long, BigDecimal> totals = serviceRepo.groupBySum("transportCompany.id", "price", null);
+        assertEquals(2, totals.size());
+        assertEquals(0, new BigDecimal("400").compareTo(totals.get(first.getId())));
+        assertEquals(0, new BigDecimal("50").compareTo(totals.get(second.getId())));
+    }
+
+    @Test
+    void searchAndMap_WhenFilterMatches_ShouldFilterBeforePaging() {
+        companyRepo.create(new TransportCompany("Alpha Cargo", "Sofia"));
+        companyRepo.create(new TransportCompany("Beta Lines", "Varna"));
+        companyRepo.create(new TransportCompany("Gamma Cargo", "Plovdiv"));
+
+        List<String> firstPage = companyRepo.searchAndMap("CARGO", List.of("name", "address"), 0, 1, "name", true, TransportCompany::getName);
+        List<String> secondPage = companyRepo.searchAndMap("cargo", List.of("name", "address"), 1, 1, "name", true, TransportCompany::getName);
+        assertEquals(List.of("Alpha Cargo"), firstPage);
+        assertEquals(List.of("Gamma Cargo"), secondPage);
+    }
+
+    @Test
+    void searchAndMap_WhenFilterContainsWildcards_ShouldMatchLiterally() {
+        companyRepo.create(new TransportCompany("100% Reliable", "Ruse"));
+
+        List<String> result = companyRepo.searchAndMap("%", List.of("name"), 0, 10, "name", true, TransportCompany::getName);
+        assertEquals(List.of("100% Reliable"), result);
+    }
+
+    @Test
+    void searchAndMap_WhenFilterIsBlank_ShouldReturnUnfilteredPage() {
+        List<String> result = companyRepo.searchAndMap("  ", List.of("name"), 0, 10, "name", true, TransportCompany::getName);
+        assertEquals(List.of("Fast Transport"), result);
+    }
+
+    @Test
+    void findPageAfter_WhenPagingDescending_ShouldFollowCursorToLastPage() {
+        for (int i = 0; i < 3; i++) {
+            companyRepo.create(new TransportCompany("Company " + i, "Address"));
+        }
+
+        KeysetPage<TransportCompany> first = companyRepo.findPageAfter(null, "name", false, null, 2);
+        assertEquals(List.of("Fast Transport", "Company 2"), first.getContent().stream().map(TransportCompany::getName).toList());
+        assertTrue(first.hasNext());
+        assertEquals("Company 2", first.getNextCursor().getSortKey());
+
+        KeysetPage<TransportCompany> second = companyRepo.findPageAfter(null, "name", false, first.getNextCursor(), 2);
+        assertEquals(List.of("Company 1", "Company 0"), second.getContent().stream().map(TransportCompany::getName).toList());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    void findPageAfter_WhenSortFieldIsNullable_ShouldThrowIllegalArgumentException() {
+        // endingDate is an optional column inherited from TransportService; a null key would end paging early
+        assertThrows(IllegalArgumentException.class, () -> serviceRepo.findPageAfter(null, "endingDate", true, null, 2));
+        assertTrue(serviceRepo.findPageAfter(null, "startingDate", true, null, 2).getContent().size() <= 2);
+    }
+
+    @Test
+    void findPageAfter_WhenSizeIsZero_ShouldReturnEmptyPage() {
+        KeysetPage<TransportCompany> page = companyRepo.findPageAfter(null, "name", true, null, 0);
+        assertTrue(page.getContent().isEmpty());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getAll_WhenCollectionFetchedAndPaged_ShouldReturnFullPageWithInitializedCollections() {
+        Qualification qualification = qualificationRepo.getAll(0, 1, null, true).getFirst();
+        Qualification extra = qualificationRepo.create(new Qualification("Hazmat", "Dangerous goods"));
+        TransportCompany company = companyRepo.getAll(0, 1, null, true).getFirst();
+        Driver second = new Driver();
+        second.setFirstName("Jane");
+        second.setFamilyName("Roe");
+        second.setSalary(new BigDecimal("40000"));
+        second.setTransportCompany(company);
+        second.setQualifications(Set.of(qualification, extra));
+        driverRepo.create(second);
+
+        List<Driver> firstPage = driverRepo.getAll(0, 1, "familyName", false, "qualifications");
+        List<Driver> secondPage = driverRepo.getAll(1, 1, "familyName", false, "qualifications");
+        assertEquals(1, firstPage.size());
+        assertEquals("Roe", firstPage.getFirst().getFamilyName());
+        assertTrue(Hibernate.isInitialized(firstPage.getFirst().getQualifications()));
+        assertEquals(2, firstPage.getFirst().getQualifications().size());
+        assertEquals(1, secondPage.size());
+        assertEquals("Doe", secondPage.getFirst().getFamilyName());
+    }
+
     @Test
     void getAll_WhenPageIsNegative_ShouldReturnEmptyList() {
         List<TransportCompany> result = companyRepo.getAll(-1, 10, "name", true);
@@ -468,4 +715,307 @@ public class GenericRepositoryTest {
         assertTrue(exception.getCause().getMessage().contains("Failed to findWithAggregation entity"),
                 "Invalid aggregation field should throw an exception");
     }
+
+    @Test
+    void getAll_OutsideUnitOfWork_ShouldNotFlush() {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<Driver> drivers = driverRepo.getAll(0, 10, "familyName", true, "transportCompany");
+
+        assertEquals(1, drivers.size());
+        assertEquals(0, statistics.getFlushCount(), "Read-only reads should neither dirty-check nor flush on commit");
+    }
+
+    @Test
+    void getById_InsideUnitOfWork_ShouldKeepEntityWritable() {
+        Long companyId = companyRepo.getAll(0, 1, null, true).getFirst().getId();
+
+        companyRepo.executeInUnitOfWork(() -> {
+            // Changes to an entity read inside a unit of work are flushed on commit without an explicit update
+            companyRepo.getById(companyId).orElseThrow().setAddress("1 Dirty Check Ln");
+            return null;
+        });
+
+        assertEquals("1 Dirty Check Ln", companyRepo.getById(companyId).orElseThrow().getAddress());
+    }
+
+    @Test
+    void getById_WithFetchPlan_ShouldLoadRelationsWithoutJoiningCollections() {
+        Long driverId = driverRepo.getAll(0, 1, null, true).getFirst().getId();
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        Driver driver = driverRepo.getById(driverId, FetchPlans.DRIVER_DETAILS).orElseThrow();
+
+        assertTrue(Hibernate.isInitialized(driver.getTransportCompany()));
+        assertTrue(Hibernate.isInitialized(driver.getQualifications()));
+        assertEquals("Fast Transport", driver.getTransportCompany().getName());
+        assertEquals(1, driver.getQualifications().size());
+        // The driver joined with its company and dispatcher, then one query for the qualifications
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getAll_WithFetchPlan_ShouldBatchCollectionsAcrossThePage() {
+        for (int i = 0; i < 5; i++) {
+            TransportCompany company = companyRepo.create(new TransportCompany("Plan Company " + i, "Address " + i));
+            for (int j = 0; j < 3; j++) {
+                Driver driver = new Driver();
+                driver.setFirstName("Driver" + j);
+                driver.setFamilyName("Company" + i);
+                driver.setSalary(new BigDecimal("1000"));
+                driver.setTransportCompany(company);
+                driverRepo.create(driver);
+            }
+            serviceRepo.create(createCargoService(company, "100"));
+        }
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<TransportCompany> companies = companyRepo.getAll(0, 4, "name", false, FetchPlans.COMPANY_DETAILS);
+
+        assertEquals(4, companies.size(), "Collections must not multiply the rows of a page");
+        for (TransportCompany company : companies) {
+            assertTrue(Hibernate.isInitialized(company.getEmployees()));
+            assertTrue(Hibernate.isInitialized(company.getVehicles()));
+            assertTrue(Hibernate.isInitialized(company.getTransportServices()));
+            assertEquals(3, company.getEmployees().size());
+            assertEquals(1, company.getTransportServices().size());
+        }
+        // One query for the page and one per collection, independent of the number of companies
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getAll_WithFetchPlanOfAnotherEntity_ShouldThrowRepositoryException() {
+        assertThrows(RepositoryException.class, () -> companyRepo.getAll(0, 10, null, true, FetchPlans.DRIVER_DETAILS));
+    }
+
+    @Test
+    void findProjected_ShouldReadColumnsAndForeignKeysWithoutLoadingEntities() {
+        TransportCompany company = companyRepo.getAll(0, 1, null, true).getFirst();
+        TransportCargoService saved = serviceRepo.create(createCargoService(company, "250.00"));
+        Projection<TransportCargoService, Object[]> projection = Projection.<TransportCargoService, Object[]>builder(() -> new Object[3])
+                .map("id", Long.class, (row, value) -> row[0] = value)
+                .map("price", BigDecimal.class, (row, value) -> row[1] = value)
+                .map("transportCompany.id", Long.class, (row, value) -> row[2] = value)
+                .map("client.id", Long.class, (row, value) -> assertNull(value))
+                .build();
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<Object[]> rows = serviceRepo.findProjected(Map.of("transportCompany.id", company.getId()), "price", true, 0, 10, projection);
+
+        assertEquals(1, rows.size(), "A null relation must not drop the row");
+        assertArrayEquals(new Object[]{saved.getId(), new BigDecimal("250.00"), company.getId()}, rows.getFirst());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findProjected_WhenPathIsInvalid_ShouldThrowRepositoryException() {
+        Projection<TransportCompany, String> projection = Projection.<TransportCompany, String>builder(String::new)
+                .map("missing", String.class, (dto, value) -> { })
+                .build();
+        assertThrows(RepositoryException.class, () -> companyRepo.findProjected(null, null, true, 0, 10, projection));
+    }
+
+    @Test
+    void findBySpecification_WhenRangeAndSetCombined_ShouldFilterInDatabase() {
+        TransportCompany first = companyRepo.getAll(0, 1, null, true).getFirst();
+        TransportCompany second = companyRepo.create(new TransportCompany("Second Transport", "Sofia"));
+        TransportCompany third = companyRepo.create(new TransportCompany("Third Transport", "Varna"));
+        serviceRepo.create(createCargoService(first, "100"));
+        serviceRepo.create(createCargoService(first, "900"));
+        serviceRepo.create(createCargoService(second, "500"));
+        serviceRepo.create(createCargoService(third, "300"));
+
+        ISpecification<TransportCargoService> spec = Specifications.<TransportCargoService, BigDecimal>between(
+                        "price", new BigDecimal("200"), new BigDecimal("900"))
+                .and(Specifications.in("transportCompany.id", List.of(first.getId(), second.getId())));
+        List<TransportCargoService> result = serviceRepo.findBySpecification(spec, "price", false, 0, 10, null);
+
+        assertEquals(List.of(new BigDecimal("900.00"), new BigDecimal("500.00")),
+                result.stream().map(TransportService::getPrice).toList());
+    }
+
+    @Test
+    void findBySpecification_WhenLikeOrEqualCombined_ShouldMatchEitherBranch() {
+        companyRepo.create(new TransportCompany("Alpha_Cargo", "Sofia"));
+        companyRepo.create(new TransportCompany("AlphaXCargo", "Plovdiv"));
+        companyRepo.create(new TransportCompany("Beta Lines", "Varna"));
+
+        ISpecification<TransportCompany> spec = Specifications.<TransportCompany>like("name", "Alpha\\_%")
+                .or(Specifications.equal("address", "Varna"));
+        List<TransportCompany> result = companyRepo.findBySpecification(spec, "name", true, 0, 10, null);
+
+        assertEquals(List.of("Alpha_Cargo", "Beta Lines"), result.stream().map(TransportCompany::getName).toList());
+        assertEquals(2, companyRepo.findBySpecification(spec.not(), "name", true, 0, 10, null).size());
+    }
+
+    @Test
+    void findBySpecification_WhenSetIsEmpty_ShouldReturnNoRows() {
+        ISpecification<TransportCompany> spec = Specifications.in("id", List.of());
+        assertTrue(companyRepo.findBySpecification(spec, null, true, 0, 10, null).isEmpty());
+    }
+
+    @Test
+    void findBySpecification_WithFetchPlan_ShouldInitializeCollections() {
+        List<TransportCompany> result = companyRepo.findBySpecification(Specifications.equal("name", "Fast Transport"),
+                null, true, 0, 10, FetchPlans.COMPANY_WITH_EMPLOYEES);
+
+        assertEquals(1, result.size());
+        assertTrue(Hibernate.isInitialized(result.getFirst().getEmployees()));
+    }
+
+    @Test
+    void sum_WhenSpecificationGiven_ShouldSumMatchingRows() {
+        TransportCompany company = companyRepo.getAll(0, 1, null, true).getFirst();
+        TransportCargoService old = createCargoService(company, "1000");
+        old.setStartingDate(LocalDate.now().minusMonths(2));
+        serviceRepo.create(old);
+        serviceRepo.create(createCargoService(company, "250"));
+        serviceRepo.create(createCargoService(company, "150"));
+
+        ISpecification<TransportCargoService> spec = Specifications.<TransportCargoService>equal("transportCompany.id", company.getId())
+                .and(Specifications.gte("startingDate", LocalDate.now().minusDays(7)))
+                .and(Specifications.isNull("client"));
+
+        assertEquals(0, new BigDecimal("400").compareTo(serviceRepo.sum("price", spec)));
+        assertEquals(BigDecimal.ZERO, serviceRepo.sum("price", Specifications.<TransportCargoService, LocalDate>lte("startingDate", LocalDate.now().minusYears(1))));
+    }
+
+    @Test
+    void forEach_WithFetchPlan_ShouldStreamInOrderAndBatchCollections() {
+        for (int i = 0; i < 5; i++) {
+            TransportCompany company = companyRepo.create(new TransportCompany("Stream Company " + i, "Address " + i));
+            Driver driver = new Driver();
+            driver.setFirstName("Driver");
+            driver.setFamilyName("Company" + i);
+            driver.setSalary(new BigDecimal("1000"));
+            driver.setTransportCompany(company);
+            driverRepo.create(driver);
+        }
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<String> names = new ArrayList<>();
+        long processed = companyRepo.forEach(Specifications.like("name", "Stream%"), "name", false, FetchPlans.COMPANY_DETAILS, company -> {
+            assertTrue(Hibernate.isInitialized(company.getEmployees()));
+            assertEquals(1, company.getEmployees().size());
+            names.add(company.getName());
+        });
+
+        assertEquals(5, processed);
+        assertEquals(List.of("Stream Company 4", "Stream Company 3", "Stream Company 2", "Stream Company 1", "Stream Company 0"), names);
+        // One cursor and one batch query per collection for the chunk
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void forEach_WithFetchRelations_ShouldJoinSingleValuedAndBatchCollections() {
+        TransportCompany company = companyRepo.create(new TransportCompany("Relations Company", "Address"));
+        for (int i = 0; i < 3; i++) {
+            Driver driver = new Driver();
+            driver.setFirstName("Relations");
+            driver.setFamilyName("Driver" + i);
+            driver.setSalary(new BigDecimal(1000 + i));
+            driver.setTransportCompany(company);
+            driverRepo.create(driver);
+        }
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<String> names = new ArrayList<>();
+        long processed = driverRepo.forEach(Specifications.equal("firstName", "Relations"), "salary", false, driver -> {
+            assertTrue(Hibernate.isInitialized(driver.getTransportCompany()));
+            assertTrue(Hibernate.isInitialized(driver.getQualifications()));
+            names.add(driver.getFamilyName());
+        }, "transportCompany", "qualifications");
+
+        assertEquals(3, processed);
+        assertEquals(List.of("Driver2", "Driver1", "Driver0"), names);
+        // The company is joined into the cursor; the qualifications take one batch query for the chunk
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void forEach_WhenNothingMatches_ShouldNotInvokeAction() {
+        long processed = companyRepo.forEach(Specifications.in("id", List.of()), null, true, null,
+                company -> fail("No company should be streamed"));
+        assertEquals(0, processed);
+    }
+
+    @Test
+    void forEach_WhenActionIsNull_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> companyRepo.forEach(null, null, true, (FetchPlan) null, null));
+    }
+
+    @Test
+    void count_WhenSpecificationGiven_ShouldCountWithoutLoadingEntities() {
+        TransportCompany company = companyRepo.getAll(0, 1, null, true).getFirst();
+        serviceRepo.create(createCargoService(company, "100"));
+        serviceRepo.create(createCargoService(company, "200"));
+        serviceRepo.create(createCargoService(company, "300"));
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        long count = serviceRepo.count(Specifications.gte("price", new BigDecimal("200")));
+
+        assertEquals(2L, count);
+        assertEquals(3L, serviceRepo.count((ISpecification<TransportCargoService>) null));
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void exists_WhenSpecificationGiven_ShouldReportWhetherAnyEntityMatches() {
+        assertTrue(companyRepo.exists(Specifications.all()));
+        assertTrue(companyRepo.exists(Specifications.equal("name", "Fast Transport")));
+        assertFalse(companyRepo.exists(Specifications.equal("name", "Missing Transport")));
+        assertFalse(serviceRepo.exists(null));
+    }
+
+    @Test
+    void findBySpecification_WhenSumOfCollectionInRange_ShouldCompareSumInDatabase() {
+        TransportCompany first = companyRepo.getAll(0, 1, null, true).getFirst();
+        TransportCompany second = companyRepo.create(new TransportCompany("Second Transport", "Sofia"));
+        companyRepo.create(new TransportCompany("Idle Transport", "Varna"));
+        serviceRepo.create(createCargoService(first, "400"));
+        serviceRepo.create(createCargoService(first, "300"));
+        serviceRepo.create(createCargoService(second, "2000"));
+
+        ISpecification<TransportCompany> upToThousand = Specifications.sumBetween("transportServices", "price", BigDecimal.ZERO, new BigDecimal("1000"));
+        ISpecification<TransportCompany> fromFiveHundred = Specifications.sumBetween("transportServices", "price", new BigDecimal("500"), new BigDecimal("5000"));
+
+        assertEquals(List.of("Fast Transport", "Idle Transport"),
+                companyRepo.findBySpecification(upToThousand, "name", true, 0, 10, null).stream().map(TransportCompany::getName).toList());
+        assertEquals(List.of("Fast Transport", "Second Transport"),
+                companyRepo.findBySpecification(fromFiveHundred, "name", true, 0, 10, null).stream().map(TransportCompany::getName).toList());
+    }
+
+    @Test
+    void specifications_WhenBoundIsNull_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Specifications.between("price", null, BigDecimal.ONE));
+        assertThrows(IllegalArgumentException.class, () -> Specifications.in("id", null));
+    }
+
+    private TransportCargoService createCargoService(TransportCompany company, String price) {
+        TransportCargoService service = new TransportCargoService();
+        service.setTransportCompany(company);
+        service.setPrice(new BigDecimal(price));
+        service.setStartingDate(LocalDate.now());
+        service.setWeightInKilograms(BigDecimal.valueOf(25));
+        service.setLengthInCentimeters(50);
+        service.setWidthInCentimeters(25);
+        service.setHeightInCentimeters(25);
+        return service;
+    }
 }
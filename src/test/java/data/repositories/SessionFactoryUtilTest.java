@@ -0,0 +1,139 @@
+package data.repositories;
+
+import data.models.TransportCompany;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SessionFactoryUtilTest {
+    private static final int ROWS = 120;
+
+    private SessionFactory sessionFactory;
+
+    @AfterEach
+    void tearDown() {
+        if (sessionFactory != null) sessionFactory.close();
+    }
+
+    private SessionFactory build(String idGeneration, String database) {
+        Properties overrides = new Properties();
+        overrides.setProperty(SessionFactoryUtil.ID_GENERATION, idGeneration);
+        overrides.setProperty("hibernate.connection.url", "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1");
+        overrides.setProperty("hibernate.generate_statistics", "true");
+        Configuration configuration = SessionFactoryUtil.createConfiguration(overrides);
+        return configuration.buildSessionFactory(new StandardServiceRegistryBuilder()
+                .applySettings(configuration.getProperties())
+                .build());
+    }
+
+    private void persistCompanies() {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            for (int i = 0; i < ROWS; i++) {
+                TransportCompany company = new TransportCompany("Company " + i, "Address " + i);
+                session.persist(company);
+                assertNotNull(company.getId());
+            }
+            session.getTransaction().commit();
+        }
+    }
+
+    @Test
+    void createConfiguration_ShouldEnableJdbcBatchingByDefault() {
+        Configuration configuration = SessionFactoryUtil.createConfiguration(new Properties());
+        assertEquals("50", configuration.getProperty(AvailableSettings.STATEMENT_BATCH_SIZE));
+        assertEquals("true", configuration.getProperty(AvailableSettings.ORDER_INSERTS));
+        assertEquals("true", configuration.getProperty(AvailableSettings.ORDER_UPDATES));
+    }
+
+    @Test
+    void createConfiguration_WhenBatchSizeConfigured_ShouldKeepIt() {
+        Properties overrides = new Properties();
+        overrides.setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "200");
+        assertEquals("200", SessionFactoryUtil.createConfiguration(overrides).getProperty(AvailableSettings.STATEMENT_BATCH_SIZE));
+    }
+
+    @Test
+    void createConfiguration_WhenIdGenerationUnknown_ShouldThrowIllegalArgumentException() {
+        Properties overrides = new Properties();
+        overrides.setProperty(SessionFactoryUtil.ID_GENERATION, "uuid");
+        assertThrows(IllegalArgumentException.class, () -> SessionFactoryUtil.createConfiguration(overrides));
+    }
+
+    @Test
+    void createConfiguration_ShouldPoolConnectionsByDefault() {
+        Configuration configuration = SessionFactoryUtil.createConfiguration(new Properties());
+        assertEquals("org.hibernate.hikaricp.internal.HikariCPConnectionProvider",
+                configuration.getProperty(AvailableSettings.CONNECTION_PROVIDER));
+        assertEquals("10000", configuration.getProperty("hibernate.hikari.connectionTimeout"));
+        assertEquals("60000", configuration.getProperty("hibernate.hikari.leakDetectionThreshold"));
+        // A global fetch size would turn every MySQL query into a cursor fetch
+        assertNull(configuration.getProperty(AvailableSettings.STATEMENT_FETCH_SIZE));
+    }
+
+    @Test
+    void createConfiguration_WhenPoolSizeConfigured_ShouldKeepIt() {
+        // hibernate.properties on the test classpath sets maximumPoolSize=5
+        Configuration configuration = SessionFactoryUtil.createConfiguration(new Properties());
+        assertEquals("5", configuration.getProperty("hibernate.hikari.maximumPoolSize"));
+    }
+
+    @Test
+    void createConfiguration_ShouldCachePreparedStatementsOnlyForMySql() {
+        assertNull(SessionFactoryUtil.createConfiguration(new Properties()).getProperty("hibernate.hikari.dataSource.cachePrepStmts"));
+
+        Properties overrides = new Properties();
+        overrides.setProperty("hibernate.connection.url", "jdbc:mysql://localhost:3306/transport");
+        Configuration configuration = SessionFactoryUtil.createConfiguration(overrides);
+        assertEquals("true", configuration.getProperty("hibernate.hikari.dataSource.cachePrepStmts"));
+        assertEquals("250", configuration.getProperty("hibernate.hikari.dataSource.prepStmtCacheSize"));
+    }
+
+    @Test
+    void getPoolMetrics_ShouldReportConnectionsInUse() {
+        sessionFactory = build(SessionFactoryUtil.ID_GENERATION_IDENTITY, "pool_metrics");
+
+        try (Session session = sessionFactory.openSession()) {
+            session.doWork(connection -> {
+                ConnectionPoolMetrics metrics = SessionFactoryUtil.getPoolMetrics(sessionFactory).orElseThrow();
+                assertEquals(1, metrics.getActiveConnections());
+                assertEquals(5, metrics.getMaximumPoolSize());
+                assertEquals(0.2, metrics.getSaturation(), 1e-9);
+            });
+        }
+        assertEquals(0, SessionFactoryUtil.getPoolMetrics(sessionFactory).orElseThrow().getActiveConnections());
+    }
+
+    @Test
+    void identityGeneration_ShouldInsertEachRowSeparately() {
+        sessionFactory = build(SessionFactoryUtil.ID_GENERATION_IDENTITY, "identity_ids");
+        sessionFactory.getStatistics().clear();
+
+        persistCompanies();
+        assertEquals(ROWS, sessionFactory.getStatistics().getPrepareStatementCount());
+        assertEquals(ROWS, sessionFactory.getStatistics().getEntityInsertCount());
+    }
+
+    @Test
+    void pooledGeneration_ShouldBatchInserts() {
+        sessionFactory = build(SessionFactoryUtil.ID_GENERATION_POOLED, "pooled_ids");
+        sessionFactory.getStatistics().clear();
+
+        persistCompanies();
+        // A few sequence calls for the pooled ids plus one insert statement reused for every batch
+        assertTrue(sessionFactory.getStatistics().getPrepareStatementCount() <= 5,
+                "Prepared statements: " + sessionFactory.getStatistics().getPrepareStatementCount());
+        assertEquals(ROWS, sessionFactory.getStatistics().getEntityInsertCount());
+        try (Session session = sessionFactory.openSession()) {
+            assertEquals(ROWS, session.createQuery("select count(c) from TransportCompany c", Long.class).getSingleResult());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package data.repositories;
+
+import data.models.*;
+import data.models.employee.*;
+import data.models.transportservices.*;
+import data.models.vehicles.*;
+import data.repositories.exceptions.RepositoryException;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.service.ServiceRegistry;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class UnitOfWorkTest {
+    private SessionFactory sessionFactory;
+    private GenericRepository<TransportCompany, Long> companyRepo;
+    private GenericRepository<Client, Long> clientRepo;
+    private UnitOfWork unitOfWork;
+    private Long companyId;
+
+    @BeforeEach
+    public void setup() {
+        try {
+            Configuration configuration = new Configuration();
+            configuration.addAnnotatedClass(TransportCompany.class);
+            configuration.addAnnotatedClass(Client.class);
+            configuration.addAnnotatedClass(Employee.class);
+            configuration.addAnnotatedClass(Driver.class);
+            configuration.addAnnotatedClass(Dispatcher.class);
+            configuration.addAnnotatedClass(Qualification.class);
+            configuration.addAnnotatedClass(Destination.class);
+            configuration.addAnnotatedClass(TransportService.class);
+            configuration.addAnnotatedClass(TransportCargoService.class);
+            configuration.addAnnotatedClass(TransportPassengersService.class);
+            configuration.addAnnotatedClass(Vehicle.class);
+            configuration.addAnnotatedClass(TransportCargoVehicle.class);
+            configuration.addAnnotatedClass(TransportPeopleVehicle.class);
+            configuration.addAnnotatedClass(Truck.class);
+            configuration.addAnnotatedClass(Bus.class);
+            configuration.addAnnotatedClass(Van.class);
+
+            ServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+                    .applySettings(configuration.getProperties())
+                    .build();
+
+            sessionFactory = configuration.buildSessionFactory(serviceRegistry);
+
+            companyRepo = new GenericRepository<>(sessionFactory, TransportCompany.class);
+            clientRepo = new GenericRepository<>(sessionFactory, Client.class);
+            unitOfWork = new UnitOfWork(sessionFactory);
+
+            companyId = companyRepo.create(new TransportCompany("Fast Transport", "123 Main St")).getId();
+        } catch (Exception e) {
+            fail("Failed to initialize SessionFactory: " + e.getMessage());
+        }
+    }
+
+    @AfterAll
+    void closeResources() {
+        if (sessionFactory != null) sessionFactory.close();
+    }
+
+    @Test
+    void execute_WhenWorkIsNull_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> unitOfWork.execute((Supplier<Object>) null));
+        assertThrows(IllegalArgumentException.class, () -> unitOfWork.execute((Runnable) null));
+    }
+
+    @Test
+    void isActive_ShouldBeTrueOnlyInsideUnitOfWork() {
+        assertFalse(unitOfWork.isActive());
+        assertTrue(unitOfWork.execute(unitOfWork::isActive));
+        assertFalse(unitOfWork.isActive());
+    }
+
+    @Test
+    void execute_WhenCalledFromRepositories_ShouldShareOneSession() {
+        boolean sameInstance = unitOfWork.execute(() -> {
+            TransportCompany first = companyRepo.getById(companyId).orElseThrow();
+            TransportCompany second = companyRepo.getById(companyId).orElseThrow();
+            return first == second;
+        });
+        assertTrue(sameInstance);
+    }
+
+    @Test
+    void execute_WhenWorkSucceeds_ShouldCommitAllOperations() {
+        unitOfWork.execute(() -> {
+            companyRepo.create(new TransportCompany("Unit Company", "Sofia"));
+            Client client = new Client();
+            client.setName("Unit Client");
+            client.setTelephone("0888123456");
+            client.setEmail("unit@client.com");
+            clientRepo.create(client);
+        });
+
+        assertEquals(1, companyRepo.findByCriteria(Map.of("name", "Unit Company"), null, true).size());
+        assertEquals(1, clientRepo.findByCriteria(Map.of("name", "Unit Client"), null, true).size());
+    }
+
+    @Test
+    void execute_WhenWorkThrows_ShouldRollBackAndRethrow() {
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> unitOfWork.execute(() -> {
+            companyRepo.create(new TransportCompany("Rolled Back", "Plovdiv"));
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals("boom", exception.getMessage());
+        assertTrue(companyRepo.findByCriteria(Map.of("name", "Rolled Back"), null, true).isEmpty());
+        assertFalse(unitOfWork.isActive());
+    }
+
+    @Test
+    void execute_WhenRepositoryFailureIsSwallowed_ShouldStillRollBack() {
+        RepositoryException exception = assertThrows(RepositoryException.class, () -> unitOfWork.execute(() -> {
+            companyRepo.create(new TransportCompany("Half Done", "Varna"));
+            try {
+                companyRepo.findByCriteria(Map.of("missingField", 1), null, true);
+            } catch (RepositoryException ignored) {
+                // failure already marked the transaction rollback-only
+            }
+        }));
+        assertTrue(exception.getMessage().contains("rolled back"));
+        assertTrue(companyRepo.findByCriteria(Map.of("name", "Half Done"), null, true).isEmpty());
+    }
+
+    @Test
+    void execute_WhenNested_ShouldJoinOuterUnit() {
+        assertThrows(IllegalStateException.class, () -> unitOfWork.execute(() -> {
+            companyRepo.executeInUnitOfWork(() -> companyRepo.create(new TransportCompany("Nested", "Ruse")));
+            throw new IllegalStateException("outer failure");
+        }));
+        List<TransportCompany> nested = companyRepo.findByCriteria(Map.of("name", "Nested"), null, true);
+        assertTrue(nested.isEmpty());
+    }
+
+    @Test
+    void execute_WhenEntityChangedAfterBulkCreate_ShouldCommitTheChange() {
+        unitOfWork.execute(() -> {
+            TransportCompany loaded = companyRepo.getById(companyId).orElseThrow();
+            companyRepo.createAll(List.of(new TransportCompany("Bulk One", "Sofia"), new TransportCompany("Bulk Two", "Varna")));
+            loaded.setAddress("Changed after bulk");
+            assertTrue(loaded.getEmployees().isEmpty(), "Lazy relations must still load after a bulk write");
+        });
+
+        assertEquals("Changed after bulk", companyRepo.getById(companyId).orElseThrow().getAddress());
+        assertEquals(3L, companyRepo.count());
+    }
+}
@@ -1,5 +1,7 @@
 package services.IO;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonParser;
 import data.models.Client;
 import data.models.TransportCompany;
 import data.models.employee.Dispatcher;
@@ -13,6 +15,8 @@ import data.models.transportservices.TransportService;
 import data.models.vehicles.*;
 import data.repositories.IGenericRepository;
 import data.repositories.GenericRepository;
+import data.repositories.KeysetCursor;
+import data.repositories.KeysetPage;
 import org.hibernate.SessionFactory;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
 import org.hibernate.cfg.Configuration;
@@ -20,19 +24,31 @@ import org.hibernate.service.ServiceRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import services.data.dto.transportservices.TransportPassengersServiceCreateDTO;
+import services.data.dto.transportservices.TransportPassengersServiceViewDTO;
+import services.data.dto.transportservices.TransportServiceCreateDTO;
+import services.data.dto.transportservices.TransportServiceViewDTO;
 import services.data.dto.vehicles.BusCreateDTO;
 import services.data.dto.vehicles.BusViewDTO;
 import services.data.mapping.mappers.BusMapper;
 import services.data.mapping.mappers.TransportPassengersServiceMapper;
 import services.services.BusService;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.ObjectOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -315,4 +331,125 @@ public class ServiceSerializerTests {
                 serializer.deserializeFromBinary("nonexistent.ser"));
         assertTrue(exception.getMessage().contains("nonexistent.ser"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void SerializeToJson_PageSource_StreamsCompactArrayPageByPage() throws Exception {
+        List<BusViewDTO> buses = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            BusViewDTO bus = new BusViewDTO();
+            bus.setId((long) i);
+            bus.setRegistrationPlate("BUS" + i);
+            bus.setMaxPassengerCapacity(40);
+            bus.setTransportCompanyId(1L);
+            buses.add(bus);
+        }
+        List<KeysetCursor> requestedCursors = new ArrayList<>();
+        Function<KeysetCursor, KeysetPage<BusViewDTO>> pageSource = after -> {
+            requestedCursors.add(after);
+            int from = after == null ? 0 : ((Long) after.getId()).intValue() + 1;
+            int to = Math.min(from + 2, buses.size());
+            KeysetCursor next = to < buses.size() ? new KeysetCursor(null, (long) (to - 1)) : null;
+            return new KeysetPage<>(buses.subList(from, to), next);
+        };
+        StringWriter writer = new StringWriter();
+
+        long written = serializer.serializeToJson(pageSource, writer);
+
+        String json = writer.toString();
+        assertEquals(5, written);
+        assertEquals(3, requestedCursors.size());
+        assertNull(requestedCursors.getFirst());
+        assertFalse(json.contains("\n"));
+        JsonArray array = JsonParser.parseString(json).getAsJsonArray();
+        assertEquals(5, array.size());
+        assertEquals("BUS4", array.get(4).getAsJsonObject().get("registrationPlate").getAsString());
+    }
+
+    @Test
+    void SerializeToJson_PageSourceToOutputStream_WritesUtf8Json() throws Exception {
+        BusViewDTO bus = new BusViewDTO();
+        bus.setRegistrationPlate("СОФИЯ1");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        long written = serializer.serializeToJson(after -> new KeysetPage<>(List.of(bus), null), outputStream);
+
+        assertEquals(1, written);
+        assertTrue(outputStream.toString(StandardCharsets.UTF_8).contains("\"registrationPlate\":\"СОФИЯ1\""));
+    }
+
+    @Test
+    void SerializeToJson_NullPageSource_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> serializer.serializeToJson((Function<KeysetCursor, KeysetPage<BusViewDTO>>) null, new StringWriter()));
+    }
+
+    @Test
+    void SerializeToJson_PageSourceWithDates_WritesIsoDates() throws Exception {
+        ServiceSerializer<Object, TransportServiceViewDTO, TransportServiceCreateDTO> transportServiceSerializer =
+                new ServiceSerializer<>(null, TransportServiceViewDTO.class, TransportServiceCreateDTO.class);
+        TransportServiceViewDTO transportService = new TransportServiceViewDTO();
+        transportService.setStartingDate(LocalDate.of(2025, 3, 1));
+        StringWriter writer = new StringWriter();
+
+        transportServiceSerializer.serializeToJson(after -> new KeysetPage<>(List.of(transportService), null), writer);
+
+        assertTrue(writer.toString().contains("\"startingDate\":\"2025-03-01\""));
+    }
+
+    @Test
+    void DeserializeStreamFromJson_ValidArray_ReadsElementsLazily() {
+        String json = "[{\"registrationPlate\":\"CA1111AA\",\"maxPassengerCapacity\":20},"
+                + "{\"registrationPlate\":\"CA2222AA\",\"maxPassengerCapacity\":40}, {not json";
+
+        // The malformed tail is never reached when only the first two elements are consumed
+        try (Stream<BusCreateDTO> stream = serializer.deserializeStreamFromJson(new StringReader(json))) {
+            List<BusCreateDTO> dtos = stream.limit(2).collect(Collectors.toList());
+
+            assertEquals(2, dtos.size());
+            assertEquals("CA1111AA", dtos.get(0).getRegistrationPlate());
+            assertEquals(40, dtos.get(1).getMaxPassengerCapacity());
+        }
+    }
+
+    @Test
+    void DeserializeStreamFromJson_EmptyArray_ReturnsEmptyStream() {
+        try (Stream<BusCreateDTO> stream = serializer.deserializeStreamFromJson(new StringReader("[]"))) {
+            assertEquals(0, stream.count());
+        }
+    }
+
+    @Test
+    void DeserializeStreamFromJson_NotAnArray_ThrowsJsonSyntaxException() {
+        try (Stream<BusCreateDTO> stream = serializer.deserializeStreamFromJson(new StringReader("{\"registrationPlate\":\"X\"}"))) {
+            assertThrows(com.google.gson.JsonSyntaxException.class, stream::count);
+        }
+    }
+
+    @Test
+    void DeserializeStreamFromJson_NullReader_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> serializer.deserializeStreamFromJson(null));
+    }
+
+    @Test
+    void DeserializeListFromBinary_WithBinaryCodec_ReturnsCreateDTOs() throws Exception {
+        ServiceSerializer<Object, TransportPassengersServiceViewDTO, TransportPassengersServiceCreateDTO> passengersSerializer =
+                new ServiceSerializer<>(null, TransportPassengersServiceViewDTO.class, TransportPassengersServiceCreateDTO.class,
+                        new TransportServiceBinaryCodec());
+        TransportPassengersServiceViewDTO view = new TransportPassengersServiceViewDTO();
+        view.setClientId(2L);
+        view.setPrice(new BigDecimal("99.90"));
+        view.setStartingDate(LocalDate.of(2030, 6, 1));
+        view.setNumberOfPassengers(12);
+        File file = File.createTempFile("passenger_services", ".bin");
+        file.deleteOnExit();
+
+        passengersSerializer.serializeToBinary(List.of(view), file.getPath());
+        List<TransportPassengersServiceCreateDTO> dtos = passengersSerializer.deserializeListFromBinary(file.getPath());
+
+        assertEquals(1, dtos.size());
+        assertEquals(2L, dtos.get(0).getClientId());
+        assertEquals(new BigDecimal("99.90"), dtos.get(0).getPrice());
+        assertEquals(LocalDate.of(2030, 6, 1), dtos.get(0).getStartingDate());
+        assertEquals(12, dtos.get(0).getNumberOfPassengers());
+    }
+}
@@ -0,0 +1,178 @@
+package services.IO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import services.data.dto.transportservices.*;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TransportServiceBinaryCodecTests {
+
+    @TempDir
+    Path tempDir;
+
+    private final TransportServiceBinaryCodec codec = new TransportServiceBinaryCodec();
+
+    @Test
+    void ReadViews_AfterWrite_RoundTripsAllFields() throws IOException {
+        TransportCargoServiceViewDTO cargo = cargoService(7L);
+        cargo.setDescription("Хладилен товар");
+        TransportPassengersServiceViewDTO passengers = passengersService(8L);
+        passengers.setStartingDate(LocalDate.of(1965, 5, 4));
+        passengers.setPaid(true);
+        Path file = tempDir.resolve("services.bin");
+
+        long written = codec.write(List.of(cargo, passengers), file);
+
+        List<TransportServiceViewDTO> read;
+        try (Stream<TransportServiceViewDTO> views = codec.readViews(file)) {
+            read = views.collect(Collectors.toList());
+        }
+        assertEquals(2, written);
+        assertEquals(2, read.size());
+        TransportCargoServiceViewDTO readCargo = assertInstanceOf(TransportCargoServiceViewDTO.class, read.get(0));
+        assertEquals(7L, readCargo.getId());
+        assertEquals(new BigDecimal("1250.50"), readCargo.getPrice());
+        assertEquals(new BigDecimal("980.125"), readCargo.getWeightInKilograms());
+        assertEquals(LocalDate.of(2030, 1, 15), readCargo.getStartingDate());
+        assertEquals(120, readCargo.getLengthInCentimeters());
+        assertEquals("Хладилен товар", readCargo.getDescription());
+        assertTrue(readCargo.isDelivered());
+        assertFalse(readCargo.isPaid());
+        TransportPassengersServiceViewDTO readPassengers = assertInstanceOf(TransportPassengersServiceViewDTO.class, read.get(1));
+        assertEquals(LocalDate.of(1965, 5, 4), readPassengers.getStartingDate());
+        assertEquals(42, readPassengers.getNumberOfPassengers());
+        assertTrue(readPassengers.isPaid());
+    }
+
+    @Test
+    void ReadViews_NullFields_StayNull() throws IOException {
+        TransportCargoServiceViewDTO cargo = new TransportCargoServiceViewDTO();
+        Path file = tempDir.resolve("empty-fields.bin");
+        codec.write(List.of(cargo), file);
+
+        TransportCargoServiceViewDTO read;
+        try (Stream<TransportServiceViewDTO> views = codec.readViews(file)) {
+            read = (TransportCargoServiceViewDTO) views.findFirst().orElseThrow();
+        }
+
+        assertNull(read.getId());
+        assertNull(read.getPrice());
+        assertNull(read.getEndingDate());
+        assertNull(read.getWeightInKilograms());
+        assertNull(read.getDescription());
+    }
+
+    @Test
+    void ReadCreateDTOs_AfterWrite_ConvertsDirectlyToCreateDTOs() throws IOException {
+        Path file = tempDir.resolve("create.bin");
+        codec.write(List.of(passengersService(1L), cargoService(2L)), file);
+
+        List<TransportServiceCreateDTO> read;
+        try (Stream<TransportServiceCreateDTO> dtos = codec.readCreateDTOs(file)) {
+            read = dtos.collect(Collectors.toList());
+        }
+
+        TransportPassengersServiceCreateDTO passengers = assertInstanceOf(TransportPassengersServiceCreateDTO.class, read.get(0));
+        assertEquals(42, passengers.getNumberOfPassengers());
+        assertEquals(3L, passengers.getTransportCompanyId());
+        assertEquals(LocalDate.of(2030, 1, 20), passengers.getEndingDate());
+        TransportCargoServiceCreateDTO cargo = assertInstanceOf(TransportCargoServiceCreateDTO.class, read.get(1));
+        assertEquals(new BigDecimal("980.125"), cargo.getWeightInKilograms());
+        assertEquals(5L, cargo.getDriverId());
+    }
+
+    @Test
+    void ReadViews_RecordsSpanningMapWindows_ReadsAllRecords() throws IOException {
+        // A tiny window forces the reader to remap for nearly every record
+        TransportServiceBinaryCodec smallWindowCodec = new TransportServiceBinaryCodec(64);
+        List<TransportServiceViewDTO> services = new ArrayList<>();
+        for (long i = 1; i <= 1_000; i++) {
+            TransportCargoServiceViewDTO cargo = cargoService(i);
+            cargo.setDescription("x".repeat((int) (i % 200)));
+            services.add(cargo);
+        }
+        Path file = tempDir.resolve("windows.bin");
+        smallWindowCodec.write(services, file);
+
+        List<TransportServiceViewDTO> read;
+        try (Stream<TransportServiceViewDTO> views = smallWindowCodec.readViews(file)) {
+            read = views.collect(Collectors.toList());
+        }
+
+        assertEquals(1_000, read.size());
+        assertEquals(1_000L, read.get(999).getId());
+        assertEquals(199, ((TransportCargoServiceViewDTO) read.get(198)).getDescription().length());
+    }
+
+    @Test
+    void ReadViews_NotABinaryFile_ThrowsStreamCorruptedException() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("services.json"), "[{\"id\":1}]");
+
+        assertThrows(StreamCorruptedException.class, () -> codec.readViews(file));
+    }
+
+    @Test
+    void ReadViews_TruncatedFile_ThrowsWhenConsumed() throws IOException {
+        Path file = tempDir.resolve("truncated.bin");
+        codec.write(List.of(cargoService(1L)), file);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+
+        try (Stream<TransportServiceViewDTO> views = codec.readViews(file)) {
+            assertThrows(UncheckedIOException.class, views::count);
+        }
+    }
+
+    @Test
+    void Write_DecimalWiderThan64Bits_ThrowsIllegalArgumentException() {
+        TransportPassengersServiceViewDTO passengers = passengersService(1L);
+        passengers.setPrice(new BigDecimal("123456789012345678901234567890.00"));
+
+        assertThrows(IllegalArgumentException.class, () -> codec.write(List.of(passengers), tempDir.resolve("wide.bin")));
+    }
+
+    @Test
+    void ToCreateDTO_BaseServiceView_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> TransportServiceBinaryCodec.toCreateDTO(new TransportServiceViewDTO()));
+    }
+
+    private static TransportCargoServiceViewDTO cargoService(long id) {
+        TransportCargoServiceViewDTO dto = new TransportCargoServiceViewDTO("Pallets", 90, 120, new BigDecimal("980.125"), 80);
+        fillCommonFields(dto, id);
+        dto.setDelivered(true);
+        return dto;
+    }
+
+    private static TransportPassengersServiceViewDTO passengersService(long id) {
+        TransportPassengersServiceViewDTO dto = new TransportPassengersServiceViewDTO();
+        fillCommonFields(dto, id);
+        dto.setNumberOfPassengers(42);
+        return dto;
+    }
+
+    private static void fillCommonFields(TransportServiceViewDTO dto, long id) {
+        dto.setId(id);
+        dto.setTransportCompanyId(3L);
+        dto.setStartingDate(LocalDate.of(2030, 1, 15));
+        dto.setEndingDate(LocalDate.of(2030, 1, 20));
+        dto.setDestinationId(4L);
+        dto.setClientId(6L);
+        dto.setPrice(new BigDecimal("1250.50"));
+        dto.setVehicleId(9L);
+        dto.setDriverId(5L);
+    }
+}
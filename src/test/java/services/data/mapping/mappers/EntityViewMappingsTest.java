@@ -0,0 +1,214 @@
+package services.data.mapping.mappers;
+
+import data.models.Client;
+import data.models.TransportCompany;
+import data.models.employee.Dispatcher;
+import data.models.employee.Driver;
+import data.models.employee.Employee;
+import data.models.employee.Qualification;
+import data.models.transportservices.CargoType;
+import data.models.transportservices.Destination;
+import data.models.vehicles.Bus;
+import data.models.vehicles.Truck;
+import data.models.vehicles.TruckType;
+import data.models.vehicles.Van;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.MappingException;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.config.Configuration.AccessLevel;
+import org.modelmapper.convention.MatchingStrategies;
+import services.data.dto.clients.ClientViewDTO;
+import services.data.dto.companies.TransportCompanyViewDTO;
+import services.data.dto.employees.DispatcherViewDTO;
+import services.data.dto.employees.DriverViewDTO;
+import services.data.dto.employees.EmployeeViewDTO;
+import services.data.dto.employees.QualificationViewDTO;
+import services.data.dto.transportservices.DestinationViewDTO;
+import services.data.dto.vehicles.BusViewDTO;
+import services.data.dto.vehicles.TruckViewDTO;
+import services.data.dto.vehicles.VanViewDTO;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EntityViewMappingsTest {
+
+    // The reflective configurations the compiled mappings replace
+    private static ModelMapper strictMapper(boolean skipNull) {
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+                .setMatchingStrategy(MatchingStrategies.STRICT)
+                .setAmbiguityIgnored(true)
+                .setFieldMatchingEnabled(true)
+                .setFieldAccessLevel(AccessLevel.PRIVATE)
+                .setSkipNullEnabled(skipNull);
+        return modelMapper;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ModelMapper employeeMapper() {
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.createTypeMap(Driver.class, DriverViewDTO.class)
+                .addMappings(mapper -> mapper.using(ctx -> {
+                    Set<Qualification> qualifications = (Set<Qualification>) ctx.getSource();
+                    return qualifications != null ?
+                            qualifications.stream().map(Qualification::getId).collect(Collectors.toSet()) :
+                            Collections.emptySet();
+                }).map(Driver::getQualifications, DriverViewDTO::setQualificationIds));
+        modelMapper.createTypeMap(Dispatcher.class, DispatcherViewDTO.class)
+                .addMappings(mapper -> mapper.using(ctx -> {
+                    Set<Driver> drivers = (Set<Driver>) ctx.getSource();
+                    return drivers != null ?
+                            drivers.stream().map(Driver::getId).collect(Collectors.toSet()) :
+                            new HashSet<>();
+                }).map(Dispatcher::getSupervisedDrivers, DispatcherViewDTO::setSupervisedDriverIds));
+        return modelMapper;
+    }
+
+    private static void assertSameFields(Object expected, Object actual) throws IllegalAccessException {
+        assertEquals(expected.getClass(), actual.getClass());
+        for (Class<?> type = expected.getClass(); type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) continue;
+                field.setAccessible(true);
+                assertEquals(field.get(expected), field.get(actual), type.getSimpleName() + "." + field.getName());
+            }
+        }
+    }
+
+    private static TransportCompany company() {
+        TransportCompany company = new TransportCompany("Fast Transport", "123 Main St");
+        company.setId(1L);
+        return company;
+    }
+
+    private static <T extends Employee> T populate(T employee, long id) {
+        employee.setId(id);
+        employee.setFirstName("Ivan");
+        employee.setFamilyName("Petrov");
+        employee.setSalary(new BigDecimal("2500.00"));
+        employee.setTransportCompany(company());
+        return employee;
+    }
+
+    @Test
+    void simpleViews_ShouldMatchReflectiveMapping() throws IllegalAccessException {
+        Client client = new Client();
+        client.setId(2L);
+        client.setName("Acme");
+        client.setTelephone("+359888123456");
+        client.setEmail("acme@example.com");
+        assertSameFields(strictMapper(false).map(client, ClientViewDTO.class), new ClientMapper().toViewDTO(client));
+
+        Destination destination = new Destination();
+        destination.setId(3L);
+        destination.setStartingLocation("Sofia");
+        destination.setEndingLocation("Varna");
+        assertSameFields(strictMapper(true).map(destination, DestinationViewDTO.class), new DestinationMapper().toViewDTO(destination));
+
+        Qualification qualification = new Qualification("Heavy Duty License", "For large vehicles");
+        qualification.setId(4L);
+        assertSameFields(new ModelMapper().map(qualification, QualificationViewDTO.class), new QualificationMapper().toViewDTO(qualification));
+    }
+
+    @Test
+    void company_ShouldMatchReflectiveMapping() throws IllegalAccessException {
+        ModelMapper modelMapper = strictMapper(true);
+        modelMapper.createTypeMap(TransportCompany.class, TransportCompanyViewDTO.class)
+                .addMapping(src -> {
+                    Set<Employee> employees = src.getEmployees();
+                    return employees != null ? employees.stream()
+                            .map(Employee::getId)
+                            .collect(Collectors.toSet()) : Collections.emptySet();
+                }, TransportCompanyViewDTO::setEmployeeIds);
+        TransportCompanyMapper mapper = new TransportCompanyMapper();
+
+        TransportCompany company = company();
+        assertSameFields(modelMapper.map(company, TransportCompanyViewDTO.class), mapper.toViewDTO(company));
+
+        // The reflective type map only recorded the getEmployees() call and tried to convert each employee to a Long
+        company.setEmployees(Set.of(populate(new Driver(), 5L), populate(new Dispatcher(), 6L)));
+        assertThrows(MappingException.class, () -> modelMapper.map(company, TransportCompanyViewDTO.class));
+        assertEquals(Set.of(5L, 6L), mapper.toViewDTO(company).getEmployeeIds());
+    }
+
+    @Test
+    void employees_ShouldMatchReflectiveMapping() throws IllegalAccessException {
+        Dispatcher dispatcher = populate(new Dispatcher(), 7L);
+        Driver driver = populate(new Driver(), 8L);
+        Qualification qualification = new Qualification("ADR", "Hazardous goods");
+        qualification.setId(9L);
+        driver.setDispatcher(dispatcher);
+        driver.setQualifications(Set.of(qualification));
+        dispatcher.setSupervisedDrivers(Set.of(driver));
+
+        ModelMapper employeeMapper = strictMapper(true);
+        employeeMapper.createTypeMap(Employee.class, EmployeeViewDTO.class)
+                .addMapping(src -> src.getTransportCompany().getId(), EmployeeViewDTO::setTransportCompanyId);
+        EmployeeViewDTO expected = employeeMapper.map(driver, EmployeeViewDTO.class);
+        // The reflective type map was registered for the abstract Employee and never matched a Driver or Dispatcher,
+        // so the company ID it was configured to copy came out null
+        assertNull(expected.getTransportCompanyId());
+        expected.setTransportCompanyId(1L);
+        assertSameFields(expected, new EmployeeMapper().toViewDTO(driver));
+
+        DriverViewDTO driverView = EmployeeViewMappings.DRIVER.map(driver);
+        assertSameFields(employeeMapper().map(driver, DriverViewDTO.class), driverView);
+        assertEquals(7L, driverView.getDispatcherId());
+        assertEquals(Set.of(9L), driverView.getQualificationIds());
+
+        DispatcherViewDTO dispatcherView = EmployeeViewMappings.DISPATCHER.map(dispatcher);
+        assertSameFields(employeeMapper().map(dispatcher, DispatcherViewDTO.class), dispatcherView);
+        assertEquals(Set.of(8L), dispatcherView.getSupervisedDriverIds());
+    }
+
+    @Test
+    void vehicles_ShouldMatchReflectiveMapping() throws IllegalAccessException {
+        Bus bus = new Bus();
+        bus.setId(10L);
+        bus.setRegistrationPlate("CA1234AB");
+        bus.setTransportCompany(company());
+        bus.setMaxPassengerCapacity(50);
+        bus.setHasRestroom(true);
+        bus.setLuggageCapacity(new BigDecimal("12.5"));
+        assertSameFields(new ModelMapper().map(bus, BusViewDTO.class), VehicleViewMappings.BUS.map(bus));
+
+        Truck truck = new Truck();
+        truck.setId(11L);
+        truck.setRegistrationPlate("CB5678CD");
+        truck.setTransportCompany(company());
+        truck.setMaxCargoCapacityKg(20000);
+        truck.setCurrentCargoCapacityKg(5000);
+        truck.setCargoType(CargoType.SPECIAL);
+        truck.setTruckType(TruckType.FLATBED);
+        assertSameFields(new ModelMapper().map(truck, TruckViewDTO.class), VehicleViewMappings.TRUCK.map(truck));
+
+        Van van = new Van();
+        van.setId(12L);
+        van.setRegistrationPlate("PB9012EF");
+        van.setTransportCompany(company());
+        van.setMaxPassengerCapacity(8);
+        van.setHasPassengerOverheadStorage(true);
+        assertSameFields(new ModelMapper().map(van, VanViewDTO.class), VehicleViewMappings.VAN.map(van));
+    }
+
+    @Test
+    void map_WhenRelationsAreNull_ShouldLeaveIdsNullAndSetsEmpty() {
+        Driver driver = new Driver();
+        driver.setQualifications(null);
+
+        DriverViewDTO actual = EmployeeViewMappings.DRIVER.map(driver);
+        assertNull(actual.getTransportCompanyId());
+        assertNull(actual.getDispatcherId());
+        assertTrue(actual.getQualificationIds().isEmpty());
+        assertEquals(0L, new TransportCompanyMapper().toViewDTO(new TransportCompany()).getId());
+        assertNull(VehicleViewMappings.BUS.map(null));
+    }
+}
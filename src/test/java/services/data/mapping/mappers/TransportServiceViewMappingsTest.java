@@ -0,0 +1,115 @@
+package services.data.mapping.mappers;
+
+import data.models.Client;
+import data.models.TransportCompany;
+import data.models.employee.Driver;
+import data.models.transportservices.Destination;
+import data.models.transportservices.TransportCargoService;
+import data.models.transportservices.TransportPassengersService;
+import data.models.transportservices.TransportService;
+import data.models.vehicles.Bus;
+import data.models.vehicles.Truck;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.config.Configuration.AccessLevel;
+import org.modelmapper.convention.MatchingStrategies;
+import services.data.dto.transportservices.TransportCargoServiceViewDTO;
+import services.data.dto.transportservices.TransportPassengersServiceViewDTO;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TransportServiceViewMappingsTest {
+
+    // The reflective configuration the compiled mappings replace
+    private static ModelMapper reflectiveMapper() {
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+                .setMatchingStrategy(MatchingStrategies.STRICT)
+                .setAmbiguityIgnored(true)
+                .setFieldMatchingEnabled(true)
+                .setFieldAccessLevel(AccessLevel.PRIVATE);
+        modelMapper.createTypeMap(TransportCargoService.class, TransportCargoServiceViewDTO.class)
+                .addMapping(src -> src.getTransportCompany().getId(), TransportCargoServiceViewDTO::setTransportCompanyId)
+                .addMapping(src -> src.getVehicle().getId(), TransportCargoServiceViewDTO::setVehicleId)
+                .addMapping(src -> src.getDriver().getId(), TransportCargoServiceViewDTO::setDriverId)
+                .addMapping(src -> src.getClient().getId(), TransportCargoServiceViewDTO::setClientId)
+                .addMapping(src -> src.getDestination().getId(), TransportCargoServiceViewDTO::setDestinationId);
+        modelMapper.createTypeMap(TransportPassengersService.class, TransportPassengersServiceViewDTO.class)
+                .addMapping(src -> src.getTransportCompany().getId(), TransportPassengersServiceViewDTO::setTransportCompanyId)
+                .addMapping(src -> src.getVehicle().getId(), TransportPassengersServiceViewDTO::setVehicleId)
+                .addMapping(src -> src.getDriver().getId(), TransportPassengersServiceViewDTO::setDriverId)
+                .addMapping(src -> src.getClient().getId(), TransportPassengersServiceViewDTO::setClientId)
+                .addMapping(src -> src.getDestination().getId(), TransportPassengersServiceViewDTO::setDestinationId);
+        return modelMapper;
+    }
+
+    private static <T extends TransportService> T populate(T service) {
+        TransportCompany company = new TransportCompany("Fast Transport", "123 Main St");
+        company.setId(1L);
+        Client client = new Client();
+        client.setId(2L);
+        Driver driver = new Driver();
+        driver.setId(3L);
+        Destination destination = new Destination();
+        destination.setId(4L);
+        service.setId(10L);
+        service.setTransportCompany(company);
+        service.setClient(client);
+        service.setDriver(driver);
+        service.setDestination(destination);
+        service.setStartingDate(LocalDate.of(2025, 1, 1));
+        service.setEndingDate(LocalDate.of(2025, 1, 5));
+        service.setPrice(new BigDecimal("1500.00"));
+        service.setDelivered(true);
+        service.setPaid(true);
+        return service;
+    }
+
+    @Test
+    void cargo_ShouldMatchReflectiveMapping() {
+        TransportCargoService cargo = populate(new TransportCargoService());
+        Truck truck = new Truck();
+        truck.setId(5L);
+        cargo.setVehicle(truck);
+        cargo.setWeightInKilograms(new BigDecimal("5000"));
+        cargo.setLengthInCentimeters(200);
+        cargo.setWidthInCentimeters(150);
+        cargo.setHeightInCentimeters(100);
+        cargo.setDescription("Electronics");
+
+        TransportCargoServiceViewDTO expected = reflectiveMapper().map(cargo, TransportCargoServiceViewDTO.class);
+        TransportCargoServiceViewDTO actual = TransportServiceViewMappings.CARGO.map(cargo);
+        assertEquals(expected.toString(), actual.toString());
+        assertTrue(actual.isDelivered());
+        assertEquals(5L, actual.getVehicleId());
+    }
+
+    @Test
+    void passengers_ShouldMatchReflectiveMapping() {
+        TransportPassengersService passengers = populate(new TransportPassengersService());
+        Bus bus = new Bus();
+        bus.setId(6L);
+        passengers.setVehicle(bus);
+        passengers.setNumberOfPassengers(42);
+
+        TransportPassengersServiceViewDTO expected = reflectiveMapper().map(passengers, TransportPassengersServiceViewDTO.class);
+        TransportPassengersServiceViewDTO actual = TransportServiceViewMappings.PASSENGERS.map(passengers);
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals(42, actual.getNumberOfPassengers());
+    }
+
+    @Test
+    void map_WhenRelationsAreNull_ShouldLeaveIdsNull() {
+        TransportCargoService cargo = new TransportCargoService();
+        cargo.setDescription("Loose");
+
+        TransportCargoServiceViewDTO actual = TransportServiceViewMappings.CARGO.map(cargo);
+        assertNull(actual.getTransportCompanyId());
+        assertNull(actual.getVehicleId());
+        assertEquals("Loose", actual.getDescription());
+        assertNull(TransportServiceViewMappings.CARGO.map(null));
+    }
+}
@@ -45,6 +45,7 @@ public class ClientServiceTests {
     void Setup() {
         try {
             Configuration configuration = new Configuration();
+            configuration.setProperty("hibernate.generate_statistics", "true");
             configuration.addAnnotatedClass(TransportCompany.class);
             configuration.addAnnotatedClass(Client.class);
             configuration.addAnnotatedClass(Employee.class);
@@ -148,6 +149,18 @@ public class ClientServiceTests {
         assertEquals("John Doe", result.getFirst().getName());
     }
 
+    @Test
+    void getAll_WithFilter_ShouldKeepPagesFull() {
+        service.create(new ClientCreateDTO("Adam Brown", "1111111111", "adam@example.com"));
+        service.create(new ClientCreateDTO("Anna Smith", "2222222222", "anna@example.com"));
+        service.create(new ClientCreateDTO("Zack Smith", "3333333333", "zack@example.com"));
+
+        List<ClientViewDTO> result = service.getAll(0, 2, "name", true, "smith");
+        assertEquals(2, result.size());
+        assertEquals("Anna Smith", result.get(0).getName());
+        assertEquals("Zack Smith", result.get(1).getName());
+    }
+
     @Test
     void findByCriteria_NameMatch_ShouldReturnMatchingClients() {
         service.create(new ClientCreateDTO("John Doe", "1234567890", "john.doe@example.com"));
@@ -207,6 +220,18 @@ public class ClientServiceTests {
         assertEquals(0, result.get(client2.getId()));
     }
 
+    @Test
+    void getTransportServiceCountsPerClient_ManyClients_ShouldIssueSingleQuery() {
+        for (int i = 0; i < 5; i++) {
+            service.create(new ClientCreateDTO("Client " + i, "08880000" + i, "client" + i + "@example.com"));
+        }
+        sessionFactory.getStatistics().clear();
+
+        Map<Long, Integer> result = service.getTransportServiceCountsPerClient();
+        assertEquals(5, result.size());
+        assertEquals(1, sessionFactory.getStatistics().getPrepareStatementCount());
+    }
+
     // Error Cases
     @Test
     void create_NullDTO_ShouldThrowIllegalArgumentException() {
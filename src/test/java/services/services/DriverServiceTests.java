@@ -54,6 +54,7 @@ public class DriverServiceTests {
     void Setup() {
         try {
             Configuration configuration = new Configuration();
+            configuration.setProperty("hibernate.generate_statistics", "true");
             configuration.addAnnotatedClass(TransportCompany.class);
             configuration.addAnnotatedClass(Client.class);
             configuration.addAnnotatedClass(Employee.class);
@@ -171,6 +172,18 @@ public class DriverServiceTests {
         assertEquals(new BigDecimal("70000.00"), result.get(1).getSalary()); // Precision adjusted
     }
 
+    @Test
+    void getDriversSortedBySalary_WithoutFetchRelations_ShouldStreamSortedDriversWithDetails() {
+        TransportCompany company = companyRepo.getAll(0, 1, null, true).getFirst();
+        driverService.create(new DriverCreateDTO("Hank", "Red", new BigDecimal("70000"), company.getId(), null, Set.of()));
+        driverService.create(new DriverCreateDTO("Ivy", "Yellow", new BigDecimal("60000"), company.getId(), null, Set.of()));
+
+        List<DriverViewDTO> result = driverService.getDriversSortedBySalary(false);
+        assertEquals(List.of(new BigDecimal("70000.00"), new BigDecimal("60000.00")),
+                result.stream().map(DriverViewDTO::getSalary).toList());
+        assertEquals(company.getId(), result.getFirst().getTransportCompanyId());
+    }
+
     @Test
     void getDriversSortedBySalary_NoDrivers_ShouldReturnEmptyList() {
         List<Driver> existing = driverRepo.getAll(0, Integer.MAX_VALUE, null, true);
@@ -241,6 +254,30 @@ public class DriverServiceTests {
         assertEquals("Doe", result.getFirst().getFamilyName());
     }
 
+    @Test
+    void getDriversByCompany_WithQualificationsFetched_ShouldPageInSql() {
+        TransportCompany company = companyRepo.getAll(0, 1, null, true).getFirst();
+        Long first = qualificationRepo.getAll(0, 1, null, true).getFirst().getId();
+        Long second = qualificationRepo.create(new Qualification("Passenger License", "For buses")).getId();
+        for (String familyName : List.of("Adams", "Baker", "Clark")) {
+            driverService.create(new DriverCreateDTO("Driver", familyName, new BigDecimal("50000"), company.getId(), null, Set.of(first, second)));
+        }
+        sessionFactory.getStatistics().clear();
+
+        List<DriverViewDTO> result = driverService.getDriversByCompany(company.getId(), 1, 1, "familyName", true, "qualifications");
+        assertEquals(1, result.size());
+        assertEquals("Baker", result.getFirst().getFamilyName());
+        assertEquals(Set.of(first, second), result.getFirst().getQualificationIds());
+        // One query for the page of IDs, one for the drivers and their qualifications
+        assertEquals(2, sessionFactory.getStatistics().getPrepareStatementCount());
+    }
+
+    @Test
+    void getDriversByCompany_InvalidPagination_ShouldReturnEmptyList() {
+        TransportCompany company = companyRepo.getAll(0, 1, null, true).getFirst();
+        assertTrue(driverService.getDriversByCompany(company.getId(), -1, 10, "familyName", true).isEmpty());
+    }
+
     @Test
     void getDriversByCompany_ValidCompanyId_ShouldReturnDrivers() {
         TransportCompany company = companyRepo.getAll(0, 1, null, true).getFirst();
@@ -253,6 +290,54 @@ public class DriverServiceTests {
         assertEquals("Smith", result.get(1).getFamilyName());
     }
 
+    @Test
+    void create_UnknownQualification_ShouldThrowRepositoryException() {
+        TransportCompany company = companyRepo.getAll(0, 1, null, true).getFirst();
+        DriverCreateDTO dto = new DriverCreateDTO("Jane", "Roe", new BigDecimal("50000"), company.getId(), null, Set.of(999L));
+        RepositoryException exception = assertThrows(RepositoryException.class, () -> driverService.create(dto));
+        assertEquals("Qualification not found: 999", exception.getMessage());
+    }
+
+    @Test
+    void create_UnknownCompany_ShouldThrowRepositoryException() {
+        DriverCreateDTO dto = new DriverCreateDTO("Jane", "Roe", new BigDecimal("50000"), 999L, null, Set.of());
+        assertThrows(RepositoryException.class, () -> driverService.create(dto));
+        assertTrue(driverRepo.findByCriteria(Map.of("familyName", "Roe"), null, true).isEmpty());
+    }
+
+    @Test
+    void toEntities_UnknownDispatcher_ShouldThrowRepositoryException() {
+        TransportCompany company = companyRepo.getAll(0, 1, null, true).getFirst();
+        List<DriverCreateDTO> dtos = List.of(
+                new DriverCreateDTO("Driver", "Adams", new BigDecimal("50000"), company.getId(), null, null),
+                new DriverCreateDTO("Driver", "Baker", new BigDecimal("51000"), company.getId(), 999L, null));
+
+        RepositoryException exception = assertThrows(RepositoryException.class, () -> driverMapper.toEntities(dtos));
+        assertEquals("Dispatcher not found: 999", exception.getMessage());
+    }
+
+    @Test
+    void toEntities_ShouldLoadRelationsOfWholeBatchWithOneQueryPerType() {
+        TransportCompany company = companyRepo.getAll(0, 1, null, true).getFirst();
+        Dispatcher dispatcher = dispatcherRepo.getAll(0, 1, null, true).getFirst();
+        Long first = qualificationRepo.getAll(0, 1, null, true).getFirst().getId();
+        Long second = qualificationRepo.create(new Qualification("Passenger License", "For buses")).getId();
+        List<DriverCreateDTO> dtos = List.of(
+                new DriverCreateDTO("Driver", "Adams", new BigDecimal("50000"), company.getId(), dispatcher.getId(), Set.of(first)),
+                new DriverCreateDTO("Driver", "Baker", new BigDecimal("51000"), company.getId(), null, Set.of(first, second)),
+                new DriverCreateDTO("Driver", "Clark", new BigDecimal("52000"), company.getId(), null, null));
+        sessionFactory.getStatistics().clear();
+
+        List<Driver> drivers = driverMapper.toEntities(dtos);
+        // One query each for companies, dispatchers and qualifications
+        assertEquals(3, sessionFactory.getStatistics().getPrepareStatementCount());
+        assertEquals(3, drivers.size());
+        assertEquals(company.getId(), drivers.getFirst().getTransportCompany().getId());
+        assertEquals(dispatcher.getId(), drivers.getFirst().getDispatcher().getId());
+        assertEquals(2, drivers.get(1).getQualifications().size());
+        assertTrue(drivers.get(2).getQualifications().isEmpty());
+    }
+
     @Test
     void create_NullDTO_ShouldThrowIllegalArgumentException() {
         assertThrows(IllegalArgumentException.class, () -> driverService.create(null));
@@ -413,6 +498,19 @@ public class DriverServiceTests {
         assertEquals(0, counts.get(created.getId()));
     }
 
+    @Test
+    void getDriverTransportCounts_ManyDrivers_ShouldIssueSingleQuery() {
+        TransportCompany company = companyRepo.getAll(0, 1, null, true).getFirst();
+        for (int i = 0; i < 5; i++) {
+            driverService.create(new DriverCreateDTO("Driver", "No" + i, new BigDecimal("50000"), company.getId(), null, Set.of()));
+        }
+        sessionFactory.getStatistics().clear();
+
+        Map<Long, Integer> counts = driverService.getDriverTransportCounts();
+        assertEquals(5, counts.size());
+        assertEquals(1, sessionFactory.getStatistics().getPrepareStatementCount());
+    }
+
     @Test
     void getDriverTripCounts_DriverWithServices_ShouldReturnCorrectCount() {
         TransportCompany company = companyRepo.getAll(0, 1, null, true).getFirst();
@@ -515,6 +613,46 @@ public class DriverServiceTests {
         assertEquals(6, passengerDto.getNumberOfPassengers());
     }
 
+    @Test
+    void getTransportServicesForDriver_SecondPage_ShouldMergeTypesByStartingDate() {
+        TransportCompany company = companyRepo.getAll(0, 1, null, true).getFirst();
+        DriverViewDTO created = driverService.create(new DriverCreateDTO("Test", "Driver", new BigDecimal("50000"), company.getId(), null, Set.of()));
+        Driver driver = driverRepo.getById(created.getId()).get();
+        for (int day = 0; day < 4; day++) {
+            TransportService service;
+            if (day % 2 == 0) {
+                TransportCargoService cargo = new TransportCargoService();
+                cargo.setWeightInKilograms(BigDecimal.valueOf(100));
+                cargo.setLengthInCentimeters(10);
+                cargo.setWidthInCentimeters(10);
+                cargo.setHeightInCentimeters(10);
+                service = cargo;
+            } else {
+                TransportPassengersService passengers = new TransportPassengersService();
+                passengers.setNumberOfPassengers(3);
+                service = passengers;
+            }
+            service.setTransportCompany(company);
+            service.setDriver(driver);
+            service.setPrice(new BigDecimal("100"));
+            service.setStartingDate(LocalDate.now().plusDays(day));
+            if (service instanceof TransportCargoService cargo) {
+                cargoRepo.create(cargo);
+            } else {
+                passengersRepo.create((TransportPassengersService) service);
+            }
+        }
+        sessionFactory.getStatistics().clear();
+
+        List<TransportServiceViewDTO> services = driverService.getTransportServicesForDriver(created.getId(), 1, 2);
+        assertEquals(2, services.size());
+        assertInstanceOf(TransportCargoServiceViewDTO.class, services.get(0));
+        assertEquals(LocalDate.now().plusDays(2), services.get(0).getStartingDate());
+        assertInstanceOf(TransportPassengersServiceViewDTO.class, services.get(1));
+        assertEquals(LocalDate.now().plusDays(3), services.get(1).getStartingDate());
+        assertEquals(1, sessionFactory.getStatistics().getPrepareStatementCount());
+    }
+
     @Test
     void getTransportServicesForDriver_NoServices_ShouldReturnEmptyList() {
         TransportCompany company = companyRepo.getAll(0, 1, null, true).getFirst();
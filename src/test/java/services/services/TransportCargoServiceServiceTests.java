@@ -7,8 +7,11 @@ import data.models.employee.Employee;
 import data.models.employee.Qualification;
 import data.models.transportservices.*;
 import data.models.vehicles.*;
+import data.repositories.BulkOperationResult;
 import data.repositories.GenericRepository;
 import data.repositories.IGenericRepository;
+import data.repositories.KeysetCursor;
+import data.repositories.KeysetPage;
 import data.repositories.exceptions.RepositoryException;
 import org.hibernate.SessionFactory;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
@@ -24,6 +27,8 @@ import services.data.mapping.mappers.TransportCargoServiceMapper;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -156,6 +161,83 @@ public class TransportCargoServiceServiceTests {
         assertEquals("Test cargo", result.getDescription());
     }
 
+    @Test
+    void createAll_WhenOneDTOHasUnknownDriver_ShouldRejectTheBatchBeforeWriting() {
+        List<TransportCargoServiceCreateDTO> dtos = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            TransportCargoServiceCreateDTO dto = new TransportCargoServiceCreateDTO();
+            dto.setClientId(clientRepo.getAll(0, 1, null, true).getFirst().getId());
+            dto.setDestinationId(destinationRepo.getAll(0, 1, null, true).getFirst().getId());
+            dto.setDriverId(i == 1 ? 999L : driverRepo.getAll(0, 1, null, true).getFirst().getId());
+            dto.setStartingDate(LocalDate.now());
+            dto.setEndingDate(LocalDate.now().plusDays(2));
+            dto.setPrice(new BigDecimal("1000"));
+            dto.setTransportCompanyId(companyRepo.getAll(0, 1, null, true).getFirst().getId());
+            dto.setVehicleId(vehicleRepo.getAll(0, 1, null, true).getFirst().getId());
+            dto.setWeightInKilograms(new BigDecimal("500"));
+            dto.setLengthInCentimeters(100);
+            dto.setWidthInCentimeters(100);
+            dto.setHeightInCentimeters(100);
+            dto.setDescription("Bulk cargo " + i);
+            dtos.add(dto);
+        }
+
+        RepositoryException exception = assertThrows(RepositoryException.class, () -> service.createAll(dtos));
+
+        assertEquals("Driver not found: 999", exception.getMessage());
+        assertEquals(0L, cargoServiceRepo.count());
+    }
+
+    @Test
+    void createAll_ValidDTOs_ShouldCreateAll() {
+        List<TransportCargoServiceCreateDTO> dtos = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            TransportCargoServiceCreateDTO dto = new TransportCargoServiceCreateDTO();
+            dto.setClientId(clientRepo.getAll(0, 1, null, true).getFirst().getId());
+            dto.setDestinationId(destinationRepo.getAll(0, 1, null, true).getFirst().getId());
+            dto.setDriverId(driverRepo.getAll(0, 1, null, true).getFirst().getId());
+            dto.setStartingDate(LocalDate.now());
+            dto.setEndingDate(LocalDate.now().plusDays(2));
+            dto.setPrice(new BigDecimal("1000"));
+            dto.setTransportCompanyId(companyRepo.getAll(0, 1, null, true).getFirst().getId());
+            dto.setVehicleId(vehicleRepo.getAll(0, 1, null, true).getFirst().getId());
+            dto.setWeightInKilograms(new BigDecimal("500"));
+            dto.setLengthInCentimeters(100);
+            dto.setWidthInCentimeters(100);
+            dto.setHeightInCentimeters(100);
+            dto.setDescription("Bulk cargo " + i);
+            dtos.add(dto);
+        }
+
+        BulkOperationResult<TransportCargoServiceViewDTO> result = service.createAll(dtos);
+
+        assertEquals(3, result.getSuccessCount());
+        assertTrue(result.getSucceeded().stream().allMatch(view -> view.getId() != null));
+        assertEquals(3L, cargoServiceRepo.count());
+    }
+
+    @Test
+    void create_UnknownTransportCompany_ShouldThrowRepositoryException() {
+        TransportCargoServiceCreateDTO dto = new TransportCargoServiceCreateDTO();
+        dto.setClientId(clientRepo.getAll(0, 1, null, true).getFirst().getId());
+        dto.setDestinationId(destinationRepo.getAll(0, 1, null, true).getFirst().getId());
+        dto.setDriverId(driverRepo.getAll(0, 1, null, true).getFirst().getId());
+        dto.setStartingDate(LocalDate.now());
+        dto.setEndingDate(LocalDate.now().plusDays(2));
+        dto.setPrice(new BigDecimal("1000"));
+        dto.setTransportCompanyId(999L);
+        dto.setVehicleId(vehicleRepo.getAll(0, 1, null, true).getFirst().getId());
+        dto.setWeightInKilograms(new BigDecimal("500"));
+        dto.setLengthInCentimeters(100);
+        dto.setWidthInCentimeters(100);
+        dto.setHeightInCentimeters(100);
+
+        RepositoryException exception = assertThrows(RepositoryException.class, () -> service.create(dto));
+
+        assertEquals("Transport company not found: 999", exception.getMessage());
+        assertEquals(0L, cargoServiceRepo.count());
+    }
+
     @Test
     void update_FullUpdate_ShouldUpdateCargoService() {
         TransportCompany company = companyRepo.getAll(0, 1, null, true).getFirst();
@@ -344,6 +426,59 @@ public class TransportCargoServiceServiceTests {
         assertEquals(company.getId(), result.getFirst().getTransportCompanyId());
     }
 
+    @Test
+    void getByCompany_WithKeysetCursor_ShouldWalkAllPagesWithoutGapsOrRepeats() {
+        TransportCompany company = companyRepo.getAll(0, 1, null, true).getFirst();
+        Driver driver = driverRepo.getAll(0, 1, null, true).getFirst();
+        Client client = clientRepo.getAll(0, 1, null, true).getFirst();
+        Destination destination = destinationRepo.getAll(0, 1, null, true).getFirst();
+        Vehicle truck = vehicleRepo.getAll(0, 1, null, true).getFirst();
+        for (int i = 0; i < 5; i++) {
+            TransportCargoServiceCreateDTO dto = new TransportCargoServiceCreateDTO();
+            dto.setClientId(client.getId());
+            dto.setDestinationId(destination.getId());
+            dto.setVehicleId(truck.getId());
+            dto.setDriverId(driver.getId());
+            // Two services share each starting date so the ID tie-breaker is exercised
+            dto.setStartingDate(LocalDate.now().plusDays(i / 2));
+            dto.setPrice(new BigDecimal("100"));
+            dto.setTransportCompanyId(company.getId());
+            dto.setWeightInKilograms(new BigDecimal("500"));
+            dto.setLengthInCentimeters(100);
+            dto.setWidthInCentimeters(100);
+            dto.setHeightInCentimeters(100);
+            service.create(dto);
+        }
+
+        sessionFactory.getStatistics().setStatisticsEnabled(true);
+        sessionFactory.getStatistics().clear();
+        List<Long> seen = new ArrayList<>();
+        KeysetCursor cursor = null;
+        int pages = 0;
+        do {
+            KeysetPage<TransportCargoServiceViewDTO> page = service.getByCompany(company.getId(), cursor, 2);
+            page.getContent().forEach(dto -> seen.add(dto.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Pages are read in read-only sessions, so nothing is dirty-checked or flushed
+        assertEquals(0, sessionFactory.getStatistics().getFlushCount());
+        assertEquals(3, pages);
+        assertEquals(5, seen.size());
+        assertEquals(5, new HashSet<>(seen).size());
+        List<Long> expected = service.getByCompany(company.getId(), 0, 10).stream().map(TransportCargoServiceViewDTO::getId).toList();
+        assertEquals(expected, seen);
+    }
+
+    @Test
+    void getByDriver_WithKeysetCursorAndNoServices_ShouldReturnEmptyLastPage() {
+        Driver driver = driverRepo.getAll(0, 1, null, true).getFirst();
+        KeysetPage<TransportCargoServiceViewDTO> page = service.getByDriver(driver.getId(), null, 10);
+        assertTrue(page.getContent().isEmpty());
+        assertFalse(page.hasNext());
+    }
+
     @Test
     void getByClient_ValidClientId_ShouldReturnServices() {
         TransportCompany company = companyRepo.getAll(0, 1, null, true).getFirst();
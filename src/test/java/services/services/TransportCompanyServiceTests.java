@@ -6,6 +6,7 @@ import data.models.transportservices.*;
 import data.models.vehicles.*;
 import data.repositories.GenericRepository;
 import data.repositories.IGenericRepository;
+import data.repositories.KeysetPage;
 import data.repositories.exceptions.RepositoryException;
 import org.hibernate.SessionFactory;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
@@ -52,6 +53,7 @@ public class TransportCompanyServiceTests {
     void Setup() {
         try {
             Configuration configuration = new Configuration();
+            configuration.setProperty("hibernate.generate_statistics", "true");
             configuration.addAnnotatedClass(TransportCompany.class);
             configuration.addAnnotatedClass(Client.class);
             configuration.addAnnotatedClass(Employee.class);
@@ -267,6 +269,31 @@ public class TransportCompanyServiceTests {
         assertEquals(new BigDecimal("2000.00"), result.getFirst().getPrice());
     }
 
+    @Test
+    void getTransportServicesByCompany_WithCursor_ShouldPageThroughServices() {
+        TransportCompanyViewDTO company = service.create(new TransportCompanyCreateDTO("Fast Transport", "123 Main St"));
+        for (int i = 0; i < 3; i++) {
+            TransportCargoService cargo = new TransportCargoService();
+            cargo.setStartingDate(LocalDate.now().plusDays(i));
+            cargo.setPrice(new BigDecimal("1000"));
+            cargo.setTransportCompany(companyRepo.getById(company.getId()).get());
+            cargo.setWeightInKilograms(BigDecimal.valueOf(25));
+            cargo.setLengthInCentimeters(50);
+            cargo.setWidthInCentimeters(25);
+            cargo.setHeightInCentimeters(25);
+            transportServiceRepo.create(cargo);
+        }
+
+        KeysetPage<TransportServiceViewDTO> first = service.getTransportServicesByCompany(company.getId(), null, 2);
+        KeysetPage<TransportServiceViewDTO> second = service.getTransportServicesByCompany(company.getId(), first.getNextCursor(), 2);
+
+        assertEquals(2, first.getContent().size());
+        assertTrue(first.hasNext());
+        assertEquals(1, second.getContent().size());
+        assertFalse(second.hasNext());
+        assertEquals(LocalDate.now().plusDays(2), second.getContent().getFirst().getStartingDate());
+    }
+
     @Test
     void getEmployeeCountsPerCompany_WithEmployees_ShouldReturnCounts() {
         TransportCompanyCreateDTO companyDto1 = new TransportCompanyCreateDTO("Fast Transport", "123 Main St");
@@ -287,6 +314,18 @@ public class TransportCompanyServiceTests {
         assertEquals(0, result.get(company2.getId()));
     }
 
+    @Test
+    void getEmployeeCountsPerCompany_ManyCompanies_ShouldIssueSingleQuery() {
+        for (int i = 0; i < 5; i++) {
+            service.create(new TransportCompanyCreateDTO("Company " + i, "Street " + i));
+        }
+        sessionFactory.getStatistics().clear();
+
+        Map<Long, Integer> result = service.getEmployeeCountsPerCompany();
+        assertEquals(5, result.size());
+        assertEquals(1, sessionFactory.getStatistics().getPrepareStatementCount());
+    }
+
     @Test
     void getTotalRevenue_WithServices_ShouldReturnSum() {
         TransportCompanyCreateDTO companyDto = new TransportCompanyCreateDTO("Fast Transport", "123 Main St");
@@ -313,6 +352,45 @@ public class TransportCompanyServiceTests {
         assertEquals(new BigDecimal("3500.00"), revenue);
     }
 
+    @Test
+    void getRevenueForPeriod_WithServices_ShouldSumOnlyServicesStartingInPeriod() {
+        TransportCompanyCreateDTO companyDto = new TransportCompanyCreateDTO("Fast Transport", "123 Main St");
+        TransportCompanyViewDTO company = service.create(companyDto);
+        TransportCompany entity = companyRepo.getById(company.getId()).get();
+
+        TransportPassengersService inPeriod = new TransportPassengersService();
+        inPeriod.setStartingDate(LocalDate.of(2024, 3, 15));
+        inPeriod.setPrice(new BigDecimal("1500"));
+        inPeriod.setTransportCompany(entity);
+        inPeriod.setNumberOfPassengers(20);
+        transportServiceRepo.create(inPeriod);
+
+        TransportPassengersService onBoundary = new TransportPassengersService();
+        onBoundary.setStartingDate(LocalDate.of(2024, 3, 31));
+        onBoundary.setPrice(new BigDecimal("500"));
+        onBoundary.setTransportCompany(entity);
+        onBoundary.setNumberOfPassengers(10);
+        transportServiceRepo.create(onBoundary);
+
+        TransportPassengersService outOfPeriod = new TransportPassengersService();
+        outOfPeriod.setStartingDate(LocalDate.of(2024, 4, 1));
+        outOfPeriod.setPrice(new BigDecimal("9000"));
+        outOfPeriod.setTransportCompany(entity);
+        outOfPeriod.setNumberOfPassengers(10);
+        transportServiceRepo.create(outOfPeriod);
+
+        BigDecimal revenue = service.getRevenueForPeriod(company.getId(), LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31));
+        assertEquals(0, new BigDecimal("2000").compareTo(revenue));
+    }
+
+    @Test
+    void getRevenueForPeriod_InvalidArguments_ShouldThrowIllegalArgumentException() {
+        LocalDate today = LocalDate.now();
+        assertThrows(IllegalArgumentException.class, () -> service.getRevenueForPeriod(null, today, today));
+        assertThrows(IllegalArgumentException.class, () -> service.getRevenueForPeriod(1L, null, today));
+        assertThrows(IllegalArgumentException.class, () -> service.getRevenueForPeriod(1L, today, today.minusDays(1)));
+    }
+
     @Test
     void getTotalTransportCount_WithServices_ShouldReturnCount() {
         TransportCompanyCreateDTO companyDto = new TransportCompanyCreateDTO("Fast Transport", "123 Main St");
@@ -659,4 +737,26 @@ public class TransportCompanyServiceTests {
         assertTrue(result.isEmpty());
     }
 
-}
\ No newline at end of file
+    @Test
+    void getCompaniesBetweenRevenue_WithOrphanedServiceAndZeroRevenueCompany_ShouldIncludeZeroRevenueCompany() {
+        TransportCompanyViewDTO idle = service.create(new TransportCompanyCreateDTO("Idle Co", "1 Quiet St"));
+        TransportCompanyViewDTO busy = service.create(new TransportCompanyCreateDTO("Busy Co", "2 Busy St"));
+
+        TransportPassengersService busyService = new TransportPassengersService();
+        busyService.setStartingDate(LocalDate.now());
+        busyService.setPrice(new BigDecimal("5000"));
+        busyService.setTransportCompany(companyRepo.getById(busy.getId()).get());
+        busyService.setNumberOfPassengers(20);
+        transportServiceRepo.create(busyService);
+
+        // A service whose company was deleted keeps a null company reference
+        TransportPassengersService orphan = new TransportPassengersService();
+        orphan.setStartingDate(LocalDate.now());
+        orphan.setPrice(new BigDecimal("700"));
+        orphan.setNumberOfPassengers(10);
+        transportServiceRepo.create(orphan);
+
+        List<TransportCompanyViewDTO> result = service.getCompaniesBetweenRevenue(BigDecimal.ZERO, new BigDecimal("1000"));
+        assertEquals(List.of(idle.getId()), result.stream().map(TransportCompanyViewDTO::getId).toList());
+    }
+}
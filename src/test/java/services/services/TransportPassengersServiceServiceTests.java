@@ -477,6 +477,31 @@ public class TransportPassengersServiceServiceTests {
         assertEquals(0, count);
     }
 
+    @Test
+    void getActiveServices_WhenServiceSpansToday_ShouldIncludeItAndSkipDelivered() {
+        TransportCompany company = companyRepo.getAll(0, 1, null, true).getFirst();
+
+        TransportPassengersServiceCreateDTO ongoing = new TransportPassengersServiceCreateDTO();
+        ongoing.setTransportCompanyId(company.getId());
+        ongoing.setStartingDate(LocalDate.now().minusDays(2));
+        ongoing.setEndingDate(LocalDate.now().plusDays(1));
+        ongoing.setPrice(new BigDecimal("1500"));
+        ongoing.setNumberOfPassengers(20);
+        service.create(ongoing);
+
+        TransportPassengersServiceCreateDTO finished = new TransportPassengersServiceCreateDTO();
+        finished.setTransportCompanyId(company.getId());
+        finished.setStartingDate(LocalDate.now().minusDays(5));
+        finished.setEndingDate(LocalDate.now().minusDays(1));
+        finished.setPrice(new BigDecimal("2000"));
+        finished.setNumberOfPassengers(30);
+        service.create(finished);
+
+        List<TransportPassengersServiceViewDTO> result = service.getActiveServices(0, 10, "startingDate", true);
+        assertEquals(1, result.size());
+        assertEquals(LocalDate.now().minusDays(2), result.getFirst().getStartingDate());
+    }
+
     @Test
     void getActiveServices_NoActive_ShouldReturnEmptyList() {
         TransportCompany company = companyRepo.getAll(0, 1, null, true).getFirst();